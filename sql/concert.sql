@@ -230,6 +230,8 @@ CREATE TABLE IF NOT EXISTS waiting_queue_entries (
 -- 10. 이벤트 테이블 (events)
 -- 설명: 시스템 내 발생하는 비즈니스 이벤트를 저장하는 테이블
 -- 참고: 이벤트 소싱, 비동기 처리, 알림 발송 등을 위한 이벤트 저장소
+-- 마이그레이션: 이미 생성된 DB에는 아웃박스 릴레이 인덱스를 직접 추가
+--   ALTER TABLE events ADD INDEX idx_event_status_id (status, event_id) COMMENT '아웃박스 릴레이 조회 최적화';
 -- ====================================================================
 CREATE TABLE IF NOT EXISTS events (
                                       event_id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '이벤트 고유 식별자 (PK)',
@@ -242,7 +244,8 @@ CREATE TABLE IF NOT EXISTS events (
 
     -- 인덱스 설정
                                       INDEX idx_event_type (event_type) COMMENT '이벤트 유형별 조회 최적화',
-                                      INDEX idx_event_status (status) COMMENT '이벤트 상태별 조회 최적화'
+                                      INDEX idx_event_status (status) COMMENT '이벤트 상태별 조회 최적화',
+                                      INDEX idx_event_status_id (status, event_id) COMMENT '아웃박스 릴레이 조회 최적화 (PENDING 이벤트를 ID 순으로 SKIP LOCKED 조회)'
 ) COMMENT '비즈니스 이벤트 저장 테이블' CHARSET=utf8mb4;
 
 -- ====================================================================
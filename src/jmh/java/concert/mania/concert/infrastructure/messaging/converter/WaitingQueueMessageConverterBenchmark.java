@@ -0,0 +1,91 @@
+package concert.mania.concert.infrastructure.messaging.converter;
+
+import concert.mania.concert.infrastructure.messaging.producer.WaitingQueueProducer.WaitingQueueMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열 메시지 변환 벤치마크
+ * 기본 JSON 컨버터(Jackson2JsonMessageConverter)와 압축 바이너리 컨버터의 변환(발행)/복원(수신) 시간을 비교
+ *
+ * - registration: 대기열 등록 메시지 (콘서트 ID, 사용자 ID)
+ * - full: 모든 필드가 있는 메시지 (큰 ID 포함)
+ *
+ * 본문 크기는 설정 단계에서 한 번 출력 (JSON 본문과 바이너리 본문 비교용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaitingQueueMessageConverterBenchmark {
+
+    @Param({"registration", "full"})
+    private String messageType;
+
+    private Jackson2JsonMessageConverter jsonConverter;
+    private CompactBinaryMessageConverter binaryConverter;
+
+    private WaitingQueueMessage message;
+    private Message jsonMessage;
+    private Message binaryMessage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 수신 측은 __TypeId__ 헤더로 타입을 찾으므로 메시지 패키지를 신뢰 패키지로 등록
+        jsonConverter = new Jackson2JsonMessageConverter(WaitingQueueMessage.class.getPackageName());
+        binaryConverter = new CompactBinaryMessageConverter(List.of(new WaitingQueueMessageCodec()));
+
+        message = switch (messageType) {
+            case "registration" -> new WaitingQueueMessage(1L, 42L);
+            case "full" -> {
+                WaitingQueueMessage full = new WaitingQueueMessage(1_000_001L, 987_654_321L, 123_456_789_012L);
+                full.setBatchSize(500);
+                yield full;
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 메시지 유형: " + messageType);
+        };
+
+        jsonMessage = jsonConverter.toMessage(message, new MessageProperties());
+        binaryMessage = binaryConverter.toMessage(message, new MessageProperties());
+        System.out.printf("%n[%s] 본문 크기 - JSON: %d bytes, 바이너리: %d bytes%n",
+                messageType, jsonMessage.getBody().length, binaryMessage.getBody().length);
+    }
+
+    @Benchmark
+    public Message jsonEncode() {
+        return jsonConverter.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message binaryEncode() {
+        return binaryConverter.toMessage(message, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return jsonConverter.fromMessage(jsonMessage);
+    }
+
+    @Benchmark
+    public Object binaryDecode() {
+        return binaryConverter.fromMessage(binaryMessage);
+    }
+}
@@ -0,0 +1,12 @@
+package concert.mania.concert.application.event;
+
+/**
+ * 결제 요청 이벤트
+ * 결제 정보가 저장(커밋)된 후 외부 결제 처리를 시작하기 위해 발행
+ * @param paymentId 결제 ID
+ * @param concertId 콘서트 ID
+ * @param seatId 좌석 ID
+ * @param seatLockId 좌석 잠금 ID
+ */
+public record PaymentRequestedEvent(Long paymentId, Long concertId, Long seatId, Long seatLockId) {
+}
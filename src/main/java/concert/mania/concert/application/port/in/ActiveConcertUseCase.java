@@ -0,0 +1,23 @@
+package concert.mania.concert.application.port.in;
+
+import java.util.List;
+
+/**
+ * 활성 콘서트 유스케이스 인터페이스
+ * 현재 예매가 진행 중인 콘서트 목록을 관리하는 기능을 정의
+ */
+public interface ActiveConcertUseCase {
+
+    /**
+     * 현재 예매가 진행 중인 콘서트 ID 목록 조회
+     * 캐시된 콘서트 정보로 판단하므로 DB를 조회하지 않음
+     * @return 예매 진행 중인 콘서트 ID 목록
+     */
+    List<Long> getActiveConcertIds();
+
+    /**
+     * 콘서트 캐시 갱신
+     * 최초에는 전체 예매 대상 콘서트를, 이후에는 마지막 갱신 이후 수정된 콘서트만 조회하여 반영
+     */
+    void refreshActiveConcerts();
+}
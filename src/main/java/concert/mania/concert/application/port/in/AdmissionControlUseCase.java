@@ -0,0 +1,25 @@
+package concert.mania.concert.application.port.in;
+
+/**
+ * 대기열 입장 제어 유스케이스 인터페이스
+ * 시스템 부하에 따라 대기열 입장 인원을 조절하는 기능을 정의
+ */
+public interface AdmissionControlUseCase {
+
+    /**
+     * 이번 틱에 입장시킬 인원 계산
+     * 시스템 부하를 반영해 콘서트별 동시 입장 허용 인원을 조정한 뒤, 남은 여유만큼 입장 인원을 산정
+     * @param concertId 콘서트 ID
+     * @param waitingCount 대기 중인 인원
+     * @param processingCount 처리 중인 인원
+     * @return 입장시킬 인원 (0 이상)
+     */
+    int calculateAdmissionCount(Long concertId, int waitingCount, int processingCount);
+
+    /**
+     * 콘서트의 현재 동시 입장 허용 인원 조회
+     * @param concertId 콘서트 ID
+     * @return 동시 입장 허용 인원
+     */
+    int getAdmissionWindow(Long concertId);
+}
@@ -0,0 +1,16 @@
+package concert.mania.concert.application.port.in;
+
+/**
+ * 결제 대조 유스케이스 인터페이스
+ * 진행 중인 결제를 외부 결제 시스템 상태와 일괄 대조하는 기능을 정의
+ */
+public interface PaymentReconciliationUseCase {
+
+    /**
+     * 진행 중인 결제 일괄 대조
+     * 진행 중인 결제를 키셋 페이지 단위로 조회하여 외부 결제 시스템에 일괄 조회한 뒤
+     * 완료/실패/만료 결과를 배치로 반영
+     * @return 완료 또는 실패 처리된 결제 수
+     */
+    int reconcilePendingPayments();
+}
@@ -2,8 +2,10 @@ package concert.mania.concert.application.port.in;
 
 import concert.mania.concert.domain.model.Payment;
 import concert.mania.concert.domain.model.type.PaymentMethod;
+import concert.mania.concert.domain.model.type.PaymentStatus;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
 /**
  * 결제 유스케이스 인터페이스
@@ -31,6 +33,13 @@ public interface PaymentUseCase {
      */
     Payment checkPaymentStatus(Long paymentId);
 
+    /**
+     * 결제 정보 조회 (외부 결제 시스템 확인이나 상태 변경 없이 저장된 결제만 조회)
+     * @param paymentId 결제 ID
+     * @return 결제 정보
+     */
+    Payment getPaymentById(Long paymentId);
+
     /**
      * 결제 취소
      * @param paymentId 결제 ID
@@ -59,4 +68,39 @@ public interface PaymentUseCase {
      * @return 결제 정보
      */
     Payment getPaymentByExternalId(String externalPaymentId);
+
+    /**
+     * 외부 결제 시스템에 결제 요청 (결제 시도 시작)
+     * @param paymentId 결제 ID
+     * @return 외부 결제 ID가 갱신된 결제 정보
+     */
+    Payment requestGatewayPayment(Long paymentId);
+
+    /**
+     * 외부 결제 시스템의 결제 상태 확인 (완료/실패 처리 없이 상세 정보만 갱신)
+     * @param paymentId 결제 ID
+     * @return 외부 결제 시스템의 결제 상태 (다른 경로로 이미 종료된 결제는 빈 값)
+     */
+    Optional<PaymentStatus> pollGatewayPayment(Long paymentId);
+
+    /**
+     * 결제 처리 성공
+     * @param paymentId 결제 ID
+     * @param concertId 콘서트 ID
+     * @param seatId 좌석 ID
+     * @param seatLockId 좌석 잠금 ID
+     * @return 완료 처리된 결제 정보
+     */
+    Payment completePaymentProcess(Long paymentId, Long concertId, Long seatId, Long seatLockId);
+
+    /**
+     * 결제 처리 최종 실패
+     * @param paymentId 결제 ID
+     * @param concertId 콘서트 ID
+     * @param seatId 좌석 ID
+     * @param seatLockId 좌석 잠금 ID
+     * @param attempts 결제 시도 횟수
+     * @return 실패 처리된 결제 정보
+     */
+    Payment failPaymentProcess(Long paymentId, Long concertId, Long seatId, Long seatLockId, int attempts);
 }
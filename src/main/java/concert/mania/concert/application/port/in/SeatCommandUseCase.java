@@ -3,6 +3,8 @@ package concert.mania.concert.application.port.in;
 import concert.mania.concert.domain.model.Seat;
 import concert.mania.concert.domain.model.SeatLock;
 
+import java.util.List;
+
 /**
  * 좌석 명령 유스케이스 인터페이스
  * 좌석 선택 및 상태 변경 기능을 정의
@@ -18,6 +20,26 @@ public interface SeatCommandUseCase {
      */
     Seat selectSeat(Long seatId, Long userId);
 
+    /**
+     * 여러 좌석 일괄 선택 (임시 점유, 전부 성공하거나 전부 실패)
+     * 좌석 ID 순서로 잠금을 획득하며, 하나라도 선택할 수 없으면 어떤 좌석도 선택되지 않음
+     * @param seatIds 좌석 ID 목록 (같은 콘서트의 좌석, 최대 4석)
+     * @param userId 사용자 ID
+     * @return 선택된 좌석 목록 (좌석 ID 순)
+     */
+    List<Seat> selectSeats(List<Long> seatIds, Long userId);
+
+    /**
+     * 최적 연속 좌석 자동 선택 (임시 점유, 전부 성공하거나 전부 실패)
+     * 최적 연속 좌석을 찾아 일괄 선택하며, 그 사이 다른 사용자가 선택한 좌석이 있으면 다른 좌석으로 다시 시도
+     * @param concertId 콘서트 ID
+     * @param seatGradeId 좌석 등급 ID
+     * @param count 필요한 좌석 수 (최대 4석)
+     * @param userId 사용자 ID
+     * @return 선택된 좌석 목록 (좌석 ID 순)
+     */
+    List<Seat> selectBestAvailableSeats(Long concertId, Long seatGradeId, int count, Long userId);
+
     /**
      * 좌석 선택 취소
      * @param seatId 좌석 ID
@@ -26,6 +48,15 @@ public interface SeatCommandUseCase {
      */
     Seat cancelSeatSelection(Long seatId, Long userId);
 
+    /**
+     * 사용자의 좌석 선점 해제 (이미 해제되었거나 다른 사용자가 선점한 좌석은 해제하지 않음)
+     * 결제 실패 이벤트처럼 다시 처리될 수 있는 곳에서 사용
+     * @param seatId 좌석 ID
+     * @param userId 사용자 ID
+     * @return 해제 여부
+     */
+    boolean releaseSeatSelection(Long seatId, Long userId);
+
     /**
      * 좌석 잠금 정보 조회
      * @param seatId 좌석 ID
@@ -41,10 +72,18 @@ public interface SeatCommandUseCase {
     int cancelAllSeatSelectionsByUser(Long userId);
 
     /**
-     * 만료된 모든 좌석 선택 취소
+     * 만료된 좌석 선택 일괄 취소
+     * 만료 시간이 지난 잠금을 만료 순으로 최대 limit개 해제하고, 같은 트랜잭션에서 좌석 상태를 AVAILABLE로 되돌림
+     * @param limit 최대 취소 좌석 수
      * @return 취소된 좌석 수
      */
-    int cancelExpiredSeatSelections();
+    int cancelExpiredSeatSelections(int limit);
+
+    /**
+     * 좌석 상태 카운터 정합성 보정 (좌석 테이블 집계로 카운터를 덮어씀)
+     * @return 보정 예약 여부 (이전 보정이 아직 끝나지 않았으면 false)
+     */
+    boolean reconcileSeatStatusCounters();
 
     /**
      * 좌석 예약 확정
@@ -4,6 +4,7 @@ import concert.mania.concert.domain.model.Seat;
 import concert.mania.concert.domain.model.type.SeatStatus;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -57,6 +58,16 @@ public interface SeatQueryUseCase {
      */
     List<Seat> getSeatsByConcertIdAndSeatGradeId(Long concertId, Long seatGradeId);
 
+    /**
+     * 최적 연속 좌석 조회 (무대에 가까운 행 우선, 같은 행에서는 중앙에 가까운 좌석 우선)
+     * 좌석 상태 맵에서 조회하므로 DB를 조회하지 않음
+     * @param concertId 콘서트 ID
+     * @param seatGradeId 좌석 등급 ID
+     * @param count 필요한 좌석 수 (최대 4석)
+     * @return 연속 좌석 목록 (열 순서, 없으면 빈 목록)
+     */
+    List<Seat> findBestAvailableSeats(Long concertId, Long seatGradeId, int count);
+
     /**
      * 콘서트 ID와 좌석 번호로 좌석 조회
      * @param concertId 콘서트 ID
@@ -79,4 +90,27 @@ public interface SeatQueryUseCase {
      * @return 예매 가능한 좌석 수
      */
     long countAvailableSeatsByConcertIdAndSeatGradeId(Long concertId, Long seatGradeId);
-}
\ No newline at end of file
+
+    /**
+     * 콘서트의 좌석 등급별 예매 가능한 좌석 수 조회
+     * 좌석 상태 변경 시마다 갱신되는 카운터에서 조회하므로 좌석 테이블을 집계하지 않음
+     * @param concertId 콘서트 ID
+     * @return 좌석 등급 ID -> 예매 가능한 좌석 수
+     */
+    Map<Long, Long> getAvailableSeatCountsByGrade(Long concertId);
+
+    /**
+     * 여러 콘서트의 좌석 등급별 예매 가능한 좌석 수 일괄 조회 (목록 화면용)
+     * 카운터가 없는 콘서트만 모아 한 번의 집계로 생성
+     * @param concertIds 콘서트 ID 목록
+     * @return 콘서트 ID -> (좌석 등급 ID -> 예매 가능한 좌석 수)
+     */
+    Map<Long, Map<Long, Long>> getAvailableSeatCountsByGrade(List<Long> concertIds);
+
+    /**
+     * 콘서트의 상태별 좌석 수 조회 (좌석 상태 카운터의 등급별 좌석 수 합계)
+     * @param concertId 콘서트 ID
+     * @return 좌석 상태 -> 좌석 수
+     */
+    Map<SeatStatus, Long> getSeatStatusStatistics(Long concertId);
+}
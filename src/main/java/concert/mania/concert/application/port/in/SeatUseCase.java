@@ -2,9 +2,11 @@ package concert.mania.concert.application.port.in;
 
 import concert.mania.concert.domain.model.Seat;
 import concert.mania.concert.domain.model.SeatLock;
+import concert.mania.concert.domain.model.SeatStatusMap;
 import concert.mania.concert.domain.model.type.SeatStatus;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -24,6 +26,26 @@ public interface SeatUseCase {
      */
     Seat selectSeat(Long seatId, Long userId);
 
+    /**
+     * 여러 좌석 일괄 선택 (임시 점유, 전부 성공하거나 전부 실패)
+     * 좌석 ID 순서로 잠금을 획득하며, 하나라도 선택할 수 없으면 어떤 좌석도 선택되지 않음
+     * @param seatIds 좌석 ID 목록 (같은 콘서트의 좌석, 최대 4석)
+     * @param userId 사용자 ID
+     * @return 선택된 좌석 목록 (좌석 ID 순)
+     */
+    List<Seat> selectSeats(List<Long> seatIds, Long userId);
+
+    /**
+     * 최적 연속 좌석 자동 선택 (임시 점유, 전부 성공하거나 전부 실패)
+     * 최적 연속 좌석을 찾아 일괄 선택하며, 그 사이 다른 사용자가 선택한 좌석이 있으면 다른 좌석으로 다시 시도
+     * @param concertId 콘서트 ID
+     * @param seatGradeId 좌석 등급 ID
+     * @param count 필요한 좌석 수 (최대 4석)
+     * @param userId 사용자 ID
+     * @return 선택된 좌석 목록 (좌석 ID 순)
+     */
+    List<Seat> selectBestAvailableSeats(Long concertId, Long seatGradeId, int count, Long userId);
+
     /**
      * 좌석 선택 취소
      * @param seatId 좌석 ID
@@ -32,6 +54,15 @@ public interface SeatUseCase {
      */
     Seat cancelSeatSelection(Long seatId, Long userId);
 
+    /**
+     * 사용자의 좌석 선점 해제 (이미 해제되었거나 다른 사용자가 선점한 좌석은 해제하지 않음)
+     * 결제 실패 이벤트처럼 다시 처리될 수 있는 곳에서 사용
+     * @param seatId 좌석 ID
+     * @param userId 사용자 ID
+     * @return 해제 여부
+     */
+    boolean releaseSeatSelection(Long seatId, Long userId);
+
     /**
      * 좌석 잠금 정보 조회
      * @param seatId 좌석 ID
@@ -47,10 +78,18 @@ public interface SeatUseCase {
     int cancelAllSeatSelectionsByUser(Long userId);
 
     /**
-     * 만료된 모든 좌석 선택 취소
+     * 만료된 좌석 선택 일괄 취소
+     * 만료 시간이 지난 잠금을 만료 순으로 최대 limit개 해제하고, 같은 트랜잭션에서 좌석 상태를 AVAILABLE로 되돌림
+     * @param limit 최대 취소 좌석 수
      * @return 취소된 좌석 수
      */
-    int cancelExpiredSeatSelections();
+    int cancelExpiredSeatSelections(int limit);
+
+    /**
+     * 좌석 상태 카운터 정합성 보정 (좌석 테이블 집계로 카운터를 덮어씀)
+     * @return 보정 예약 여부 (이전 보정이 아직 끝나지 않았으면 false)
+     */
+    boolean reconcileSeatStatusCounters();
 
     /**
      * 좌석 예약 확정
@@ -85,6 +124,14 @@ public interface SeatUseCase {
      */
     List<Seat> getSeatsByConcertId(Long concertId);
 
+    /**
+     * 콘서트의 좌석 상태 맵 조회
+     * 최초 조회 시에만 DB에서 로드하고 이후에는 메모리에서 조회
+     * @param concertId 콘서트 ID
+     * @return 좌석 상태 맵 (버전 포함)
+     */
+    SeatStatusMap getSeatStatusMap(Long concertId);
+
     /**
      * 콘서트 ID와 좌석 상태로 좌석 목록 조회
      * @param concertId 콘서트 ID
@@ -116,6 +163,16 @@ public interface SeatUseCase {
      */
     List<Seat> getSeatsByConcertIdAndSeatGradeId(Long concertId, Long seatGradeId);
 
+    /**
+     * 최적 연속 좌석 조회 (무대에 가까운 행 우선, 같은 행에서는 중앙에 가까운 좌석 우선)
+     * 좌석 상태 맵에서 조회하므로 DB를 조회하지 않음
+     * @param concertId 콘서트 ID
+     * @param seatGradeId 좌석 등급 ID
+     * @param count 필요한 좌석 수 (최대 4석)
+     * @return 연속 좌석 목록 (열 순서, 없으면 빈 목록)
+     */
+    List<Seat> findBestAvailableSeats(Long concertId, Long seatGradeId, int count);
+
     /**
      * 콘서트 ID와 좌석 번호로 좌석 조회
      * @param concertId 콘서트 ID
@@ -138,4 +195,27 @@ public interface SeatUseCase {
      * @return 예매 가능한 좌석 수
      */
     long countAvailableSeatsByConcertIdAndSeatGradeId(Long concertId, Long seatGradeId);
-}
\ No newline at end of file
+
+    /**
+     * 콘서트의 좌석 등급별 예매 가능한 좌석 수 조회
+     * 좌석 상태 변경 시마다 갱신되는 카운터에서 조회하므로 좌석 테이블을 집계하지 않음
+     * @param concertId 콘서트 ID
+     * @return 좌석 등급 ID -> 예매 가능한 좌석 수
+     */
+    Map<Long, Long> getAvailableSeatCountsByGrade(Long concertId);
+
+    /**
+     * 여러 콘서트의 좌석 등급별 예매 가능한 좌석 수 일괄 조회 (목록 화면용)
+     * 카운터가 없는 콘서트만 모아 한 번의 집계로 생성
+     * @param concertIds 콘서트 ID 목록
+     * @return 콘서트 ID -> (좌석 등급 ID -> 예매 가능한 좌석 수)
+     */
+    Map<Long, Map<Long, Long>> getAvailableSeatCountsByGrade(List<Long> concertIds);
+
+    /**
+     * 콘서트의 상태별 좌석 수 조회 (좌석 상태 카운터의 등급별 좌석 수 합계)
+     * @param concertId 콘서트 ID
+     * @return 좌석 상태 -> 좌석 수
+     */
+    Map<SeatStatus, Long> getSeatStatusStatistics(Long concertId);
+}
@@ -2,6 +2,8 @@ package concert.mania.concert.application.port.in;
 
 import concert.mania.concert.domain.model.WaitingQueue;
 
+import java.util.List;
+
 /**
  * 대기열 명령 유스케이스
  * 대기열 등록, 상태 변경 등의 명령을 정의
@@ -10,6 +12,7 @@ public interface WaitingQueueCommandUseCase {
     
     /**
      * 대기열에 사용자 등록
+     * 이미 등록된 사용자는 새로 등록하지 않고 기존 대기열 정보를 반환
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
      * @return 등록된 대기열 정보
@@ -23,6 +26,14 @@ public interface WaitingQueueCommandUseCase {
      */
     WaitingQueue processNextWaiting(Long concertId);
     
+    /**
+     * 대기열에서 다음 사용자들을 한 번에 입장 처리
+     * @param concertId 콘서트 ID
+     * @param count 처리할 최대 인원 수
+     * @return 입장 처리된 대기열 정보 목록
+     */
+    List<WaitingQueue> processNextWaitingBatch(Long concertId, int count);
+    
     /**
      * 특정 대기열 항목 입장 처리
      * @param waitingQueueId 대기열 ID
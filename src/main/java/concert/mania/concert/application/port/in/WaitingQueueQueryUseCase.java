@@ -1,5 +1,6 @@
 package concert.mania.concert.application.port.in;
 
+import concert.mania.concert.domain.model.AdmissionRate;
 import concert.mania.concert.domain.model.WaitingQueue;
 
 import java.util.List;
@@ -62,4 +63,19 @@ public interface WaitingQueueQueryUseCase {
      * @return 대기열 정보 (위치 및 예상 대기 시간 포함)
      */
     WaitingQueue getWaitingQueueStatus(Long concertId, Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 여러 대기 위치의 대기 순번 일괄 조회 (대기열 상태 조회와 같은 기준)
+     * @param concertId 콘서트 ID
+     * @param positions 대기열 위치 목록
+     * @return 위치별 앞에 대기 중인 인원 (입력 순서, 더 이상 대기 중이 아니면 null)
+     */
+    List<Integer> getWaitingRanks(Long concertId, List<Integer> positions);
+
+    /**
+     * 콘서트의 입장 처리량 조회
+     * @param concertId 콘서트 ID
+     * @return 측정된 입장 처리량 (측정값이 없으면 unknown)
+     */
+    AdmissionRate getAdmissionRate(Long concertId);
+}
@@ -0,0 +1,42 @@
+package concert.mania.concert.application.port.out.cache;
+
+import concert.mania.concert.domain.model.type.SeatStatus;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 좌석 상태 카운터 포트 인터페이스
+ * 콘서트의 좌석 등급별 상태별 좌석 수를 좌석 상태 변경 시마다 증분 갱신하여 집계 쿼리 없이 조회
+ */
+public interface SeatStatusCounterPort {
+
+    /**
+     * 좌석 상태 변경 반영 (이전 상태 -1, 변경된 상태 +1)
+     * @param concertId 콘서트 ID
+     * @param seatGradeId 좌석 등급 ID
+     * @param from 이전 상태
+     * @param to 변경된 상태
+     */
+    void recordTransition(Long concertId, Long seatGradeId, SeatStatus from, SeatStatus to);
+
+    /**
+     * 여러 콘서트의 좌석 등급별 상태별 좌석 수 조회, 카운터가 없는 콘서트만 모아 한 번에 집계하여 생성
+     * @param concertIds 콘서트 ID 목록
+     * @param loader 콘서트별 좌석 등급별 상태별 좌석 수 집계 (카운터가 없는 콘서트가 있을 때만 호출)
+     * @return 콘서트 ID -> (좌석 등급 ID -> (좌석 상태 -> 좌석 수))
+     */
+    Map<Long, Map<Long, Map<SeatStatus, Long>>> getCountsByGrade(
+            Collection<Long> concertIds,
+            Function<Collection<Long>, Map<Long, Map<Long, Map<SeatStatus, Long>>>> loader);
+
+    /**
+     * 카운터를 집계 결과로 덮어씀 (정합성 보정)
+     * 모든 인스턴스에 보정 기준 시각을 알리고 그 시각에 집계하도록 예약한 뒤 바로 반환하며,
+     * 기준 시각 이전의 미반영 증감은 버리고 이후의 증감은 덮어쓴 다음에 반영되도록 함
+     * @param loader 콘서트별 좌석 등급별 상태별 좌석 수 집계 (기준 시각에 다른 스레드에서 호출)
+     * @return 보정 예약 여부 (이전 보정이 아직 끝나지 않았으면 false)
+     */
+    boolean reconcile(Function<Collection<Long>, Map<Long, Map<Long, Map<SeatStatus, Long>>>> loader);
+}
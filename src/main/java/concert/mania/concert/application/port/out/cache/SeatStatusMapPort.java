@@ -0,0 +1,46 @@
+package concert.mania.concert.application.port.out.cache;
+
+import concert.mania.concert.domain.model.Seat;
+import concert.mania.concert.domain.model.SeatStatusMap;
+import concert.mania.concert.domain.model.type.SeatStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 좌석 상태 맵 캐시 포트 인터페이스
+ * 콘서트별 좌석 상태 맵의 조회 및 갱신 기능을 정의
+ */
+public interface SeatStatusMapPort {
+
+    /**
+     * 콘서트 ID로 좌석 상태 맵 조회
+     * @param concertId 콘서트 ID
+     * @return 좌석 상태 맵
+     */
+    Optional<SeatStatusMap> findByConcertId(Long concertId);
+
+    /**
+     * 좌석 상태 맵 조회, 없으면 좌석 목록을 로드하여 생성
+     * 같은 콘서트에 대한 동시 요청은 한 번만 로드됨
+     * @param concertId 콘서트 ID
+     * @param seatLoader 콘서트의 전체 좌석 목록 로더
+     * @return 좌석 상태 맵
+     */
+    SeatStatusMap getOrLoad(Long concertId, Supplier<List<Seat>> seatLoader);
+
+    /**
+     * 좌석 상태 변경 반영 (모든 인스턴스에서 해당 콘서트의 맵이 로드된 경우에만)
+     * @param concertId 콘서트 ID
+     * @param seatId 좌석 ID
+     * @param status 변경된 상태
+     */
+    void updateStatus(Long concertId, Long seatId, SeatStatus status);
+
+    /**
+     * 콘서트의 좌석 상태 맵 제거
+     * @param concertId 콘서트 ID
+     */
+    void evict(Long concertId);
+}
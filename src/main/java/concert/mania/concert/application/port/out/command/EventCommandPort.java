@@ -59,6 +59,14 @@ public interface EventCommandPort {
      */
     Event markAsProcessed(Long eventId);
     
+    /**
+     * 이벤트 일괄 처리 완료로 표시
+     * 
+     * @param eventIds 이벤트 ID 목록
+     * @return 업데이트된 이벤트 수
+     */
+    int markAllAsProcessed(List<Long> eventIds);
+    
     /**
      * 이벤트 처리 실패로 표시
      * 
@@ -67,6 +75,14 @@ public interface EventCommandPort {
      */
     Event markAsFailed(Long eventId);
     
+    /**
+     * 이벤트 일괄 처리 실패로 표시
+     * 
+     * @param eventIds 이벤트 ID 목록
+     * @return 업데이트된 이벤트 수
+     */
+    int markAllAsFailed(List<Long> eventIds);
+    
     /**
      * 실패한 이벤트 재처리를 위해 상태 초기화
      * 
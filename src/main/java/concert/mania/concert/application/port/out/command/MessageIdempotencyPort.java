@@ -0,0 +1,38 @@
+package concert.mania.concert.application.port.out.command;
+
+/**
+ * 메시지 멱등 처리 포트
+ * 같은 멱등 키를 가진 메시지가 여러 번 전달되어도 한 번만 처리되도록 처리 여부를 기록
+ * 선점 시에는 짧게 유지되는 처리 중 표시만 남기고, 처리가 끝난 뒤에 처리 완료로 기록하여
+ * 처리 도중 프로세스가 종료되어도 재전달된 메시지가 처리 완료로 오인되지 않도록 함
+ */
+public interface MessageIdempotencyPort {
+
+    /**
+     * 메시지 처리 선점
+     * @param idempotencyKey 멱등 키
+     * @return 선점 결과
+     */
+    AcquireResult tryAcquire(String idempotencyKey);
+
+    /**
+     * 메시지 처리 완료 기록 (처리 중 표시를 처리 완료로 교체)
+     * @param idempotencyKey 멱등 키
+     */
+    void complete(String idempotencyKey);
+
+    /**
+     * 메시지 처리 선점 해제 (처리 실패 시 재전달된 메시지를 다시 처리할 수 있도록 함)
+     * @param idempotencyKey 멱등 키
+     */
+    void release(String idempotencyKey);
+
+    /**
+     * 메시지 처리 선점 결과
+     */
+    enum AcquireResult {
+        ACQUIRED,    // 선점 (처리해야 함)
+        IN_PROGRESS, // 다른 소비자가 처리 중 (처리 중 표시 만료 후 다시 시도해야 함)
+        COMPLETED    // 이미 처리 완료
+    }
+}
@@ -1,9 +1,12 @@
 package concert.mania.concert.application.port.out.command;
 
 import concert.mania.concert.domain.model.Payment;
+import concert.mania.concert.domain.model.PaymentGatewayStatus;
 import concert.mania.concert.domain.model.type.PaymentStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 결제 명령(Command) 작업을 위한 포트 인터페이스
@@ -71,10 +74,21 @@ public interface PaymentCommandPort {
     
     /**
      * 결제 상세 정보 업데이트
+     * 외부 결제 시스템 상태를 압축 표현으로 저장
      * 
      * @param paymentId 결제 ID
-     * @param paymentDetails 결제 상세 정보 (JSON 형태)
-     * @return 업데이트된 결제 정보
+     * @param gatewayStatus 외부 결제 시스템 결제 상태
+     */
+    void updatePaymentDetails(Long paymentId, PaymentGatewayStatus gatewayStatus);
+
+    /**
+     * 진행 중인 결제 상태 일괄 갱신 (JDBC 배치)
+     * PENDING 상태인 결제만 갱신하며, 상세 정보도 함께 저장
+     * status가 PENDING이면 상세 정보만 갱신
+     * 
+     * @param status 변경할 결제 상태
+     * @param gatewayStatuses 결제 ID -> 외부 결제 시스템 결제 상태
+     * @return 실제로 갱신된 결제 ID 목록
      */
-    Payment updatePaymentDetails(Long paymentId, String paymentDetails);
-}
\ No newline at end of file
+    List<Long> updatePendingPayments(PaymentStatus status, Map<Long, PaymentGatewayStatus> gatewayStatuses);
+}
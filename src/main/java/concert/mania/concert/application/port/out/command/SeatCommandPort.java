@@ -1,7 +1,6 @@
 package concert.mania.concert.application.port.out.command;
 
 import concert.mania.concert.domain.model.Seat;
-import concert.mania.concert.domain.model.type.SeatStatus;
 
 import java.util.List;
 
@@ -26,41 +25,53 @@ public interface SeatCommandPort {
     List<Seat> saveAll(List<Seat> seats);
 
     /**
-     * 좌석 상태 변경
+     * 좌석 선택 (임시 점유, AVAILABLE -> SELECTED)
+     * 좌석 상태 변경은 현재 상태를 조건으로 한 단일 UPDATE로 처리되므로, 동시에 요청한 경우 한 요청만 성공함
      * @param seatId 좌석 ID
-     * @param status 변경할 상태
-     * @return 변경된 좌석 정보
+     * @param userId 사용자 ID
+     * @return 상태 변경 여부 (좌석이 없거나 이미 다른 상태로 변경된 경우 false)
      */
-    Seat updateStatus(Long seatId, SeatStatus status);
+    boolean select(Long seatId, Long userId);
 
     /**
-     * 좌석 선택 (임시 점유)
-     * @param seatId 좌석 ID
-     * @param userId 사용자 ID
-     * @return 선택된 좌석 정보
+     * 여러 좌석 일괄 선택 (AVAILABLE, SELECTED -> SELECTED, 단일 UPDATE)
+     * 좌석 행을 ID 순서로 잠그므로 같은 좌석을 동시에 선택하는 요청은 순서대로 처리됨
+     * 만료된 선점으로 SELECTED에 남은 좌석도 포함되므로, 잠금 소유 여부는 좌석 잠금으로 확인해야 함
+     * @param seatIds 좌석 ID 목록 (오름차순)
+     * @return 상태가 변경된 좌석 수 (목록 크기보다 작으면 예매 진행/판매 완료된 좌석이 포함됨)
+     */
+    int selectAll(List<Long> seatIds);
+
+    /**
+     * 선점이 끝난 좌석 일괄 초기화 (SELECTED -> AVAILABLE, 단일 UPDATE)
+     * 잠금 만료 후 다시 선택되어 잠금이 있는 좌석은 제외
+     * @param seatIds 좌석 ID 목록
+     * @return 초기화된 좌석 수
      */
-    Seat select(Long seatId, Long userId);
+    int releaseAll(List<Long> seatIds);
 
     /**
-     * 좌석 예매 진행
+     * 좌석 예매 진행 (AVAILABLE, SELECTED -> RESERVED)
      * @param seatId 좌석 ID
-     * @return 예매 진행 중인 좌석 정보
+     * @return 상태 변경 여부 (좌석이 없거나 예매 진행/판매 완료된 경우 false)
      */
-    Seat reserve(Long seatId);
+    boolean reserve(Long seatId);
 
     /**
-     * 좌석 판매 완료
+     * 좌석 판매 완료 (판매 완료 외 상태 -> SOLD)
+     * 잠금 소유자 확인 후 호출되며, 잠금 저장소가 선점 상태의 원본인 경우 좌석 테이블은 AVAILABLE 상태일 수 있음
      * @param seatId 좌석 ID
-     * @return 판매 완료된 좌석 정보
+     * @return 상태 변경 여부 (좌석이 없거나 이미 판매 완료된 경우 false)
      */
-    Seat sell(Long seatId);
+    boolean sell(Long seatId);
 
     /**
-     * 좌석 상태 초기화 (예매 취소 등)
+     * 좌석 상태 초기화 (예매 취소 등, 판매 완료 외 상태 -> AVAILABLE)
+     * 좌석 잠금 해제는 호출하는 쪽에서 처리
      * @param seatId 좌석 ID
-     * @return 초기화된 좌석 정보
+     * @return 상태 변경 여부 (좌석이 없거나 이미 판매 완료된 경우 false)
      */
-    Seat reset(Long seatId);
+    boolean reset(Long seatId);
 
     /**
      * 좌석 삭제
@@ -3,6 +3,7 @@ package concert.mania.concert.application.port.out.command;
 import concert.mania.concert.domain.model.SeatLock;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 좌석 잠금 명령 포트 인터페이스
@@ -26,6 +27,16 @@ public interface SeatLockCommandPort {
      */
     SeatLock lock(Long seatId, Long userId, LocalDateTime expiresAt);
 
+    /**
+     * 여러 좌석 일괄 잠금 (모두 잠그거나 하나도 잠그지 않음)
+     * 같은 사용자가 이미 잠근 좌석은 기존 잠금을 유지하고, 만료된 잠금은 새 잠금으로 교체
+     * @param seatIds 좌석 ID 목록 (오름차순)
+     * @param userId 사용자 ID
+     * @param expiresAt 만료 시간
+     * @throws concert.mania.exception.model.BadRequestException 다른 사용자가 잠금 중인 좌석이 있는 경우
+     */
+    void lockAll(List<Long> seatIds, Long userId, LocalDateTime expiresAt);
+
     /**
      * 좌석 잠금 시간 연장
      * @param seatId 좌석 ID
@@ -55,8 +66,18 @@ public interface SeatLockCommandPort {
     int unlockByConcertId(Long concertId);
 
     /**
-     * 만료된 모든 좌석 잠금 해제
-     * @return 해제된 좌석 잠금 수
+     * 만료된 좌석 잠금 일괄 해제 (만료 시간 순)
+     * @param limit 최대 해제 잠금 수
+     * @return 잠금이 해제된 좌석 ID 목록
+     */
+    List<Long> unlockExpired(int limit);
+
+    /**
+     * 좌석 선택/취소 시 좌석 테이블의 상태를 동기적으로 갱신해야 하는지 여부
+     * 잠금 저장소 자체가 선점 상태의 원본인 구현(Redis 등)은 false를 반환
+     * @return 좌석 상태 동기 갱신 필요 여부
      */
-    int unlockExpired();
-}
\ No newline at end of file
+    default boolean isSeatStatusSyncRequired() {
+        return true;
+    }
+}
@@ -2,6 +2,8 @@ package concert.mania.concert.application.port.out.command;
 
 import concert.mania.concert.domain.model.WaitingQueue;
 
+import java.util.List;
+
 /**
  * 대기열 명령 포트
  * 대기열 등록, 상태 변경 등의 명령을 처리
@@ -10,6 +12,7 @@ public interface WaitingQueueCommandPort {
     
     /**
      * 대기열에 사용자 등록
+     * 이미 등록된 사용자는 새로 등록하지 않고 기존 대기열 정보를 반환
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
      * @return 등록된 대기열 정보
@@ -22,6 +25,15 @@ public interface WaitingQueueCommandPort {
      * @return 업데이트된 대기열 정보
      */
     WaitingQueue process(Long waitingQueueId);
+
+    /**
+     * 대기 중인 사용자를 대기 위치 순으로 최대 count명까지 처리 중으로 변경
+     * 꺼내기와 상태 변경이 원자적으로 처리되어 같은 사용자가 중복 처리되지 않음
+     * @param concertId 콘서트 ID
+     * @param count 처리할 최대 인원 수
+     * @return 처리 중으로 변경된 대기열 정보 목록 (대기 위치 순)
+     */
+    List<WaitingQueue> processBatch(Long concertId, int count);
     
     /**
      * 대기열 상태를 입장 완료로 변경
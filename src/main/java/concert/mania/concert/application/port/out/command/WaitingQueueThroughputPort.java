@@ -0,0 +1,25 @@
+package concert.mania.concert.application.port.out.command;
+
+import concert.mania.concert.domain.model.AdmissionRate;
+
+/**
+ * 대기열 입장 처리량 포트
+ * 콘서트별 입장 처리량의 기록 및 조회를 처리
+ */
+public interface WaitingQueueThroughputPort {
+
+    /**
+     * 입장 처리 결과 기록
+     * @param concertId 콘서트 ID
+     * @param admittedCount 이번에 입장 처리된 인원
+     * @return 갱신된 입장 처리량
+     */
+    AdmissionRate recordAdmissions(Long concertId, int admittedCount);
+
+    /**
+     * 입장 처리량 조회
+     * @param concertId 콘서트 ID
+     * @return 입장 처리량 (측정값이 없으면 unknown)
+     */
+    AdmissionRate getAdmissionRate(Long concertId);
+}
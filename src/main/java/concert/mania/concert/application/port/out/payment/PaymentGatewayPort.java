@@ -1,6 +1,10 @@
 package concert.mania.concert.application.port.out.payment;
 
 import concert.mania.concert.domain.model.Payment;
+import concert.mania.concert.domain.model.PaymentGatewayStatus;
+
+import java.util.Collection;
+import java.util.Map;
 
 /**
  * 외부 결제 게이트웨이 포트
@@ -18,9 +22,16 @@ public interface PaymentGatewayPort {
     /**
      * 결제 상태 조회
      * @param externalPaymentId 외부 결제 시스템 ID
-     * @return 결제 상태 정보 (JSON 형태)
+     * @return 결제 상태 정보 (응답을 해석한 불변 객체)
+     */
+    PaymentGatewayStatus getPaymentStatus(String externalPaymentId);
+
+    /**
+     * 결제 상태 일괄 조회
+     * @param externalPaymentIds 외부 결제 시스템 ID 목록
+     * @return 외부 결제 시스템 ID -> 결제 상태 정보 (결제 정보가 없는 ID는 오류 상태)
      */
-    String getPaymentStatus(String externalPaymentId);
+    Map<String, PaymentGatewayStatus> getPaymentStatuses(Collection<String> externalPaymentIds);
 
     /**
      * 결제 취소 요청
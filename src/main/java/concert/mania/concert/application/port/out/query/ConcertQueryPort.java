@@ -26,4 +26,19 @@ public interface ConcertQueryPort {
      */
     List<Concert> findAll();
 
-}
\ No newline at end of file
+    /**
+     * 활성화되어 있고 예매 마감 전인 콘서트 목록 조회 (좌석/등급 정보 제외)
+     *
+     * @param dateTime 기준 날짜시간
+     * @return 예매 진행 중이거나 예정인 콘서트 목록
+     */
+    List<Concert> findReservationCandidates(LocalDateTime dateTime);
+
+    /**
+     * 특정 시점 이후 수정된 콘서트 목록 조회 (좌석/등급 정보 제외)
+     *
+     * @param dateTime 기준 날짜시간
+     * @return 수정된 콘서트 목록
+     */
+    List<Concert> findUpdatedAfter(LocalDateTime dateTime);
+}
@@ -106,4 +106,13 @@ public interface EventQueryPort {
      * @return 실패한 이벤트 수
      */
     long countFailedEventsByType(String eventType);
-}
\ No newline at end of file
+    
+    /**
+     * 발행 대기 이벤트를 잠그고 조회 (다른 인스턴스가 잠근 이벤트는 건너뜀)
+     * 호출한 트랜잭션이 끝날 때까지 조회된 이벤트는 잠긴 상태로 유지됨
+     * 
+     * @param limit 최대 조회 수
+     * @return 이벤트 ID 순으로 정렬된 발행 대기 이벤트 목록
+     */
+    List<Event> lockPendingEvents(int limit);
+}
@@ -188,4 +188,16 @@ public interface PaymentQueryPort {
      * @return 진행 중인 결제 목록
      */
     List<Payment> findPendingPayments(LocalDateTime checkTime);
+
+    /**
+     * 진행 중인 결제 키셋 페이지 조회
+     * PENDING 상태의 결제 중 결제 ID가 lastPaymentId보다 큰 결제를 ID 순으로 조회
+     * 대조에 필요한 항목(ID, 외부 결제 ID, 생성 시간)만 채워서 반환
+     * 
+     * @param lastPaymentId 이전 페이지의 마지막 결제 ID (첫 페이지는 0)
+     * @param createdBefore 이 시간 이전에 생성된 결제만 조회
+     * @param limit 조회할 최대 개수
+     * @return 진행 중인 결제 목록
+     */
+    List<Payment> findPendingPaymentsAfter(Long lastPaymentId, LocalDateTime createdBefore, int limit);
 }
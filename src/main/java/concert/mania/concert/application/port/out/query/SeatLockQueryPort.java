@@ -3,8 +3,10 @@ package concert.mania.concert.application.port.out.query;
 import concert.mania.concert.domain.model.SeatLock;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 좌석 잠금 조회 포트 인터페이스
@@ -62,6 +64,13 @@ public interface SeatLockQueryPort {
      */
     boolean isLocked(Long seatId);
 
+    /**
+     * 주어진 좌석 중 만료되지 않은 잠금이 있는 좌석 ID 조회
+     * @param seatIds 좌석 ID 목록
+     * @return 잠금 중인 좌석 ID
+     */
+    Set<Long> findLockedSeatIds(Collection<Long> seatIds);
+
     /**
      * 특정 좌석이 특정 사용자에 의해 잠겨있는지 확인
      * @param seatId 좌석 ID
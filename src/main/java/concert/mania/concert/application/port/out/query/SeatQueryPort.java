@@ -3,7 +3,9 @@ package concert.mania.concert.application.port.out.query;
 import concert.mania.concert.domain.model.Seat;
 import concert.mania.concert.domain.model.type.SeatStatus;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -19,6 +21,13 @@ public interface SeatQueryPort {
      */
     Optional<Seat> findById(Long id);
 
+    /**
+     * ID 목록으로 좌석 목록 조회
+     * @param ids 좌석 ID 목록
+     * @return 좌석 목록 (존재하는 좌석만)
+     */
+    List<Seat> findAllByIds(List<Long> ids);
+
     /**
      * 콘서트 ID로 좌석 목록 조회
      * @param concertId 콘서트 ID
@@ -77,4 +86,11 @@ public interface SeatQueryPort {
      * @return 예매 가능한 좌석 수
      */
     long countAvailableSeatsByConcertIdAndSeatGradeId(Long concertId, Long seatGradeId);
+
+    /**
+     * 여러 콘서트의 좌석 등급별 상태별 좌석 수를 한 번의 집계로 조회
+     * @param concertIds 콘서트 ID 목록
+     * @return 콘서트 ID -> (좌석 등급 ID -> (좌석 상태 -> 좌석 수)), 좌석이 없는 콘서트는 포함되지 않음
+     */
+    Map<Long, Map<Long, Map<SeatStatus, Long>>> countByGradeAndStatus(Collection<Long> concertIds);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package concert.mania.concert.application.port.out.query;
+
+import concert.mania.concert.domain.model.SystemLoad;
+
+/**
+ * 시스템 부하 조회 포트 인터페이스
+ * 대기열 입장 인원 조절에 필요한 시스템 부하 지표 조회 기능을 정의
+ */
+public interface SystemLoadQueryPort {
+
+    /**
+     * 현재 시스템 부하 조회
+     * @return 시스템 부하 지표
+     */
+    SystemLoad getCurrentLoad();
+}
@@ -62,4 +62,20 @@ public interface WaitingQueueQueryPort {
      * @return 다음 처리할 대기열 정보
      */
     Optional<WaitingQueue> findNextWaiting(Long concertId);
-}
\ No newline at end of file
+
+    /**
+     * 특정 위치 앞에서 대기 중인 인원 조회 (대기 순번 계산용)
+     * @param concertId 콘서트 ID
+     * @param position 대기열 위치
+     * @return 앞서 대기 중인 인원 수
+     */
+    int countWaitingAhead(Long concertId, Integer position);
+
+    /**
+     * 여러 대기 위치의 대기 순번 일괄 조회 (앞서 대기 중인 인원, countWaitingAhead와 같은 값)
+     * @param concertId 콘서트 ID
+     * @param positions 대기열 위치 목록
+     * @return 위치별 대기 순번 (입력 순서, 더 이상 대기 중이 아니면 null)
+     */
+    List<Integer> findWaitingRanks(Long concertId, List<Integer> positions);
+}
@@ -0,0 +1,71 @@
+package concert.mania.concert.application.service;
+
+import concert.mania.concert.application.port.in.ActiveConcertUseCase;
+import concert.mania.concert.application.port.out.query.ConcertQueryPort;
+import concert.mania.concert.domain.model.Concert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성 콘서트 서비스
+ * concerts 테이블의 활성화 여부와 예매 오픈/마감 일시로 예매 진행 중인 콘서트를 판단하고 캐시
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveConcertService implements ActiveConcertUseCase {
+
+    // 수정 시각 비교 시 트랜잭션 커밋 지연을 고려한 여유 시간 (초)
+    private static final long REFRESH_OVERLAP_SECONDS = 5;
+
+    private final ConcertQueryPort concertQueryPort;
+
+    // 콘서트 ID -> 예매 대상 콘서트 (활성화 + 예매 마감 전)
+    private final Map<Long, Concert> candidates = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastRefreshedAt;
+
+    @Override
+    public List<Long> getActiveConcertIds() {
+        if (lastRefreshedAt == null) {
+            refreshActiveConcerts();
+        }
+        return candidates.values().stream()
+                .filter(Concert::isReservable)
+                .map(Concert::getId)
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public synchronized void refreshActiveConcerts() {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (lastRefreshedAt == null) {
+            concertQueryPort.findReservationCandidates(now)
+                    .forEach(concert -> candidates.put(concert.getId(), concert));
+            log.info("예매 대상 콘서트 로드 완료 - 콘서트 수: {}", candidates.size());
+        } else {
+            List<Concert> updated = concertQueryPort.findUpdatedAfter(lastRefreshedAt.minusSeconds(REFRESH_OVERLAP_SECONDS));
+            for (Concert concert : updated) {
+                if (concert.isActive() && concert.getReservationCloseDateTime().isAfter(now)) {
+                    candidates.put(concert.getId(), concert);
+                } else {
+                    candidates.remove(concert.getId());
+                }
+            }
+            if (!updated.isEmpty()) {
+                log.info("예매 대상 콘서트 갱신 - 변경된 콘서트 수: {}, 전체 대상 수: {}", updated.size(), candidates.size());
+            }
+        }
+
+        // 예매가 마감된 콘서트 제거
+        candidates.values().removeIf(concert -> !concert.getReservationCloseDateTime().isAfter(now));
+        lastRefreshedAt = now;
+    }
+}
@@ -0,0 +1,68 @@
+package concert.mania.concert.application.service;
+
+import concert.mania.concert.application.port.in.AdmissionControlUseCase;
+import concert.mania.concert.application.port.out.query.SystemLoadQueryPort;
+import concert.mania.concert.domain.model.SystemLoad;
+import concert.mania.config.properties.AdmissionControlProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 입장 제어 서비스
+ * AIMD(Additive Increase / Multiplicative Decrease) 방식으로 콘서트별 동시 입장 허용 인원을 조절
+ * - 시스템이 여유로우면 허용 인원을 일정량씩 늘리고
+ * - 과부하 지표 중 하나라도 기준을 넘으면 허용 인원을 비율로 줄임
+ * 허용 인원은 인스턴스 메모리에 두며, 입장 처리 틱은 리더 인스턴스 한 곳에서만 실행되므로 클러스터에 창이 하나만 존재
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionControlService implements AdmissionControlUseCase {
+
+    private final SystemLoadQueryPort systemLoadQueryPort;
+    private final AdmissionControlProperties properties;
+
+    // 콘서트 ID -> 동시 입장 허용 인원
+    private final Map<Long, Integer> admissionWindows = new ConcurrentHashMap<>();
+
+    @Override
+    public int calculateAdmissionCount(Long concertId, int waitingCount, int processingCount) {
+        SystemLoad load = systemLoadQueryPort.getCurrentLoad();
+        boolean overloaded = isOverloaded(load);
+
+        int window = admissionWindows.compute(concertId, (id, current) -> {
+            int previous = current == null ? properties.getInitialWindow() : current;
+            if (overloaded) {
+                return Math.max(properties.getMinWindow(), (int) (previous * properties.getMultiplicativeDecrease()));
+            }
+            // 대기자가 없거나 허용 인원을 다 쓰지 않았으면 늘리지 않음
+            if (waitingCount == 0 || processingCount < previous) {
+                return previous;
+            }
+            return Math.min(properties.getMaxWindow(), previous + properties.getAdditiveIncrease());
+        });
+
+        if (overloaded) {
+            log.info("시스템 과부하로 입장 허용 인원 감소 - 콘서트 ID: {}, 허용 인원: {}, 커넥션 풀 사용률: {}, 좌석 선택 p99: {}ms, 메시지 적체: {}",
+                    concertId, window, load.getConnectionPoolUsage(), load.getSeatSelectionP99Millis(), load.getMessageBacklog());
+        }
+
+        return Math.max(0, Math.min(window - processingCount, waitingCount));
+    }
+
+    @Override
+    public int getAdmissionWindow(Long concertId) {
+        return admissionWindows.getOrDefault(concertId, properties.getInitialWindow());
+    }
+
+    private boolean isOverloaded(SystemLoad load) {
+        return load.getConnectionPoolUsage() > properties.getMaxConnectionPoolUsage()
+                || load.getPendingConnections() > properties.getMaxPendingConnections()
+                || load.getSeatSelectionP99Millis() > properties.getMaxSeatSelectionP99Millis()
+                || load.getMessageBacklog() > properties.getMaxMessageBacklog();
+    }
+}
@@ -1,5 +1,6 @@
 package concert.mania.concert.application.service;
 
+import concert.mania.concert.application.event.PaymentRequestedEvent;
 import concert.mania.concert.application.port.in.PaymentUseCase;
 import concert.mania.concert.application.port.in.SeatUseCase;
 import concert.mania.concert.application.port.out.command.PaymentCommandPort;
@@ -7,6 +8,7 @@ import concert.mania.concert.application.port.out.payment.PaymentGatewayPort;
 import concert.mania.concert.application.port.out.query.PaymentQueryPort;
 import concert.mania.concert.application.port.out.query.ReservationQueryPort;
 import concert.mania.concert.domain.model.Payment;
+import concert.mania.concert.domain.model.PaymentGatewayStatus;
 import concert.mania.concert.domain.model.Reservation;
 import concert.mania.concert.domain.model.ReservationDetail;
 import concert.mania.concert.domain.model.type.PaymentMethod;
@@ -14,13 +16,14 @@ import concert.mania.concert.domain.model.type.PaymentStatus;
 import concert.mania.concert.infrastructure.messaging.producer.PaymentProducer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 결제 서비스
@@ -37,6 +40,7 @@ public class PaymentApplicationService implements PaymentUseCase {
     private final ReservationQueryPort reservationQueryPort;
     private final SeatUseCase seatUseCase;
     private final PaymentProducer paymentProducer;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 결제 요청
@@ -82,8 +86,8 @@ public class PaymentApplicationService implements PaymentUseCase {
         // 5. 결제 정보 저장
         Payment savedPayment = paymentCommandPort.save(payment);
 
-        // 6. 외부 결제 시스템에 결제 요청 (비동기로 처리)
-        processPaymentWithRetry(savedPayment.getId(), concertId, seatId, seatLockId);
+        // 6. 외부 결제 시스템에 결제 요청 (커밋 후 결제 재시도 스케줄러에서 비동기로 처리)
+        eventPublisher.publishEvent(new PaymentRequestedEvent(savedPayment.getId(), concertId, seatId, seatLockId));
 
         return savedPayment;
     }
@@ -94,7 +98,7 @@ public class PaymentApplicationService implements PaymentUseCase {
      * @return 결제 정보
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional // 외부 결제 상태를 반영하고 결과 이벤트를 기록하므로 쓰기 트랜잭션
     public Payment checkPaymentStatus(Long paymentId) {
         log.info("결제 상태 확인 - 결제 ID: {}", paymentId);
 
@@ -103,15 +107,15 @@ public class PaymentApplicationService implements PaymentUseCase {
 
         // 결제가 진행 중인 경우 외부 결제 시스템에서 상태 확인
         if (payment.isPending() && payment.getExternalPaymentId() != null) {
-            String paymentStatus = paymentGatewayPort.getPaymentStatus(payment.getExternalPaymentId());
+            PaymentGatewayStatus gatewayStatus = paymentGatewayPort.getPaymentStatus(payment.getExternalPaymentId());
 
             // 결제 상세 정보 업데이트
-            paymentCommandPort.updatePaymentDetails(paymentId, paymentStatus);
+            paymentCommandPort.updatePaymentDetails(paymentId, gatewayStatus);
 
             // 결제 상태 업데이트
-            if (paymentStatus.contains("\"status\":\"COMPLETED\"")) {
+            if (gatewayStatus.isCompleted()) {
                 payment = completePayment(paymentId);
-            } else if (paymentStatus.contains("\"status\":\"FAILED\"")) {
+            } else if (gatewayStatus.isFailed()) {
                 payment = handlePaymentFailure(paymentId);
             }
         }
@@ -165,22 +169,10 @@ public class PaymentApplicationService implements PaymentUseCase {
     @Override
     @Transactional
     public Payment handlePaymentFailure(Long paymentId) {
-        log.info("결제 실패 처리 - 결제 ID: {}", paymentId);
+        Payment failedPayment = fail(paymentId);
 
-        // 1. 결제 정보 조회
-        Payment payment = paymentQueryPort.findById(paymentId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
-
-        // 2. 결제 상태 변경
-        payment.fail();
-
-        // 3. 결제 정보 저장
-        Payment failedPayment = paymentCommandPort.save(payment);
-
-        // 4. RabbitMQ를 통해 결제 실패 메시지 전송
-        // 좌석 잠금 해제는 PaymentConsumer에서 처리
-        paymentProducer.sendFailureMessage(paymentId);
-        log.info("결제 실패 메시지 전송 - 결제 ID: {}", paymentId);
+        // RabbitMQ를 통해 결제 실패 이벤트 전송 (좌석 잠금 해제는 PaymentEventConsumer에서 처리)
+        paymentProducer.sendFailedEvent(paymentId, null, null, null, null);
 
         return failedPayment;
     }
@@ -193,25 +185,26 @@ public class PaymentApplicationService implements PaymentUseCase {
     @Override
     @Transactional
     public Payment completePayment(Long paymentId) {
-        log.info("결제 완료 처리 - 결제 ID: {}", paymentId);
-
-        // 1. 결제 정보 조회
-        Payment payment = paymentQueryPort.findById(paymentId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
-
-        // 2. 결제 상태 변경
-        payment.complete();
-
-        // 3. 결제 정보 저장
-        Payment completedPayment = paymentCommandPort.save(payment);
+        Payment completedPayment = complete(paymentId);
 
-        // 4. RabbitMQ를 통해 결제 성공 메시지 전송
-        paymentProducer.sendSuccessMessage(paymentId);
-        log.info("결제 성공 메시지 전송 - 결제 ID: {}", paymentId);
+        // RabbitMQ를 통해 결제 완료 이벤트 전송 (좌석 확정은 PaymentEventConsumer에서 처리)
+        paymentProducer.sendCompletedEvent(paymentId, null, null, null);
 
         return completedPayment;
     }
 
+    /**
+     * 결제 정보 조회 (외부 결제 시스템 확인이나 상태 변경 없이 저장된 결제만 조회)
+     * @param paymentId 결제 ID
+     * @return 결제 정보
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Payment getPaymentById(Long paymentId) {
+        return paymentQueryPort.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
+    }
+
     /**
      * 외부 결제 ID로 결제 정보 조회
      * @param externalPaymentId 외부 결제 시스템 ID
@@ -227,28 +220,13 @@ public class PaymentApplicationService implements PaymentUseCase {
     }
 
     /**
-     * 비동기로 결제 상태 확인 및 처리
+     * 외부 결제 시스템에 결제 요청 (결제 시도 시작)
      * @param paymentId 결제 ID
+     * @return 외부 결제 ID가 갱신된 결제 정보
      */
-    protected void processPaymentAsync(Long paymentId) {
-        log.info("결제 처리 메시지 전송 - 결제 ID: {}", paymentId);
-
-        // RabbitMQ를 통해 결제 처리 메시지 전송
-        paymentProducer.sendProcessMessage(paymentId);
-    }
-
-    /**
-     * 결제 처리 (최대 5회 재시도)
-     * @param paymentId 결제 ID
-     * @param concertId 콘서트 ID
-     * @param seatId 좌석 ID
-     * @param seatLockId 좌석 잠금 ID
-     */
-    @Async
-    protected void processPaymentWithRetry(Long paymentId, Long concertId, Long seatId, Long seatLockId) {
-        log.info("결제 처리 시작 - 결제 ID: {}, 콘서트 ID: {}, 좌석 ID: {}, 좌석 잠금 ID: {}", 
-                paymentId, concertId, seatId, seatLockId);
-
+    @Override
+    @Transactional
+    public Payment requestGatewayPayment(Long paymentId) {
         Payment payment = paymentQueryPort.findById(paymentId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
 
@@ -256,139 +234,101 @@ public class PaymentApplicationService implements PaymentUseCase {
         String externalPaymentId = paymentGatewayPort.requestPayment(payment);
 
         // 외부 결제 ID 업데이트
-        payment = paymentCommandPort.updateExternalPaymentId(paymentId, externalPaymentId);
+        return paymentCommandPort.updateExternalPaymentId(paymentId, externalPaymentId);
+    }
 
-        // 최대 5회 재시도
-        int maxRetries = 5;
-        int retryCount = 0;
-        boolean paymentSuccess = false;
+    /**
+     * 외부 결제 시스템의 결제 상태 확인
+     * 결제 상세 정보만 갱신하고 완료/실패 처리는 하지 않음 (재시도 여부는 호출자가 결정)
+     * @param paymentId 결제 ID
+     * @return 외부 결제 시스템의 결제 상태 (이미 진행 중이 아닌 결제는 빈 값)
+     */
+    @Override
+    @Transactional
+    public Optional<PaymentStatus> pollGatewayPayment(Long paymentId) {
+        Payment payment = paymentQueryPort.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
 
-        while (retryCount < maxRetries && !paymentSuccess) {
-            try {
-                log.info("결제 시도 {} - 결제 ID: {}", retryCount + 1, paymentId);
-
-                // 결제 상태 확인
-                String paymentStatus = paymentGatewayPort.getPaymentStatus(externalPaymentId);
-
-                // 결제 상세 정보 업데이트
-                paymentCommandPort.updatePaymentDetails(paymentId, paymentStatus);
-
-                // 결제 상태 확인
-                if (paymentStatus.contains("\"status\":\"COMPLETED\"")) {
-                    // 결제 성공
-                    completePayment(paymentId);
-                    paymentSuccess = true;
-                    log.info("결제 성공 - 결제 ID: {}, 시도: {}", paymentId, retryCount + 1);
-
-                    // 상세 성공 정보를 포함한 메시지 전송
-                    sendDetailedSuccessMessage(paymentId, concertId, seatId, seatLockId);
-                } else if (paymentStatus.contains("\"status\":\"FAILED\"")) {
-                    // 결제 실패, 재시도
-                    log.warn("결제 실패, 재시도 - 결제 ID: {}, 시도: {}", paymentId, retryCount + 1);
-                    retryCount++;
-
-                    if (retryCount < maxRetries) {
-                        // 잠시 대기 후 재시도
-                        try {
-                            Thread.sleep(2000);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
-                        // 새로운 외부 결제 ID로 다시 시도
-                        externalPaymentId = paymentGatewayPort.requestPayment(payment);
-                        payment = paymentCommandPort.updateExternalPaymentId(paymentId, externalPaymentId);
-                    }
-                } else {
-                    // 진행 중인 상태, 잠시 대기 후 다시 확인
-                    try {
-                        Thread.sleep(1000);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                }
-            } catch (Exception e) {
-                log.error("결제 처리 중 오류 발생 - 결제 ID: {}, 시도: {}, 오류: {}", 
-                        paymentId, retryCount + 1, e.getMessage());
-                retryCount++;
-
-                try {
-                    Thread.sleep(2000);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                }
-            }
+        // 다른 경로(상태 조회, 만료 처리, 취소)로 이미 종료된 결제
+        // (종료 상태를 그대로 돌려주면 실패로 종료된 결제를 호출자가 재요청하게 됨)
+        if (!payment.isPending()) {
+            return Optional.empty();
+        }
+        if (payment.getExternalPaymentId() == null) {
+            return Optional.of(PaymentStatus.PENDING);
         }
 
-        // 최대 재시도 횟수를 초과하여 실패한 경우
-        if (!paymentSuccess) {
-            log.error("최대 재시도 횟수 초과 - 결제 ID: {}, 시도: {}", paymentId, retryCount);
-
-            // 결제 실패 처리
-            handlePaymentFailure(paymentId);
+        PaymentGatewayStatus gatewayStatus = paymentGatewayPort.getPaymentStatus(payment.getExternalPaymentId());
 
-            // RabbitMQ를 통해 결제 실패 메시지 전송
-            paymentProducer.sendFailureMessage(paymentId);
+        // 결제 상세 정보 업데이트 (진행 상황은 checkPaymentStatus로 조회 가능)
+        paymentCommandPort.updatePaymentDetails(paymentId, gatewayStatus);
 
-            // 추가 정보를 포함한 실패 메시지 전송
-            sendDetailedFailureMessage(paymentId, concertId, seatId, seatLockId);
-        }
+        return Optional.of(gatewayStatus.status());
     }
 
     /**
-     * 상세 실패 정보를 포함한 메시지 전송
+     * 결제 처리 성공 (완료 처리 및 좌석 정보를 포함한 완료 이벤트 전송)
      * @param paymentId 결제 ID
      * @param concertId 콘서트 ID
      * @param seatId 좌석 ID
      * @param seatLockId 좌석 잠금 ID
+     * @return 완료 처리된 결제 정보
      */
-    private void sendDetailedFailureMessage(Long paymentId, Long concertId, Long seatId, Long seatLockId) {
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            java.util.Map<String, Object> failureDetails = new java.util.HashMap<>();
-            failureDetails.put("paymentId", paymentId);
-            failureDetails.put("concertId", concertId);
-            failureDetails.put("seatId", seatId);
-            failureDetails.put("seatLockId", seatLockId);
-            failureDetails.put("failedAt", LocalDateTime.now().toString());
-            failureDetails.put("retryCount", 5);
-
-            String failureMessage = objectMapper.writeValueAsString(failureDetails);
-
-            // 상세 실패 정보를 포함한 메시지 전송
-            paymentProducer.sendDetailedFailureMessage(failureMessage);
-
-            log.info("상세 결제 실패 메시지 전송 완료 - 결제 ID: {}", paymentId);
-        } catch (Exception e) {
-            log.error("상세 결제 실패 메시지 전송 중 오류 발생 - 결제 ID: {}, 오류: {}", paymentId, e.getMessage());
-        }
+    @Override
+    @Transactional
+    public Payment completePaymentProcess(Long paymentId, Long concertId, Long seatId, Long seatLockId) {
+        Payment completed = complete(paymentId);
+
+        paymentProducer.sendCompletedEvent(paymentId, concertId, seatId, seatLockId);
+        return completed;
     }
 
     /**
-     * 상세 성공 정보를 포함한 메시지 전송
+     * 결제 처리 최종 실패 (실패 처리 및 좌석 정보를 포함한 실패 이벤트 전송)
      * @param paymentId 결제 ID
      * @param concertId 콘서트 ID
      * @param seatId 좌석 ID
      * @param seatLockId 좌석 잠금 ID
+     * @param attempts 결제 시도 횟수
+     * @return 실패 처리된 결제 정보
      */
-    private void sendDetailedSuccessMessage(Long paymentId, Long concertId, Long seatId, Long seatLockId) {
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            java.util.Map<String, Object> successDetails = new java.util.HashMap<>();
-            successDetails.put("paymentId", paymentId);
-            successDetails.put("concertId", concertId);
-            successDetails.put("seatId", seatId);
-            successDetails.put("seatLockId", seatLockId);
-            successDetails.put("succeededAt", LocalDateTime.now().toString());
-
-            String successMessage = objectMapper.writeValueAsString(successDetails);
-
-            // 상세 성공 정보를 포함한 메시지 전송
-            paymentProducer.sendDetailedSuccessMessage(successMessage);
-
-            log.info("상세 결제 성공 메시지 전송 완료 - 결제 ID: {}", paymentId);
-        } catch (Exception e) {
-            log.error("상세 결제 성공 메시지 전송 중 오류 발생 - 결제 ID: {}, 오류: {}", paymentId, e.getMessage());
-        }
+    @Override
+    @Transactional
+    public Payment failPaymentProcess(Long paymentId, Long concertId, Long seatId, Long seatLockId, int attempts) {
+        log.error("최대 재시도 횟수 초과 - 결제 ID: {}, 시도: {}", paymentId, attempts);
+
+        Payment failed = fail(paymentId);
+
+        paymentProducer.sendFailedEvent(paymentId, concertId, seatId, seatLockId, attempts);
+        return failed;
+    }
+
+    /**
+     * 결제 상태를 완료로 변경 (이벤트 전송 없음)
+     * @param paymentId 결제 ID
+     * @return 완료 처리된 결제 정보
+     */
+    private Payment complete(Long paymentId) {
+        log.info("결제 완료 처리 - 결제 ID: {}", paymentId);
+
+        Payment payment = paymentQueryPort.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
+        payment.complete();
+        return paymentCommandPort.save(payment);
+    }
+
+    /**
+     * 결제 상태를 실패로 변경 (이벤트 전송 없음)
+     * @param paymentId 결제 ID
+     * @return 실패 처리된 결제 정보
+     */
+    private Payment fail(Long paymentId) {
+        log.info("결제 실패 처리 - 결제 ID: {}", paymentId);
+
+        Payment payment = paymentQueryPort.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제입니다."));
+        payment.fail();
+        return paymentCommandPort.save(payment);
     }
 
     /**
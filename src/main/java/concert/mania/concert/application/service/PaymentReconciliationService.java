@@ -0,0 +1,130 @@
+package concert.mania.concert.application.service;
+
+import concert.mania.concert.application.port.in.PaymentReconciliationUseCase;
+import concert.mania.concert.application.port.out.command.PaymentCommandPort;
+import concert.mania.concert.application.port.out.payment.PaymentGatewayPort;
+import concert.mania.concert.application.port.out.query.PaymentQueryPort;
+import concert.mania.concert.domain.model.Payment;
+import concert.mania.concert.domain.model.PaymentGatewayStatus;
+import concert.mania.concert.domain.model.type.PaymentStatus;
+import concert.mania.concert.infrastructure.messaging.producer.PaymentProducer;
+import concert.mania.config.properties.PaymentReconciliationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 결제 대조 서비스
+ * 진행 중인 결제를 페이지 단위(조회 1회, 외부 일괄 조회 1회, 상태별 배치 갱신)로 처리하여
+ * 장애 후 쌓인 대량의 진행 중 결제도 결제 건수만큼의 트랜잭션/외부 호출 없이 정리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentReconciliationService implements PaymentReconciliationUseCase {
+
+    private final PaymentQueryPort paymentQueryPort;
+    private final PaymentCommandPort paymentCommandPort;
+    private final PaymentGatewayPort paymentGatewayPort;
+    private final PaymentProducer paymentProducer;
+    private final PaymentReconciliationProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 진행 중인 결제 일괄 대조
+     */
+    @Override
+    public int reconcilePendingPayments() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdBefore = now.minusSeconds(properties.getGracePeriodSeconds());
+        LocalDateTime expirationTime = now.minusMinutes(properties.getExpirationMinutes());
+        int batchSize = properties.getBatchSize();
+
+        long lastPaymentId = 0;
+        int scanned = 0;
+        int completed = 0;
+        int failed = 0;
+
+        while (true) {
+            List<Payment> payments = paymentQueryPort.findPendingPaymentsAfter(lastPaymentId, createdBefore, batchSize);
+            if (payments.isEmpty()) {
+                break;
+            }
+
+            ReconciliationResult result = reconcilePage(payments, expirationTime);
+            scanned += payments.size();
+            completed += result.completed();
+            failed += result.failed();
+
+            lastPaymentId = payments.get(payments.size() - 1).getId();
+            if (payments.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (scanned > 0) {
+            log.info("결제 대조 완료 - 조회된 결제 수: {}, 완료 처리: {}, 실패 처리: {}", scanned, completed, failed);
+        }
+        return completed + failed;
+    }
+
+    /**
+     * 결제 한 페이지 대조
+     */
+    private ReconciliationResult reconcilePage(List<Payment> payments, LocalDateTime expirationTime) {
+        // 외부 결제 시스템 일괄 조회
+        List<String> externalPaymentIds = payments.stream()
+                .map(Payment::getExternalPaymentId)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, PaymentGatewayStatus> gatewayStatuses = externalPaymentIds.isEmpty()
+                ? Map.of()
+                : paymentGatewayPort.getPaymentStatuses(externalPaymentIds);
+
+        // 결과별 분류
+        Map<Long, PaymentGatewayStatus> completedPayments = new HashMap<>();
+        Map<Long, PaymentGatewayStatus> failedPayments = new HashMap<>();
+        Map<Long, PaymentGatewayStatus> pendingPayments = new HashMap<>();
+        for (Payment payment : payments) {
+            PaymentGatewayStatus status = payment.getExternalPaymentId() == null
+                    ? null
+                    : gatewayStatuses.get(payment.getExternalPaymentId());
+
+            if (status != null && status.isCompleted()) {
+                completedPayments.put(payment.getId(), status);
+            } else if (status != null && status.isFailed()) {
+                failedPayments.put(payment.getId(), status);
+            } else if (payment.getCreatedAt() != null && payment.getCreatedAt().isBefore(expirationTime)) {
+                // 만료 시간이 지나도록 진행 중인 결제는 실패 처리
+                failedPayments.put(payment.getId(), PaymentGatewayStatus.error(
+                        payment.getExternalPaymentId(), "PAYMENT_EXPIRED", "결제 시간이 만료되었습니다."));
+            } else if (status != null) {
+                pendingPayments.put(payment.getId(), status);
+            }
+        }
+
+        // 배치 갱신과 결과 이벤트 기록을 한 트랜잭션으로 처리 (상태 변경이 롤백되면 이벤트도 기록되지 않음)
+        return transactionTemplate.execute(tx -> {
+            // PENDING 상태인 결제만 반영되므로 다른 경로에서 이미 처리된 결제는 제외됨
+            List<Long> completedIds = paymentCommandPort.updatePendingPayments(PaymentStatus.COMPLETED, completedPayments);
+            List<Long> failedIds = paymentCommandPort.updatePendingPayments(PaymentStatus.FAILED, failedPayments);
+            paymentCommandPort.updatePendingPayments(PaymentStatus.PENDING, pendingPayments);
+
+            // 실제로 상태가 바뀐 결제만 결과 이벤트 기록 (건별 처리와 동일한 후속 처리)
+            completedIds.forEach(id -> paymentProducer.sendCompletedEvent(id, null, null, null));
+            failedIds.forEach(id -> paymentProducer.sendFailedEvent(id, null, null, null, null));
+
+            return new ReconciliationResult(completedIds.size(), failedIds.size());
+        });
+    }
+
+    private record ReconciliationResult(int completed, int failed) {
+    }
+}
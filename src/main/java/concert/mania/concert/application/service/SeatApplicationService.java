@@ -1,25 +1,37 @@
 package concert.mania.concert.application.service;
 
 import concert.mania.concert.application.port.in.SeatUseCase;
+import concert.mania.concert.application.port.out.cache.SeatStatusCounterPort;
+import concert.mania.concert.application.port.out.cache.SeatStatusMapPort;
 import concert.mania.concert.application.port.out.command.SeatCommandPort;
 import concert.mania.concert.application.port.out.command.SeatLockCommandPort;
 import concert.mania.concert.application.port.out.query.SeatLockQueryPort;
 import concert.mania.concert.application.port.out.query.SeatQueryPort;
 import concert.mania.concert.domain.model.Seat;
 import concert.mania.concert.domain.model.SeatLock;
+import concert.mania.concert.domain.model.SeatStatusMap;
 import concert.mania.concert.domain.model.type.SeatStatus;
 import concert.mania.exception.model.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static concert.mania.exception.model.ErrorCode.ALREADY_SEAT;
+import static concert.mania.exception.model.ErrorCode.NO_ADJACENT_SEATS;
 
 /**
  * 좌석 애플리케이션 서비스
@@ -34,8 +46,13 @@ public class SeatApplicationService implements SeatUseCase {
     private final SeatCommandPort seatCommandPort;
     private final SeatLockCommandPort seatLockCommandPort;
     private final SeatLockQueryPort seatLockQueryPort;
+    private final SeatStatusMapPort seatStatusMapPort;
+    private final SeatStatusCounterPort seatStatusCounterPort;
+    private final TransactionTemplate transactionTemplate;
 
     private static final int LOCK_DURATION_MINUTES = 10;
+    private static final int MAX_SEATS_PER_SELECTION = 4;
+    private static final int MAX_BEST_AVAILABLE_ATTEMPTS = 3;
 
     @Override
     public Optional<Seat> getSeatById(Long id) {
@@ -45,8 +62,38 @@ public class SeatApplicationService implements SeatUseCase {
 
     @Override
     public List<Seat> getSeatsByConcertId(Long concertId) {
-        log.info("콘서트 ID로 좌석 목록 조회: {}", concertId);
-        return seatQueryPort.findByConcertId(concertId);
+        log.debug("콘서트 ID로 좌석 목록 조회: {}", concertId);
+        return getSeatStatusMap(concertId).getSeats();
+    }
+
+    @Override
+    public SeatStatusMap getSeatStatusMap(Long concertId) {
+        return seatStatusMapPort.getOrLoad(concertId, () -> loadSeatsWithHolds(concertId));
+    }
+
+    /**
+     * 좌석 상태 맵 로드용 좌석 목록 조회
+     * 잠금 저장소가 선점 상태의 원본인 경우 좌석 테이블에는 선점이 기록되지 않으므로 잠금 중인 좌석을 SELECTED로 표시
+     * @param concertId 콘서트 ID
+     * @return 좌석 목록
+     */
+    private List<Seat> loadSeatsWithHolds(Long concertId) {
+        List<Seat> seats = seatQueryPort.findByConcertId(concertId);
+        if (seatLockCommandPort.isSeatStatusSyncRequired()) {
+            return seats;
+        }
+
+        List<Long> availableSeatIds = seats.stream()
+                .filter(seat -> seat.getStatus() == SeatStatus.AVAILABLE)
+                .map(Seat::getId)
+                .toList();
+        Set<Long> lockedSeatIds = seatLockQueryPort.findLockedSeatIds(availableSeatIds);
+        for (Seat seat : seats) {
+            if (lockedSeatIds.contains(seat.getId())) {
+                seat.setStatus(SeatStatus.SELECTED);
+            }
+        }
+        return seats;
     }
 
     @Override
@@ -76,6 +123,12 @@ public class SeatApplicationService implements SeatUseCase {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Seat> findBestAvailableSeats(Long concertId, Long seatGradeId, int count) {
+        validateSelectionCount(count);
+        return getSeatStatusMap(concertId).findBestAvailable(seatGradeId, count, Set.of());
+    }
+
     @Override
     public Optional<Seat> getSeatByConcertIdAndSeatNumber(Long concertId, String seatNumber) {
         log.info("콘서트 ID와 좌석 번호로 좌석 조회: {}, {}", concertId, seatNumber);
@@ -84,14 +137,39 @@ public class SeatApplicationService implements SeatUseCase {
 
     @Override
     public long countAvailableSeatsByConcertId(Long concertId) {
-        log.info("콘서트 ID로 예매 가능한 좌석 수 조회: {}", concertId);
-        return seatQueryPort.countAvailableSeatsByConcertId(concertId);
+        return getAvailableSeatCountsByGrade(concertId).values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
     }
 
     @Override
     public long countAvailableSeatsByConcertIdAndSeatGradeId(Long concertId, Long seatGradeId) {
-        log.info("콘서트 ID와 좌석 등급 ID로 예매 가능한 좌석 수 조회: {}, {}", concertId, seatGradeId);
-        return seatQueryPort.countAvailableSeatsByConcertIdAndSeatGradeId(concertId, seatGradeId);
+        return getAvailableSeatCountsByGrade(concertId).getOrDefault(seatGradeId, 0L);
+    }
+
+    @Override
+    public Map<Long, Long> getAvailableSeatCountsByGrade(Long concertId) {
+        return getAvailableSeatCountsByGrade(List.of(concertId)).getOrDefault(concertId, Map.of());
+    }
+
+    @Override
+    public Map<Long, Map<Long, Long>> getAvailableSeatCountsByGrade(List<Long> concertIds) {
+        Map<Long, Map<Long, Map<SeatStatus, Long>>> counts = seatStatusCounterPort.getCountsByGrade(
+                concertIds, seatQueryPort::countByGradeAndStatus);
+        return counts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey,
+                                grade -> Math.max(0L, grade.getValue().getOrDefault(SeatStatus.AVAILABLE, 0L))))));
+    }
+
+    @Override
+    public Map<SeatStatus, Long> getSeatStatusStatistics(Long concertId) {
+        Map<SeatStatus, Long> statistics = new EnumMap<>(SeatStatus.class);
+        seatStatusCounterPort.getCountsByGrade(List.of(concertId), seatQueryPort::countByGradeAndStatus)
+                .getOrDefault(concertId, Map.of())
+                .values()
+                .forEach(counts -> counts.forEach((status, count) -> statistics.merge(status, count, Long::sum)));
+        return statistics;
     }
 
     // === 명령(Command) 기능 구현 ===
@@ -110,6 +188,11 @@ public class SeatApplicationService implements SeatUseCase {
         Seat seat = seatQueryPort.findById(seatId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석입니다."));
 
+        // 잠금 저장소가 선점 상태의 원본인 경우 잠금 1회로 처리
+        if (!seatLockCommandPort.isSeatStatusSyncRequired()) {
+            return holdSeat(seat, userId);
+        }
+
         // 2. 좌석이 이미 선택되었는지 확인
         Optional<SeatLock> existingLock = seatLockQueryPort.findBySeatId(seatId);
         if (existingLock.isPresent()) {
@@ -124,14 +207,14 @@ public class SeatApplicationService implements SeatUseCase {
                     return seat; // 기존 상태 그대로 반환
                 }
                 // 만료된 경우에만 기존 잠금 해제하고 새로 생성
-                seatLockCommandPort.unlock(seatId);
+                releaseExpiredHold(seat);
             } else {
                 // 다른 사용자가 선택했고 아직 만료되지 않은 경우
                 if (!lock.isExpired()) {
                     throw new BadRequestException(ALREADY_SEAT);
                 }
                 // 만료된 경우 기존 잠금 해제
-                seatLockCommandPort.unlock(seatId);
+                releaseExpiredHold(seat);
             }
         }
 
@@ -139,11 +222,167 @@ public class SeatApplicationService implements SeatUseCase {
         LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES);
         seatLockCommandPort.lock(seatId, userId, expiresAt);
 
-        // 4. 좌석 상태 변경 (SELECTED)
-        Seat selectedSeat = seatCommandPort.select(seatId, userId);
+        // 4. 좌석 상태 변경 (SELECTED), 다른 요청이 먼저 변경한 경우 잠금까지 롤백
+        if (!seatCommandPort.select(seatId, userId)) {
+            throw new BadRequestException(ALREADY_SEAT);
+        }
+        seat.setStatus(SeatStatus.SELECTED);
+        applySeatStatus(seat, SeatStatus.AVAILABLE);
 
         log.info("좌석 선택 완료 - 좌석 ID: {}, 사용자 ID: {}, 만료 시간: {}", seatId, userId, expiresAt);
-        return selectedSeat;
+        return seat;
+    }
+
+    /**
+     * 여러 좌석 일괄 선택 (임시 점유, 전부 성공하거나 전부 실패)
+     * 좌석 ID 오름차순으로 좌석 행과 잠금을 획득하여 겹치는 좌석을 동시에 선택하는 요청 사이의 교착을 방지하고,
+     * 좌석 수와 관계없이 좌석 조회 1회 + 상태 변경 1회 + 잠금 1회로 처리
+     * 하나라도 선택할 수 없으면 예외가 발생하고 트랜잭션이 롤백되어 어떤 좌석도 선택되지 않음
+     * @param seatIds 좌석 ID 목록
+     * @param userId 사용자 ID
+     * @return 선택된 좌석 목록 (좌석 ID 순)
+     */
+    @Override
+    @Transactional
+    public List<Seat> selectSeats(List<Long> seatIds, Long userId) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            throw new IllegalArgumentException("선택할 좌석이 없습니다.");
+        }
+        List<Long> sortedSeatIds = seatIds.stream().distinct().sorted().toList();
+        if (sortedSeatIds.size() > MAX_SEATS_PER_SELECTION) {
+            throw new IllegalArgumentException("한 번에 선택할 수 있는 좌석은 최대 " + MAX_SEATS_PER_SELECTION + "석입니다.");
+        }
+
+        // 1. 좌석 조회 및 검증 (모두 존재하고 같은 콘서트의 좌석이어야 함)
+        List<Seat> seats = seatQueryPort.findAllByIds(sortedSeatIds).stream()
+                .sorted(Comparator.comparing(Seat::getId))
+                .toList();
+        if (seats.size() != sortedSeatIds.size()) {
+            throw new IllegalArgumentException("존재하지 않는 좌석이 포함되어 있습니다.");
+        }
+        Long concertId = seats.get(0).getConcert().getId();
+        for (Seat seat : seats) {
+            if (!concertId.equals(seat.getConcert().getId())) {
+                throw new IllegalArgumentException("같은 콘서트의 좌석만 함께 선택할 수 있습니다.");
+            }
+            if (seat.getStatus() == SeatStatus.RESERVED || seat.isSold()) {
+                throw new BadRequestException(ALREADY_SEAT);
+            }
+        }
+
+        // 2. 좌석 상태 일괄 변경 (SELECTED), 좌석 행을 ID 순으로 잠가 같은 좌석에 대한 요청을 직렬화
+        if (seatLockCommandPort.isSeatStatusSyncRequired()
+                && seatCommandPort.selectAll(sortedSeatIds) != sortedSeatIds.size()) {
+            throw new BadRequestException(ALREADY_SEAT);
+        }
+
+        // 3. 좌석 잠금 일괄 생성 (다른 사용자가 잠금 중인 좌석이 있으면 예외 발생 후 전체 롤백)
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES);
+        seatLockCommandPort.lockAll(sortedSeatIds, userId, expiresAt);
+
+        // 좌석 테이블의 이전 상태는 1단계에서 읽은 상태 (잠금 없이 SELECTED로 남아 있던 좌석도 선택 대상)
+        for (Seat seat : seats) {
+            SeatStatus previousStatus = seatLockCommandPort.isSeatStatusSyncRequired() ? seat.getStatus() : null;
+            seat.setStatus(SeatStatus.SELECTED);
+            applySeatStatus(seat, previousStatus);
+        }
+
+        log.info("좌석 일괄 선택 완료 - 좌석 ID: {}, 사용자 ID: {}, 만료 시간: {}", sortedSeatIds, userId, expiresAt);
+        return seats;
+    }
+
+    /**
+     * 최적 연속 좌석 자동 선택 (임시 점유, 전부 성공하거나 전부 실패)
+     * 좌석 상태 맵에서 찾은 좌석을 시도마다 별도 트랜잭션으로 일괄 선택하며,
+     * 그 사이 다른 사용자가 선택한 좌석이 있으면 해당 좌석들을 제외하고 다시 검색
+     * @param concertId 콘서트 ID
+     * @param seatGradeId 좌석 등급 ID
+     * @param count 필요한 좌석 수
+     * @param userId 사용자 ID
+     * @return 선택된 좌석 목록 (좌석 ID 순)
+     */
+    @Override
+    public List<Seat> selectBestAvailableSeats(Long concertId, Long seatGradeId, int count, Long userId) {
+        validateSelectionCount(count);
+        SeatStatusMap seatStatusMap = getSeatStatusMap(concertId);
+
+        Set<Long> excludedSeatIds = new HashSet<>();
+        for (int attempt = 1; attempt <= MAX_BEST_AVAILABLE_ATTEMPTS; attempt++) {
+            List<Long> seatIds = seatStatusMap.findBestAvailable(seatGradeId, count, excludedSeatIds).stream()
+                    .map(Seat::getId)
+                    .toList();
+            if (seatIds.isEmpty()) {
+                throw new BadRequestException(NO_ADJACENT_SEATS);
+            }
+
+            try {
+                return transactionTemplate.execute(tx -> selectSeats(seatIds, userId));
+            } catch (BadRequestException e) {
+                // 다른 인스턴스에서 선택되어 상태 맵에 아직 반영되지 않은 좌석일 수 있으므로 제외하고 다시 검색
+                log.info("최적 연속 좌석 선택 경합 - 좌석 ID: {}, 시도: {}", seatIds, attempt);
+                excludedSeatIds.addAll(seatIds);
+            }
+        }
+        throw new BadRequestException(ALREADY_SEAT);
+    }
+
+    private void validateSelectionCount(int count) {
+        if (count < 1 || count > MAX_SEATS_PER_SELECTION) {
+            throw new IllegalArgumentException("좌석 수는 1석 이상 " + MAX_SEATS_PER_SELECTION + "석 이하여야 합니다.");
+        }
+    }
+
+    /**
+     * 만료된 선점 해제 (잠금 해제 후 SELECTED로 남아 있는 좌석 상태를 초기화하여 다시 선택할 수 있도록 함)
+     * @param seat 좌석
+     */
+    private void releaseExpiredHold(Seat seat) {
+        seatLockCommandPort.unlock(seat.getId());
+        if (seatCommandPort.reset(seat.getId())) {
+            recordTransition(seat, SeatStatus.SELECTED, SeatStatus.AVAILABLE);
+        }
+    }
+
+    /**
+     * 잠금 저장소만으로 좌석 선점
+     * 잠금 생성 스크립트가 소유자 확인과 만료 시간을 원자적으로 처리하므로 사전 조회 없이 바로 잠금을 시도하며,
+     * 좌석 테이블은 결제 확정 시점에만 갱신됨
+     * @param seat 선점할 좌석
+     * @param userId 사용자 ID
+     * @return 선점된 좌석 정보 (상태: SELECTED)
+     */
+    private Seat holdSeat(Seat seat, Long userId) {
+        if (seat.getStatus() == SeatStatus.RESERVED || seat.isSold()) {
+            throw new BadRequestException(ALREADY_SEAT);
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES);
+        SeatLock lock = seatLockCommandPort.lock(seat.getId(), userId, expiresAt);
+        seat.setStatus(SeatStatus.SELECTED);
+        applySeatStatus(seat);
+
+        log.info("좌석 선점 완료 - 좌석 ID: {}, 사용자 ID: {}, 만료 시간: {}", seat.getId(), userId, lock.getExpiresAt());
+        return seat;
+    }
+
+    /**
+     * 사용자의 좌석 선점 해제
+     * 선점이 없거나 다른 사용자의 선점이면 이미 해제된 것으로 보고 아무 작업도 하지 않음
+     * @param seatId 좌석 ID
+     * @param userId 사용자 ID
+     * @return 해제 여부
+     */
+    @Override
+    @Transactional
+    public boolean releaseSeatSelection(Long seatId, Long userId) {
+        Optional<SeatLock> existingLock = seatLockQueryPort.findBySeatId(seatId);
+        if (existingLock.isEmpty() || !existingLock.get().isLockedByUser(userId)) {
+            log.info("이미 해제된 좌석 선점 - 좌석 ID: {}, 사용자 ID: {}", seatId, userId);
+            return false;
+        }
+
+        cancelSeatSelection(seatId, userId);
+        return true;
     }
 
     /**
@@ -171,10 +410,17 @@ public class SeatApplicationService implements SeatUseCase {
         seatLockCommandPort.unlock(seatId);
 
         // 좌석 상태 초기화 (AVAILABLE)
-        Seat resetSeat = seatCommandPort.reset(seatId);
+        // 잠금 저장소가 선점 상태의 원본인 경우 좌석 테이블은 변경되지 않았으므로 초기화 생략
+        if (seatLockCommandPort.isSeatStatusSyncRequired() && !seatCommandPort.reset(seatId)) {
+            throw new IllegalStateException("이미 판매 완료된 좌석은 초기화할 수 없습니다.");
+        }
+
+        Seat seat = lockedSeat(lock, seatId);
+        seat.setStatus(SeatStatus.AVAILABLE);
+        applySeatStatus(seat, seatLockCommandPort.isSeatStatusSyncRequired() ? SeatStatus.SELECTED : null);
 
         log.info("좌석 선택 취소 완료 - 좌석 ID: {}, 사용자 ID: {}", seatId, userId);
-        return resetSeat;
+        return seat;
     }
 
     /**
@@ -238,16 +484,40 @@ public class SeatApplicationService implements SeatUseCase {
     }
 
     /**
-     * 만료된 모든 좌석 선택 취소
+     * 만료된 좌석 선택 일괄 취소
+     * 잠금 해제와 좌석 상태 초기화를 한 트랜잭션에서 처리하여 만료된 좌석이 바로 다시 판매되도록 함
+     * @param limit 최대 취소 좌석 수
      * @return 취소된 좌석 수
      */
     @Override
     @Transactional
-    public int cancelExpiredSeatSelections() {
-        // 만료된 모든 좌석 잠금 해제
-        int count = seatLockCommandPort.unlockExpired();
-        log.info("만료된 모든 좌석 선택 취소 완료 - 취소된 좌석 수: {}", count);
-        return count;
+    public int cancelExpiredSeatSelections(int limit) {
+        // 1. 만료된 잠금 해제
+        List<Long> seatIds = seatLockCommandPort.unlockExpired(limit);
+        if (seatIds.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 좌석 상태 초기화 (AVAILABLE), 그 사이 다시 선택되어 잠금이 있는 좌석은 제외
+        // 잠금 저장소가 선점 상태의 원본인 경우 좌석 테이블은 변경되지 않았으므로 초기화 생략
+        if (seatLockCommandPort.isSeatStatusSyncRequired()) {
+            seatCommandPort.releaseAll(seatIds);
+        }
+
+        // 3. 다시 판매 가능해진 좌석을 좌석 상태 맵에 반영
+        // 잠금 저장소가 선점 상태의 원본인 경우 좌석 테이블로는 재선점을 알 수 없으므로 그 사이 다시 잠긴 좌석은 제외
+        SeatStatus previousStatus = seatLockCommandPort.isSeatStatusSyncRequired() ? SeatStatus.SELECTED : null;
+        Set<Long> relockedSeatIds = seatLockCommandPort.isSeatStatusSyncRequired()
+                ? Set.of()
+                : seatLockQueryPort.findLockedSeatIds(seatIds);
+        for (Seat seat : seatQueryPort.findAllByIds(seatIds)) {
+            if (seat.getStatus() == SeatStatus.AVAILABLE && !relockedSeatIds.contains(seat.getId())) {
+                applySeatStatus(seat, previousStatus);
+            }
+        }
+
+        log.debug("만료된 좌석 선택 취소 완료 - 취소된 좌석 수: {}", seatIds.size());
+        return seatIds.size();
     }
 
     /**
@@ -288,10 +558,104 @@ public class SeatApplicationService implements SeatUseCase {
         // 4. 좌석 잠금 해제 (더 이상 필요 없음)
         seatLockCommandPort.unlock(seatId);
 
-        // 5. 좌석 상태를 판매 완료로 변경
-        Seat confirmedSeat = seatCommandPort.sell(seatId);
+        // 5. 좌석 상태를 판매 완료로 변경 (이미 판매 완료된 경우 실패)
+        if (!seatCommandPort.sell(seatId)) {
+            throw new IllegalStateException("이미 판매 완료된 좌석입니다. ID: " + seatId);
+        }
+
+        Seat confirmedSeat = lockedSeat(lock, seatId);
+        confirmedSeat.setStatus(SeatStatus.SOLD);
+        // 잠금 저장소가 선점 상태의 원본인 경우 좌석 테이블에서는 AVAILABLE에서 바로 판매 완료됨
+        applySeatStatus(confirmedSeat,
+                seatLockCommandPort.isSeatStatusSyncRequired() ? SeatStatus.SELECTED : SeatStatus.AVAILABLE);
 
         log.info("좌석 예약 확정 완료 - 좌석 ID: {}, 사용자 ID: {}", seatId, userId);
         return confirmedSeat;
     }
+
+    /**
+     * 좌석 상태 카운터 정합성 보정
+     * 카운터가 있는 콘서트 전체를 보정 기준 시각에 한 번에 집계하여 카운터를 덮어쓰도록 예약
+     * (집계는 기준 시각에 조회 어댑터의 읽기 전용 트랜잭션에서 실행)
+     * @return 보정 예약 여부
+     */
+    @Override
+    public boolean reconcileSeatStatusCounters() {
+        return seatStatusCounterPort.reconcile(seatQueryPort::countByGradeAndStatus);
+    }
+
+    /**
+     * 잠금 대상 좌석 정보 (잠금에 좌석 정보가 없으면 조회)
+     * @param lock 좌석 잠금
+     * @param seatId 좌석 ID
+     * @return 좌석 정보
+     */
+    private Seat lockedSeat(SeatLock lock, Long seatId) {
+        Seat seat = lock.getSeat();
+        if (seat != null && seat.getConcert() != null) {
+            return seat;
+        }
+        return seatQueryPort.findById(seatId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석입니다."));
+    }
+
+    /**
+     * 변경된 좌석 상태를 좌석 상태 맵에 반영 (트랜잭션 커밋 후)
+     * @param seat 상태가 변경된 좌석
+     */
+    private void applySeatStatus(Seat seat) {
+        if (seat == null || seat.getConcert() == null) {
+            return;
+        }
+        Long concertId = seat.getConcert().getId();
+        Long seatId = seat.getId();
+        SeatStatus status = seat.getStatus();
+        afterCommit(() -> seatStatusMapPort.updateStatus(concertId, seatId, status));
+    }
+
+    /**
+     * 변경된 좌석 상태를 좌석 상태 맵과 좌석 상태 카운터에 반영
+     * @param seat 상태가 변경된 좌석
+     * @param previousStatus 좌석 테이블의 이전 상태 (좌석 테이블이 변경되지 않은 경우 null, 카운터 반영 생략)
+     */
+    private void applySeatStatus(Seat seat, SeatStatus previousStatus) {
+        applySeatStatus(seat);
+        if (previousStatus != null) {
+            recordTransition(seat, previousStatus, seat.getStatus());
+        }
+    }
+
+    /**
+     * 좌석 테이블의 상태 변경을 좌석 상태 카운터에 반영 (트랜잭션 커밋 후)
+     */
+    private void recordTransition(Seat seat, SeatStatus from, SeatStatus to) {
+        if (seat == null || seat.getConcert() == null || seat.getSeatGrade() == null) {
+            return;
+        }
+        Long concertId = seat.getConcert().getId();
+        Long seatGradeId = seat.getSeatGrade().getId();
+        afterCommit(() -> seatStatusCounterPort.recordTransition(concertId, seatGradeId, from, to));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 실행 (롤백되면 실행하지 않음, 트랜잭션 밖이면 바로 실행)
+     * 좌석 상태 맵과 카운터는 좌석 테이블에 커밋된 상태만 따라가야 함
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    // 이미 커밋된 변경이므로 호출자에게 실패를 전달하지 않음 (주기 점검/보정으로 복구)
+                    log.warn("좌석 상태 반영 실패 - 오류: {}", e.getMessage());
+                }
+            }
+        });
+    }
 }
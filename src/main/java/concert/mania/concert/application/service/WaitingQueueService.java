@@ -3,7 +3,9 @@ package concert.mania.concert.application.service;
 import concert.mania.concert.application.port.in.WaitingQueueCommandUseCase;
 import concert.mania.concert.application.port.in.WaitingQueueQueryUseCase;
 import concert.mania.concert.application.port.out.command.WaitingQueueCommandPort;
+import concert.mania.concert.application.port.out.command.WaitingQueueThroughputPort;
 import concert.mania.concert.application.port.out.query.WaitingQueueQueryPort;
+import concert.mania.concert.domain.model.AdmissionRate;
 import concert.mania.concert.domain.model.WaitingQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +25,7 @@ public class WaitingQueueService implements WaitingQueueCommandUseCase, WaitingQ
 
     private final WaitingQueueCommandPort waitingQueueCommandPort;
     private final WaitingQueueQueryPort waitingQueueQueryPort;
+    private final WaitingQueueThroughputPort waitingQueueThroughputPort;
 
     // ===== Command Methods =====
 
@@ -32,13 +35,7 @@ public class WaitingQueueService implements WaitingQueueCommandUseCase, WaitingQ
     @Override
     @Transactional
     public WaitingQueue registerToWaitingQueue(Long concertId, Long userId) {
-        // 이미 등록된 사용자인지 확인
-        waitingQueueQueryPort.findByConcertIdAndUserId(concertId, userId)
-                .ifPresent(queue -> {
-                    throw new IllegalStateException("이미 대기열에 등록된 사용자입니다.");
-                });
-
-        // 대기열에 등록
+        // 대기열에 등록 (이미 등록된 사용자는 기존 대기 위치를 그대로 반환하므로 중복 요청에도 안전)
         WaitingQueue waitingQueue = waitingQueueCommandPort.register(concertId, userId);
         log.info("대기열 등록 완료 - 콘서트 ID: {}, 사용자 ID: {}, 대기 위치: {}", 
                 concertId, userId, waitingQueue.getPosition());
@@ -52,18 +49,34 @@ public class WaitingQueueService implements WaitingQueueCommandUseCase, WaitingQ
     @Override
     @Transactional
     public WaitingQueue processNextWaiting(Long concertId) {
-        // 다음 처리할 대기열 항목 조회
-        WaitingQueue nextWaiting = waitingQueueQueryPort.findNextWaiting(concertId)
+        // 다음 처리할 대기열 항목을 꺼내 처리 중 상태로 변경 (원자적으로 처리되어 중복 처리 없음)
+        WaitingQueue processing = waitingQueueCommandPort.processBatch(concertId, 1).stream()
+                .findFirst()
                 .orElseThrow(() -> new IllegalStateException("처리할 대기열이 없습니다."));
-
-        // 처리 중 상태로 변경
-        WaitingQueue processing = waitingQueueCommandPort.process(nextWaiting.getId());
         log.info("대기열 처리 중 - 콘서트 ID: {}, 사용자 ID: {}, 대기 위치: {}", 
                 concertId, processing.getUserId(), processing.getPosition());
         
         return processing;
     }
 
+    /**
+     * 대기열에서 다음 사용자들을 한 번에 입장 처리
+     */
+    @Override
+    @Transactional
+    public List<WaitingQueue> processNextWaitingBatch(Long concertId, int count) {
+        List<WaitingQueue> processed = waitingQueueCommandPort.processBatch(concertId, count);
+        log.info("대기열 일괄 처리 중 - 콘서트 ID: {}, 요청 수: {}, 처리 수: {}", concertId, count, processed.size());
+
+        // 입장 처리가 있을 때만 처리량으로 기록 (측정 간격은 틱 간격으로 제한되어 대기열이 비어 있던 시간은 제외되고,
+        // 같은 틱에 여러 인스턴스가 처리한 인원은 한 번의 측정으로 합산됨)
+        if (!processed.isEmpty()) {
+            AdmissionRate admissionRate = waitingQueueThroughputPort.recordAdmissions(concertId, processed.size());
+            log.debug("입장 처리량 갱신 - 콘서트 ID: {}, 초당 입장 인원: {}", concertId, admissionRate.getAdmissionsPerSecond());
+        }
+        return processed;
+    }
+
     /**
      * 특정 대기열 항목 입장 처리
      */
@@ -195,11 +208,29 @@ public class WaitingQueueService implements WaitingQueueCommandUseCase, WaitingQ
         WaitingQueue waitingQueue = waitingQueueQueryPort.findByConcertIdAndUserId(concertId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("대기열에 등록되지 않은 사용자입니다."));
         
-        // 이미 입장 완료된 경우
-        if (waitingQueue.getStatus() == WaitingQueue.WaitingStatus.ENTERED) {
-            return waitingQueue;
+        // 대기 중이 아닌 경우 (처리 중, 입장 완료, 만료) 예상 대기 시간 없음
+        if (waitingQueue.getStatus() != WaitingQueue.WaitingStatus.WAITING) {
+            return waitingQueue.applyAdmissionRate(0, AdmissionRate.unknown(concertId));
         }
-        
-        return waitingQueue;
+
+        // 앞에 대기 중인 인원 / 측정된 초당 입장 인원으로 예상 대기 시간 계산
+        int rank = waitingQueueQueryPort.countWaitingAhead(concertId, waitingQueue.getPosition());
+        return waitingQueue.applyAdmissionRate(rank, getAdmissionRate(concertId));
+    }
+
+    /**
+     * 여러 대기 위치의 대기 순번 일괄 조회
+     */
+    @Override
+    public List<Integer> getWaitingRanks(Long concertId, List<Integer> positions) {
+        return waitingQueueQueryPort.findWaitingRanks(concertId, positions);
+    }
+
+    /**
+     * 콘서트의 입장 처리량 조회
+     */
+    @Override
+    public AdmissionRate getAdmissionRate(Long concertId) {
+        return waitingQueueThroughputPort.getAdmissionRate(concertId);
     }
-}
\ No newline at end of file
+}
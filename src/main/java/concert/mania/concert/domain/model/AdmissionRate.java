@@ -0,0 +1,43 @@
+package concert.mania.concert.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대기열 입장 처리량 모델
+ * 콘서트별로 측정된 초당 입장 인원으로 대기 순번에 따른 예상 대기 시간을 계산
+ */
+@Getter
+@AllArgsConstructor
+public class AdmissionRate {
+
+    private final Long concertId; // 콘서트 ID
+    private final double admissionsPerSecond; // 초당 입장 인원 (측정값이 없으면 0)
+
+    /**
+     * 측정값이 없는 처리량
+     */
+    public static AdmissionRate unknown(Long concertId) {
+        return new AdmissionRate(concertId, 0);
+    }
+
+    /**
+     * 처리량 측정 여부
+     */
+    public boolean isMeasured() {
+        return admissionsPerSecond > 0;
+    }
+
+    /**
+     * 대기 순번으로 예상 대기 시간 계산 (분 단위, 올림)
+     * 처리량이 아직 측정되지 않았으면 기본 추정치를 사용
+     * @param rank 앞에 대기 중인 사용자 수
+     * @return 예상 대기 시간 (분)
+     */
+    public int estimateWaitingTime(int rank) {
+        if (!isMeasured()) {
+            return WaitingQueue.estimateWaitingTime(rank);
+        }
+        return (int) Math.ceil(rank / admissionsPerSecond / 60);
+    }
+}
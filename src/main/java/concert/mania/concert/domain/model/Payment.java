@@ -26,7 +26,7 @@ public class Payment {
     private PaymentStatus status; // 결제 상태 (PENDING, COMPLETED, FAILED, CANCELLED)
     private LocalDateTime completedAt; // 결제 완료 시간
     private LocalDateTime cancelledAt; // 결제 취소 시간
-    private String paymentDetails; // JSON 형태로 결제 상세 정보 저장
+    private String paymentDetails; // 결제 상세 정보 (외부 결제 상태 압축 표현, 예: status=COMPLETED;tx=...)
     private LocalDateTime createdAt; // 생성 시간
     private LocalDateTime updatedAt; // 수정 시간
     
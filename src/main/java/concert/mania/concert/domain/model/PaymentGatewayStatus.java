@@ -0,0 +1,61 @@
+package concert.mania.concert.domain.model;
+
+import concert.mania.concert.domain.model.type.PaymentStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * 외부 결제 시스템 결제 상태 모델
+ * 결제 게이트웨이 응답을 한 번만 해석하여 보관하는 불변 객체
+ * @param externalPaymentId 외부 결제 시스템 ID
+ * @param status 결제 상태 (응답에 상태가 없으면 PENDING)
+ * @param amount 결제 금액
+ * @param transactionId 외부 거래 ID
+ * @param errorCode 오류 코드 (오류가 없으면 null)
+ * @param errorMessage 오류 메시지 (오류가 없으면 null)
+ */
+public record PaymentGatewayStatus(
+        String externalPaymentId,
+        PaymentStatus status,
+        BigDecimal amount,
+        String transactionId,
+        String errorCode,
+        String errorMessage
+) {
+
+    public PaymentGatewayStatus {
+        if (status == null) {
+            status = PaymentStatus.PENDING;
+        }
+    }
+
+    /**
+     * 조회 오류 (결제 정보 없음 등) 상태 생성
+     */
+    public static PaymentGatewayStatus error(String externalPaymentId, String errorCode, String errorMessage) {
+        return new PaymentGatewayStatus(externalPaymentId, PaymentStatus.PENDING, null, null, errorCode, errorMessage);
+    }
+
+    public boolean isCompleted() {
+        return status == PaymentStatus.COMPLETED;
+    }
+
+    public boolean isFailed() {
+        return status == PaymentStatus.FAILED;
+    }
+
+    /**
+     * 결제 상세 정보 저장용 압축 표현
+     * 값이 있는 항목만 key=value 형태로 이어 붙임 (예: status=FAILED;tx=...;error=PG_ERROR_1234)
+     */
+    public String toCompactString() {
+        StringBuilder builder = new StringBuilder(64).append("status=").append(status.name());
+        if (transactionId != null) {
+            builder.append(";tx=").append(transactionId);
+        }
+        if (errorCode != null) {
+            builder.append(";error=").append(errorCode);
+        }
+        return builder.toString();
+    }
+}
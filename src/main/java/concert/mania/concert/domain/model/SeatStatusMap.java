@@ -0,0 +1,431 @@
+package concert.mania.concert.domain.model;
+
+import concert.mania.concert.domain.model.type.SeatStatus;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 콘서트별 좌석 상태 맵
+ * 좌석 배치(행/열 순서)는 생성 시점에 고정하고, 좌석 상태만 AtomicIntegerArray로 관리
+ * 조회는 배열 읽기만 수행하므로 락 없이(wait-free) 처리되며,
+ * 상태가 바뀔 때마다 버전이 증가하여 클라이언트가 변경 여부를 판단할 수 있음
+ *
+ * 여러 인스턴스가 같은 변경 스트림을 따르는 경우 세대와 버전은 외부(공유 저장소)에서 부여받고,
+ * 변경은 버전 순서대로 applyChange로 반영 (로드 시점 버전 이전의 변경분은 이 맵에서 계산할 수 없음)
+ *
+ * 연속 좌석 검색을 위해 예매 가능 좌석 비트맵(배치 인덱스별 1비트)과 구간별 예매 가능 좌석 수를 함께 유지
+ * - 구간: 같은 행, 같은 등급이면서 열 번호가 끊기지 않고 이어지는 좌석 묶음 (생성 시점에 고정)
+ * - 검색은 등급의 구간을 무대에 가까운 행부터 확인하고, 예매 가능 좌석 수가 부족한 구간은 건너뛰며
+ *   구간 안에서는 비트맵을 64석 단위로 읽어 연속 구간을 찾으므로 좌석 조회 없이 메모리에서 처리
+ */
+public class SeatStatusMap {
+
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+
+    @Getter
+    private final Long concertId; // 콘서트 ID
+    @Getter
+    private final long generation; // 상태 맵 세대 (버전 체계가 바뀌면 달라지므로 버전과 함께 사용)
+    @Getter
+    private final long baseVersion; // 로드 시점 버전 (이 버전 이후의 변경분만 계산 가능)
+    private final List<Seat> layout; // 좌석 배치 (행/열 순서, 상태 제외 불변 정보)
+    private final Map<Long, Integer> indexBySeatId; // 좌석 ID -> 배치 인덱스
+    private final AtomicIntegerArray statuses; // 배치 인덱스별 좌석 상태 (SeatStatus ordinal)
+    private final AtomicLongArray changedVersions; // 배치 인덱스별 마지막 변경 버전
+    private final AtomicLong version; // 상태 맵 버전
+
+    private final AtomicLongArray availableBits; // 예매 가능 좌석 비트맵 (배치 인덱스별 1비트)
+    private final int[] segmentStarts; // 구간별 시작 배치 인덱스
+    private final int[] segmentEnds; // 구간별 끝 배치 인덱스 (제외)
+    private final double[] segmentRowCenters; // 구간이 속한 행의 중앙 열 번호
+    private final AtomicIntegerArray segmentAvailableCounts; // 구간별 예매 가능 좌석 수
+    private final int[] segmentOf; // 배치 인덱스 -> 구간 번호 (-1: 구간 없음)
+    private final Map<Long, int[]> segmentsByGrade; // 좌석 등급 ID -> 구간 번호 (행/열 순서)
+
+    private SeatStatusMap(Long concertId, List<Seat> layout, long generation, long baseVersion) {
+        this.concertId = concertId;
+        this.generation = generation;
+        this.baseVersion = baseVersion;
+        this.version = new AtomicLong(baseVersion);
+        this.layout = layout;
+        this.indexBySeatId = new HashMap<>(layout.size() * 2);
+        this.statuses = new AtomicIntegerArray(layout.size());
+        this.changedVersions = new AtomicLongArray(layout.size());
+        this.availableBits = new AtomicLongArray((layout.size() + 63) >>> 6);
+        for (int i = 0; i < layout.size(); i++) {
+            Seat seat = layout.get(i);
+            indexBySeatId.put(seat.getId(), i);
+            statuses.set(i, seat.getStatus().ordinal());
+        }
+
+        // 연속 좌석 구간 구성 (행/열 정보가 없는 좌석은 구간에 포함하지 않음)
+        List<int[]> segments = new ArrayList<>();
+        List<Double> rowCenters = new ArrayList<>();
+        int rowStart = 0;
+        for (int i = 1; i <= layout.size(); i++) {
+            if (i < layout.size() && sameRow(layout.get(rowStart), layout.get(i))) {
+                continue;
+            }
+            // 열 번호가 없는 좌석은 행의 끝에 정렬되므로 열 번호가 있는 좌석까지만 구간으로 구성
+            int rowEnd = i;
+            while (rowEnd > rowStart && layout.get(rowEnd - 1).getSeatCol() == null) {
+                rowEnd--;
+            }
+            if (layout.get(rowStart).getSeatRow() != null && rowEnd > rowStart) {
+                double rowCenter = (layout.get(rowStart).getSeatCol() + layout.get(rowEnd - 1).getSeatCol()) / 2.0;
+                int segmentStart = rowStart;
+                for (int j = rowStart + 1; j <= rowEnd; j++) {
+                    if (j == rowEnd || !continues(layout.get(j - 1), layout.get(j))) {
+                        segments.add(new int[]{segmentStart, j});
+                        rowCenters.add(rowCenter);
+                        segmentStart = j;
+                    }
+                }
+            }
+            rowStart = i;
+        }
+
+        this.segmentStarts = new int[segments.size()];
+        this.segmentEnds = new int[segments.size()];
+        this.segmentRowCenters = new double[segments.size()];
+        this.segmentAvailableCounts = new AtomicIntegerArray(segments.size());
+        Map<Long, List<Integer>> segmentListsByGrade = new HashMap<>();
+        for (int segment = 0; segment < segments.size(); segment++) {
+            int start = segments.get(segment)[0];
+            int end = segments.get(segment)[1];
+            segmentStarts[segment] = start;
+            segmentEnds[segment] = end;
+            segmentRowCenters[segment] = rowCenters.get(segment);
+            segmentListsByGrade.computeIfAbsent(gradeId(layout.get(start)), id -> new ArrayList<>()).add(segment);
+        }
+        this.segmentsByGrade = new HashMap<>(segmentListsByGrade.size() * 2);
+        segmentListsByGrade.forEach((gradeId, list) ->
+                segmentsByGrade.put(gradeId, list.stream().mapToInt(Integer::intValue).toArray()));
+
+        this.segmentOf = new int[layout.size()];
+        Arrays.fill(segmentOf, -1);
+        for (int segment = 0; segment < segmentStarts.length; segment++) {
+            for (int i = segmentStarts[segment]; i < segmentEnds[segment]; i++) {
+                segmentOf[i] = segment;
+            }
+        }
+        for (int i = 0; i < layout.size(); i++) {
+            if (layout.get(i).getStatus() == SeatStatus.AVAILABLE) {
+                markAvailable(i, true);
+            }
+        }
+    }
+
+    /**
+     * 좌석 목록으로 상태 맵 생성
+     * @param concertId 콘서트 ID
+     * @param seats 콘서트의 전체 좌석 목록
+     * @return 생성된 좌석 상태 맵
+     */
+    public static SeatStatusMap of(Long concertId, List<Seat> seats) {
+        return of(concertId, seats, System.currentTimeMillis(), 0L);
+    }
+
+    /**
+     * 공유 버전 체계의 세대/버전으로 상태 맵 생성
+     * @param concertId 콘서트 ID
+     * @param seats 콘서트의 전체 좌석 목록 (버전 조회 이후에 읽은 상태)
+     * @param generation 상태 맵 세대
+     * @param version 좌석 목록을 읽기 전에 조회한 버전
+     * @return 생성된 좌석 상태 맵
+     */
+    public static SeatStatusMap of(Long concertId, List<Seat> seats, long generation, long version) {
+        List<Seat> layout = new ArrayList<>(seats);
+        layout.sort(Comparator.comparing(Seat::getSeatRow, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Seat::getSeatCol, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(Seat::getId));
+        return new SeatStatusMap(concertId, List.copyOf(layout), generation, version);
+    }
+
+    /**
+     * 현재 상태 맵 버전
+     * @return 버전 (상태 변경 시마다 1씩 증가)
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 특정 버전 이후의 변경분 계산 가능 여부
+     * @param sinceVersion 기준 버전
+     * @return 로드 시점 버전 이후이고 현재 버전을 넘지 않으면 true
+     */
+    public boolean canDiffFrom(long sinceVersion) {
+        return sinceVersion >= baseVersion && sinceVersion <= version.get();
+    }
+
+    /**
+     * 전체 좌석 수
+     * @return 좌석 수
+     */
+    public int size() {
+        return layout.size();
+    }
+
+    /**
+     * 좌석 포함 여부 확인
+     * @param seatId 좌석 ID
+     * @return 포함 여부
+     */
+    public boolean contains(Long seatId) {
+        return indexBySeatId.containsKey(seatId);
+    }
+
+    /**
+     * 좌석 상태 조회
+     * @param seatId 좌석 ID
+     * @return 좌석 상태 (맵에 없는 좌석이면 null)
+     */
+    public SeatStatus getStatus(Long seatId) {
+        Integer index = indexBySeatId.get(seatId);
+        return index == null ? null : STATUSES[statuses.get(index)];
+    }
+
+    /**
+     * 공유 변경 스트림의 좌석 상태 변경 반영
+     * 변경은 버전 순서대로 전달되어야 하며, 이미 반영한 버전은 무시하고 중간 버전이 빠진 경우 반영하지 않음
+     * @param seatId 좌석 ID
+     * @param status 변경된 상태
+     * @param changeVersion 변경에 부여된 버전
+     * @return 반영했거나 이미 반영된 변경이면 true, 중간 버전이 빠져 반영할 수 없으면 false (재로드 필요)
+     */
+    public boolean applyChange(Long seatId, SeatStatus status, long changeVersion) {
+        synchronized (this) {
+            long current = version.get();
+            if (changeVersion <= current) {
+                return true;
+            }
+            if (changeVersion != current + 1) {
+                return false;
+            }
+            Integer index = indexBySeatId.get(seatId);
+            if (index != null) {
+                int previous = statuses.getAndSet(index, status.ordinal());
+                if (previous == SeatStatus.AVAILABLE.ordinal() && status != SeatStatus.AVAILABLE) {
+                    markAvailable(index, false);
+                } else if (previous != SeatStatus.AVAILABLE.ordinal() && status == SeatStatus.AVAILABLE) {
+                    markAvailable(index, true);
+                }
+                // 좌석별 변경 버전을 먼저 기록한 뒤 맵 버전을 올려야 버전 N을 읽은 조회가 N 이하의 변경을 모두 볼 수 있음
+                changedVersions.set(index, changeVersion);
+            }
+            // 맵에 없는 좌석의 변경이어도 버전은 이어서 증가
+            version.set(changeVersion);
+        }
+        return true;
+    }
+
+    /**
+     * 최적 연속 좌석 검색 (무대에 가까운 행 우선, 같은 행에서는 중앙에 가까운 좌석 우선)
+     * 같은 행에서 열 번호가 이어지는 같은 등급의 예매 가능 좌석만 연속 좌석으로 봄
+     * 결과는 검색 시점의 상태이므로 실제 선점은 좌석 선택 처리에서 다시 검증해야 함
+     * @param seatGradeId 좌석 등급 ID
+     * @param count 필요한 좌석 수
+     * @param excludedSeatIds 제외할 좌석 ID (선점에 실패한 좌석 등)
+     * @return 연속 좌석 목록 (열 순서, 없으면 빈 목록)
+     */
+    public List<Seat> findBestAvailable(Long seatGradeId, int count, Set<Long> excludedSeatIds) {
+        int[] segments = segmentsByGrade.get(seatGradeId);
+        if (segments == null || count <= 0) {
+            return List.of();
+        }
+
+        Integer bestRow = null;
+        int bestStart = -1;
+        double bestDistance = Double.MAX_VALUE;
+        for (int segment : segments) {
+            Integer row = layout.get(segmentStarts[segment]).getSeatRow();
+            if (bestRow != null && !bestRow.equals(row)) {
+                // 이미 앞쪽 행에서 찾음 (구간은 행 순서)
+                break;
+            }
+            if (segmentAvailableCounts.get(segment) < count) {
+                continue;
+            }
+
+            int end = segmentEnds[segment];
+            int runStart = nextAvailable(segmentStarts[segment], end);
+            while (runStart >= 0) {
+                int runEnd = nextUnavailable(runStart, end);
+                int from = runStart;
+                // 제외 좌석이 있으면 제외 좌석에서 연속 구간을 나눔
+                for (int i = excludedSeatIds.isEmpty() ? runEnd : runStart; i <= runEnd; i++) {
+                    if (i < runEnd && !excludedSeatIds.contains(layout.get(i).getId())) {
+                        continue;
+                    }
+                    if (i - from >= count) {
+                        int start = closestToCenter(from, i, count, segmentRowCenters[segment]);
+                        double distance = Math.abs(centerCol(start, count) - segmentRowCenters[segment]);
+                        if (distance < bestDistance) {
+                            bestRow = row;
+                            bestStart = start;
+                            bestDistance = distance;
+                        }
+                    }
+                    from = i + 1;
+                }
+                runStart = runEnd < end ? nextAvailable(runEnd, end) : -1;
+            }
+        }
+
+        if (bestStart < 0) {
+            return List.of();
+        }
+        List<Seat> seats = new ArrayList<>(count);
+        for (int i = bestStart; i < bestStart + count; i++) {
+            seats.add(withStatus(layout.get(i), SeatStatus.AVAILABLE));
+        }
+        return seats;
+    }
+
+    /**
+     * 예매 가능 좌석 비트맵 조회
+     * 배치 인덱스(행/열 순서) i번째 좌석이 예매 가능하면 (i / 8)번째 바이트의 (i % 8)번째 비트가 1
+     * @return 예매 가능 좌석 비트맵
+     */
+    public byte[] getAvailabilityBitmap() {
+        byte[] bitmap = new byte[(layout.size() + 7) >>> 3];
+        int available = SeatStatus.AVAILABLE.ordinal();
+        for (int i = 0; i < layout.size(); i++) {
+            if (statuses.get(i) == available) {
+                bitmap[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * 특정 버전 이후 변경된 좌석 상태 조회
+     * @param sinceVersion 기준 버전 (이 버전 이후의 변경만 포함)
+     * @return 좌석 ID -> 현재 상태 (배치 순서)
+     */
+    public Map<Long, SeatStatus> getChangesSince(long sinceVersion) {
+        Map<Long, SeatStatus> changes = new LinkedHashMap<>();
+        for (int i = 0; i < layout.size(); i++) {
+            if (changedVersions.get(i) > sinceVersion) {
+                changes.put(layout.get(i).getId(), STATUSES[statuses.get(i)]);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * 현재 상태가 반영된 좌석 목록 조회
+     * 좌석 배치 정보는 공유하지 않고 복사본을 반환
+     * @return 행/열 순서의 좌석 목록
+     */
+    public List<Seat> getSeats() {
+        List<Seat> seats = new ArrayList<>(layout.size());
+        for (int i = 0; i < layout.size(); i++) {
+            seats.add(withStatus(layout.get(i), STATUSES[statuses.get(i)]));
+        }
+        return seats;
+    }
+
+    /**
+     * 예매 가능 비트와 구간별 예매 가능 좌석 수 갱신 (생성자 또는 synchronized 안에서만 호출)
+     */
+    private void markAvailable(int index, boolean available) {
+        long mask = 1L << index;
+        int word = index >>> 6;
+        availableBits.set(word, available ? availableBits.get(word) | mask : availableBits.get(word) & ~mask);
+        if (segmentOf[index] >= 0) {
+            segmentAvailableCounts.addAndGet(segmentOf[index], available ? 1 : -1);
+        }
+    }
+
+    /**
+     * [from, to) 범위에서 첫 예매 가능 좌석의 배치 인덱스 (없으면 -1)
+     */
+    private int nextAvailable(int from, int to) {
+        int word = from >>> 6;
+        long bits = availableBits.get(word) & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return index < to ? index : -1;
+            }
+            if (++word << 6 >= to) {
+                return -1;
+            }
+            bits = availableBits.get(word);
+        }
+    }
+
+    /**
+     * [from, to) 범위에서 첫 예매 불가 좌석의 배치 인덱스 (없으면 to)
+     */
+    private int nextUnavailable(int from, int to) {
+        int word = from >>> 6;
+        long bits = ~availableBits.get(word) & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return Math.min((word << 6) + Long.numberOfTrailingZeros(bits), to);
+            }
+            if (++word << 6 >= to) {
+                return to;
+            }
+            bits = ~availableBits.get(word);
+        }
+    }
+
+    /**
+     * [from, to) 연속 구간에서 중앙 열에 가장 가까운 count석의 시작 배치 인덱스
+     */
+    private int closestToCenter(int from, int to, int count, double rowCenter) {
+        int ideal = (int) Math.round(rowCenter - (count - 1) / 2.0) - layout.get(from).getSeatCol();
+        return from + Math.max(0, Math.min(ideal, to - from - count));
+    }
+
+    private double centerCol(int start, int count) {
+        return layout.get(start).getSeatCol() + (count - 1) / 2.0;
+    }
+
+    private static boolean sameRow(Seat a, Seat b) {
+        return Objects.equals(a.getSeatRow(), b.getSeatRow());
+    }
+
+    /**
+     * 같은 행에서 바로 옆 열의 같은 등급 좌석인지 확인
+     */
+    private static boolean continues(Seat previous, Seat next) {
+        return previous.getSeatCol() != null && next.getSeatCol() != null
+                && next.getSeatCol() == previous.getSeatCol() + 1
+                && Objects.equals(gradeId(previous), gradeId(next));
+    }
+
+    private static Long gradeId(Seat seat) {
+        return seat.getSeatGrade() == null ? null : seat.getSeatGrade().getId();
+    }
+
+    private static Seat withStatus(Seat seat, SeatStatus status) {
+        return Seat.builder()
+                .id(seat.getId())
+                .seatNumber(seat.getSeatNumber())
+                .seatRow(seat.getSeatRow())
+                .seatCol(seat.getSeatCol())
+                .status(status)
+                .createdAt(seat.getCreatedAt())
+                .updatedAt(seat.getUpdatedAt())
+                .concert(seat.getConcert())
+                .seatGrade(seat.getSeatGrade())
+                .build();
+    }
+}
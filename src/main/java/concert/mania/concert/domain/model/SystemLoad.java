@@ -0,0 +1,22 @@
+package concert.mania.concert.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시스템 부하 모델
+ * 대기열 입장 인원 조절에 사용하는 현재 시스템 부하 지표
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SystemLoad {
+
+    private double connectionPoolUsage; // DB 커넥션 풀 사용률 (0 ~ 1)
+    private int pendingConnections; // DB 커넥션 대기 스레드 수
+    private double seatSelectionP99Millis; // 좌석 선택 API p99 응답 시간 (밀리초, 측정값이 없으면 0)
+    private long messageBacklog; // 처리 대기 중인 메시지 수
+}
@@ -24,6 +24,7 @@ public class WaitingQueue {
     private LocalDateTime registeredAt; // 등록 시간
     private LocalDateTime enteredAt; // 입장 시간
     private WaitingStatus status; // 대기 상태
+    private Integer estimatedWaitingTime; // 예상 대기 시간 (분, 측정된 처리량으로 계산된 경우)
     
     /**
      * 대기 상태 열거형
@@ -73,12 +74,34 @@ public class WaitingQueue {
         return this;
     }
     
+    /**
+     * 측정된 입장 처리량으로 예상 대기 시간 적용
+     * @param rank 앞에 대기 중인 사용자 수
+     * @param admissionRate 콘서트의 입장 처리량
+     */
+    public WaitingQueue applyAdmissionRate(int rank, AdmissionRate admissionRate) {
+        this.estimatedWaitingTime = admissionRate.estimateWaitingTime(rank);
+        return this;
+    }
+
     /**
      * 예상 대기 시간 계산 (분 단위)
-     * 한 사용자당 평균 처리 시간을 30초로 가정
+     * 처리량이 적용되지 않은 경우 한 사용자당 평균 처리 시간을 30초로 가정
      */
     public int calculateEstimatedWaitingTime() {
+        if (estimatedWaitingTime != null) {
+            return estimatedWaitingTime;
+        }
         // 앞에 있는 사용자 수 * 평균 처리 시간(초) / 60
-        return (position - 1) * 30 / 60;
+        return estimateWaitingTime(position - 1);
+    }
+
+    /**
+     * 대기 순번으로 예상 대기 시간 계산 (분 단위)
+     * 입장 처리량이 측정되기 전에 사용하는 기본 추정치 (한 사용자당 30초)
+     * @param rank 앞에 대기 중인 사용자 수
+     */
+    public static int estimateWaitingTime(int rank) {
+        return rank * 30 / 60;
     }
 }
\ No newline at end of file
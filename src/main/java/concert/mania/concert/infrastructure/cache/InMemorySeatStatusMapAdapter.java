@@ -0,0 +1,210 @@
+package concert.mania.concert.infrastructure.cache;
+
+import concert.mania.concert.application.port.out.cache.SeatStatusMapPort;
+import concert.mania.concert.domain.model.Seat;
+import concert.mania.concert.domain.model.SeatStatusMap;
+import concert.mania.concert.domain.model.type.SeatStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 좌석 상태 맵 인메모리 어댑터
+ * 애플리케이션 프로세스 내에 콘서트별 좌석 상태 맵을 보관하고, Redis 변경 스트림으로 모든 인스턴스의 맵을 맞춤
+ *
+ * - 변경: 좌석 상태가 바뀌면 Redis에서 콘서트별 버전을 부여받아 채널로 발행 (자기 인스턴스도 구독으로 반영)
+ * - 구독: 버전 순서대로 맵에 반영하며, 중간 버전이 빠지면 맵을 제거하여 다음 조회 시 DB에서 다시 로드
+ * - 세대/버전이 모든 인스턴스에서 같으므로 ETag와 변경분 조회가 어느 인스턴스에서나 동작함
+ */
+@Component
+@Slf4j
+public class InMemorySeatStatusMapAdapter implements SeatStatusMapPort, MessageListener {
+
+    public static final String SEAT_MAP_CHANNEL = "seat:map:changes";
+
+    private static final String SEAT_MAP_KEY = "seat:map:";
+    private static final String FIELD_GENERATION = "generation";
+    private static final String FIELD_VERSION = "version";
+
+    private static final DefaultRedisScript<List> INIT_SCRIPT = script("redis/seat_map_init.lua", List.class);
+    private static final DefaultRedisScript<Long> CHANGE_SCRIPT = script("redis/seat_map_change.lua", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 콘서트 ID -> 좌석 상태 맵 항목
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public InMemorySeatStatusMapAdapter(StringRedisTemplate redisTemplate,
+                                        RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.redisTemplate = redisTemplate;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(SEAT_MAP_CHANNEL));
+    }
+
+    @Override
+    public Optional<SeatStatusMap> findByConcertId(Long concertId) {
+        Entry entry = entries.get(concertId);
+        return Optional.ofNullable(entry == null ? null : entry.map);
+    }
+
+    @Override
+    public SeatStatusMap getOrLoad(Long concertId, Supplier<List<Seat>> seatLoader) {
+        Entry entry = entries.get(concertId);
+        if (entry != null && entry.map != null) {
+            return entry.map;
+        }
+
+        // 항목을 먼저 등록하여 로드하는 동안 발행된 변경을 모아 둠
+        entry = entries.computeIfAbsent(concertId, id -> new Entry());
+        synchronized (entry.loadLock) {
+            if (entry.map != null) {
+                return entry.map;
+            }
+
+            // 버전을 먼저 읽고 좌석을 읽으므로 좌석 목록은 해당 버전까지의 변경을 모두 포함함
+            List<?> generationAndVersion = redisTemplate.execute(INIT_SCRIPT, List.of(SEAT_MAP_KEY + concertId),
+                    String.valueOf(System.currentTimeMillis()));
+            long generation = Long.parseLong(String.valueOf(generationAndVersion.get(0)));
+            long version = Long.parseLong(String.valueOf(generationAndVersion.get(1)));
+            SeatStatusMap loaded = SeatStatusMap.of(concertId, seatLoader.get(), generation, version);
+
+            synchronized (entry) {
+                entry.pending.sort(Comparator.comparingLong(Change::version));
+                boolean inSequence = true;
+                for (Change change : entry.pending) {
+                    inSequence &= loaded.applyChange(change.seatId(), change.status(), change.version());
+                }
+                entry.pending.clear();
+                if (!inSequence) {
+                    // 구독이 끊겨 빠진 변경이 있음, 이번 요청에만 사용하고 다음 조회에서 다시 로드
+                    log.warn("좌석 상태 맵 변경 누락 - 콘서트 ID: {}", concertId);
+                    entries.remove(concertId, entry);
+                    return loaded;
+                }
+                entry.map = loaded;
+            }
+            log.info("좌석 상태 맵 로드 완료 - 콘서트 ID: {}, 좌석 수: {}, 버전: {}", concertId, loaded.size(), version);
+            return loaded;
+        }
+    }
+
+    @Override
+    public void updateStatus(Long concertId, Long seatId, SeatStatus status) {
+        try {
+            redisTemplate.execute(CHANGE_SCRIPT, List.of(SEAT_MAP_KEY + concertId), SEAT_MAP_CHANNEL,
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(concertId), String.valueOf(seatId),
+                    status.name());
+        } catch (RuntimeException e) {
+            // 변경을 전파하지 못함, 이 인스턴스의 맵은 다음 조회에서 DB로부터 다시 로드
+            log.warn("좌석 상태 변경 전파 실패 - 콘서트 ID: {}, 좌석 ID: {}, 오류: {}", concertId, seatId, e.getMessage());
+            evict(concertId);
+        }
+    }
+
+    @Override
+    public void evict(Long concertId) {
+        entries.remove(concertId);
+    }
+
+    /**
+     * 변경 스트림 수신 (메시지: {콘서트 ID}:{좌석 ID}:{상태}:{버전})
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 4) {
+            log.warn("잘못된 좌석 상태 변경 메시지 - 메시지: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+        Long concertId = Long.valueOf(parts[0]);
+        Entry entry = entries.get(concertId);
+        if (entry == null) {
+            return;
+        }
+
+        Change change = new Change(Long.valueOf(parts[1]), SeatStatus.valueOf(parts[2]), Long.parseLong(parts[3]));
+        synchronized (entry) {
+            if (entry.map == null) {
+                entry.pending.add(change);
+                return;
+            }
+            if (!entry.map.applyChange(change.seatId(), change.status(), change.version())) {
+                log.warn("좌석 상태 맵 변경 누락, 맵 제거 - 콘서트 ID: {}, 맵 버전: {}, 수신 버전: {}",
+                        concertId, entry.map.getVersion(), change.version());
+                entries.remove(concertId, entry);
+            }
+        }
+    }
+
+    /**
+     * 로드된 맵과 Redis 버전 비교
+     * 세대가 바뀌었거나, 이전 점검 때 Redis에 있던 버전까지 반영하지 못한 맵은 제거 (구독 중 유실된 변경)
+     */
+    public void verifyVersions() {
+        for (Map.Entry<Long, Entry> item : entries.entrySet()) {
+            Long concertId = item.getKey();
+            Entry entry = item.getValue();
+            SeatStatusMap seatStatusMap = entry.map;
+            if (seatStatusMap == null) {
+                continue;
+            }
+
+            List<Object> values = redisTemplate.opsForHash().multiGet(SEAT_MAP_KEY + concertId,
+                    List.of(FIELD_GENERATION, FIELD_VERSION));
+            Object generation = values.get(0);
+            Object version = values.get(1);
+            if (generation == null || version == null
+                    || !Objects.equals(String.valueOf(seatStatusMap.getGeneration()), generation.toString())) {
+                log.warn("좌석 상태 맵 세대 변경, 맵 제거 - 콘서트 ID: {}", concertId);
+                entries.remove(concertId, entry);
+                continue;
+            }
+            if (seatStatusMap.getVersion() < entry.observedVersion) {
+                log.warn("좌석 상태 맵 변경 누락, 맵 제거 - 콘서트 ID: {}, 맵 버전: {}, 공유 버전: {}",
+                        concertId, seatStatusMap.getVersion(), entry.observedVersion);
+                entries.remove(concertId, entry);
+                continue;
+            }
+            entry.observedVersion = Long.parseLong(version.toString());
+        }
+    }
+
+    private static <T> DefaultRedisScript<T> script(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(resultType);
+        return script;
+    }
+
+    /**
+     * 콘서트별 좌석 상태 맵 항목
+     */
+    private static class Entry {
+        private final Object loadLock = new Object();
+        // 로드된 좌석 상태 맵 (로드 전이면 null)
+        private volatile SeatStatusMap map;
+        // 로드 중 수신한 변경 (synchronized(this) 안에서만 접근)
+        private final List<Change> pending = new ArrayList<>();
+        // 마지막 점검 시 Redis 버전
+        private long observedVersion;
+    }
+
+    private record Change(Long seatId, SeatStatus status, long version) {
+    }
+}
@@ -0,0 +1,169 @@
+package concert.mania.concert.infrastructure.messaging.consumer;
+
+import concert.mania.concert.application.port.in.PaymentUseCase;
+import concert.mania.concert.application.port.in.SeatUseCase;
+import concert.mania.concert.application.port.out.command.MessageIdempotencyPort;
+import concert.mania.concert.application.port.out.command.MessageIdempotencyPort.AcquireResult;
+import concert.mania.concert.domain.model.Payment;
+import concert.mania.concert.domain.model.Reservation;
+import concert.mania.concert.domain.model.ReservationDetail;
+import concert.mania.concert.infrastructure.messaging.producer.PaymentProducer.PaymentEventMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static concert.mania.config.RabbitMQConfig.PAYMENT_EVENT_LISTENER_FACTORY;
+import static concert.mania.config.RabbitMQConfig.PAYMENT_EVENT_QUEUE;
+
+/**
+ * 결제 이벤트 소비자
+ * 결제 완료/실패 이벤트를 수신하여 결제당 한 번만 후속 처리 (좌석 확정, 좌석 해제, 취소 이력 저장)
+ * 결제 상태 변경은 생산 측에서 이미 끝났으므로 여기서는 결제를 읽기만 하고 상태를 다시 변경하지 않음
+ * 좌석 처리에 실패하면 예외를 그대로 던져 선점을 해제하고 재시도/DLQ로 보냄 (좌석 처리는 다시 실행해도 안전함)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentEventConsumer {
+
+    private final PaymentUseCase paymentUseCase;
+    private final SeatUseCase seatUseCase;
+    private final MessageIdempotencyPort messageIdempotencyPort;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 결제 이벤트 처리
+     * @param message 결제 이벤트 메시지
+     */
+    @RabbitListener(queues = PAYMENT_EVENT_QUEUE, containerFactory = PAYMENT_EVENT_LISTENER_FACTORY)
+    public void handlePaymentEvent(PaymentEventMessage message) {
+        log.info("결제 이벤트 수신 - 결제 ID: {}, 유형: {}, 버전: {}",
+                message.getPaymentId(), message.getType(), message.getVersion());
+
+        if (message.getVersion() > PaymentEventMessage.CURRENT_VERSION) {
+            log.warn("알 수 없는 결제 이벤트 버전, 알려진 필드만 처리 - 결제 ID: {}, 버전: {}",
+                    message.getPaymentId(), message.getVersion());
+        }
+        if (message.getPaymentId() == null || message.getType() == null) {
+            // 재시도해도 처리할 수 없으므로 DLQ로 보내짐
+            throw new IllegalArgumentException("잘못된 결제 이벤트입니다. 멱등 키: " + message.getIdempotencyKey());
+        }
+
+        // 중복 전달된 이벤트는 처리하지 않음
+        String idempotencyKey = message.getIdempotencyKey() != null
+                ? message.getIdempotencyKey()
+                : "payment:" + message.getPaymentId() + ":" + message.getType().name();
+        AcquireResult acquired = messageIdempotencyPort.tryAcquire(idempotencyKey);
+        if (acquired == AcquireResult.COMPLETED) {
+            log.info("이미 처리된 결제 이벤트 - 멱등 키: {}", idempotencyKey);
+            return;
+        }
+        if (acquired == AcquireResult.IN_PROGRESS) {
+            // 다른 소비자가 처리 중이거나 처리 도중 종료됨, 재시도 큐를 거쳐 처리 중 표시가 만료된 뒤 다시 확인
+            throw new IllegalStateException("처리 중인 결제 이벤트입니다. 멱등 키: " + idempotencyKey);
+        }
+
+        // 처리가 끝난 뒤에만 처리 완료로 기록하고, 그 전에 실패하면(Error 포함) 처리 중 표시를 해제
+        boolean completed = false;
+        try {
+            switch (message.getType()) {
+                case COMPLETED -> handleCompleted(message);
+                case FAILED -> handleFailed(message);
+            }
+            messageIdempotencyPort.complete(idempotencyKey);
+            completed = true;
+        } catch (RuntimeException e) {
+            log.error("결제 이벤트 처리 실패 - 결제 ID: {}, 유형: {}, 오류: {}",
+                    message.getPaymentId(), message.getType(), e.getMessage());
+            throw e;
+        } finally {
+            if (!completed) {
+                messageIdempotencyPort.release(idempotencyKey);
+            }
+        }
+    }
+
+    /**
+     * 결제 완료 이벤트 처리 (좌석 확정)
+     */
+    private void handleCompleted(PaymentEventMessage message) {
+        Payment payment = paymentUseCase.getPaymentById(message.getPaymentId());
+        if (!payment.isCompleted()) {
+            log.warn("완료되지 않은 결제의 완료 이벤트 - 결제 ID: {}, 상태: {}",
+                    message.getPaymentId(), payment.getStatus());
+            return;
+        }
+
+        Reservation reservation = payment.getReservation();
+        if (reservation == null) {
+            log.warn("예약 정보 없음 - 결제 ID: {}", message.getPaymentId());
+            return;
+        }
+
+        // 이미 판매 완료된 좌석은 그대로 반환되므로 재처리 시 앞서 확정한 좌석도 다시 실패하지 않음
+        for (Long seatId : targetSeatIds(message, reservation)) {
+            seatUseCase.confirmSeat(seatId, reservation.getUserId());
+            log.info("좌석 확정 완료 - 좌석 ID: {}", seatId);
+        }
+
+        log.info("결제 완료 이벤트 처리 완료 - 결제 ID: {}, 예약 ID: {}", message.getPaymentId(), reservation.getId());
+    }
+
+    /**
+     * 결제 실패 이벤트 처리 (좌석 해제 및 취소 이력 저장)
+     */
+    private void handleFailed(PaymentEventMessage message) {
+        Payment payment = paymentUseCase.getPaymentById(message.getPaymentId());
+        if (!payment.isFailed()) {
+            log.warn("실패하지 않은 결제의 실패 이벤트 - 결제 ID: {}, 상태: {}",
+                    message.getPaymentId(), payment.getStatus());
+            return;
+        }
+
+        Reservation reservation = payment.getReservation();
+        if (reservation != null) {
+            // 이미 해제된(만료되었거나 앞선 처리에서 해제한) 좌석은 건너뛰므로 재처리해도 안전함
+            for (Long seatId : targetSeatIds(message, reservation)) {
+                if (seatUseCase.releaseSeatSelection(seatId, reservation.getUserId())) {
+                    log.info("좌석 해제 완료 - 좌석 ID: {}", seatId);
+                }
+            }
+        }
+
+        // 재시도 끝에 실패한 결제는 취소 이력 저장 (좌석 정보가 있는 이벤트만 해당)
+        if (message.getSeatId() != null) {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update(
+                "INSERT INTO payment_cancellation_history (payment_id, concert_id, seat_id, seat_lock_id, reason, cancelled_at, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                message.getPaymentId(), message.getConcertId(), message.getSeatId(), message.getSeatLockId(),
+                "결제 처리 실패 (" + message.getAttempts() + "회 시도 후)", now, now
+            );
+        }
+
+        log.info("결제 실패 이벤트 처리 완료 - 결제 ID: {}", message.getPaymentId());
+    }
+
+    /**
+     * 처리 대상 좌석 ID 목록 (이벤트에 좌석 정보가 있으면 해당 좌석, 없으면 예약의 모든 좌석)
+     */
+    private List<Long> targetSeatIds(PaymentEventMessage message, Reservation reservation) {
+        if (message.getSeatId() != null) {
+            return List.of(message.getSeatId());
+        }
+
+        List<ReservationDetail> details = reservation.getReservationDetails();
+        List<Long> seatIds = new ArrayList<>(details == null ? 0 : details.size());
+        if (details != null) {
+            for (ReservationDetail detail : details) {
+                seatIds.add(detail.getSeat().getId());
+            }
+        }
+        return seatIds;
+    }
+}
@@ -2,17 +2,24 @@ package concert.mania.concert.infrastructure.messaging.consumer;
 
 import concert.mania.concert.application.port.in.WaitingQueueCommandUseCase;
 import concert.mania.concert.domain.model.WaitingQueue;
+import concert.mania.concert.infrastructure.messaging.deadletter.DeadLetterRouter;
 import concert.mania.concert.infrastructure.messaging.producer.WaitingQueueProducer.WaitingQueueMessage;
+import concert.mania.concert.infrastructure.web.sse.WaitingQueueSseBroadcaster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 import static concert.mania.config.RabbitMQConfig.*;
 
 /**
  * 대기열 메시지 소비자
  * RabbitMQ로부터 대기열 관련 메시지를 수신하고 처리
+ * 처리 실패 메시지는 재시도 큐/DLQ로 보내짐 (단건 리스너는 컨테이너의 복구 어드바이스, 배치 리스너는 메시지 단위로 직접 처리)
  */
 @Component
 @RequiredArgsConstructor
@@ -20,43 +27,55 @@ import static concert.mania.config.RabbitMQConfig.*;
 public class WaitingQueueConsumer {
 
     private final WaitingQueueCommandUseCase waitingQueueCommandUseCase;
+    private final MessageConverter messageConverter;
+    private final DeadLetterRouter deadLetterRouter;
+    private final WaitingQueueSseBroadcaster waitingQueueSseBroadcaster;
 
     /**
      * 대기열 등록 메시지 처리
-     * @param message 대기열 메시지
+     * 등록 폭주 시 여러 소비자가 메시지를 배치로 받아 처리 (배치 크기/동시성은 messaging.listener.register)
+     * 실패한 메시지만 재시도 큐/DLQ로 보내고 나머지 메시지는 그대로 처리
+     * @param messages 대기열 메시지 목록
      */
-    @RabbitListener(queues = WAITING_QUEUE_REGISTER_QUEUE)
-    public void handleRegisterMessage(WaitingQueueMessage message) {
-        log.info("대기열 등록 메시지 수신 - 콘서트 ID: {}, 사용자 ID: {}", message.getConcertId(), message.getUserId());
-
-        try {
-            WaitingQueue waitingQueue = waitingQueueCommandUseCase.registerToWaitingQueue(
-                    message.getConcertId(), message.getUserId());
-
-            log.info("대기열 등록 완료 - 콘서트 ID: {}, 사용자 ID: {}, 대기 위치: {}", 
-                    message.getConcertId(), message.getUserId(), waitingQueue.getPosition());
-        } catch (Exception e) {
-            log.error("대기열 등록 실패 - 콘서트 ID: {}, 사용자 ID: {}, 오류: {}", 
-                    message.getConcertId(), message.getUserId(), e.getMessage());
+    @RabbitListener(queues = WAITING_QUEUE_REGISTER_QUEUE, containerFactory = WAITING_QUEUE_REGISTER_LISTENER_FACTORY)
+    public void handleRegisterMessages(List<Message> messages) {
+        log.info("대기열 등록 메시지 수신 - 메시지 수: {}", messages.size());
+
+        int registered = 0;
+        for (Message amqpMessage : messages) {
+            try {
+                WaitingQueueMessage message = (WaitingQueueMessage) messageConverter.fromMessage(amqpMessage);
+                WaitingQueue waitingQueue = waitingQueueCommandUseCase.registerToWaitingQueue(
+                        message.getConcertId(), message.getUserId());
+                registered++;
+
+                log.debug("대기열 등록 완료 - 콘서트 ID: {}, 사용자 ID: {}, 대기 위치: {}",
+                        message.getConcertId(), message.getUserId(), waitingQueue.getPosition());
+            } catch (Exception e) {
+                deadLetterRouter.retryOrPark(amqpMessage, e);
+            }
         }
+
+        log.info("대기열 등록 처리 완료 - 메시지 수: {}, 등록 수: {}", messages.size(), registered);
     }
 
     /**
      * 대기열 처리 메시지 처리
      * @param message 대기열 메시지
      */
-    @RabbitListener(queues = WAITING_QUEUE_PROCESS_QUEUE)
+    @RabbitListener(queues = WAITING_QUEUE_PROCESS_QUEUE, containerFactory = WAITING_QUEUE_PROCESS_LISTENER_FACTORY)
     public void handleProcessMessage(WaitingQueueMessage message) {
-        log.info("대기열 처리 메시지 수신 - 콘서트 ID: {}", message.getConcertId());
+        int batchSize = message.getBatchSize() == null ? 1 : message.getBatchSize();
+        log.info("대기열 처리 메시지 수신 - 콘서트 ID: {}, 처리 수: {}", message.getConcertId(), batchSize);
+
+        List<WaitingQueue> waitingQueues = waitingQueueCommandUseCase.processNextWaitingBatch(
+                message.getConcertId(), batchSize);
 
-        try {
-            WaitingQueue waitingQueue = waitingQueueCommandUseCase.processNextWaiting(message.getConcertId());
+        log.info("대기열 처리 완료 - 콘서트 ID: {}, 처리된 수: {}", message.getConcertId(), waitingQueues.size());
 
-            log.info("대기열 처리 완료 - 콘서트 ID: {}, 사용자 ID: {}, 대기 위치: {}", 
-                    message.getConcertId(), waitingQueue.getUserId(), waitingQueue.getPosition());
-        } catch (Exception e) {
-            log.error("대기열 처리 실패 - 콘서트 ID: {}, 오류: {}", 
-                    message.getConcertId(), e.getMessage());
+        // 입장 처리 한 번마다 대기 중인 사용자 전체에 바뀐 순번을 한 번 전송
+        if (!waitingQueues.isEmpty()) {
+            waitingQueueSseBroadcaster.notifyAdmission(message.getConcertId());
         }
     }
 
@@ -64,18 +83,13 @@ public class WaitingQueueConsumer {
      * 대기열 입장 메시지 처리
      * @param message 대기열 메시지
      */
-    @RabbitListener(queues = WAITING_QUEUE_ENTER_QUEUE)
+    @RabbitListener(queues = WAITING_QUEUE_ENTER_QUEUE, containerFactory = WAITING_QUEUE_ENTER_LISTENER_FACTORY)
     public void handleEnterMessage(WaitingQueueMessage message) {
         log.info("대기열 입장 메시지 수신 - 대기열 ID: {}", message.getWaitingQueueId());
 
-        try {
-            WaitingQueue waitingQueue = waitingQueueCommandUseCase.enterWaitingQueue(message.getWaitingQueueId());
+        WaitingQueue waitingQueue = waitingQueueCommandUseCase.enterWaitingQueue(message.getWaitingQueueId());
 
-            log.info("대기열 입장 완료 - 대기열 ID: {}, 콘서트 ID: {}, 사용자 ID: {}", 
-                    message.getWaitingQueueId(), waitingQueue.getConcertId(), waitingQueue.getUserId());
-        } catch (Exception e) {
-            log.error("대기열 입장 실패 - 대기열 ID: {}, 오류: {}", 
-                    message.getWaitingQueueId(), e.getMessage());
-        }
+        log.info("대기열 입장 완료 - 대기열 ID: {}, 콘서트 ID: {}, 사용자 ID: {}",
+                message.getWaitingQueueId(), waitingQueue.getConcertId(), waitingQueue.getUserId());
     }
 }
@@ -0,0 +1,34 @@
+package concert.mania.concert.infrastructure.messaging.converter;
+
+/**
+ * 바이너리 메시지 코덱
+ * 메시지 타입별 고정 스키마로 필드를 순서대로 기록/복원 (필드 이름/타입 헤더를 보내지 않음)
+ * 스키마 ID는 메시지 본문 첫 바이트로 전송되므로 타입마다 고유해야 하며, 필드 추가 시 버전을 올려 이전 버전도 읽을 수 있어야 함
+ * @param <T> 메시지 타입
+ */
+public interface BinaryMessageCodec<T> {
+
+    /**
+     * 스키마 ID (1~127)
+     */
+    byte schemaId();
+
+    /**
+     * 메시지 타입
+     */
+    Class<T> type();
+
+    /**
+     * 메시지 기록
+     * @param message 메시지
+     * @param writer 바이너리 기록기
+     */
+    void write(T message, CompactBinaryWriter writer);
+
+    /**
+     * 메시지 복원
+     * @param reader 바이너리 판독기 (스키마 ID 다음 바이트부터)
+     * @return 메시지
+     */
+    T read(CompactBinaryReader reader);
+}
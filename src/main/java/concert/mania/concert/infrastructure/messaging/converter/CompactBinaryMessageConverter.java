@@ -0,0 +1,85 @@
+package concert.mania.concert.infrastructure.messaging.converter;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 압축 바이너리 메시지 컨버터
+ * 내부 큐 메시지를 타입별 스키마(BinaryMessageCodec)로 인코딩
+ * JSON과 달리 필드 이름과 타입 헤더(__TypeId__)를 보내지 않고, 메시지마다 리플렉션/ObjectMapper를 거치지 않음
+ *
+ * 메시지 형식: [스키마 ID 1바이트][코덱이 기록한 필드]
+ */
+public class CompactBinaryMessageConverter extends AbstractMessageConverter {
+
+    public static final String CONTENT_TYPE = "application/x-concert-binary";
+
+    private final Map<Class<?>, BinaryMessageCodec<?>> codecsByType = new HashMap<>();
+    private final BinaryMessageCodec<?>[] codecsBySchemaId = new BinaryMessageCodec<?>[128];
+
+    public CompactBinaryMessageConverter(List<BinaryMessageCodec<?>> codecs) {
+        for (BinaryMessageCodec<?> codec : codecs) {
+            int schemaId = codec.schemaId();
+            if (schemaId <= 0 || codecsBySchemaId[schemaId] != null) {
+                throw new IllegalStateException("스키마 ID가 잘못되었거나 중복되었습니다: " + schemaId);
+            }
+            codecsBySchemaId[schemaId] = codec;
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    /**
+     * 바이너리로 인코딩할 수 있는 타입인지 확인
+     */
+    public boolean supports(Class<?> type) {
+        return codecsByType.containsKey(type);
+    }
+
+    @Override
+    protected Message createMessage(Object object, MessageProperties messageProperties) {
+        BinaryMessageCodec<?> codec = codecsByType.get(object.getClass());
+        if (codec == null) {
+            throw new MessageConversionException("바이너리 코덱이 없는 메시지 타입입니다: " + object.getClass().getName());
+        }
+
+        CompactBinaryWriter writer = new CompactBinaryWriter(32);
+        writer.writeByte(codec.schemaId());
+        write(codec, object, writer);
+
+        byte[] body = writer.toByteArray();
+        messageProperties.setContentType(CONTENT_TYPE);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        byte[] body = message.getBody();
+        if (body == null || body.length == 0) {
+            throw new MessageConversionException("빈 바이너리 메시지입니다.");
+        }
+
+        int schemaId = body[0];
+        BinaryMessageCodec<?> codec = schemaId > 0 ? codecsBySchemaId[schemaId] : null;
+        if (codec == null) {
+            throw new MessageConversionException("알 수 없는 스키마 ID입니다: " + schemaId);
+        }
+
+        try {
+            return codec.read(new CompactBinaryReader(body, 1));
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new MessageConversionException("바이너리 메시지 변환 실패 - 스키마 ID: " + schemaId, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void write(BinaryMessageCodec<T> codec, Object object, CompactBinaryWriter writer) {
+        codec.write((T) object, writer);
+    }
+}
@@ -0,0 +1,55 @@
+package concert.mania.concert.infrastructure.messaging.converter;
+
+/**
+ * 바이너리 판독기
+ * CompactBinaryWriter로 기록한 값을 같은 순서로 읽음
+ */
+public class CompactBinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+    private int presence;
+
+    public CompactBinaryReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalArgumentException("바이너리 메시지가 예상보다 짧습니다.");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * null 필드 비트마스크 읽기 (이후 readOptionalLong 등에서 사용)
+     */
+    public void readPresence() {
+        presence = readByte();
+    }
+
+    /**
+     * 필드 존재 여부
+     * @param index 필드 순서 (비트 위치)
+     */
+    public boolean isPresent(int index) {
+        return (presence & (1 << index)) != 0;
+    }
+
+    public long readLong() {
+        long zigzag = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalArgumentException("잘못된 가변 길이 정수입니다.");
+    }
+
+    public Long readOptionalLong(int index) {
+        return isPresent(index) ? readLong() : null;
+    }
+}
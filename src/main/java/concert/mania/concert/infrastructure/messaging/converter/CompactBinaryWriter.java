@@ -0,0 +1,69 @@
+package concert.mania.concert.infrastructure.messaging.converter;
+
+import java.util.Arrays;
+
+/**
+ * 바이너리 기록기
+ * 정수는 가변 길이(varint, 음수는 zigzag)로 기록하여 작은 ID일수록 적은 바이트를 사용
+ * null 가능한 필드는 앞에 기록한 존재 비트마스크로 표시하고 값은 기록하지 않음
+ */
+public class CompactBinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public CompactBinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * null 필드 비트마스크 기록 (최대 8개 필드)
+     * @param values 필드 값 (순서대로 비트 0부터)
+     */
+    public void writePresence(Object... values) {
+        if (values.length > Byte.SIZE) {
+            throw new IllegalArgumentException("존재 비트마스크는 최대 8개 필드까지 지원합니다.");
+        }
+        int mask = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                mask |= 1 << i;
+            }
+        }
+        writeByte(mask);
+    }
+
+    public void writeLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        ensureCapacity(10);
+        while ((zigzag & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        buffer[position++] = (byte) zigzag;
+    }
+
+    /**
+     * null이 아닌 경우에만 기록 (존재 여부는 비트마스크로 표시)
+     */
+    public void writeOptionalLong(Long value) {
+        if (value != null) {
+            writeLong(value);
+        }
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
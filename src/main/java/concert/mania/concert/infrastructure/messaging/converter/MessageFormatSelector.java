@@ -0,0 +1,37 @@
+package concert.mania.concert.infrastructure.messaging.converter;
+
+import concert.mania.config.properties.MessageFormatProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 큐별 메시지 형식 선택
+ * 바이너리 형식으로 설정된 큐(messaging.format.binary-queues)의 메시지는 발행 전에 바이너리 Message로 변환하고,
+ * 그 외 메시지는 그대로 두어 RabbitTemplate의 JSON 컨버터가 변환하도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageFormatSelector {
+
+    private final CompactBinaryMessageConverter binaryMessageConverter;
+    private final MessageFormatProperties properties;
+
+    /**
+     * 발행할 메시지 준비
+     * @param queue 메시지가 전달될 큐 이름
+     * @param payload 메시지 객체
+     * @return 바이너리 Message 또는 원래 메시지 객체
+     */
+    public Object toPayload(String queue, Object payload) {
+        if (!properties.getBinaryQueues().contains(queue) || !binaryMessageConverter.supports(payload.getClass())) {
+            return payload;
+        }
+
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        return binaryMessageConverter.toMessage(payload, messageProperties);
+    }
+}
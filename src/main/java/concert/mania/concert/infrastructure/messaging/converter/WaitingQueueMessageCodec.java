@@ -0,0 +1,57 @@
+package concert.mania.concert.infrastructure.messaging.converter;
+
+import concert.mania.concert.infrastructure.messaging.producer.WaitingQueueProducer.WaitingQueueMessage;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 메시지 바이너리 코덱
+ * 형식 (버전 1): [버전][존재 비트마스크][콘서트 ID][사용자 ID][대기열 ID][처리 인원 수] (없는 필드는 생략)
+ * 등록 메시지 기준 JSON 약 60바이트 + 타입 헤더 대신 5~8바이트
+ */
+@Component
+public class WaitingQueueMessageCodec implements BinaryMessageCodec<WaitingQueueMessage> {
+
+    private static final byte SCHEMA_ID = 1;
+    private static final int VERSION = 1;
+
+    @Override
+    public byte schemaId() {
+        return SCHEMA_ID;
+    }
+
+    @Override
+    public Class<WaitingQueueMessage> type() {
+        return WaitingQueueMessage.class;
+    }
+
+    @Override
+    public void write(WaitingQueueMessage message, CompactBinaryWriter writer) {
+        writer.writeByte(VERSION);
+        writer.writePresence(message.getConcertId(), message.getUserId(),
+                message.getWaitingQueueId(), message.getBatchSize());
+        writer.writeOptionalLong(message.getConcertId());
+        writer.writeOptionalLong(message.getUserId());
+        writer.writeOptionalLong(message.getWaitingQueueId());
+        if (message.getBatchSize() != null) {
+            writer.writeLong(message.getBatchSize());
+        }
+    }
+
+    @Override
+    public WaitingQueueMessage read(CompactBinaryReader reader) {
+        int version = reader.readByte();
+        if (version > VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 대기열 메시지 버전입니다: " + version);
+        }
+
+        reader.readPresence();
+        WaitingQueueMessage message = new WaitingQueueMessage();
+        message.setConcertId(reader.readOptionalLong(0));
+        message.setUserId(reader.readOptionalLong(1));
+        message.setWaitingQueueId(reader.readOptionalLong(2));
+        if (reader.isPresent(3)) {
+            message.setBatchSize(Math.toIntExact(reader.readLong()));
+        }
+        return message;
+    }
+}
@@ -0,0 +1,177 @@
+package concert.mania.concert.infrastructure.messaging.deadletter;
+
+import concert.mania.config.properties.MessageRetryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static concert.mania.config.RabbitMQConfig.*;
+
+/**
+ * 실패 메시지 라우터
+ * 처리에 실패한 메시지를 재시도 큐(TTL 경과 후 원래 큐로 복귀) 또는 DLQ로 보내고, DLQ 메시지를 다시 원래 큐로 재처리
+ * 소비자 스레드는 대기하지 않고 바로 다음 메시지를 처리하므로 실패 메시지가 정상 메시지의 처리량을 떨어뜨리지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterRouter {
+
+    private static final String HEADER_X_DEATH = "x-death";
+    // 재시도 큐로 보낸 횟수 (브로커의 x-death 횟수는 클라이언트가 다시 발행한 메시지에서 신뢰할 수 없으므로 직접 기록)
+    private static final String HEADER_RETRY_COUNT = "x-retry-count";
+    private static final String HEADER_EXCEPTION_MESSAGE = "x-exception-message";
+    private static final String HEADER_EXCEPTION_TYPE = "x-exception-type";
+    private static final String HEADER_FAILED_AT = "x-failed-at";
+    private static final int MAX_EXCEPTION_MESSAGE_LENGTH = 500;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final MessageRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 실패 메시지 처리
+     * 재시도 가능한 오류이고 시도 횟수가 남아 있으면 재시도 큐로, 아니면 DLQ로 전송
+     * @param message 처리에 실패한 메시지
+     * @param cause 실패 원인
+     */
+    public void retryOrPark(Message message, Throwable cause) {
+        String queue = message.getMessageProperties().getConsumerQueue();
+        if (queue == null || !RETRYABLE_QUEUES.contains(queue)) {
+            throw new IllegalStateException("재시도 토폴로지가 없는 큐의 메시지입니다: " + queue);
+        }
+
+        Throwable rootCause = rootCause(cause);
+        int attempts = retryCount(message) + 1;
+        if (isRetryable(cause) && attempts < properties.getMaxAttempts()) {
+            log.warn("메시지 처리 실패, 재시도 예약 - 큐: {}, 시도: {}, 오류: {}", queue, attempts, rootCause.getMessage());
+            message.getMessageProperties().setHeader(HEADER_RETRY_COUNT, attempts);
+            rabbitTemplate.send(RETRY_EXCHANGE, queue, message);
+            meterRegistry.counter("rabbitmq.consume.retried", "queue", queue).increment();
+            return;
+        }
+
+        log.error("메시지 처리 실패, DLQ 보관 - 큐: {}, 시도: {}, 오류: {}", queue, attempts, rootCause.getMessage());
+        MessageProperties messageProperties = message.getMessageProperties();
+        messageProperties.setHeader(HEADER_EXCEPTION_TYPE, rootCause.getClass().getName());
+        messageProperties.setHeader(HEADER_EXCEPTION_MESSAGE, truncate(rootCause.getMessage()));
+        messageProperties.setHeader(HEADER_FAILED_AT, LocalDateTime.now().toString());
+        rabbitTemplate.send(DEAD_LETTER_EXCHANGE, queue, message);
+        meterRegistry.counter("rabbitmq.consume.dead.lettered", "queue", queue).increment();
+    }
+
+    /**
+     * DLQ 메시지 재처리 (원래 큐로 다시 전송, 재시도 횟수 초기화)
+     * @param queue 원래 큐 이름
+     * @param limit 최대 재처리 메시지 수
+     * @return 재처리된 메시지 수
+     */
+    public int replay(String queue, int limit) {
+        validateQueue(queue);
+
+        int replayed = 0;
+        while (replayed < limit) {
+            Message message = rabbitTemplate.receive(queue + DEAD_LETTER_QUEUE_SUFFIX);
+            if (message == null) {
+                break;
+            }
+
+            MessageProperties messageProperties = message.getMessageProperties();
+            messageProperties.getHeaders().remove(HEADER_X_DEATH);
+            messageProperties.getHeaders().remove(HEADER_RETRY_COUNT);
+            messageProperties.getHeaders().remove(HEADER_EXCEPTION_TYPE);
+            messageProperties.getHeaders().remove(HEADER_EXCEPTION_MESSAGE);
+            messageProperties.getHeaders().remove(HEADER_FAILED_AT);
+            try {
+                rabbitTemplate.send("", queue, message);
+            } catch (RuntimeException e) {
+                // 재처리 전송 실패 시 메시지를 잃지 않도록 DLQ로 되돌림
+                rabbitTemplate.send(DEAD_LETTER_EXCHANGE, queue, message);
+                throw e;
+            }
+            replayed++;
+        }
+
+        log.info("DLQ 메시지 재처리 - 큐: {}, 재처리 수: {}", queue, replayed);
+        return replayed;
+    }
+
+    /**
+     * 큐별 DLQ 메시지 수 조회
+     * @return 원래 큐 이름 -> DLQ 메시지 수
+     */
+    public Map<String, Integer> getDeadLetterCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String queue : RETRYABLE_QUEUES) {
+            QueueInformation info = amqpAdmin.getQueueInfo(queue + DEAD_LETTER_QUEUE_SUFFIX);
+            counts.put(queue, info == null ? 0 : info.getMessageCount());
+        }
+        return counts;
+    }
+
+    private void validateQueue(String queue) {
+        if (!RETRYABLE_QUEUES.contains(queue)) {
+            throw new IllegalArgumentException("재처리할 수 없는 큐입니다: " + queue);
+        }
+    }
+
+    /**
+     * 재시도 큐로 보낸 횟수 (재시도 큐로 보낼 때마다 헤더에 기록)
+     */
+    private int retryCount(Message message) {
+        Object retryCount = message.getMessageProperties().getHeader(HEADER_RETRY_COUNT);
+        if (retryCount instanceof Number count) {
+            return count.intValue();
+        }
+        if (retryCount != null) {
+            try {
+                return Integer.parseInt(retryCount.toString());
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 재시도해도 성공할 수 없는 오류 (잘못된 메시지 형식/내용)는 바로 DLQ로 보냄
+     */
+    private boolean isRetryable(Throwable cause) {
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof IllegalArgumentException || current instanceof MessageConversionException) {
+                return false;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return true;
+    }
+
+    private Throwable rootCause(Throwable cause) {
+        Throwable current = cause;
+        while (current.getCause() != null && current.getCause() != current) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private String truncate(String value) {
+        if (value == null || value.length() <= MAX_EXCEPTION_MESSAGE_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
+    }
+}
@@ -0,0 +1,51 @@
+package concert.mania.concert.infrastructure.messaging.deadletter;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 메시지 처리 실패 복구 어드바이스
+ * 리스너 컨테이너의 어드바이스로 등록되어, 리스너가 던진 예외를 컨테이너 스레드에서 재시도하지 않고
+ * 실패 메시지를 재시도 큐 또는 DLQ로 보낸 뒤 원래 메시지는 확인(ack) 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageRecoveryAdvice implements MethodInterceptor {
+
+    private final DeadLetterRouter deadLetterRouter;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            List<Message> messages = extractMessages(invocation.getArguments());
+            if (messages.isEmpty()) {
+                throw e;
+            }
+            // 배치 리스너가 배치 전체로 실패한 경우 배치의 모든 메시지를 각각 처리
+            for (Message message : messages) {
+                deadLetterRouter.retryOrPark(message, e);
+            }
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Message> extractMessages(Object[] arguments) {
+        for (Object argument : arguments) {
+            if (argument instanceof Message message) {
+                return List.of(message);
+            }
+            if (argument instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Message) {
+                return (List<Message>) list;
+            }
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,44 @@
+package concert.mania.concert.infrastructure.messaging.outbox;
+
+import static concert.mania.config.RabbitMQConfig.PAYMENT_EVENT_ROUTING_KEY;
+import static concert.mania.config.RabbitMQConfig.PAYMENT_EXCHANGE;
+
+/**
+ * 아웃박스 이벤트 유형
+ * events 테이블의 이벤트 유형과 발행 대상(익스체인지, 라우팅 키)을 연결
+ */
+public enum OutboxEventType {
+
+    PAYMENT_COMPLETED(PAYMENT_EXCHANGE, PAYMENT_EVENT_ROUTING_KEY), // 결제 완료
+    PAYMENT_FAILED(PAYMENT_EXCHANGE, PAYMENT_EVENT_ROUTING_KEY);    // 결제 실패
+
+    private final String exchange;
+    private final String routingKey;
+
+    OutboxEventType(String exchange, String routingKey) {
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+    }
+
+    public String getExchange() {
+        return exchange;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    /**
+     * 이벤트 유형 이름으로 조회
+     * @param eventType 이벤트 유형 이름
+     * @return 이벤트 유형 (알 수 없는 유형이면 null)
+     */
+    public static OutboxEventType from(String eventType) {
+        for (OutboxEventType type : values()) {
+            if (type.name().equals(eventType)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,205 @@
+package concert.mania.concert.infrastructure.messaging.outbox;
+
+import concert.mania.concert.application.port.out.command.EventCommandPort;
+import concert.mania.concert.application.port.out.query.EventQueryPort;
+import concert.mania.concert.domain.model.Event;
+import concert.mania.concert.infrastructure.messaging.publisher.AsyncMessagePublisher;
+import concert.mania.concert.infrastructure.messaging.publisher.PublishResult;
+import concert.mania.config.properties.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 아웃박스 릴레이
+ * 비즈니스 트랜잭션에서 events 테이블에 기록된 이벤트를 배치 단위로 RabbitMQ에 발행
+ *
+ * 배치 처리 순서 (배치마다 하나의 트랜잭션)
+ * 1. PENDING 이벤트를 FOR UPDATE SKIP LOCKED로 잠금 (여러 인스턴스가 서로 다른 이벤트를 나눠 처리)
+ * 2. 잠근 이벤트를 비동기 발행기로 모두 발행한 뒤 브로커 확인(publisher confirm)을 한꺼번에 대기
+ * 3. 확인된 이벤트는 PROCESSED, 라우팅되지 않은 이벤트와 알 수 없는 유형은 FAILED로 일괄 변경
+ *    (부정 확인/확인 시간 초과 이벤트는 PENDING으로 남아 다음 배치에서 다시 발행)
+ *
+ * 발행은 최소 한 번(at-least-once)이므로 소비자는 멱등 키로 중복을 걸러야 함
+ *
+ * Micrometer 지표
+ * - outbox.relay.latency  이벤트 기록부터 브로커 확인까지 걸린 시간
+ * - outbox.relay.batch    배치 처리 시간
+ * - outbox.relay.events   처리 결과별 이벤트 수 (result 태그: processed, failed, retried)
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final EventQueryPort eventQueryPort;
+    private final EventCommandPort eventCommandPort;
+    private final AsyncMessagePublisher messagePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+
+    private final Timer latencyTimer;
+    private final Timer batchTimer;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+
+    public OutboxRelay(EventQueryPort eventQueryPort, EventCommandPort eventCommandPort,
+                       AsyncMessagePublisher messagePublisher, TransactionTemplate transactionTemplate,
+                       OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.eventQueryPort = eventQueryPort;
+        this.eventCommandPort = eventCommandPort;
+        this.messagePublisher = messagePublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.latencyTimer = Timer.builder("outbox.relay.latency")
+                .description("이벤트 기록부터 브로커 확인까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("아웃박스 배치 처리 시간")
+                .register(meterRegistry);
+        this.processedCounter = meterRegistry.counter("outbox.relay.events", "result", "processed");
+        this.failedCounter = meterRegistry.counter("outbox.relay.events", "result", "failed");
+        this.retriedCounter = meterRegistry.counter("outbox.relay.events", "result", "retried");
+    }
+
+    /**
+     * 발행 대기 이벤트 릴레이
+     * 배치가 가득 차는 동안 최대 배치 수까지 연속으로 처리
+     * @return 처리 완료된 이벤트 수
+     */
+    public int relayPendingEvents() {
+        int relayed = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            BatchResult result = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+            if (result == null) {
+                break;
+            }
+            relayed += result.processed();
+            // 배치가 가득 차지 않았거나 발행이 막힌 경우 다음 실행까지 대기
+            if (result.locked() < properties.getBatchSize() || result.processed() == 0) {
+                break;
+            }
+        }
+        return relayed;
+    }
+
+    /**
+     * 이벤트 한 배치 발행 (트랜잭션 안에서 실행되어 잠금은 상태 변경 후 커밋 시 해제됨)
+     */
+    private BatchResult relayBatch() {
+        List<Event> events = eventQueryPort.lockPendingEvents(properties.getBatchSize());
+        if (events.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        List<Event> published = new ArrayList<>(events.size());
+        List<CompletableFuture<PublishResult>> confirms = new ArrayList<>(events.size());
+        List<Long> failedIds = new ArrayList<>();
+
+        for (Event event : events) {
+            OutboxEventType type = OutboxEventType.from(event.getEventType());
+            if (type == null) {
+                log.error("알 수 없는 아웃박스 이벤트 유형 - 이벤트 ID: {}, 유형: {}", event.getId(), event.getEventType());
+                failedIds.add(event.getId());
+                continue;
+            }
+
+            try {
+                confirms.add(messagePublisher.publish(type.getExchange(), type.getRoutingKey(), toMessage(event)));
+            } catch (IllegalStateException e) {
+                // 미확인 메시지가 너무 많음, 남은 이벤트는 다음 실행에서 발행
+                log.warn("아웃박스 이벤트 발행 지연 - 이벤트 ID: {}, 오류: {}", event.getId(), e.getMessage());
+                break;
+            }
+            published.add(event);
+        }
+
+        List<Long> processedIds = new ArrayList<>(published.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getConfirmTimeoutMillis());
+        for (int i = 0; i < published.size(); i++) {
+            Event event = published.get(i);
+            PublishResult result = awaitConfirm(confirms.get(i), deadline);
+            if (result == PublishResult.RETURNED) {
+                log.error("라우팅되지 않은 아웃박스 이벤트 - 이벤트 ID: {}, 유형: {}", event.getId(), event.getEventType());
+                failedIds.add(event.getId());
+            } else if (result == PublishResult.CONFIRMED) {
+                processedIds.add(event.getId());
+                recordLatency(event);
+            }
+        }
+
+        eventCommandPort.markAllAsProcessed(processedIds);
+        eventCommandPort.markAllAsFailed(failedIds);
+
+        int retried = events.size() - processedIds.size() - failedIds.size();
+        processedCounter.increment(processedIds.size());
+        failedCounter.increment(failedIds.size());
+        retriedCounter.increment(retried);
+        if (retried > 0) {
+            log.warn("브로커 확인을 받지 못한 아웃박스 이벤트 - 이벤트 수: {}", retried);
+        }
+        return new BatchResult(events.size(), processedIds.size());
+    }
+
+    /**
+     * 처리 완료된 이벤트 정리
+     * @return 삭제된 이벤트 수
+     */
+    public int purgeProcessedEvents() {
+        return eventCommandPort.deleteProcessedEventsBefore(
+                LocalDateTime.now().minusHours(properties.getRetentionHours()));
+    }
+
+    private Message toMessage(Event event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .setMessageId(String.valueOf(event.getId()))
+                .setType(event.getEventType())
+                .build();
+    }
+
+    /**
+     * 브로커 확인 대기
+     * @return 확인 결과 (부정 확인/발행 오류/시간 초과 시 null)
+     */
+    private PublishResult awaitConfirm(CompletableFuture<PublishResult> confirm, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return confirm.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        }
+    }
+
+    private void recordLatency(Event event) {
+        if (event.getCreatedAt() != null) {
+            latencyTimer.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+        }
+    }
+
+    private record BatchResult(int locked, int processed) {
+    }
+}
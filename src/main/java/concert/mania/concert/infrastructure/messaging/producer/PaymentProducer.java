@@ -1,82 +1,127 @@
 package concert.mania.concert.infrastructure.messaging.producer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import concert.mania.concert.application.port.out.command.EventCommandPort;
+import concert.mania.concert.infrastructure.messaging.outbox.OutboxEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
-import static concert.mania.config.RabbitMQConfig.*;
+import java.time.LocalDateTime;
 
 /**
  * 결제 메시지 생산자
- * RabbitMQ를 통해 결제 관련 메시지를 전송
+ * 결제 이벤트를 아웃박스(events 테이블)에 기록하고, 아웃박스 릴레이가 커밋된 이벤트만 RabbitMQ로 발행
+ * 결제 상태 변경과 같은 트랜잭션에서 호출되므로 롤백된 결제의 이벤트는 발행되지 않음
+ * 결제 하나의 결과는 이벤트 하나로만 전송되며, 소비자는 멱등 키로 한 번만 처리
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventCommandPort eventCommandPort;
+    private final ObjectMapper objectMapper;
 
     /**
-     * 결제 처리 메시지 전송
+     * 결제 완료 이벤트 전송
      * @param paymentId 결제 ID
+     * @param concertId 콘서트 ID (알 수 없으면 null)
+     * @param seatId 좌석 ID (알 수 없으면 null)
+     * @param seatLockId 좌석 잠금 ID (알 수 없으면 null)
      */
-    public void sendProcessMessage(Long paymentId) {
-        PaymentMessage message = new PaymentMessage(paymentId);
-        log.info("결제 처리 메시지 전송 - 결제 ID: {}", paymentId);
-        rabbitTemplate.convertAndSend(PAYMENT_EXCHANGE, "process", message);
+    public void sendCompletedEvent(Long paymentId, Long concertId, Long seatId, Long seatLockId) {
+        send(new PaymentEventMessage(PaymentEventType.COMPLETED, paymentId, concertId, seatId, seatLockId, null));
     }
 
     /**
-     * 결제 성공 메시지 전송
+     * 결제 실패 이벤트 전송
      * @param paymentId 결제 ID
+     * @param concertId 콘서트 ID (알 수 없으면 null)
+     * @param seatId 좌석 ID (알 수 없으면 null)
+     * @param seatLockId 좌석 잠금 ID (알 수 없으면 null)
+     * @param attempts 결제 시도 횟수 (알 수 없으면 null)
      */
-    public void sendSuccessMessage(Long paymentId) {
-        PaymentMessage message = new PaymentMessage(paymentId);
-        log.info("결제 성공 메시지 전송 - 결제 ID: {}", paymentId);
-        rabbitTemplate.convertAndSend(PAYMENT_EXCHANGE, "success", message);
+    public void sendFailedEvent(Long paymentId, Long concertId, Long seatId, Long seatLockId, Integer attempts) {
+        send(new PaymentEventMessage(PaymentEventType.FAILED, paymentId, concertId, seatId, seatLockId, attempts));
     }
 
-    /**
-     * 결제 실패 메시지 전송
-     * @param paymentId 결제 ID
-     */
-    public void sendFailureMessage(Long paymentId) {
-        PaymentMessage message = new PaymentMessage(paymentId);
-        log.info("결제 실패 메시지 전송 - 결제 ID: {}", paymentId);
-        rabbitTemplate.convertAndSend(PAYMENT_EXCHANGE, "failure", message);
+    private void send(PaymentEventMessage message) {
+        OutboxEventType eventType = message.getType() == PaymentEventType.COMPLETED
+                ? OutboxEventType.PAYMENT_COMPLETED : OutboxEventType.PAYMENT_FAILED;
+        try {
+            eventCommandPort.publishEvent(eventType.name(), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 이벤트 직렬화에 실패했습니다.", e);
+        }
+        log.info("결제 이벤트 기록 - 결제 ID: {}, 유형: {}", message.getPaymentId(), message.getType());
     }
 
     /**
-     * 상세 결제 실패 메시지 전송
-     * @param message 상세 실패 메시지 (JSON 문자열)
+     * 결제 이벤트 유형
      */
-    public void sendDetailedFailureMessage(String message) {
-        log.info("상세 결제 실패 메시지 전송: {}", message);
-        rabbitTemplate.convertAndSend(PAYMENT_EXCHANGE, "detailed.failure", message);
+    public enum PaymentEventType {
+        COMPLETED, // 결제 완료
+        FAILED     // 결제 실패
     }
 
     /**
-     * 상세 결제 성공 메시지 전송
-     * @param message 상세 성공 메시지 (JSON 문자열)
+     * 결제 이벤트 메시지 (버전 관리되는 공통 봉투)
+     * 멱등 키는 결제 ID와 이벤트 유형으로 정해지므로 같은 결제 결과가 여러 번 전송되어도 한 번만 처리됨
      */
-    public void sendDetailedSuccessMessage(String message) {
-        log.info("상세 결제 성공 메시지 전송: {}", message);
-        rabbitTemplate.convertAndSend(PAYMENT_EXCHANGE, "detailed.success", message);
-    }
+    public static class PaymentEventMessage {
 
-    /**
-     * 결제 메시지 클래스
-     */
-    public static class PaymentMessage {
+        // 메시지 스키마 버전 (필드 추가/변경 시 증가)
+        public static final int CURRENT_VERSION = 1;
+
+        private int version = CURRENT_VERSION;
+        private String idempotencyKey;
+        private PaymentEventType type;
         private Long paymentId;
+        private Long concertId;
+        private Long seatId;
+        private Long seatLockId;
+        private Integer attempts;
+        private LocalDateTime occurredAt;
 
-        public PaymentMessage() {
+        public PaymentEventMessage() {
         }
 
-        public PaymentMessage(Long paymentId) {
+        public PaymentEventMessage(PaymentEventType type, Long paymentId, Long concertId, Long seatId,
+                                   Long seatLockId, Integer attempts) {
+            this.idempotencyKey = "payment:" + paymentId + ":" + type.name();
+            this.type = type;
             this.paymentId = paymentId;
+            this.concertId = concertId;
+            this.seatId = seatId;
+            this.seatLockId = seatLockId;
+            this.attempts = attempts;
+            this.occurredAt = LocalDateTime.now();
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public void setVersion(int version) {
+            this.version = version;
+        }
+
+        public String getIdempotencyKey() {
+            return idempotencyKey;
+        }
+
+        public void setIdempotencyKey(String idempotencyKey) {
+            this.idempotencyKey = idempotencyKey;
+        }
+
+        public PaymentEventType getType() {
+            return type;
+        }
+
+        public void setType(PaymentEventType type) {
+            this.type = type;
         }
 
         public Long getPaymentId() {
@@ -86,5 +131,45 @@ public class PaymentProducer {
         public void setPaymentId(Long paymentId) {
             this.paymentId = paymentId;
         }
+
+        public Long getConcertId() {
+            return concertId;
+        }
+
+        public void setConcertId(Long concertId) {
+            this.concertId = concertId;
+        }
+
+        public Long getSeatId() {
+            return seatId;
+        }
+
+        public void setSeatId(Long seatId) {
+            this.seatId = seatId;
+        }
+
+        public Long getSeatLockId() {
+            return seatLockId;
+        }
+
+        public void setSeatLockId(Long seatLockId) {
+            this.seatLockId = seatLockId;
+        }
+
+        public Integer getAttempts() {
+            return attempts;
+        }
+
+        public void setAttempts(Integer attempts) {
+            this.attempts = attempts;
+        }
+
+        public LocalDateTime getOccurredAt() {
+            return occurredAt;
+        }
+
+        public void setOccurredAt(LocalDateTime occurredAt) {
+            this.occurredAt = occurredAt;
+        }
     }
 }
@@ -1,52 +1,88 @@
 package concert.mania.concert.infrastructure.messaging.producer;
 
+import concert.mania.concert.infrastructure.messaging.converter.MessageFormatSelector;
+import concert.mania.concert.infrastructure.messaging.publisher.AsyncMessagePublisher;
+import concert.mania.concert.infrastructure.messaging.publisher.PublishResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 import static concert.mania.config.RabbitMQConfig.*;
 
 /**
  * 대기열 메시지 생산자
  * RabbitMQ를 통해 대기열 관련 메시지를 전송
+ * 메시지는 비동기 발행기로 모아서 발행되며, 반환된 CompletableFuture로 브로커 확인 결과를 알 수 있음
+ * 메시지 형식(JSON/압축 바이너리)은 큐별 설정(messaging.format.binary-queues)을 따름
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WaitingQueueProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final AsyncMessagePublisher messagePublisher;
+    private final MessageFormatSelector messageFormatSelector;
 
     /**
      * 대기열 등록 메시지 전송
      * @param concertId 콘서트 ID
      * @param userId 사용자 ID
+     * @return 브로커 확인 결과
      */
-    public void sendRegisterMessage(Long concertId, Long userId) {
+    public CompletableFuture<PublishResult> sendRegisterMessage(Long concertId, Long userId) {
         WaitingQueueMessage message = new WaitingQueueMessage(concertId, userId);
         log.info("대기열 등록 메시지 전송 - 콘서트 ID: {}, 사용자 ID: {}", concertId, userId);
-        rabbitTemplate.convertAndSend(WAITING_QUEUE_EXCHANGE, "register", message);
+        return send(WAITING_QUEUE_REGISTER_QUEUE, "register", message);
     }
 
     /**
      * 대기열 처리 메시지 전송
      * @param concertId 콘서트 ID
+     * @return 브로커 확인 결과
      */
-    public void sendProcessMessage(Long concertId) {
+    public CompletableFuture<PublishResult> sendProcessMessage(Long concertId) {
         WaitingQueueMessage message = new WaitingQueueMessage(concertId, null);
         log.info("대기열 처리 메시지 전송 - 콘서트 ID: {}", concertId);
-        rabbitTemplate.convertAndSend(WAITING_QUEUE_EXCHANGE, "process", message);
+        return send(WAITING_QUEUE_PROCESS_QUEUE, "process", message);
+    }
+
+    /**
+     * 대기열 일괄 처리 메시지 전송
+     * 처리할 인원 수만큼 메시지를 보내지 않고 한 건의 메시지로 전송
+     * @param concertId 콘서트 ID
+     * @param batchSize 처리할 인원 수
+     * @return 브로커 확인 결과
+     */
+    public CompletableFuture<PublishResult> sendProcessBatchMessage(Long concertId, int batchSize) {
+        WaitingQueueMessage message = new WaitingQueueMessage(concertId, null);
+        message.setBatchSize(batchSize);
+        log.info("대기열 일괄 처리 메시지 전송 - 콘서트 ID: {}, 처리 수: {}", concertId, batchSize);
+        return send(WAITING_QUEUE_PROCESS_QUEUE, "process", message);
     }
 
     /**
      * 대기열 입장 메시지 전송
      * @param waitingQueueId 대기열 ID
+     * @return 브로커 확인 결과
      */
-    public void sendEnterMessage(Long waitingQueueId) {
+    public CompletableFuture<PublishResult> sendEnterMessage(Long waitingQueueId) {
         WaitingQueueMessage message = new WaitingQueueMessage(null, null, waitingQueueId);
         log.info("대기열 입장 메시지 전송 - 대기열 ID: {}", waitingQueueId);
-        rabbitTemplate.convertAndSend(WAITING_QUEUE_EXCHANGE, "enter", message);
+        return send(WAITING_QUEUE_ENTER_QUEUE, "enter", message);
+    }
+
+    private CompletableFuture<PublishResult> send(String queue, String routingKey, WaitingQueueMessage message) {
+        CompletableFuture<PublishResult> result = messagePublisher.publish(
+                WAITING_QUEUE_EXCHANGE, routingKey, messageFormatSelector.toPayload(queue, message));
+        result.whenComplete((published, ex) -> {
+            if (ex != null) {
+                log.error("대기열 메시지 발행 실패 - 라우팅 키: {}, 콘서트 ID: {}, 오류: {}",
+                        routingKey, message.getConcertId(), ex.getMessage());
+            }
+        });
+        return result;
     }
 
     /**
@@ -56,6 +92,7 @@ public class WaitingQueueProducer {
         private Long concertId;
         private Long userId;
         private Long waitingQueueId;
+        private Integer batchSize; // 일괄 처리 인원 수 (없으면 1명)
 
         public WaitingQueueMessage() {
         }
@@ -94,5 +131,13 @@ public class WaitingQueueProducer {
         public void setWaitingQueueId(Long waitingQueueId) {
             this.waitingQueueId = waitingQueueId;
         }
+
+        public Integer getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+        }
     }
 }
@@ -0,0 +1,204 @@
+package concert.mania.concert.infrastructure.messaging.publisher;
+
+import concert.mania.config.properties.MessagePublisherProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 메시지 발행기
+ * 발행 요청을 큐에 모아 전용 스레드가 한 채널에서 연속으로 발행하고, 결과는 브로커 확인(publisher confirm)으로 알림
+ *
+ * - 배치: 쌓여 있는 요청을 최대 배치 크기만큼 한 번의 채널 획득으로 발행하여 요청당 채널/네트워크 비용을 나눔
+ *         (부하가 없을 때는 기다리지 않고 바로 발행)
+ * - 배압: 미확인 메시지 수가 상한에 도달하면 발행 요청을 대기시키고, 대기 시간을 넘기면 예외 발생
+ * - 확인: 발행 결과는 CompletableFuture로 반환 (확인 시 CONFIRMED/RETURNED, 부정 확인/발행 오류 시 예외)
+ *
+ * Micrometer 지표 (exchange 태그)
+ * - rabbitmq.publish.confirm.latency  발행 요청부터 브로커 확인까지 걸린 시간
+ * - rabbitmq.publish.failed           부정 확인/발행 오류/배압 초과 수 (reason 태그)
+ * - rabbitmq.publish.unconfirmed      미확인 메시지 수
+ * - rabbitmq.publish.batch.size       채널 획득당 발행한 메시지 수
+ */
+@Component
+@Slf4j
+public class AsyncMessagePublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MessagePublisherProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 미확인 메시지 수 제한 (발행 요청 시 획득, 확인/실패 시 반환)
+    private final Semaphore unconfirmed;
+    private final LinkedBlockingQueue<PendingMessage> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSizeSummary;
+    private final Map<String, Timer> confirmLatencyTimers = new ConcurrentHashMap<>();
+    private final Thread publisherThread;
+
+    private volatile boolean running = true;
+
+    public AsyncMessagePublisher(RabbitTemplate rabbitTemplate, MessagePublisherProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.unconfirmed = new Semaphore(properties.getMaxUnconfirmed());
+        this.batchSizeSummary = DistributionSummary.builder("rabbitmq.publish.batch.size")
+                .description("채널 획득당 발행한 메시지 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("rabbitmq.publish.unconfirmed", unconfirmed,
+                s -> properties.getMaxUnconfirmed() - s.availablePermits());
+        this.publisherThread = Thread.ofPlatform().name("message-publisher").daemon(true).start(this::run);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 이미 요청된 메시지는 모두 발행한 뒤 종료
+        running = false;
+        publisherThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 메시지 발행 요청
+     * 미확인 메시지 수가 상한이면 배압 대기 시간까지 대기
+     * @param exchange 익스체인지
+     * @param routingKey 라우팅 키
+     * @param payload 메시지 (Message이면 그대로, 그 외에는 메시지 컨버터로 변환)
+     * @return 브로커 확인 결과
+     * @throws IllegalStateException 대기 시간 안에 발행할 수 없는 경우
+     */
+    public CompletableFuture<PublishResult> publish(String exchange, String routingKey, Object payload) {
+        if (!running) {
+            throw new IllegalStateException("메시지 발행기가 종료되었습니다.");
+        }
+
+        try {
+            if (!unconfirmed.tryAcquire(properties.getBackpressureTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                meterRegistry.counter("rabbitmq.publish.failed", "exchange", exchange, "reason", "backpressure").increment();
+                throw new IllegalStateException("메시지 발행 대기 한도를 초과했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메시지 발행 대기 중 중단되었습니다.", e);
+        }
+
+        PendingMessage message = new PendingMessage(exchange, routingKey, payload, System.nanoTime());
+        queue.add(message);
+        return message.result;
+    }
+
+    /**
+     * 발행 스레드
+     */
+    private void run() {
+        List<PendingMessage> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("메시지 발행 스레드 오류: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 한 채널에서 배치 발행
+     */
+    private void sendBatch(List<PendingMessage> batch) {
+        batchSizeSummary.record(batch.size());
+        int[] sent = {0};
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (PendingMessage message : batch) {
+                    CorrelationData correlationData = new CorrelationData();
+                    correlationData.getFuture().whenComplete((confirm, ex) -> complete(message, correlationData,
+                            ex == null && confirm.isAck(), ex != null ? ex.getMessage() : confirm.getReason()));
+                    operations.convertAndSend(message.exchange, message.routingKey, message.payload, correlationData);
+                    sent[0]++;
+                }
+                return null;
+            });
+        } catch (AmqpException e) {
+            log.warn("메시지 발행 실패 - 발행 실패 수: {}, 오류: {}", batch.size() - sent[0], e.getMessage());
+            for (int i = sent[0]; i < batch.size(); i++) {
+                fail(batch.get(i), "error", e);
+            }
+        }
+    }
+
+    /**
+     * 브로커 확인 처리 (연결 스레드에서 호출)
+     */
+    private void complete(PendingMessage message, CorrelationData correlationData, boolean ack, String reason) {
+        if (!ack) {
+            fail(message, "nack", new AmqpException("브로커가 메시지를 거부했습니다: " + reason));
+            return;
+        }
+
+        unconfirmed.release();
+        confirmLatencyTimers.computeIfAbsent(message.exchange, exchange -> Timer.builder("rabbitmq.publish.confirm.latency")
+                        .description("발행 요청부터 브로커 확인까지 걸린 시간")
+                        .tag("exchange", exchange)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - message.requestedAt, TimeUnit.NANOSECONDS);
+
+        if (correlationData.getReturned() != null) {
+            log.warn("라우팅되지 않은 메시지 - 익스체인지: {}, 라우팅 키: {}, 응답: {}",
+                    message.exchange, message.routingKey, correlationData.getReturned().getReplyText());
+            message.result.complete(PublishResult.RETURNED);
+        } else {
+            message.result.complete(PublishResult.CONFIRMED);
+        }
+    }
+
+    private void fail(PendingMessage message, String reason, Exception cause) {
+        unconfirmed.release();
+        meterRegistry.counter("rabbitmq.publish.failed", "exchange", message.exchange, "reason", reason).increment();
+        message.result.completeExceptionally(cause);
+    }
+
+    /**
+     * 발행 대기 메시지
+     */
+    private static class PendingMessage {
+        private final String exchange;
+        private final String routingKey;
+        private final Object payload;
+        private final long requestedAt; // 발행 요청 시간 (ns)
+        private final CompletableFuture<PublishResult> result = new CompletableFuture<>();
+
+        private PendingMessage(String exchange, String routingKey, Object payload, long requestedAt) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.payload = payload;
+            this.requestedAt = requestedAt;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package concert.mania.concert.infrastructure.messaging.publisher;
+
+/**
+ * 메시지 발행 결과 (브로커 확인 기준)
+ */
+public enum PublishResult {
+    CONFIRMED, // 브로커가 수신을 확인하고 큐로 라우팅함
+    RETURNED   // 브로커가 수신했지만 라우팅할 큐가 없어 반환됨
+}
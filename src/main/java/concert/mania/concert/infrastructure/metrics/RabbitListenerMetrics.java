@@ -0,0 +1,99 @@
+package concert.mania.concert.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RabbitMQ 리스너 지표
+ * 리스너 컨테이너의 어드바이스로 등록되어 소비자 코드 변경 없이 큐별 처리량과 지연을 기록
+ *
+ * Micrometer 지표 (queue 태그)
+ * - rabbitmq.consume.messages  처리한 메시지 수 (result 태그: success, error)
+ * - rabbitmq.consume.lag       발행부터 소비 시작까지 걸린 시간 (발행 시각 헤더 기준)
+ * - rabbitmq.consume.duration  리스너 호출 처리 시간 (배치 리스너는 배치 단위)
+ */
+@Component
+@RequiredArgsConstructor
+public class RabbitListenerMetrics implements MethodInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    // 큐 이름 -> 지표
+    private final Map<String, QueueMeters> meters = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        List<Message> messages = extractMessages(invocation.getArguments());
+        if (messages.isEmpty()) {
+            return invocation.proceed();
+        }
+
+        QueueMeters queueMeters = meters(messages.get(0).getMessageProperties().getConsumerQueue());
+        long now = System.currentTimeMillis();
+        for (Message message : messages) {
+            Date timestamp = message.getMessageProperties().getTimestamp();
+            if (timestamp != null) {
+                queueMeters.lag.record(Math.max(0, now - timestamp.getTime()), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            queueMeters.success.increment(messages.size());
+            return result;
+        } catch (Throwable e) {
+            queueMeters.error.increment(messages.size());
+            throw e;
+        } finally {
+            queueMeters.duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 리스너 호출 인자에서 메시지 추출 (단건 리스너는 Message, 배치 리스너는 List<Message>)
+     */
+    @SuppressWarnings("unchecked")
+    private List<Message> extractMessages(Object[] arguments) {
+        for (Object argument : arguments) {
+            if (argument instanceof Message message) {
+                return List.of(message);
+            }
+            if (argument instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Message) {
+                return (List<Message>) list;
+            }
+        }
+        return List.of();
+    }
+
+    private QueueMeters meters(String queue) {
+        String queueName = queue == null ? "unknown" : queue;
+        return meters.computeIfAbsent(queueName, name -> new QueueMeters(
+                meterRegistry.counter("rabbitmq.consume.messages", "queue", name, "result", "success"),
+                meterRegistry.counter("rabbitmq.consume.messages", "queue", name, "result", "error"),
+                Timer.builder("rabbitmq.consume.lag")
+                        .description("발행부터 소비 시작까지 걸린 시간")
+                        .tag("queue", name)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                Timer.builder("rabbitmq.consume.duration")
+                        .description("리스너 처리 시간")
+                        .tag("queue", name)
+                        .register(meterRegistry)));
+    }
+
+    private record QueueMeters(Counter success, Counter error, Timer lag, Timer duration) {
+    }
+}
@@ -0,0 +1,90 @@
+package concert.mania.concert.infrastructure.metrics;
+
+import concert.mania.concert.application.port.out.query.SystemLoadQueryPort;
+import concert.mania.concert.domain.model.SystemLoad;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static concert.mania.config.RabbitMQConfig.PAYMENT_EVENT_QUEUE;
+import static concert.mania.config.RabbitMQConfig.WAITING_QUEUE_PROCESS_QUEUE;
+
+/**
+ * 시스템 부하 메트릭 어댑터
+ * Micrometer에 등록된 Hikari 커넥션 풀/HTTP 요청 메트릭과 RabbitMQ 큐 정보로 시스템 부하를 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SystemLoadMetricsAdapter implements SystemLoadQueryPort {
+
+    // 좌석을 선택하는 API (단건, 일괄, 최적 좌석 자동 선택)
+    private static final Set<String> SEAT_SELECTION_URIS = Set.of(
+            "/api/v1/seats/{seatId}/select",
+            "/api/v1/seats/select",
+            "/api/v1/concerts/{concertId}/seat-grades/{seatGradeId}/best-available/select");
+    private static final double P99 = 0.99;
+    private static final List<String> BACKLOG_QUEUES = List.of(WAITING_QUEUE_PROCESS_QUEUE, PAYMENT_EVENT_QUEUE);
+
+    private final MeterRegistry meterRegistry;
+    private final AmqpAdmin amqpAdmin;
+
+    @Override
+    public SystemLoad getCurrentLoad() {
+        double activeConnections = gaugeValue("hikaricp.connections.active");
+        double maxConnections = gaugeValue("hikaricp.connections.max");
+
+        return SystemLoad.builder()
+                .connectionPoolUsage(maxConnections > 0 ? activeConnections / maxConnections : 0)
+                .pendingConnections((int) gaugeValue("hikaricp.connections.pending"))
+                .seatSelectionP99Millis(seatSelectionP99Millis())
+                .messageBacklog(messageBacklog())
+                .build();
+    }
+
+    private double gaugeValue(String name) {
+        Gauge gauge = meterRegistry.find(name).gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+
+    /**
+     * 좌석 선택 API의 p99 응답 시간 (management.metrics.distribution.percentiles 설정 필요)
+     * 타이머는 URI 외에도 메서드/상태 코드/결과 태그별로 나뉘므로 좌석 선택 URI의 모든 타이머 중 가장 큰 값을 사용
+     */
+    private double seatSelectionP99Millis() {
+        double p99 = 0;
+        for (Timer timer : meterRegistry.find("http.server.requests").tag("uri", SEAT_SELECTION_URIS::contains).timers()) {
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                if (percentile.percentile() == P99) {
+                    p99 = Math.max(p99, percentile.value(TimeUnit.MILLISECONDS));
+                }
+            }
+        }
+        return p99;
+    }
+
+    private long messageBacklog() {
+        long backlog = 0;
+        for (String queue : BACKLOG_QUEUES) {
+            try {
+                QueueInformation info = amqpAdmin.getQueueInfo(queue);
+                if (info != null) {
+                    backlog += info.getMessageCount();
+                }
+            } catch (Exception e) {
+                log.warn("큐 정보 조회 실패 - 큐: {}, 오류: {}", queue, e.getMessage());
+            }
+        }
+        return backlog;
+    }
+}
@@ -1,38 +1,50 @@
 package concert.mania.concert.infrastructure.payment;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import concert.mania.concert.application.port.out.payment.PaymentGatewayPort;
 import concert.mania.concert.domain.model.Payment;
+import concert.mania.concert.domain.model.PaymentGatewayStatus;
 import concert.mania.concert.domain.model.type.PaymentStatus;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 모의 결제 게이트웨이 어댑터
  * PG사 연동을 시뮬레이션하는 구현체
+ * PG사 응답(JSON)은 결제 요청 시 한 번만 생성하고, 조회 시 스트리밍 파서로 한 번만 해석하여
+ * {@link PaymentGatewayStatus}로 반환 (중간 Map/트리 생성 없음)
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
 
-    private final ObjectMapper objectMapper;
-    
-    // 결제 정보 저장소 (실제로는 외부 PG사 시스템에 저장됨)
-    private final ConcurrentHashMap<String, Map<String, Object>> paymentStore = new ConcurrentHashMap<>();
-    
+    private final JsonFactory jsonFactory;
+
+    // 결제 정보 저장소 (실제로는 외부 PG사 시스템에 저장됨, 외부 결제 ID -> PG사 응답 JSON)
+    private final ConcurrentHashMap<String, String> paymentStore = new ConcurrentHashMap<>();
+
     // 결제 성공 확률 (90%)
     private static final double PAYMENT_SUCCESS_RATE = 0.9;
-    
+
+    public MockPaymentGatewayAdapter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
     /**
      * 결제 요청
      * @param payment 결제 정보
@@ -41,59 +53,79 @@ public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
     @Override
     public String requestPayment(Payment payment) {
         log.info("결제 요청 - 금액: {}, 결제 방식: {}", payment.getAmount(), payment.getMethod());
-        
+
         // 외부 결제 시스템 ID 생성
         String externalPaymentId = generateExternalPaymentId();
-        
+
         // 결제 성공 여부 결정 (90% 확률로 성공)
-        boolean isSuccess = new Random().nextDouble() < PAYMENT_SUCCESS_RATE;
-        
-        // 결제 정보 저장
-        Map<String, Object> paymentInfo = new HashMap<>();
-        paymentInfo.put("paymentId", payment.getId());
-        paymentInfo.put("amount", payment.getAmount());
-        paymentInfo.put("method", payment.getMethod().name());
-        paymentInfo.put("status", isSuccess ? PaymentStatus.COMPLETED.name() : PaymentStatus.FAILED.name());
-        paymentInfo.put("timestamp", LocalDateTime.now().toString());
-        paymentInfo.put("transactionId", UUID.randomUUID().toString());
-        
-        // 실패 시 오류 정보 추가
-        if (!isSuccess) {
-            Map<String, String> errorInfo = new HashMap<>();
-            errorInfo.put("code", "PG_ERROR_" + (1000 + new Random().nextInt(9000)));
-            errorInfo.put("message", "결제 처리 중 오류가 발생했습니다.");
-            paymentInfo.put("error", errorInfo);
-        }
-        
-        // 결제 정보 저장소에 저장
-        paymentStore.put(externalPaymentId, paymentInfo);
-        
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean isSuccess = random.nextDouble() < PAYMENT_SUCCESS_RATE;
+
+        // 결제 정보 저장 (실패 시 오류 정보 포함)
+        PaymentGatewayStatus status = new PaymentGatewayStatus(
+                externalPaymentId,
+                isSuccess ? PaymentStatus.COMPLETED : PaymentStatus.FAILED,
+                payment.getAmount(),
+                UUID.randomUUID().toString(),
+                isSuccess ? null : "PG_ERROR_" + (1000 + random.nextInt(9000)),
+                isSuccess ? null : "결제 처리 중 오류가 발생했습니다.");
+        paymentStore.put(externalPaymentId, writeResponse(status, payment.getId(), payment.getMethod().name(), null));
+
         log.info("결제 요청 완료 - 외부 결제 ID: {}, 성공 여부: {}", externalPaymentId, isSuccess);
-        
+
         return externalPaymentId;
     }
 
     /**
      * 결제 상태 조회
      * @param externalPaymentId 외부 결제 시스템 ID
-     * @return 결제 상태 정보 (JSON 형태)
+     * @return 결제 상태 정보
      */
     @Override
-    public String getPaymentStatus(String externalPaymentId) {
+    public PaymentGatewayStatus getPaymentStatus(String externalPaymentId) {
         log.info("결제 상태 조회 - 외부 결제 ID: {}", externalPaymentId);
-        
-        Map<String, Object> paymentInfo = paymentStore.get(externalPaymentId);
-        if (paymentInfo == null) {
+
+        String response = paymentStore.get(externalPaymentId);
+        if (response == null) {
             log.warn("결제 정보 없음 - 외부 결제 ID: {}", externalPaymentId);
-            return createErrorJson("PAYMENT_NOT_FOUND", "결제 정보를 찾을 수 없습니다.");
+            return PaymentGatewayStatus.error(externalPaymentId, "PAYMENT_NOT_FOUND", "결제 정보를 찾을 수 없습니다.");
         }
-        
+
         try {
-            return objectMapper.writeValueAsString(paymentInfo);
-        } catch (JsonProcessingException e) {
-            log.error("결제 정보 JSON 변환 실패", e);
-            return createErrorJson("JSON_PROCESSING_ERROR", "결제 정보 처리 중 오류가 발생했습니다.");
+            return parseResponse(externalPaymentId, response);
+        } catch (IOException e) {
+            log.error("결제 정보 해석 실패 - 외부 결제 ID: {}", externalPaymentId, e);
+            return PaymentGatewayStatus.error(externalPaymentId, "JSON_PROCESSING_ERROR", "결제 정보 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 결제 상태 일괄 조회
+     * @param externalPaymentIds 외부 결제 시스템 ID 목록
+     * @return 외부 결제 시스템 ID -> 결제 상태 정보
+     */
+    @Override
+    public Map<String, PaymentGatewayStatus> getPaymentStatuses(Collection<String> externalPaymentIds) {
+        Map<String, PaymentGatewayStatus> statuses = new HashMap<>(externalPaymentIds.size() * 2);
+        int notFound = 0;
+        for (String externalPaymentId : externalPaymentIds) {
+            String response = paymentStore.get(externalPaymentId);
+            PaymentGatewayStatus status;
+            if (response == null) {
+                notFound++;
+                status = PaymentGatewayStatus.error(externalPaymentId, "PAYMENT_NOT_FOUND", "결제 정보를 찾을 수 없습니다.");
+            } else {
+                try {
+                    status = parseResponse(externalPaymentId, response);
+                } catch (IOException e) {
+                    status = PaymentGatewayStatus.error(externalPaymentId, "JSON_PROCESSING_ERROR", "결제 정보 처리 중 오류가 발생했습니다.");
+                }
+            }
+            statuses.put(externalPaymentId, status);
         }
+
+        log.info("결제 상태 일괄 조회 - 요청 수: {}, 결제 정보 없음: {}", externalPaymentIds.size(), notFound);
+        return statuses;
     }
 
     /**
@@ -104,35 +136,36 @@ public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
     @Override
     public boolean cancelPayment(Payment payment) {
         log.info("결제 취소 요청 - 외부 결제 ID: {}", payment.getExternalPaymentId());
-        
+
         String externalPaymentId = payment.getExternalPaymentId();
         if (externalPaymentId == null) {
             log.warn("외부 결제 ID 없음 - 결제 ID: {}", payment.getId());
             return false;
         }
-        
-        Map<String, Object> paymentInfo = paymentStore.get(externalPaymentId);
-        if (paymentInfo == null) {
-            log.warn("결제 정보 없음 - 외부 결제 ID: {}", externalPaymentId);
+
+        PaymentGatewayStatus status = getPaymentStatus(externalPaymentId);
+        if (status.errorCode() != null && status.transactionId() == null) {
             return false;
         }
-        
+
         // 이미 취소된 결제인지 확인
-        if (PaymentStatus.CANCELLED.name().equals(paymentInfo.get("status"))) {
+        if (status.status() == PaymentStatus.CANCELLED) {
             log.warn("이미 취소된 결제 - 외부 결제 ID: {}", externalPaymentId);
             return false;
         }
-        
+
         // 실패한 결제는 취소할 수 없음
-        if (PaymentStatus.FAILED.name().equals(paymentInfo.get("status"))) {
+        if (status.isFailed()) {
             log.warn("실패한 결제는 취소할 수 없음 - 외부 결제 ID: {}", externalPaymentId);
             return false;
         }
-        
+
         // 결제 상태 변경
-        paymentInfo.put("status", PaymentStatus.CANCELLED.name());
-        paymentInfo.put("cancelledAt", LocalDateTime.now().toString());
-        
+        PaymentGatewayStatus cancelled = new PaymentGatewayStatus(externalPaymentId, PaymentStatus.CANCELLED,
+                status.amount(), status.transactionId(), null, null);
+        paymentStore.put(externalPaymentId, writeResponse(cancelled, payment.getId(), payment.getMethod().name(),
+                LocalDateTime.now().toString()));
+
         log.info("결제 취소 완료 - 외부 결제 ID: {}", externalPaymentId);
         return true;
     }
@@ -145,32 +178,32 @@ public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
     @Override
     public boolean verifyPayment(Payment payment) {
         log.info("결제 검증 - 외부 결제 ID: {}", payment.getExternalPaymentId());
-        
+
         String externalPaymentId = payment.getExternalPaymentId();
         if (externalPaymentId == null) {
             log.warn("외부 결제 ID 없음 - 결제 ID: {}", payment.getId());
             return false;
         }
-        
-        Map<String, Object> paymentInfo = paymentStore.get(externalPaymentId);
-        if (paymentInfo == null) {
+
+        PaymentGatewayStatus status = getPaymentStatus(externalPaymentId);
+        if (status.amount() == null) {
             log.warn("결제 정보 없음 - 외부 결제 ID: {}", externalPaymentId);
             return false;
         }
-        
+
         // 결제 금액 검증
-        if (!payment.getAmount().toString().equals(paymentInfo.get("amount").toString())) {
-            log.warn("결제 금액 불일치 - 요청: {}, 실제: {}", payment.getAmount(), paymentInfo.get("amount"));
+        if (payment.getAmount().compareTo(status.amount()) != 0) {
+            log.warn("결제 금액 불일치 - 요청: {}, 실제: {}", payment.getAmount(), status.amount());
             return false;
         }
-        
+
         // 결제 상태 검증
-        boolean isCompleted = PaymentStatus.COMPLETED.name().equals(paymentInfo.get("status"));
-        
+        boolean isCompleted = status.isCompleted();
+
         log.info("결제 검증 완료 - 외부 결제 ID: {}, 성공 여부: {}", externalPaymentId, isCompleted);
         return isCompleted;
     }
-    
+
     /**
      * 외부 결제 시스템 ID 생성
      * @return 외부 결제 시스템 ID
@@ -178,24 +211,80 @@ public class MockPaymentGatewayAdapter implements PaymentGatewayPort {
     private String generateExternalPaymentId() {
         return "PG_" + UUID.randomUUID().toString().replace("-", "").substring(0, 20);
     }
-    
+
     /**
-     * 오류 JSON 생성
-     * @param code 오류 코드
-     * @param message 오류 메시지
-     * @return 오류 JSON
+     * PG사 응답 JSON 생성 (스트리밍 생성기 사용)
      */
-    private String createErrorJson(String code, String message) {
-        try {
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", Map.of(
-                    "code", code,
-                    "message", message
-            ));
-            return objectMapper.writeValueAsString(error);
-        } catch (JsonProcessingException e) {
-            log.error("오류 JSON 생성 실패", e);
-            return "{\"error\":{\"code\":\"UNKNOWN_ERROR\",\"message\":\"알 수 없는 오류가 발생했습니다.\"}}";
+    private String writeResponse(PaymentGatewayStatus status, Long paymentId, String method, String cancelledAt) {
+        StringWriter writer = new StringWriter(256);
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+            if (paymentId != null) {
+                generator.writeNumberField("paymentId", paymentId);
+            }
+            generator.writeNumberField("amount", status.amount());
+            generator.writeStringField("method", method);
+            generator.writeStringField("status", status.status().name());
+            generator.writeStringField("timestamp", LocalDateTime.now().toString());
+            generator.writeStringField("transactionId", status.transactionId());
+            if (cancelledAt != null) {
+                generator.writeStringField("cancelledAt", cancelledAt);
+            }
+            if (status.errorCode() != null) {
+                generator.writeObjectFieldStart("error");
+                generator.writeStringField("code", status.errorCode());
+                generator.writeStringField("message", status.errorMessage());
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalStateException("결제 정보 JSON 생성에 실패했습니다.", e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * PG사 응답 JSON 해석 (스트리밍 파서 사용, 필요한 필드만 읽고 나머지는 건너뜀)
+     */
+    private PaymentGatewayStatus parseResponse(String externalPaymentId, String response) throws IOException {
+        PaymentStatus status = null;
+        BigDecimal amount = null;
+        String transactionId = null;
+        String errorCode = null;
+        String errorMessage = null;
+
+        try (JsonParser parser = jsonFactory.createParser(response)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("결제 정보 형식이 올바르지 않습니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "status" -> status = PaymentStatus.valueOf(parser.getText());
+                    case "amount" -> amount = parser.getDecimalValue();
+                    case "transactionId" -> transactionId = parser.getText();
+                    case "error" -> {
+                        if (value != JsonToken.START_OBJECT) {
+                            parser.skipChildren();
+                            break;
+                        }
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String errorField = parser.currentName();
+                            parser.nextToken();
+                            if ("code".equals(errorField)) {
+                                errorCode = parser.getText();
+                            } else if ("message".equals(errorField)) {
+                                errorMessage = parser.getText();
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
         }
+        return new PaymentGatewayStatus(externalPaymentId, status, amount, transactionId, errorCode, errorMessage);
     }
-}
\ No newline at end of file
+}
@@ -83,11 +83,28 @@ public class EventCommandAdapter implements EventCommandPort {
         return updateStatus(eventId, EventStatus.PROCESSED);
     }
 
+    @Override
+    public int markAllAsProcessed(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return eventRepository.updatePendingStatus(eventIds, EventStatus.PROCESSED, now, now);
+    }
+
     @Override
     public Event markAsFailed(Long eventId) {
         return updateStatus(eventId, EventStatus.FAILED);
     }
 
+    @Override
+    public int markAllAsFailed(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        return eventRepository.updatePendingStatus(eventIds, EventStatus.FAILED, null, LocalDateTime.now());
+    }
+
     @Override
     public Event resetForRetry(Long eventId) {
         EventJpaEntity entity = eventRepository.findById(eventId)
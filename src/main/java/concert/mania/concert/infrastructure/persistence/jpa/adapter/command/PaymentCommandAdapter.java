@@ -2,15 +2,22 @@ package concert.mania.concert.infrastructure.persistence.jpa.adapter.command;
 
 import concert.mania.concert.application.port.out.command.PaymentCommandPort;
 import concert.mania.concert.domain.model.Payment;
+import concert.mania.concert.domain.model.PaymentGatewayStatus;
 import concert.mania.concert.domain.model.type.PaymentStatus;
 import concert.mania.concert.infrastructure.persistence.jpa.entity.PaymentJpaEntity;
 import concert.mania.concert.infrastructure.persistence.jpa.repository.DataJpaPaymentRepository;
 import concert.mania.concert.infrastructure.persistence.mapper.PaymentMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 결제 명령 영속성 어댑터
@@ -23,6 +30,7 @@ public class PaymentCommandAdapter implements PaymentCommandPort {
 
     private final DataJpaPaymentRepository paymentRepository;
     private final PaymentMapper paymentMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Payment save(Payment payment) {
@@ -162,24 +170,43 @@ public class PaymentCommandAdapter implements PaymentCommandPort {
     }
 
     @Override
-    public Payment updatePaymentDetails(Long paymentId, String paymentDetails) {
-        PaymentJpaEntity entity = paymentRepository.findById(paymentId)
-                .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다: " + paymentId));
+    public void updatePaymentDetails(Long paymentId, PaymentGatewayStatus gatewayStatus) {
+        // 엔티티 조회 없이 상세 정보 컬럼만 갱신
+        int updated = paymentRepository.updatePaymentDetails(paymentId, gatewayStatus.toCompactString());
+        if (updated == 0) {
+            throw new IllegalArgumentException("결제 정보를 찾을 수 없습니다: " + paymentId);
+        }
+    }
 
-        // 새로운 엔티티 생성 (Builder 패턴 사용)
-        PaymentJpaEntity updatedEntity = PaymentJpaEntity.builder()
-                .id(entity.getId())
-                .reservation(entity.getReservation())
-                .externalPaymentId(entity.getExternalPaymentId())
-                .amount(entity.getAmount())
-                .method(entity.getMethod())
-                .status(entity.getStatus())
-                .completedAt(entity.getCompletedAt())
-                .cancelledAt(entity.getCancelledAt())
-                .paymentDetails(paymentDetails)
-                .build();
+    @Override
+    public List<Long> updatePendingPayments(PaymentStatus status, Map<Long, PaymentGatewayStatus> gatewayStatuses) {
+        if (gatewayStatuses.isEmpty()) {
+            return List.of();
+        }
 
-        PaymentJpaEntity savedEntity = paymentRepository.save(updatedEntity);
-        return paymentMapper.toDomain(savedEntity);
+        List<Map.Entry<Long, PaymentGatewayStatus>> entries = new ArrayList<>(gatewayStatuses.entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // PENDING 조건으로 다른 경로에서 이미 종료된 결제는 건너뜀 (rewriteBatchedStatements로 한 번에 전송)
+        int[] counts = jdbcTemplate.batchUpdate(
+                "UPDATE payments SET status = ?, payment_details = ?, "
+                        + "completed_at = CASE WHEN ? = 'COMPLETED' THEN ? ELSE completed_at END, updated_at = ? "
+                        + "WHERE payment_id = ? AND status = 'PENDING'",
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setString(1, status.name());
+                    ps.setString(2, entry.getValue().toCompactString());
+                    ps.setString(3, status.name());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                    ps.setLong(6, entry.getKey());
+                })[0];
+
+        List<Long> updatedIds = new ArrayList<>(entries.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                updatedIds.add(entries.get(i).getKey());
+            }
+        }
+        return updatedIds;
     }
-}
\ No newline at end of file
+}
@@ -17,8 +17,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +31,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 public class SeatCommandAdapter implements SeatCommandPort {
+
+    // 상태 변경을 허용하는 현재 상태
+    private static final Set<SeatStatus> SELECTABLE_STATUSES = EnumSet.of(SeatStatus.AVAILABLE);
+    private static final Set<SeatStatus> RESERVABLE_STATUSES = EnumSet.of(SeatStatus.AVAILABLE, SeatStatus.SELECTED);
+    private static final Set<SeatStatus> UNSOLD_STATUSES =
+            EnumSet.of(SeatStatus.AVAILABLE, SeatStatus.SELECTED, SeatStatus.RESERVED);
+
     private final DataJpaSeatRepository seatRepository;
     private final DataJpaSeatLockRepository seatLockRepository;
     private final DataJpaConcertRepository concertRepository;
@@ -54,83 +63,46 @@ public class SeatCommandAdapter implements SeatCommandPort {
     }
 
     @Override
-    public Seat updateStatus(Long seatId, SeatStatus status) {
-        SeatJpaEntity oldEntity = seatRepository.findById(seatId)
-                .orElseThrow(() -> new NoSuchElementException("좌석 정보를 찾을 수 없습니다. ID: " + seatId));
-
-        // Create a new entity with updated status using the builder pattern
-        SeatJpaEntity newEntity = SeatJpaEntity.builder()
-                .id(oldEntity.getId())
-                .concert(oldEntity.getConcert())
-                .seatGrade(oldEntity.getSeatGrade())
-                .seatNumber(oldEntity.getSeatNumber())
-                .seatRow(oldEntity.getSeatRow())
-                .seatCol(oldEntity.getSeatCol())
-                .status(status)
-                .build();
-
-        SeatJpaEntity savedEntity = seatRepository.save(newEntity);
-        return seatMapper.toDomain(savedEntity);
+    public boolean select(Long seatId, Long userId) {
+        return transition(seatId, SELECTABLE_STATUSES, SeatStatus.SELECTED);
     }
 
     @Override
-    public Seat select(Long seatId, Long userId) {
-        SeatJpaEntity seat = seatRepository.findById(seatId)
-                .orElseThrow(() -> new NoSuchElementException("좌석 정보를 찾을 수 없습니다. ID: " + seatId));
-
-        if (seat.getStatus() != SeatStatus.AVAILABLE) {
-            throw new IllegalStateException("이미 선택되었거나 판매된 좌석입니다. ID: " + seatId);
+    public int selectAll(List<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return 0;
         }
-
-        // Update seat status to SELECTED
-        updateStatus(seatId, SeatStatus.SELECTED);
-        SeatJpaEntity updatedSeatEntity = seatRepository.findById(seatId)
-                .orElseThrow(() -> new NoSuchElementException("좌석 정보를 찾을 수 없습니다. ID: " + seatId));
-
-
-        return seatMapper.toDomain(updatedSeatEntity);
+        return seatRepository.updateAllStatusIfIn(seatIds, RESERVABLE_STATUSES, SeatStatus.SELECTED, LocalDateTime.now());
     }
 
     @Override
-    public Seat reserve(Long seatId) {
-        SeatJpaEntity seat = seatRepository.findById(seatId)
-                .orElseThrow(() -> new NoSuchElementException("좌석 정보를 찾을 수 없습니다. ID: " + seatId));
-
-        if (seat.getStatus() != SeatStatus.SELECTED && seat.getStatus() != SeatStatus.AVAILABLE) {
-            throw new IllegalStateException("선택되지 않았거나 이미 판매된 좌석입니다. ID: " + seatId);
+    public int releaseAll(List<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return 0;
         }
-
-        return updateStatus(seatId, SeatStatus.RESERVED);
+        return seatRepository.updateAllStatusIfUnlocked(seatIds, SeatStatus.SELECTED, SeatStatus.AVAILABLE, LocalDateTime.now());
     }
 
     @Override
-    public Seat sell(Long seatId) {
-        SeatJpaEntity seat = seatRepository.findById(seatId)
-                .orElseThrow(() -> new NoSuchElementException("좌석 정보를 찾을 수 없습니다. ID: " + seatId));
-
-        if (seat.getStatus() != SeatStatus.RESERVED) {
-            throw new IllegalStateException("예매 진행 중이 아닌 좌석입니다. ID: " + seatId);
-        }
-
-        // Remove any existing lock
-        seatLockRepository.findBySeat(seat).ifPresent(seatLockRepository::delete);
-
-        return updateStatus(seatId, SeatStatus.SOLD);
+    public boolean reserve(Long seatId) {
+        return transition(seatId, RESERVABLE_STATUSES, SeatStatus.RESERVED);
     }
 
     @Override
-    public Seat reset(Long seatId) {
-        SeatJpaEntity seat = seatRepository.findById(seatId)
-                .orElseThrow(() -> new NoSuchElementException("좌석 정보를 찾을 수 없습니다. ID: " + seatId));
-
-        if (seat.getStatus() == SeatStatus.SOLD) {
-            throw new IllegalStateException("이미 판매 완료된 좌석은 초기화할 수 없습니다. ID: " + seatId);
-        }
+    public boolean sell(Long seatId) {
+        return transition(seatId, UNSOLD_STATUSES, SeatStatus.SOLD);
+    }
 
-        // Remove any existing lock
-        seatLockRepository.findBySeat(seat).ifPresent(seatLockRepository::delete);
+    @Override
+    public boolean reset(Long seatId) {
+        return transition(seatId, UNSOLD_STATUSES, SeatStatus.AVAILABLE);
+    }
 
-        return updateStatus(seatId, SeatStatus.AVAILABLE);
+    /**
+     * 조건부 상태 변경 (조회 후 저장하지 않고 현재 상태를 조건으로 한 번의 UPDATE로 처리)
+     */
+    private boolean transition(Long seatId, Set<SeatStatus> fromStatuses, SeatStatus toStatus) {
+        return seatRepository.updateStatusIfIn(seatId, fromStatuses, toStatus, LocalDateTime.now()) > 0;
     }
 
     @Override
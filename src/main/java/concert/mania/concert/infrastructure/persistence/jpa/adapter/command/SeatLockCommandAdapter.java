@@ -7,20 +7,30 @@ import concert.mania.concert.infrastructure.persistence.jpa.entity.SeatLockJpaEn
 import concert.mania.concert.infrastructure.persistence.jpa.repository.DataJpaSeatLockRepository;
 import concert.mania.concert.infrastructure.persistence.jpa.repository.DataJpaSeatRepository;
 import concert.mania.concert.infrastructure.persistence.mapper.SeatLockMapper;
+import concert.mania.exception.model.BadRequestException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
+import static concert.mania.exception.model.ErrorCode.ALREADY_SEAT;
+
 /**
  * 좌석 잠금 명령 영속성 어댑터
  * 좌석 잠금 관련 명령 포트 인터페이스를 구현
  */
 @Component
+@Profile("!redis-seat-lock")
 @RequiredArgsConstructor
 @Transactional
 public class SeatLockCommandAdapter implements SeatLockCommandPort {
@@ -51,8 +61,55 @@ public class SeatLockCommandAdapter implements SeatLockCommandPort {
                 .expiresAt(expiresAt)
                 .build();
 
-        SeatLockJpaEntity savedEntity = seatLockRepository.save(seatLock);
-        return seatLockMapper.toDomain(savedEntity);
+        try {
+            SeatLockJpaEntity savedEntity = seatLockRepository.saveAndFlush(seatLock);
+            return seatLockMapper.toDomain(savedEntity);
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 다른 트랜잭션이 같은 좌석을 잠금
+            throw new BadRequestException(ALREADY_SEAT);
+        }
+    }
+
+    @Override
+    public void lockAll(List<Long> seatIds, Long userId, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, SeatLockJpaEntity> existingLocks = new HashMap<>();
+        for (SeatLockJpaEntity lock : seatLockRepository.findBySeatIdIn(seatIds)) {
+            existingLocks.put(lock.getSeat().getId(), lock);
+        }
+
+        List<SeatLockJpaEntity> expiredLocks = new ArrayList<>();
+        List<SeatLockJpaEntity> newLocks = new ArrayList<>(seatIds.size());
+        for (Long seatId : seatIds) {
+            SeatLockJpaEntity lock = existingLocks.get(seatId);
+            if (lock != null && !lock.getExpiresAt().isBefore(now)) {
+                // 다른 사용자가 잠금 중이면 전체 실패 (호출한 트랜잭션이 롤백됨)
+                if (!lock.getUserId().equals(userId)) {
+                    throw new BadRequestException(ALREADY_SEAT);
+                }
+                continue;
+            }
+            if (lock != null) {
+                expiredLocks.add(lock);
+            }
+            newLocks.add(SeatLockJpaEntity.builder()
+                    .seat(seatRepository.getReferenceById(seatId))
+                    .userId(userId)
+                    .lockedAt(now)
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+
+        // 좌석당 잠금은 하나만 허용되므로 만료된 잠금을 먼저 삭제한 뒤 새 잠금 저장
+        if (!expiredLocks.isEmpty()) {
+            seatLockRepository.deleteAllInBatch(expiredLocks);
+        }
+        try {
+            // 위 조회는 트랜잭션 스냅샷을 읽으므로 그 사이 커밋된 다른 잠금은 좌석 ID 유니크 제약으로 확인
+            seatLockRepository.saveAllAndFlush(newLocks);
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException(ALREADY_SEAT);
+        }
     }
 
     @Override
@@ -108,7 +165,17 @@ public class SeatLockCommandAdapter implements SeatLockCommandPort {
     }
 
     @Override
-    public int unlockExpired() {
-        return seatLockRepository.deleteExpiredLocks(LocalDateTime.now());
+    public List<Long> unlockExpired(int limit) {
+        List<SeatLockJpaEntity> expiredLocks =
+                seatLockRepository.findExpiredLocks(LocalDateTime.now(), PageRequest.of(0, limit));
+        if (expiredLocks.isEmpty()) {
+            return List.of();
+        }
+
+        // 조회 후 다시 선택된 좌석은 새 잠금(다른 ID)이므로 조회한 잠금만 ID로 삭제
+        seatLockRepository.deleteAllInBatch(expiredLocks);
+        return expiredLocks.stream()
+                .map(lock -> lock.getSeat().getId())
+                .toList();
     }
 }
\ No newline at end of file
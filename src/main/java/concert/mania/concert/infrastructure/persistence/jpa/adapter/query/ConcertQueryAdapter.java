@@ -40,5 +40,17 @@ public class ConcertQueryAdapter implements ConcertQueryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Concert> findReservationCandidates(LocalDateTime dateTime) {
+        return concertRepository.findByActiveAndReservationCloseDateTimeAfter(true, dateTime).stream()
+                .map(concertMapper::toDomain)
+                .collect(Collectors.toList());
+    }
 
+    @Override
+    public List<Concert> findUpdatedAfter(LocalDateTime dateTime) {
+        return concertRepository.findByUpdatedAtAfter(dateTime).stream()
+                .map(concertMapper::toDomain)
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
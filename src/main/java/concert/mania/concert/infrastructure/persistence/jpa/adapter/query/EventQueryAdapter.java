@@ -6,7 +6,9 @@ import concert.mania.concert.domain.model.type.EventStatus;
 import concert.mania.concert.infrastructure.persistence.jpa.repository.DataJpaEventRepository;
 import concert.mania.concert.infrastructure.persistence.mapper.EventMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -25,6 +27,7 @@ public class EventQueryAdapter implements EventQueryPort {
 
     private final DataJpaEventRepository eventRepository;
     private final EventMapper eventMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<Event> findById(Long id) {
@@ -104,4 +107,21 @@ public class EventQueryAdapter implements EventQueryPort {
     public long countFailedEventsByType(String eventType) {
         return eventRepository.countFailedEventsByType(eventType);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Event> lockPendingEvents(int limit) {
+        // (status, event_id) 인덱스 순으로 잠그고, 다른 릴레이가 잠근 행은 기다리지 않고 건너뜀
+        return jdbcTemplate.query(
+                "SELECT event_id, event_type, payload, created_at FROM events "
+                        + "WHERE status = ? ORDER BY event_id LIMIT ? FOR UPDATE SKIP LOCKED",
+                (rs, rowNum) -> Event.builder()
+                        .id(rs.getLong("event_id"))
+                        .eventType(rs.getString("event_type"))
+                        .payload(rs.getString("payload"))
+                        .status(EventStatus.PENDING)
+                        .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                        .build(),
+                EventStatus.PENDING.name(), limit);
+    }
+}
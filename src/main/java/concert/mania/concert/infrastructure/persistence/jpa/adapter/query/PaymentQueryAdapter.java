@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +38,7 @@ public class PaymentQueryAdapter implements PaymentQueryPort {
     private final DataJpaReservationRepository reservationRepository;
     private final PaymentCustomRepository paymentCustomRepository;
     private final PaymentMapper paymentMapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<Payment> findById(Long id) {
@@ -173,4 +175,19 @@ public class PaymentQueryAdapter implements PaymentQueryPort {
                 .map(paymentMapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<Payment> findPendingPaymentsAfter(Long lastPaymentId, LocalDateTime createdBefore, int limit) {
+        // status 인덱스(InnoDB 보조 인덱스는 PK 포함)를 따라 ID 순으로 범위 조회하므로 OFFSET 없이 페이지 이동
+        return jdbcTemplate.query(
+                "SELECT payment_id, external_payment_id, created_at FROM payments "
+                        + "WHERE status = ? AND payment_id > ? AND created_at < ? ORDER BY payment_id LIMIT ?",
+                (rs, rowNum) -> Payment.builder()
+                        .id(rs.getLong("payment_id"))
+                        .externalPaymentId(rs.getString("external_payment_id"))
+                        .status(PaymentStatus.PENDING)
+                        .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                        .build(),
+                PaymentStatus.PENDING.name(), lastPaymentId, createdBefore, limit);
+    }
 }
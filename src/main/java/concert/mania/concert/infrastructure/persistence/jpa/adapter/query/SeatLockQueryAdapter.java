@@ -9,12 +9,15 @@ import concert.mania.concert.infrastructure.persistence.jpa.repository.DataJpaSe
 import concert.mania.concert.infrastructure.persistence.jpa.repository.DataJpaSeatRepository;
 import concert.mania.concert.infrastructure.persistence.mapper.SeatLockMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +25,7 @@ import java.util.stream.Collectors;
  * 좌석 잠금 관련 조회 포트 인터페이스를 구현
  */
 @Component
+@Profile("!redis-seat-lock")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SeatLockQueryAdapter implements SeatLockQueryPort {
@@ -87,6 +91,18 @@ public class SeatLockQueryAdapter implements SeatLockQueryPort {
         return seatLock.isPresent() && seatLock.get().getExpiresAt().isAfter(LocalDateTime.now());
     }
 
+    @Override
+    public Set<Long> findLockedSeatIds(Collection<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return Set.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return seatLockRepository.findBySeatIdIn(seatIds).stream()
+                .filter(seatLock -> seatLock.getExpiresAt().isAfter(now))
+                .map(seatLock -> seatLock.getSeat().getId())
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public boolean isLockedByUser(Long seatId, Long userId) {
         Optional<SeatJpaEntity> seat = seatRepository.findById(seatId);
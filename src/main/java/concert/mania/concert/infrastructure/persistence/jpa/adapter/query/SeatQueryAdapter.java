@@ -13,7 +13,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -37,6 +39,13 @@ public class SeatQueryAdapter implements SeatQueryPort {
                 .map(seatMapper::toDomain);
     }
 
+    @Override
+    public List<Seat> findAllByIds(List<Long> ids) {
+        return seatRepository.findAllById(ids).stream()
+                .map(seatMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Seat> findByConcertId(Long concertId) {
         Optional<ConcertJpaEntity> concert = concertRepository.findById(concertId);
@@ -112,4 +121,9 @@ public class SeatQueryAdapter implements SeatQueryPort {
     public long countAvailableSeatsByConcertIdAndSeatGradeId(Long concertId, Long seatGradeId) {
         return seatRepository.countAvailableSeatsByConcertIdAndSeatGradeId(concertId, seatGradeId);
     }
+
+    @Override
+    public Map<Long, Map<Long, Map<SeatStatus, Long>>> countByGradeAndStatus(Collection<Long> concertIds) {
+        return seatRepository.getSeatStatusStatisticsByGrade(concertIds);
+    }
 }
\ No newline at end of file
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Table(name = "events", indexes = {
     @Index(name = "idx_event_type", columnList = "eventType"),
-    @Index(name = "idx_event_status", columnList = "status")
+    @Index(name = "idx_event_status", columnList = "status"),
+    @Index(name = "idx_event_status_id", columnList = "status, event_id") // 아웃박스 릴레이 조회용
 })
 public class EventJpaEntity extends BaseEntity {
     
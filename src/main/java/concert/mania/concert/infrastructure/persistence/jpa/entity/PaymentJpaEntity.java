@@ -49,5 +49,5 @@ public class PaymentJpaEntity extends BaseEntity {
     private LocalDateTime cancelledAt; // 결제 취소 시간
     
     @Column(columnDefinition = "TEXT")
-    private String paymentDetails; // JSON 형태로 결제 상세 정보 저장
+    private String paymentDetails; // 결제 상세 정보 (외부 결제 상태 압축 표현, 예: status=COMPLETED;tx=...)
 }
\ No newline at end of file
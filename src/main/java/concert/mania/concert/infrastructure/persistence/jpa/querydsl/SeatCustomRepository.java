@@ -4,6 +4,7 @@ import concert.mania.concert.domain.model.type.SeatStatus;
 import concert.mania.concert.infrastructure.persistence.jpa.entity.SeatJpaEntity;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -32,28 +33,10 @@ public interface SeatCustomRepository {
             Integer columnNumber);
     
     /**
-     * 특정 콘서트의 좌석 상태 통계를 조회합니다.
+     * 여러 콘서트의 좌석 등급별 상태 통계를 한 번에 조회합니다.
      * 
-     * @param concertId 콘서트 ID
-     * @return 상태별 좌석 수 맵 (상태 -> 좌석 수)
-     */
-    Map<SeatStatus, Long> getSeatStatusStatistics(Long concertId);
-    
-    /**
-     * 특정 콘서트의 좌석 등급별 상태 통계를 조회합니다.
-     * 
-     * @param concertId 콘서트 ID
-     * @return 등급별 상태별 좌석 수 맵 (등급 ID -> (상태 -> 좌석 수))
-     */
-    Map<Long, Map<SeatStatus, Long>> getSeatStatusStatisticsByGrade(Long concertId);
-    
-    /**
-     * 특정 콘서트의 인접한 좌석을 검색합니다.
-     * 
-     * @param concertId 콘서트 ID
-     * @param seatGradeId 좌석 등급 ID
-     * @param count 필요한 좌석 수
-     * @return 인접한 좌석 목록 (가능한 경우)
+     * @param concertIds 콘서트 ID 목록
+     * @return 콘서트별 등급별 상태별 좌석 수 맵 (콘서트 ID -> (등급 ID -> (상태 -> 좌석 수)))
      */
-    List<SeatJpaEntity> findAdjacentAvailableSeats(Long concertId, Long seatGradeId, int count);
+    Map<Long, Map<Long, Map<SeatStatus, Long>>> getSeatStatusStatisticsByGrade(Collection<Long> concertIds);
 }
\ No newline at end of file
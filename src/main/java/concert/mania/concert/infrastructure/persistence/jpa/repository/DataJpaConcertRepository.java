@@ -24,6 +24,23 @@ public interface DataJpaConcertRepository extends JpaRepository<ConcertJpaEntity
      * @return 예매 오픈 예정인 콘서트 목록
      */
     List<ConcertJpaEntity> findByReservationOpenDateTimeAfter(LocalDateTime dateTime);
+
+    /**
+     * 활성화되어 있고 예매 마감 전인 콘서트 목록 조회 (예매 진행 중 또는 예정)
+     *
+     * @param active 활성화 여부
+     * @param dateTime 기준 날짜시간
+     * @return 예매 대상 콘서트 목록
+     */
+    List<ConcertJpaEntity> findByActiveAndReservationCloseDateTimeAfter(boolean active, LocalDateTime dateTime);
+
+    /**
+     * 특정 시점 이후 수정된 콘서트 목록 조회
+     *
+     * @param dateTime 기준 날짜시간
+     * @return 수정된 콘서트 목록
+     */
+    List<ConcertJpaEntity> findByUpdatedAtAfter(LocalDateTime dateTime);
     
     /**
      * 특정 기간에 진행되는 콘서트 목록 조회
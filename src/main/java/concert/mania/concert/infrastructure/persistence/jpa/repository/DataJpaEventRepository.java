@@ -108,4 +108,19 @@ public interface DataJpaEventRepository extends JpaRepository<EventJpaEntity, Lo
     @Modifying
     @Query("DELETE FROM EventJpaEntity e WHERE e.status = 'PROCESSED' AND e.createdAt < :dateTime")
     int deleteProcessedEventsBefore(@Param("dateTime") LocalDateTime dateTime);
-}
\ No newline at end of file
+    
+    /**
+     * 대기 중인 이벤트 상태 일괄 변경
+     * 
+     * @param ids 이벤트 ID 목록
+     * @param status 변경할 상태
+     * @param processedAt 처리 시간 (처리 완료가 아니면 null)
+     * @param now 수정 시간
+     * @return 변경된 이벤트 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EventJpaEntity e SET e.status = :status, e.processedAt = :processedAt, e.updatedAt = :now "
+            + "WHERE e.id IN :ids AND e.status = 'PENDING'")
+    int updatePendingStatus(@Param("ids") List<Long> ids, @Param("status") EventStatus status,
+                            @Param("processedAt") LocalDateTime processedAt, @Param("now") LocalDateTime now);
+}
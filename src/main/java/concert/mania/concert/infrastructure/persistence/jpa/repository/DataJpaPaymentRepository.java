@@ -5,6 +5,7 @@ import concert.mania.concert.domain.model.type.PaymentStatus;
 import concert.mania.concert.infrastructure.persistence.jpa.entity.PaymentJpaEntity;
 import concert.mania.concert.infrastructure.persistence.jpa.entity.ReservationJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -129,4 +130,16 @@ public interface DataJpaPaymentRepository extends JpaRepository<PaymentJpaEntity
      * @return 조건에 맞는 결제 목록
      */
     List<PaymentJpaEntity> findByStatusAndCreatedAtAfter(PaymentStatus status, LocalDateTime createdAt);
+
+    /**
+     * 결제 상세 정보 갱신
+     * 같은 트랜잭션에서 이후 조회/저장 시 이전 상세 정보로 덮어쓰지 않도록 영속성 컨텍스트를 비움
+     * 
+     * @param paymentId 결제 ID
+     * @param paymentDetails 결제 상세 정보
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PaymentJpaEntity p SET p.paymentDetails = :paymentDetails WHERE p.id = :paymentId")
+    int updatePaymentDetails(@Param("paymentId") Long paymentId, @Param("paymentDetails") String paymentDetails);
 }
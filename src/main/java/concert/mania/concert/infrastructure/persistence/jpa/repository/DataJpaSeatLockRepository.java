@@ -2,12 +2,14 @@ package concert.mania.concert.infrastructure.persistence.jpa.repository;
 
 import concert.mania.concert.infrastructure.persistence.jpa.entity.SeatJpaEntity;
 import concert.mania.concert.infrastructure.persistence.jpa.entity.SeatLockJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +42,15 @@ public interface DataJpaSeatLockRepository extends JpaRepository<SeatLockJpaEnti
      */
     List<SeatLockJpaEntity> findByExpiresAtBefore(LocalDateTime dateTime);
     
+    /**
+     * 여러 좌석의 잠금 정보 조회
+     * 
+     * @param seatIds 좌석 ID 목록
+     * @return 좌석 잠금 목록
+     */
+    @Query("SELECT sl FROM SeatLockJpaEntity sl WHERE sl.seat.id IN :seatIds")
+    List<SeatLockJpaEntity> findBySeatIdIn(@Param("seatIds") Collection<Long> seatIds);
+    
     /**
      * 특정 콘서트의 모든 좌석 잠금 정보 조회
      * 
@@ -62,14 +73,14 @@ public interface DataJpaSeatLockRepository extends JpaRepository<SeatLockJpaEnti
             @Param("concertId") Long concertId);
     
     /**
-     * 만료된 좌석 잠금 삭제
+     * 만료된 좌석 잠금 조회 (만료 시간 순, expiresAt 인덱스 사용)
      * 
      * @param now 현재 시간
-     * @return 삭제된 레코드 수
+     * @param pageable 조회 개수
+     * @return 만료된 좌석 잠금 목록
      */
-    @Modifying
-    @Query("DELETE FROM SeatLockJpaEntity sl WHERE sl.expiresAt < :now")
-    int deleteExpiredLocks(@Param("now") LocalDateTime now);
+    @Query("SELECT sl FROM SeatLockJpaEntity sl WHERE sl.expiresAt < :now ORDER BY sl.expiresAt")
+    List<SeatLockJpaEntity> findExpiredLocks(@Param("now") LocalDateTime now, Pageable pageable);
     
     /**
      * 특정 좌석의 잠금 정보 삭제
@@ -6,10 +6,13 @@ import concert.mania.concert.infrastructure.persistence.jpa.entity.SeatGradeJpaE
 import concert.mania.concert.infrastructure.persistence.jpa.entity.SeatJpaEntity;
 import concert.mania.concert.infrastructure.persistence.jpa.querydsl.SeatCustomRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -81,4 +84,59 @@ public interface DataJpaSeatRepository extends JpaRepository<SeatJpaEntity, Long
     long countAvailableSeatsByConcertIdAndSeatGradeId(
             @Param("concertId") Long concertId,
             @Param("seatGradeId") Long seatGradeId);
-}
\ No newline at end of file
+
+    /**
+     * 현재 상태가 허용된 상태인 경우에만 좌석 상태 변경 (단일 UPDATE)
+     *
+     * @param seatId 좌석 ID
+     * @param fromStatuses 변경을 허용하는 현재 상태
+     * @param toStatus 변경할 상태
+     * @param now 수정 시간
+     * @return 변경된 행 수 (0이면 좌석이 없거나 현재 상태가 허용되지 않음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SeatJpaEntity s SET s.status = :toStatus, s.updatedAt = :now " +
+           "WHERE s.id = :seatId AND s.status IN :fromStatuses")
+    int updateStatusIfIn(
+            @Param("seatId") Long seatId,
+            @Param("fromStatuses") Collection<SeatStatus> fromStatuses,
+            @Param("toStatus") SeatStatus toStatus,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 현재 상태가 허용된 상태인 좌석만 일괄 상태 변경 (단일 UPDATE)
+     *
+     * @param seatIds 좌석 ID 목록
+     * @param fromStatuses 변경을 허용하는 현재 상태
+     * @param toStatus 변경할 상태
+     * @param now 수정 시간
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SeatJpaEntity s SET s.status = :toStatus, s.updatedAt = :now " +
+           "WHERE s.id IN :seatIds AND s.status IN :fromStatuses")
+    int updateAllStatusIfIn(
+            @Param("seatIds") Collection<Long> seatIds,
+            @Param("fromStatuses") Collection<SeatStatus> fromStatuses,
+            @Param("toStatus") SeatStatus toStatus,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 좌석 잠금이 없는 좌석만 일괄 상태 변경 (단일 UPDATE)
+     *
+     * @param seatIds 좌석 ID 목록
+     * @param fromStatus 변경을 허용하는 현재 상태
+     * @param toStatus 변경할 상태
+     * @param now 수정 시간
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SeatJpaEntity s SET s.status = :toStatus, s.updatedAt = :now " +
+           "WHERE s.id IN :seatIds AND s.status = :fromStatus " +
+           "AND NOT EXISTS (SELECT sl.id FROM SeatLockJpaEntity sl WHERE sl.seat.id = s.id)")
+    int updateAllStatusIfUnlocked(
+            @Param("seatIds") Collection<Long> seatIds,
+            @Param("fromStatus") SeatStatus fromStatus,
+            @Param("toStatus") SeatStatus toStatus,
+            @Param("now") LocalDateTime now);
+}
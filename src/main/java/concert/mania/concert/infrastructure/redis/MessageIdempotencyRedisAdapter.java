@@ -0,0 +1,62 @@
+package concert.mania.concert.infrastructure.redis;
+
+import concert.mania.concert.application.port.out.command.MessageIdempotencyPort;
+import concert.mania.config.properties.MessageRetryProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 메시지 멱등 처리 Redis 어댑터
+ * 멱등 키에 처리 중 표시(짧은 TTL)를 SET NX로 선점하고, 처리가 끝나면 처리 완료 표시(긴 TTL)로 교체
+ * 처리 도중 프로세스가 종료되면 처리 중 표시가 만료되어 재전달된 메시지를 다른 인스턴스가 다시 처리함
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageIdempotencyRedisAdapter implements MessageIdempotencyPort {
+
+    private static final String PROCESSED_MESSAGE_KEY = "message:processed:";
+    private static final String COMPLETED = "done";
+
+    // 처리 완료 기록 보관 기간 (재전달/중복 전송이 발생할 수 있는 기간보다 길게 유지)
+    private static final Duration PROCESSED_MESSAGE_TTL = Duration.ofHours(24);
+
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = script("redis/message_idempotency_acquire.lua");
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = script("redis/message_idempotency_release.lua");
+
+    private final StringRedisTemplate redisTemplate;
+    private final MessageRetryProperties properties;
+
+    @Override
+    public AcquireResult tryAcquire(String idempotencyKey) {
+        Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(PROCESSED_MESSAGE_KEY + idempotencyKey),
+                String.valueOf(properties.getProcessingTtlMillis()));
+        if (result == null || result == 0L) {
+            return AcquireResult.IN_PROGRESS;
+        }
+        return result == 2L ? AcquireResult.COMPLETED : AcquireResult.ACQUIRED;
+    }
+
+    @Override
+    public void complete(String idempotencyKey) {
+        redisTemplate.opsForValue().set(PROCESSED_MESSAGE_KEY + idempotencyKey, COMPLETED, PROCESSED_MESSAGE_TTL);
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(PROCESSED_MESSAGE_KEY + idempotencyKey));
+    }
+
+    private static DefaultRedisScript<Long> script(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
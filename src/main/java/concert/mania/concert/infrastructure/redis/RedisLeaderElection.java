@@ -0,0 +1,88 @@
+package concert.mania.concert.infrastructure.redis;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 임대(lease) 기반 리더 선출
+ * 여러 인스턴스 중 한 인스턴스만 실행해야 하는 주기 작업에서 사용
+ * 리더는 실행할 때마다 임대를 갱신하고, 리더가 종료되거나 응답이 없으면 임대 만료 후 다른 인스턴스가 리더가 됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisLeaderElection {
+
+    private static final String LEADER_KEY = "leader:";
+
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = script("redis/leader_acquire.lua");
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = script("redis/leader_release.lua");
+
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 이 인스턴스가 리더인 작업 이름 (종료 시 임대 반납)
+    private final Set<String> leaderships = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 리더 임대 획득 또는 갱신
+     * @param name 작업 이름
+     * @param leaseMillis 임대 시간 (밀리초, 작업 실행 간격보다 충분히 길어야 함)
+     * @return 이 인스턴스가 리더인지 여부
+     */
+    public boolean tryAcquire(String name, long leaseMillis) {
+        Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(LEADER_KEY + name),
+                instanceId, String.valueOf(leaseMillis));
+        boolean leader = result != null && result == 1L;
+        if (leader && leaderships.add(name)) {
+            log.info("리더 임대 획득 - 작업: {}, 인스턴스: {}", name, instanceId);
+        } else if (!leader && leaderships.remove(name)) {
+            log.warn("리더 임대 상실 - 작업: {}, 인스턴스: {}", name, instanceId);
+        }
+        return leader;
+    }
+
+    /**
+     * 임대 반납 (이 인스턴스가 리더인 경우에만)
+     * 한 번만 실행하는 작업이 끝나면 반납하여 임대 만료를 기다리지 않도록 함
+     * @param name 작업 이름
+     */
+    public void release(String name) {
+        if (!leaderships.remove(name)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY + name), instanceId);
+        } catch (Exception e) {
+            log.warn("리더 임대 반납 실패 - 작업: {}, 오류: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 임대를 반납하여 다른 인스턴스가 임대 만료를 기다리지 않고 바로 리더가 되도록 함
+     */
+    @PreDestroy
+    public void releaseAll() {
+        for (String name : leaderships) {
+            release(name);
+        }
+    }
+
+    private static DefaultRedisScript<Long> script(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,215 @@
+package concert.mania.concert.infrastructure.redis;
+
+import concert.mania.concert.application.port.out.command.SeatLockCommandPort;
+import concert.mania.concert.application.port.out.query.SeatQueryPort;
+import concert.mania.concert.domain.model.Seat;
+import concert.mania.concert.domain.model.SeatLock;
+import concert.mania.exception.model.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static concert.mania.concert.infrastructure.redis.SeatLockRedisKeys.*;
+import static concert.mania.exception.model.ErrorCode.ALREADY_SEAT;
+
+/**
+ * 좌석 잠금 명령 Redis 어댑터
+ * Lua 스크립트로 좌석 잠금을 원자적으로 처리하여 잠금 1회당 Redis 왕복 1회로 처리
+ * 'redis-seat-lock' 프로파일에서 JPA 기반 SeatLockCommandAdapter 대신 사용
+ */
+@Component
+@Profile("redis-seat-lock")
+@RequiredArgsConstructor
+@Slf4j
+public class SeatLockRedisCommandAdapter implements SeatLockCommandPort {
+
+    private static final DefaultRedisScript<List> LOCK_SCRIPT = script("redis/seat_lock.lua", List.class);
+    private static final DefaultRedisScript<List> LOCK_MULTI_SCRIPT = script("redis/seat_lock_multi.lua", List.class);
+    private static final DefaultRedisScript<List> EXPIRE_SCRIPT = script("redis/seat_expire.lua", List.class);
+    private static final DefaultRedisScript<Long> EXPIRE_ACK_SCRIPT = script("redis/seat_expire_ack.lua", Long.class);
+    private static final DefaultRedisScript<List> EXTEND_SCRIPT = script("redis/seat_extend.lua", List.class);
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = script("redis/seat_unlock.lua", Long.class);
+    private static final DefaultRedisScript<Long> UNLOCK_USER_SCRIPT = script("redis/seat_unlock_user.lua", Long.class);
+
+    private static final String LOCK_RESULT_HELD_BY_OTHER = "0";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SeatQueryPort seatQueryPort;
+
+    @Override
+    public SeatLock save(SeatLock seatLock) {
+        Long seatId = seatLock.getSeat().getId();
+        unlock(seatId);
+        return lock(seatId, seatLock.getUserId(), seatLock.getExpiresAt());
+    }
+
+    /**
+     * 좌석 잠금 생성
+     * 이미 같은 사용자가 잠근 좌석이면 기존 잠금을 그대로 반환 (연장하지 않음)
+     * @throws BadRequestException 다른 사용자가 잠금 중인 경우
+     */
+    @Override
+    public SeatLock lock(Long seatId, Long userId, LocalDateTime expiresAt) {
+        long now = System.currentTimeMillis();
+        long expiresAtMillis = toEpochMillis(expiresAt);
+        long ttlMillis = Math.max(expiresAtMillis - now, 1L);
+
+        List<?> result = redisTemplate.execute(LOCK_SCRIPT,
+                List.of(seatKey(seatId), userKey(userId), SEAT_LOCK_EXPIRY_KEY),
+                userId.toString(), String.valueOf(now), String.valueOf(expiresAtMillis),
+                String.valueOf(ttlMillis), seatId.toString());
+
+        if (result == null || result.size() < 4) {
+            throw new IllegalStateException("좌석 잠금 처리에 실패했습니다. 좌석 ID: " + seatId);
+        }
+        if (LOCK_RESULT_HELD_BY_OTHER.equals(result.get(0))) {
+            log.debug("다른 사용자가 잠금 중인 좌석 - 좌석 ID: {}, 잠금 사용자 ID: {}", seatId, result.get(1));
+            throw new BadRequestException(ALREADY_SEAT);
+        }
+
+        return toDomain(seatId, (String) result.get(1), (String) result.get(2), (String) result.get(3));
+    }
+
+    /**
+     * 여러 좌석 일괄 잠금
+     * 스크립트 1회 실행으로 모든 좌석의 소유자를 확인한 뒤 잠그므로 일부 좌석만 잠기는 경우가 없음
+     * @throws BadRequestException 다른 사용자가 잠금 중인 좌석이 있는 경우
+     */
+    @Override
+    public void lockAll(List<Long> seatIds, Long userId, LocalDateTime expiresAt) {
+        long now = System.currentTimeMillis();
+        long expiresAtMillis = toEpochMillis(expiresAt);
+        long ttlMillis = Math.max(expiresAtMillis - now, 1L);
+
+        List<String> keys = new ArrayList<>(seatIds.size() + 2);
+        List<String> args = new ArrayList<>(seatIds.size() + 4);
+        args.add(userId.toString());
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(expiresAtMillis));
+        args.add(String.valueOf(ttlMillis));
+        for (Long seatId : seatIds) {
+            keys.add(seatKey(seatId));
+            args.add(seatId.toString());
+        }
+        keys.add(userKey(userId));
+        keys.add(SEAT_LOCK_EXPIRY_KEY);
+
+        List<?> result = redisTemplate.execute(LOCK_MULTI_SCRIPT, keys, args.toArray());
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("좌석 일괄 잠금 처리에 실패했습니다. 좌석 ID: " + seatIds);
+        }
+        if (LOCK_RESULT_HELD_BY_OTHER.equals(result.get(0))) {
+            log.debug("다른 사용자가 잠금 중인 좌석 - 좌석 ID: {}, 잠금 사용자 ID: {}", result.get(1), result.get(2));
+            throw new BadRequestException(ALREADY_SEAT);
+        }
+    }
+
+    @Override
+    public SeatLock extend(Long seatId, int minutes) {
+        List<?> result = redisTemplate.execute(EXTEND_SCRIPT,
+                List.of(seatKey(seatId), SEAT_LOCK_EXPIRY_KEY),
+                String.valueOf(Duration.ofMinutes(minutes).toMillis()), seatId.toString());
+
+        // TTL이 만료되면 키가 사라지므로 만료된 잠금도 여기서 걸러짐
+        if (result == null || result.isEmpty()) {
+            throw new NoSuchElementException("좌석 잠금 정보를 찾을 수 없습니다. 좌석 ID: " + seatId);
+        }
+
+        return toDomain(seatId, (String) result.get(0), (String) result.get(1), (String) result.get(2));
+    }
+
+    @Override
+    public void unlock(Long seatId) {
+        redisTemplate.execute(UNLOCK_SCRIPT,
+                List.of(seatKey(seatId), SEAT_LOCK_EXPIRY_KEY),
+                seatId.toString(), SEAT_LOCK_USER_KEY);
+    }
+
+    @Override
+    public int unlockByUserId(Long userId) {
+        Long count = redisTemplate.execute(UNLOCK_USER_SCRIPT,
+                List.of(userKey(userId), SEAT_LOCK_EXPIRY_KEY),
+                userId.toString(), SEAT_LOCK_KEY);
+        return count == null ? 0 : count.intValue();
+    }
+
+    @Override
+    public int unlockByConcertId(Long concertId) {
+        // 좌석 잠금 키에는 콘서트 정보가 없으므로 콘서트의 좌석 목록을 기준으로 해제 (관리용 기능)
+        int count = 0;
+        for (Seat seat : seatQueryPort.findByConcertId(concertId)) {
+            Long released = redisTemplate.execute(UNLOCK_SCRIPT,
+                    List.of(seatKey(seat.getId()), SEAT_LOCK_EXPIRY_KEY),
+                    seat.getId().toString(), SEAT_LOCK_USER_KEY);
+            if (released != null) {
+                count += released.intValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 만료된 좌석 잠금 정리
+     * 잠금 자체는 TTL로 자동 해제되므로 만료 인덱스(ZSET)에서 만료 순으로 조회하여 해제된 좌석 ID만 반환
+     * 인덱스에서는 호출한 트랜잭션이 커밋된 뒤에 제거하여, 롤백되면 다음 실행에서 다시 처리됨
+     * @return 잠금이 해제된 좌석 ID 목록
+     */
+    @Override
+    public List<Long> unlockExpired(int limit) {
+        String now = String.valueOf(System.currentTimeMillis());
+        List<?> seatIds = redisTemplate.execute(EXPIRE_SCRIPT, List.of(SEAT_LOCK_EXPIRY_KEY),
+                now, String.valueOf(limit), SEAT_LOCK_KEY);
+        if (seatIds == null || seatIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> args = new ArrayList<>(seatIds.size() + 2);
+        args.add(now);
+        args.add(SEAT_LOCK_KEY);
+        seatIds.forEach(seatId -> args.add((String) seatId));
+        Runnable acknowledge = () -> redisTemplate.execute(EXPIRE_ACK_SCRIPT, List.of(SEAT_LOCK_EXPIRY_KEY),
+                args.toArray());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acknowledge.run();
+                }
+            });
+        } else {
+            acknowledge.run();
+        }
+
+        return seatIds.stream()
+                .map(seatId -> Long.valueOf((String) seatId))
+                .toList();
+    }
+
+    /**
+     * 좌석 상태는 Redis 잠금이 원본이므로 선택 시점에 seats 테이블을 갱신하지 않음
+     */
+    @Override
+    public boolean isSeatStatusSyncRequired() {
+        return false;
+    }
+
+    private static <T> DefaultRedisScript<T> script(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(resultType);
+        return script;
+    }
+}
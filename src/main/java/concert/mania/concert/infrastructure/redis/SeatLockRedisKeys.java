@@ -0,0 +1,79 @@
+package concert.mania.concert.infrastructure.redis;
+
+import concert.mania.concert.domain.model.Seat;
+import concert.mania.concert.domain.model.SeatLock;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+/**
+ * 좌석 잠금 Redis 키 및 변환 유틸리티
+ * 좌석 잠금 명령/조회 Redis 어댑터가 공통으로 사용
+ */
+final class SeatLockRedisKeys {
+
+    // 좌석별 잠금 정보 (HASH: userId, lockedAt, expiresAt / TTL = 잠금 만료 시간)
+    static final String SEAT_LOCK_KEY = "seat:lock:";
+    // 사용자별 잠금 좌석 인덱스 (SET: seatId)
+    static final String SEAT_LOCK_USER_KEY = "seat:lock:user:";
+    // 잠금 만료 인덱스 (ZSET: member=seatId, score=expiresAt epoch millis)
+    static final String SEAT_LOCK_EXPIRY_KEY = "seat:lock:expiry";
+
+    static final String FIELD_USER_ID = "userId";
+    static final String FIELD_LOCKED_AT = "lockedAt";
+    static final String FIELD_EXPIRES_AT = "expiresAt";
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private SeatLockRedisKeys() {
+    }
+
+    static String seatKey(Long seatId) {
+        return SEAT_LOCK_KEY + seatId;
+    }
+
+    static String userKey(Long userId) {
+        return SEAT_LOCK_USER_KEY + userId;
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime toLocalDateTime(String epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), ZONE);
+    }
+
+    /**
+     * 잠금 정보를 도메인 모델로 변환
+     * Redis 구현에서는 좌석 ID를 잠금 ID로 사용
+     */
+    static SeatLock toDomain(Long seatId, String userId, String lockedAt, String expiresAt) {
+        LocalDateTime lockedAtTime = toLocalDateTime(lockedAt);
+        return SeatLock.builder()
+                .id(seatId)
+                .userId(Long.valueOf(userId))
+                .lockedAt(lockedAtTime)
+                .expiresAt(toLocalDateTime(expiresAt))
+                .createdAt(lockedAtTime)
+                .updatedAt(lockedAtTime)
+                .seat(Seat.builder().id(seatId).build())
+                .build();
+    }
+
+    /**
+     * HASH 엔트리를 도메인 모델로 변환
+     * @return 잠금 정보가 없으면 null
+     */
+    static SeatLock toDomain(Long seatId, Map<Object, Object> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return null;
+        }
+        return toDomain(seatId,
+                (String) entries.get(FIELD_USER_ID),
+                (String) entries.get(FIELD_LOCKED_AT),
+                (String) entries.get(FIELD_EXPIRES_AT));
+    }
+}
@@ -0,0 +1,173 @@
+package concert.mania.concert.infrastructure.redis;
+
+import concert.mania.concert.application.port.out.query.SeatLockQueryPort;
+import concert.mania.concert.application.port.out.query.SeatQueryPort;
+import concert.mania.concert.domain.model.Seat;
+import concert.mania.concert.domain.model.SeatLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static concert.mania.concert.infrastructure.redis.SeatLockRedisKeys.*;
+
+/**
+ * 좌석 잠금 조회 Redis 어댑터
+ * 'redis-seat-lock' 프로파일에서 JPA 기반 SeatLockQueryAdapter 대신 사용
+ * 만료된 잠금은 TTL로 자동 삭제되므로 조회되는 잠금은 모두 유효한 잠금
+ */
+@Component
+@Profile("redis-seat-lock")
+@RequiredArgsConstructor
+public class SeatLockRedisQueryAdapter implements SeatLockQueryPort {
+
+    private static final int LOCKED_SEAT_LOOKUP_CHUNK = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final SeatQueryPort seatQueryPort;
+
+    /**
+     * Redis 구현에서는 좌석 ID를 잠금 ID로 사용
+     */
+    @Override
+    public Optional<SeatLock> findById(Long id) {
+        return findBySeatId(id);
+    }
+
+    @Override
+    public Optional<SeatLock> findBySeatId(Long seatId) {
+        HashOperations<String, Object, Object> hashOps = redisTemplate.opsForHash();
+        return Optional.ofNullable(toDomain(seatId, hashOps.entries(seatKey(seatId))));
+    }
+
+    @Override
+    public List<SeatLock> findByUserId(Long userId) {
+        String userKey = userKey(userId);
+        Set<String> seatIds = redisTemplate.opsForSet().members(userKey);
+        if (seatIds == null || seatIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = seatIds.stream().map(Long::valueOf).toList();
+        List<SeatLock> locks = findAll(ids).stream()
+                .filter(lock -> lock.getUserId().equals(userId))
+                .collect(Collectors.toList());
+
+        // TTL로 만료된 좌석은 인덱스에서 지연 정리
+        if (locks.size() < ids.size()) {
+            Set<Long> lockedSeatIds = locks.stream().map(SeatLock::getId).collect(Collectors.toSet());
+            Object[] staleSeatIds = ids.stream()
+                    .filter(id -> !lockedSeatIds.contains(id))
+                    .map(String::valueOf)
+                    .toArray();
+            redisTemplate.opsForSet().remove(userKey, staleSeatIds);
+        }
+        return locks;
+    }
+
+    @Override
+    public List<SeatLock> findByExpiresAtBefore(LocalDateTime dateTime) {
+        Set<String> seatIds = redisTemplate.opsForZSet()
+                .rangeByScore(SEAT_LOCK_EXPIRY_KEY, Double.NEGATIVE_INFINITY, toEpochMillis(dateTime));
+        if (seatIds == null || seatIds.isEmpty()) {
+            return List.of();
+        }
+        return findAll(seatIds.stream().map(Long::valueOf).toList());
+    }
+
+    @Override
+    public List<SeatLock> findByConcertId(Long concertId) {
+        List<Long> seatIds = seatQueryPort.findByConcertId(concertId).stream()
+                .map(Seat::getId)
+                .toList();
+        return findAll(seatIds);
+    }
+
+    @Override
+    public List<SeatLock> findByUserIdAndConcertId(Long userId, Long concertId) {
+        Set<Long> concertSeatIds = seatQueryPort.findByConcertId(concertId).stream()
+                .map(Seat::getId)
+                .collect(Collectors.toSet());
+        return findByUserId(userId).stream()
+                .filter(lock -> concertSeatIds.contains(lock.getId()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean isLocked(Long seatId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(seatKey(seatId)));
+    }
+
+    /**
+     * 만료 인덱스의 만료 시간(score)으로 판단 (ZMSCORE, 1,000개 단위)
+     * 해제된 잠금은 인덱스에서 제거되고, TTL로 삭제된 잠금은 만료 시간이 지났으므로 잠금 중이 아님
+     */
+    @Override
+    public Set<Long> findLockedSeatIds(Collection<Long> seatIds) {
+        List<Long> ids = new ArrayList<>(seatIds);
+        long now = System.currentTimeMillis();
+        Set<Long> locked = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += LOCKED_SEAT_LOOKUP_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOCKED_SEAT_LOOKUP_CHUNK, ids.size()));
+            List<Double> expiresAt = redisTemplate.opsForZSet()
+                    .score(SEAT_LOCK_EXPIRY_KEY, chunk.stream().map(String::valueOf).toArray());
+            for (int i = 0; i < chunk.size(); i++) {
+                Double score = expiresAt == null ? null : expiresAt.get(i);
+                if (score != null && score > now) {
+                    locked.add(chunk.get(i));
+                }
+            }
+        }
+        return locked;
+    }
+
+    @Override
+    public boolean isLockedByUser(Long seatId, Long userId) {
+        Object owner = redisTemplate.opsForHash().get(seatKey(seatId), FIELD_USER_ID);
+        return userId.toString().equals(owner);
+    }
+
+    /**
+     * 만료된 잠금은 TTL로 즉시 삭제되므로 Redis 구현에서는 항상 false
+     */
+    @Override
+    public boolean isExpired(Long seatId) {
+        return false;
+    }
+
+    /**
+     * 여러 좌석의 잠금 정보를 파이프라인으로 한 번에 조회
+     */
+    @SuppressWarnings("unchecked")
+    private List<SeatLock> findAll(Collection<Long> seatIds) {
+        if (seatIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(seatIds);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            ids.forEach(id -> connection.hashCommands().hGetAll(seatKey(id).getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        List<SeatLock> locks = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            locks.add(toDomain(ids.get(i), (Map<Object, Object>) results.get(i)));
+        }
+        return locks.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+}
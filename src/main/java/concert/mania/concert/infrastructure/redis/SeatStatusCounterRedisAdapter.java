@@ -0,0 +1,437 @@
+package concert.mania.concert.infrastructure.redis;
+
+import concert.mania.concert.application.port.out.cache.SeatStatusCounterPort;
+import concert.mania.concert.domain.model.type.SeatStatus;
+import concert.mania.config.properties.SeatStatusCounterProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 상태 카운터 Redis 어댑터
+ * 클러스터 전체의 좌석 수는 콘서트별 Redis 해시(필드: {등급 ID}:{상태})에 두고, 각 인스턴스는 마지막으로 읽은 해시와
+ * 아직 Redis에 반영하지 않은 자체 증감(LongAdder)을 메모리에 보관
+ *
+ * - 갱신: 좌석 상태 변경 시 LongAdder만 증감하고, 주기적으로 모아서 한 번의 스크립트로 Redis에 반영
+ * - 조회: 마지막으로 읽은 해시 + 자체 증감을 메모리에서 합산 (Redis/DB 조회 없음)
+ * - 다른 인스턴스의 변경은 다음 반영 주기에 해시를 다시 읽을 때 반영됨
+ *
+ * 보정은 에포크(보정 기준 시각)로 미반영 증감과 구분함
+ * - 리더가 기준 시각을 예고하고, 그 시각이 되면 DB를 집계하여 해시를 덮어쓰며 해시의 에포크를 기준 시각으로 올림
+ * - 각 인스턴스는 기준 시각 이후의 증감을 따로 보류하고, 기준 시각 이전의 증감은 평소대로 반영
+ * - 반영 스크립트는 인스턴스가 확인한 에포크보다 해시의 에포크가 크면 증감을 버림 (이미 DB 집계에 포함됨)
+ * - 덮어쓴 에포크를 확인하면 보류한 증감을 반영하며, 기준 시각 + 보정 제한 시간이 지나면 덮어쓰지 않았어도 반영
+ * - 집계는 스케줄러로 기준 시각에 실행을 예약하므로 보정을 시작한 스레드는 기준 시각까지 대기하지 않음
+ *
+ * 허용하는 오차 (다음 보정에서 다시 맞춰짐)
+ * - 기준 시각 이후 실제 집계 쿼리 시작 전에 커밋된 변경: 집계에 포함되고 보류한 증감으로도 한 번 더 반영됨
+ * - 기준 시각 직전에 커밋되었지만 아직 증감을 기록하지 않은 변경(커밋 후 기록): 집계에 빠질 수 있음
+ * - 인스턴스 간 시계 차이: 기준 시각 경계에 걸린 증감이 보류/반영 중 다른 쪽으로 분류될 수 있음
+ * - 보정 제한 시간 안에 덮어쓰지 못한 콘서트: 보류한 증감이 그대로 반영되고 해당 콘서트는 이번 보정에서 빠짐
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatStatusCounterRedisAdapter implements SeatStatusCounterPort {
+
+    private static final String SEAT_COUNT_KEY = "seat:count:";
+    private static final String SEAT_COUNT_CONCERTS_KEY = "seat:count:concerts";
+    private static final String SEAT_COUNT_RECONCILE_KEY = "seat:count:reconcile";
+    private static final String FIELD_LOADED = "loaded";
+    private static final String FIELD_EPOCH = "epoch";
+    private static final long UNKNOWN_EPOCH = -1L;
+
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+
+    private static final DefaultRedisScript<List> READ_SCRIPT = script("redis/seat_count_read.lua", List.class);
+    private static final DefaultRedisScript<List> INIT_SCRIPT = script("redis/seat_count_init.lua", List.class);
+    private static final DefaultRedisScript<List> INCR_SCRIPT = script("redis/seat_count_incr.lua", List.class);
+    private static final DefaultRedisScript<Long> RESET_SCRIPT = script("redis/seat_count_reset.lua", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SeatStatusCounterProperties properties;
+    private final TaskScheduler taskScheduler;
+
+    // 콘서트 ID -> 카운터
+    private final Map<Long, ConcertCounters> counters = new ConcurrentHashMap<>();
+
+    // 카운터가 없는 콘서트의 최초 집계를 한 번에 하나만 실행
+    private final Object loadLock = new Object();
+
+    // 마지막으로 확인한 보정 기준 시각 (예고된 보정이 없으면 0)
+    private volatile long announcedCutoff;
+
+    // 예약한 보정이 끝나기 전에는 다음 보정을 예약하지 않음
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+
+    @Override
+    public void recordTransition(Long concertId, Long seatGradeId, SeatStatus from, SeatStatus to) {
+        if (concertId == null || seatGradeId == null || from == to) {
+            return;
+        }
+        ConcertCounters concertCounters = counters.computeIfAbsent(concertId, id -> new ConcertCounters());
+        Map<Long, LongAdder[]> target = isHolding(concertCounters, System.currentTimeMillis())
+                ? concertCounters.held
+                : concertCounters.deltas;
+        LongAdder[] deltas = target.computeIfAbsent(seatGradeId, id -> newAdders());
+        if (from != null) {
+            deltas[from.ordinal()].decrement();
+        }
+        if (to != null) {
+            deltas[to.ordinal()].increment();
+        }
+    }
+
+    @Override
+    public Map<Long, Map<Long, Map<SeatStatus, Long>>> getCountsByGrade(
+            Collection<Long> concertIds,
+            Function<Collection<Long>, Map<Long, Map<Long, Map<SeatStatus, Long>>>> loader) {
+        if (concertIds.stream().anyMatch(this::notLoaded)) {
+            synchronized (loadLock) {
+                List<Long> missing = concertIds.stream().distinct().filter(this::notLoaded).toList();
+                if (!missing.isEmpty()) {
+                    load(missing, loader);
+                }
+            }
+        }
+
+        Map<Long, Map<Long, Map<SeatStatus, Long>>> counts = new LinkedHashMap<>();
+        for (Long concertId : concertIds) {
+            counts.put(concertId, counters.computeIfAbsent(concertId, id -> new ConcertCounters()).view());
+        }
+        return counts;
+    }
+
+    @Override
+    public boolean reconcile(Function<Collection<Long>, Map<Long, Map<Long, Map<SeatStatus, Long>>>> loader) {
+        if (!reconciling.compareAndSet(false, true)) {
+            return false;
+        }
+
+        // 기준 시각을 예고하고, 모든 인스턴스가 다음 반영 주기에 확인한 뒤인 기준 시각에 집계하도록 예약
+        // (스케줄러 스레드가 기준 시각까지 대기하지 않음)
+        long cutoff = System.currentTimeMillis() + properties.getReconcileCutoffDelayMillis();
+        try {
+            redisTemplate.opsForValue().set(SEAT_COUNT_RECONCILE_KEY, String.valueOf(cutoff));
+            taskScheduler.schedule(() -> reconcileAt(cutoff, loader), Instant.ofEpochMilli(cutoff));
+            return true;
+        } catch (RuntimeException e) {
+            reconciling.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 기준 시각에 DB를 집계하여 카운터를 덮어씀
+     */
+    private void reconcileAt(long cutoff,
+                             Function<Collection<Long>, Map<Long, Map<Long, Map<SeatStatus, Long>>>> loader) {
+        try {
+            Set<Long> concertIds = getTrackedConcertIds();
+            if (concertIds.isEmpty()) {
+                return;
+            }
+            Map<Long, Map<Long, Map<SeatStatus, Long>>> countsByConcert = loader.apply(concertIds);
+
+            // 인스턴스가 보류를 풀기 전에 덮어써야 보류한 증감이 버려지지 않음
+            long deadline = cutoff + properties.getReconcileTimeoutMillis() / 2;
+            int reconciled = 0;
+            for (Long concertId : concertIds) {
+                if (System.currentTimeMillis() > deadline) {
+                    log.warn("좌석 상태 카운터 보정 시간 초과, 남은 콘서트는 다음 보정에서 처리 - 보정: {}, 전체: {}",
+                            reconciled, concertIds.size());
+                    break;
+                }
+                List<String> args = new ArrayList<>();
+                args.add(String.valueOf(cutoff));
+                args.addAll(toArgs(countsByConcert.getOrDefault(concertId, Map.of())));
+                Long result = redisTemplate.execute(RESET_SCRIPT, List.of(SEAT_COUNT_KEY + concertId), args.toArray());
+                if (result != null && result == 1L) {
+                    reconciled++;
+                }
+            }
+            log.debug("좌석 상태 카운터 보정 완료 - 콘서트 수: {}", reconciled);
+        } catch (Exception e) {
+            log.error("좌석 상태 카운터 보정 중 오류 발생: {}", e.getMessage());
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    /**
+     * 인스턴스에 쌓인 증감을 Redis에 반영하고, 조회한 적 있는 콘서트의 카운터를 다시 읽음
+     */
+    public void flush() {
+        refreshAnnouncedCutoff();
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<Long, ConcertCounters> entry : counters.entrySet()) {
+            Long concertId = entry.getKey();
+            ConcertCounters concertCounters = entry.getValue();
+
+            if (!isHolding(concertCounters, now)) {
+                // 보정으로 덮어썼거나 보정 제한 시간이 지남, 보류한 증감을 다음 반영 대상으로 옮김
+                concertCounters.releaseHeld();
+            }
+
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(concertCounters.epoch));
+            concertCounters.deltas.forEach((seatGradeId, deltas) -> {
+                for (SeatStatus status : STATUSES) {
+                    long delta = deltas[status.ordinal()].sumThenReset();
+                    if (delta != 0) {
+                        args.add(field(seatGradeId, status));
+                        args.add(String.valueOf(delta));
+                    }
+                }
+            });
+            if (args.size() == 1 && concertCounters.snapshot == null) {
+                continue;
+            }
+
+            List<?> result = redisTemplate.execute(INCR_SCRIPT, List.of(SEAT_COUNT_KEY + concertId), args.toArray());
+            if (result == null || result.isEmpty()) {
+                // Redis 카운터가 사라진 경우 (다음 조회에서 다시 로드됨)
+                concertCounters.snapshot = null;
+                continue;
+            }
+
+            long epoch = ((Number) result.get(0)).longValue();
+            if (concertCounters.epoch != UNKNOWN_EPOCH && epoch > concertCounters.epoch && args.size() > 1) {
+                log.debug("보정 이전 좌석 수 증감 폐기 - 콘서트 ID: {}, 에포크: {}", concertId, epoch);
+            }
+            concertCounters.epoch = epoch;
+            if (concertCounters.snapshot != null) {
+                concertCounters.snapshot = parseSnapshot((List<?>) result.get(1));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            counters.values().forEach(ConcertCounters::releaseHeld);
+            flush();
+        } catch (Exception e) {
+            log.warn("좌석 상태 카운터 반영 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 카운터 일괄 조회, 없는 콘서트만 모아 한 번에 집계하여 생성 (다른 인스턴스가 먼저 생성한 경우 해당 카운터 사용)
+     */
+    private void load(List<Long> concertIds,
+                      Function<Collection<Long>, Map<Long, Map<Long, Map<SeatStatus, Long>>>> loader) {
+        List<?> hashes = redisTemplate.execute(READ_SCRIPT, keys(concertIds));
+        List<Long> absent = new ArrayList<>();
+        for (int i = 0; i < concertIds.size(); i++) {
+            if (!applyLoaded(concertIds.get(i), (List<?>) hashes.get(i))) {
+                absent.add(concertIds.get(i));
+            }
+        }
+        if (absent.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<Long, Map<SeatStatus, Long>>> countsByConcert = loader.apply(absent);
+        List<String> keys = new ArrayList<>();
+        keys.add(SEAT_COUNT_CONCERTS_KEY);
+        keys.addAll(keys(absent));
+        List<String> args = new ArrayList<>();
+        for (Long concertId : absent) {
+            List<String> fields = toArgs(countsByConcert.getOrDefault(concertId, Map.of()));
+            args.add(String.valueOf(concertId));
+            args.add(String.valueOf(fields.size() / 2));
+            args.addAll(fields);
+        }
+        List<?> created = redisTemplate.execute(INIT_SCRIPT, keys, args.toArray());
+        for (int i = 0; i < absent.size(); i++) {
+            applyLoaded(absent.get(i), (List<?>) created.get(i));
+        }
+        log.info("좌석 상태 카운터 로드 완료 - 콘서트 수: {}", absent.size());
+    }
+
+    /**
+     * 읽어 온 해시를 콘서트 카운터에 반영
+     * @return 반영 여부 (해시가 없으면 false)
+     */
+    private boolean applyLoaded(Long concertId, List<?> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return false;
+        }
+        ConcertCounters concertCounters = counters.computeIfAbsent(concertId, id -> new ConcertCounters());
+        if (concertCounters.epoch == UNKNOWN_EPOCH) {
+            // 이미 확인한 에포크는 반영 스크립트에서만 갱신 (미반영 증감 폐기 판단과 맞춤)
+            concertCounters.epoch = parseEpoch(hash);
+        }
+        concertCounters.snapshot = parseSnapshot(hash);
+        return true;
+    }
+
+    /**
+     * Redis 해시(필드/값 목록)를 좌석 등급 ID -> 상태별 좌석 수 배열로 변환
+     */
+    private static Map<Long, long[]> parseSnapshot(List<?> hash) {
+        Map<Long, long[]> snapshot = new HashMap<>();
+        for (int i = 0; i + 1 < hash.size(); i += 2) {
+            String field = String.valueOf(hash.get(i));
+            int separator = field.lastIndexOf(':');
+            if (FIELD_LOADED.equals(field) || FIELD_EPOCH.equals(field) || separator < 0) {
+                continue;
+            }
+            Long seatGradeId = Long.valueOf(field.substring(0, separator));
+            SeatStatus status = SeatStatus.valueOf(field.substring(separator + 1));
+            snapshot.computeIfAbsent(seatGradeId, id -> new long[STATUSES.length])[status.ordinal()] =
+                    Long.parseLong(String.valueOf(hash.get(i + 1)));
+        }
+        return snapshot;
+    }
+
+    private static long parseEpoch(List<?> hash) {
+        for (int i = 0; i + 1 < hash.size(); i += 2) {
+            if (FIELD_EPOCH.equals(String.valueOf(hash.get(i)))) {
+                return Long.parseLong(String.valueOf(hash.get(i + 1)));
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * 예고된 보정 기준 시각이 지났고 해당 보정으로 아직 덮어쓰지 않은 콘서트면 증감을 보류
+     */
+    private boolean isHolding(ConcertCounters concertCounters, long now) {
+        long cutoff = announcedCutoff;
+        return cutoff > concertCounters.epoch
+                && now >= cutoff
+                && now < cutoff + properties.getReconcileTimeoutMillis();
+    }
+
+    private void refreshAnnouncedCutoff() {
+        String cutoff = redisTemplate.opsForValue().get(SEAT_COUNT_RECONCILE_KEY);
+        announcedCutoff = cutoff == null ? 0L : Long.parseLong(cutoff);
+    }
+
+    private boolean notLoaded(Long concertId) {
+        ConcertCounters concertCounters = counters.get(concertId);
+        return concertCounters == null || concertCounters.snapshot == null;
+    }
+
+    private Set<Long> getTrackedConcertIds() {
+        Set<String> members = redisTemplate.opsForSet().members(SEAT_COUNT_CONCERTS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    private static List<String> keys(List<Long> concertIds) {
+        return concertIds.stream().map(concertId -> SEAT_COUNT_KEY + concertId).toList();
+    }
+
+    private static List<String> toArgs(Map<Long, Map<SeatStatus, Long>> countsByGrade) {
+        List<String> args = new ArrayList<>();
+        countsByGrade.forEach((seatGradeId, counts) -> {
+            if (seatGradeId == null) {
+                return;
+            }
+            counts.forEach((status, count) -> {
+                args.add(field(seatGradeId, status));
+                args.add(String.valueOf(count));
+            });
+        });
+        return args;
+    }
+
+    private static String field(Long seatGradeId, SeatStatus status) {
+        return seatGradeId + ":" + status.name();
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[STATUSES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static <T> DefaultRedisScript<T> script(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(resultType);
+        return script;
+    }
+
+    /**
+     * 콘서트별 카운터
+     */
+    private static class ConcertCounters {
+        // 마지막으로 읽은 Redis 카운터 (좌석 등급 ID -> 상태별 좌석 수, 조회한 적 없으면 null)
+        private volatile Map<Long, long[]> snapshot;
+        // 마지막으로 확인한 Redis 카운터의 보정 에포크 (확인 전이면 -1)
+        private volatile long epoch = UNKNOWN_EPOCH;
+        // 아직 Redis에 반영하지 않은 증감 (좌석 등급 ID -> 상태별 증감)
+        private final Map<Long, LongAdder[]> deltas = new ConcurrentHashMap<>();
+        // 보정 기준 시각 이후라 덮어쓸 때까지 보류한 증감 (좌석 등급 ID -> 상태별 증감)
+        private final Map<Long, LongAdder[]> held = new ConcurrentHashMap<>();
+
+        private void releaseHeld() {
+            held.forEach((seatGradeId, adders) -> {
+                LongAdder[] target = deltas.computeIfAbsent(seatGradeId, id -> newAdders());
+                for (SeatStatus status : STATUSES) {
+                    long delta = adders[status.ordinal()].sumThenReset();
+                    if (delta != 0) {
+                        target[status.ordinal()].add(delta);
+                    }
+                }
+            });
+        }
+
+        private Map<Long, Map<SeatStatus, Long>> view() {
+            Map<Long, long[]> current = snapshot;
+            Map<Long, Map<SeatStatus, Long>> counts = new HashMap<>();
+            if (current == null) {
+                // 반영 주기에 Redis 카운터가 사라진 경우 (다음 조회에서 다시 로드됨)
+                current = Map.of();
+            }
+            current.forEach((seatGradeId, values) -> {
+                Map<SeatStatus, Long> statusCounts = counts.computeIfAbsent(seatGradeId, id -> new EnumMap<>(SeatStatus.class));
+                for (SeatStatus status : STATUSES) {
+                    statusCounts.put(status, values[status.ordinal()]);
+                }
+            });
+            mergeInto(counts, deltas);
+            mergeInto(counts, held);
+            return counts;
+        }
+
+        private static void mergeInto(Map<Long, Map<SeatStatus, Long>> counts, Map<Long, LongAdder[]> adders) {
+            adders.forEach((seatGradeId, values) -> {
+                Map<SeatStatus, Long> statusCounts = counts.computeIfAbsent(seatGradeId, id -> new EnumMap<>(SeatStatus.class));
+                for (SeatStatus status : STATUSES) {
+                    statusCounts.merge(status, values[status.ordinal()].sum(), Long::sum);
+                }
+            });
+        }
+    }
+}
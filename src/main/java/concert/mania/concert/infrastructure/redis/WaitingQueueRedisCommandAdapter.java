@@ -4,51 +4,56 @@ import concert.mania.concert.application.port.out.command.WaitingQueueCommandPor
 import concert.mania.concert.domain.model.WaitingQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Component;
 
-import java.util.Objects;
-import java.util.concurrent.TimeUnit;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static concert.mania.concert.infrastructure.redis.WaitingQueueRedisKeys.*;
 
 /**
  * 대기열 명령 Redis 어댑터
  * Redis를 사용하여 대기열 명령을 처리
+ * 키 구조는 {@link WaitingQueueRedisKeys} 참고
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WaitingQueueRedisCommandAdapter implements WaitingQueueCommandPort {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    
-    // Redis 키 접두사
-    private static final String WAITING_QUEUE_KEY = "waiting:queue:";
-    private static final String WAITING_QUEUE_COUNT_KEY = "waiting:count:";
-    private static final String WAITING_QUEUE_USER_KEY = "waiting:user:";
-    
+    private static final DefaultRedisScript<List> REGISTER_SCRIPT = script("redis/waiting_register.lua");
+    private static final DefaultRedisScript<List> TRANSITION_SCRIPT = script("redis/waiting_transition.lua");
+    private static final DefaultRedisScript<List> PROCESS_BATCH_SCRIPT = script("redis/waiting_process_batch.lua");
+
+    private final StringRedisTemplate redisTemplate;
+
     /**
      * 대기열에 사용자 등록
+     * 중복 확인과 등록을 한 번의 스크립트 실행으로 처리하며, 이미 등록된 사용자는 기존 대기열 정보를 반환
      */
     @Override
     public WaitingQueue register(Long concertId, Long userId) {
-        String countKey = WAITING_QUEUE_COUNT_KEY + concertId;
-        String queueKey = WAITING_QUEUE_KEY + concertId;
-        String userKey = WAITING_QUEUE_USER_KEY + concertId + ":" + userId;
-        
-        // 대기열 위치 계산 (현재 카운트 + 1)
-        Long position = redisTemplate.opsForValue().increment(countKey);
-        
-        // 대기열 정보 생성
-        WaitingQueue waitingQueue = WaitingQueue.register(concertId, userId, position.intValue());
-        
-        // Redis에 저장
-        redisTemplate.opsForHash().put(queueKey, position.toString(), waitingQueue);
-        redisTemplate.opsForValue().set(userKey, position);
-        
-        // 24시간 후 만료 설정
-        redisTemplate.expire(userKey, 24, TimeUnit.HOURS);
-        
-        return waitingQueue;
+        List<?> result = redisTemplate.execute(REGISTER_SCRIPT,
+                List.of(usersKey(concertId), countKey(concertId), statusKey(concertId, WaitingQueue.WaitingStatus.WAITING)),
+                userId.toString(), toEpochMillis(LocalDateTime.now()), entryKeyPrefix(concertId),
+                String.valueOf(WAITING_QUEUE_TTL_SECONDS));
+
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("대기열 등록에 실패했습니다.");
+        }
+
+        long position = Long.parseLong(result.get(0).toString());
+        if (!"1".equals(result.get(1).toString())) {
+            log.debug("이미 등록된 사용자 - 콘서트 ID: {}, 사용자 ID: {}, 대기 위치: {}", concertId, userId, position);
+        }
+        return toDomain(concertId, position, result.subList(2, result.size()));
     }
 
     /**
@@ -56,22 +61,36 @@ public class WaitingQueueRedisCommandAdapter implements WaitingQueueCommandPort
      */
     @Override
     public WaitingQueue process(Long waitingQueueId) {
-        String queueKey = WAITING_QUEUE_KEY + waitingQueueId.toString().split(":")[0]; // concertId 추출
-        
-        // 대기열 정보 조회
-        WaitingQueue waitingQueue = (WaitingQueue) redisTemplate.opsForHash().get(queueKey, waitingQueueId.toString());
-        
-        if (waitingQueue == null) {
-            throw new IllegalArgumentException("존재하지 않는 대기열 항목입니다.");
+        return transition(waitingQueueId, WaitingQueue.WaitingStatus.PROCESSING);
+    }
+
+    /**
+     * 대기 중인 사용자를 한 번의 스크립트 실행으로 최대 count명까지 처리 중으로 변경
+     */
+    @Override
+    public List<WaitingQueue> processBatch(Long concertId, int count) {
+        if (count <= 0) {
+            return List.of();
         }
-        
-        // 상태 변경
-        WaitingQueue updated = waitingQueue.process();
-        
-        // Redis에 업데이트
-        redisTemplate.opsForHash().put(queueKey, waitingQueueId.toString(), updated);
-        
-        return updated;
+
+        List<?> result = redisTemplate.execute(PROCESS_BATCH_SCRIPT,
+                List.of(statusKey(concertId, WaitingQueue.WaitingStatus.WAITING),
+                        statusKey(concertId, WaitingQueue.WaitingStatus.PROCESSING)),
+                String.valueOf(count), entryKeyPrefix(concertId), String.valueOf(WAITING_QUEUE_TTL_SECONDS));
+
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+
+        List<WaitingQueue> processed = new ArrayList<>(result.size() / 3);
+        for (int i = 0; i + 2 < result.size(); i += 3) {
+            long position = Long.parseLong(result.get(i).toString());
+            processed.add(toDomain(concertId, position, Map.of(
+                    FIELD_USER_ID, result.get(i + 1),
+                    FIELD_STATUS, WaitingQueue.WaitingStatus.PROCESSING.name(),
+                    FIELD_REGISTERED_AT, result.get(i + 2))));
+        }
+        return processed;
     }
 
     /**
@@ -79,22 +98,7 @@ public class WaitingQueueRedisCommandAdapter implements WaitingQueueCommandPort
      */
     @Override
     public WaitingQueue enter(Long waitingQueueId) {
-        String queueKey = WAITING_QUEUE_KEY + waitingQueueId.toString().split(":")[0]; // concertId 추출
-        
-        // 대기열 정보 조회
-        WaitingQueue waitingQueue = (WaitingQueue) redisTemplate.opsForHash().get(queueKey, waitingQueueId.toString());
-        
-        if (waitingQueue == null) {
-            throw new IllegalArgumentException("존재하지 않는 대기열 항목입니다.");
-        }
-        
-        // 상태 변경
-        WaitingQueue updated = waitingQueue.enter();
-        
-        // Redis에 업데이트
-        redisTemplate.opsForHash().put(queueKey, waitingQueueId.toString(), updated);
-        
-        return updated;
+        return transition(waitingQueueId, WaitingQueue.WaitingStatus.ENTERED);
     }
 
     /**
@@ -102,22 +106,7 @@ public class WaitingQueueRedisCommandAdapter implements WaitingQueueCommandPort
      */
     @Override
     public WaitingQueue expire(Long waitingQueueId) {
-        String queueKey = WAITING_QUEUE_KEY + waitingQueueId.toString().split(":")[0]; // concertId 추출
-        
-        // 대기열 정보 조회
-        WaitingQueue waitingQueue = (WaitingQueue) redisTemplate.opsForHash().get(queueKey, waitingQueueId.toString());
-        
-        if (waitingQueue == null) {
-            throw new IllegalArgumentException("존재하지 않는 대기열 항목입니다.");
-        }
-        
-        // 상태 변경
-        WaitingQueue updated = waitingQueue.expire();
-        
-        // Redis에 업데이트
-        redisTemplate.opsForHash().put(queueKey, waitingQueueId.toString(), updated);
-        
-        return updated;
+        return transition(waitingQueueId, WaitingQueue.WaitingStatus.EXPIRED);
     }
 
     /**
@@ -125,21 +114,22 @@ public class WaitingQueueRedisCommandAdapter implements WaitingQueueCommandPort
      */
     @Override
     public void remove(Long waitingQueueId) {
-        String queueKey = WAITING_QUEUE_KEY + waitingQueueId.toString().split(":")[0]; // concertId 추출
-        
+        Long concertId = concertIdOf(waitingQueueId);
+        long position = positionOf(waitingQueueId);
+        String entryKey = entryKey(concertId, position);
+
         // 대기열 정보 조회
-        WaitingQueue waitingQueue = (WaitingQueue) redisTemplate.opsForHash().get(queueKey, waitingQueueId.toString());
-        
-        if (waitingQueue == null) {
+        Map<Object, Object> entry = redisTemplate.opsForHash().entries(entryKey);
+        if (entry.isEmpty()) {
             throw new IllegalArgumentException("존재하지 않는 대기열 항목입니다.");
         }
-        
-        // 사용자 키 삭제
-        String userKey = WAITING_QUEUE_USER_KEY + waitingQueue.getConcertId() + ":" + waitingQueue.getUserId();
-        redisTemplate.delete(userKey);
-        
+
+        // 사용자 인덱스 및 상태 ZSET에서 삭제
+        redisTemplate.opsForHash().delete(usersKey(concertId), entry.get(FIELD_USER_ID));
+        redisTemplate.opsForZSet().remove(statusKeyPrefix(concertId) + entry.get(FIELD_STATUS), String.valueOf(position));
+
         // 대기열에서 삭제
-        redisTemplate.opsForHash().delete(queueKey, waitingQueueId.toString());
+        redisTemplate.delete(entryKey);
     }
 
     /**
@@ -147,20 +137,48 @@ public class WaitingQueueRedisCommandAdapter implements WaitingQueueCommandPort
      */
     @Override
     public int resetByConcertId(Long concertId) {
-        String queueKey = WAITING_QUEUE_KEY + concertId;
-        String countKey = WAITING_QUEUE_COUNT_KEY + concertId;
-        
-        // 대기열 정보 조회
-        Long size = redisTemplate.opsForHash().size(queueKey);
-        
+        List<String> keys = new ArrayList<>();
+        for (WaitingQueue.WaitingStatus status : WaitingQueue.WaitingStatus.values()) {
+            String statusKey = statusKey(concertId, status);
+            Set<String> positions = redisTemplate.opsForZSet().range(statusKey, 0, -1);
+            if (positions != null) {
+                positions.forEach(position -> keys.add(entryKeyPrefix(concertId) + position));
+            }
+            keys.add(statusKey);
+        }
+        Long size = redisTemplate.opsForHash().size(usersKey(concertId));
+
         // 대기열 삭제
-        redisTemplate.delete(queueKey);
-        redisTemplate.delete(countKey);
-        
-        // 사용자 키 패턴으로 삭제
-        String userKeyPattern = WAITING_QUEUE_USER_KEY + concertId + ":*";
-        redisTemplate.delete(Objects.requireNonNull(redisTemplate.keys(userKeyPattern)));
-        
-        return size.intValue();
+        keys.add(usersKey(concertId));
+        keys.add(countKey(concertId));
+        redisTemplate.delete(keys);
+
+        return size == null ? 0 : size.intValue();
+    }
+
+    /**
+     * 대기열 항목 상태 변경 (상태 ZSET 이동과 함께 원자적으로 처리)
+     */
+    private WaitingQueue transition(Long waitingQueueId, WaitingQueue.WaitingStatus status) {
+        Long concertId = concertIdOf(waitingQueueId);
+        long position = positionOf(waitingQueueId);
+
+        List<?> result = redisTemplate.execute(TRANSITION_SCRIPT,
+                List.of(entryKey(concertId, position)),
+                String.valueOf(position), status.name(), toEpochMillis(LocalDateTime.now()),
+                statusKeyPrefix(concertId), String.valueOf(WAITING_QUEUE_TTL_SECONDS));
+
+        WaitingQueue updated = toDomain(concertId, position, result);
+        if (updated == null) {
+            throw new IllegalArgumentException("존재하지 않는 대기열 항목입니다.");
+        }
+        return updated;
+    }
+
+    private static DefaultRedisScript<List> script(String path) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(List.class);
+        return script;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+package concert.mania.concert.infrastructure.redis;
+
+import concert.mania.concert.domain.model.WaitingQueue;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기열 Redis 키 및 변환 유틸리티
+ *
+ * 키 구조 (콘서트별)
+ * - waiting:count:{concertId}                 STRING  대기 위치 발급용 카운터 (INCR)
+ * - waiting:entry:{concertId}:{position}      HASH    대기열 항목 (userId, status, registeredAt, enteredAt)
+ * - waiting:users:{concertId}                 HASH    사용자 ID -> 대기 위치
+ * - waiting:status:{concertId}:{status}       ZSET    상태별 대기 위치 (member = score = position)
+ *
+ * 상태별 ZSET으로 "다음 N명", "내 순번", "상태별 인원"을 O(log N)으로 조회
+ */
+final class WaitingQueueRedisKeys {
+
+    static final String WAITING_QUEUE_COUNT_KEY = "waiting:count:";
+    static final String WAITING_QUEUE_ENTRY_KEY = "waiting:entry:";
+    static final String WAITING_QUEUE_USERS_KEY = "waiting:users:";
+    static final String WAITING_QUEUE_STATUS_KEY = "waiting:status:";
+
+    // 이전 레이아웃 (HASH: position -> WaitingQueue JSON, STRING: 사용자별 위치)
+    static final String LEGACY_WAITING_QUEUE_KEY = "waiting:queue:";
+    static final String LEGACY_WAITING_QUEUE_USER_KEY = "waiting:user:";
+
+    static final String FIELD_USER_ID = "userId";
+    static final String FIELD_STATUS = "status";
+    static final String FIELD_REGISTERED_AT = "registeredAt";
+    static final String FIELD_ENTERED_AT = "enteredAt";
+
+    // 대기열 키 만료 시간 (24시간)
+    static final long WAITING_QUEUE_TTL_SECONDS = 24 * 60 * 60;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private WaitingQueueRedisKeys() {
+    }
+
+    static String countKey(Long concertId) {
+        return WAITING_QUEUE_COUNT_KEY + concertId;
+    }
+
+    static String entryKeyPrefix(Long concertId) {
+        return WAITING_QUEUE_ENTRY_KEY + concertId + ":";
+    }
+
+    static String entryKey(Long concertId, long position) {
+        return entryKeyPrefix(concertId) + position;
+    }
+
+    static String usersKey(Long concertId) {
+        return WAITING_QUEUE_USERS_KEY + concertId;
+    }
+
+    static String statusKeyPrefix(Long concertId) {
+        return WAITING_QUEUE_STATUS_KEY + concertId + ":";
+    }
+
+    static String statusKey(Long concertId, WaitingQueue.WaitingStatus status) {
+        return statusKeyPrefix(concertId) + status.name();
+    }
+
+    /**
+     * 대기열 ID 생성 (상위 32비트: 콘서트 ID, 하위 32비트: 대기 위치)
+     */
+    static long toId(Long concertId, long position) {
+        return (concertId << 32) | (position & 0xFFFFFFFFL);
+    }
+
+    static Long concertIdOf(Long waitingQueueId) {
+        return waitingQueueId >>> 32;
+    }
+
+    static long positionOf(Long waitingQueueId) {
+        return waitingQueueId & 0xFFFFFFFFL;
+    }
+
+    static String toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? "0" : String.valueOf(dateTime.atZone(ZONE).toInstant().toEpochMilli());
+    }
+
+    private static LocalDateTime toLocalDateTime(Object epochMillis) {
+        if (epochMillis == null || "0".equals(epochMillis)) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis.toString())), ZONE);
+    }
+
+    /**
+     * 대기열 항목 HASH를 도메인 모델로 변환
+     * @return 항목이 없으면 null
+     */
+    static WaitingQueue toDomain(Long concertId, long position, Map<?, ?> entry) {
+        if (entry == null || entry.isEmpty()) {
+            return null;
+        }
+        return WaitingQueue.builder()
+                .id(toId(concertId, position))
+                .concertId(concertId)
+                .userId(Long.valueOf(entry.get(FIELD_USER_ID).toString()))
+                .position((int) position)
+                .status(WaitingQueue.WaitingStatus.valueOf(entry.get(FIELD_STATUS).toString()))
+                .registeredAt(toLocalDateTime(entry.get(FIELD_REGISTERED_AT)))
+                .enteredAt(toLocalDateTime(entry.get(FIELD_ENTERED_AT)))
+                .build();
+    }
+
+    /**
+     * 대기열 항목 목록으로 변환 ([field, value, ...] 형태의 Lua 반환값)
+     */
+    static WaitingQueue toDomain(Long concertId, long position, List<?> flatEntry) {
+        if (flatEntry == null || flatEntry.isEmpty()) {
+            return null;
+        }
+        Map<Object, Object> entry = new HashMap<>();
+        for (int i = 0; i + 1 < flatEntry.size(); i += 2) {
+            entry.put(flatEntry.get(i), flatEntry.get(i + 1));
+        }
+        return toDomain(concertId, position, entry);
+    }
+}
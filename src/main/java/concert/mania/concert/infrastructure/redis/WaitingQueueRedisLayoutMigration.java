@@ -0,0 +1,141 @@
+package concert.mania.concert.infrastructure.redis;
+
+import concert.mania.concert.domain.model.WaitingQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static concert.mania.concert.infrastructure.redis.WaitingQueueRedisKeys.*;
+
+/**
+ * 대기열 Redis 레이아웃 마이그레이션
+ * 이전 레이아웃(waiting:queue:{concertId} HASH, waiting:user:{concertId}:{userId} STRING)이 남아 있으면
+ * 애플리케이션 시작 시 상태별 ZSET 기반 레이아웃으로 옮기고 이전 키를 삭제
+ * 이전 키가 없으면 아무 작업도 하지 않으므로 여러 번 실행해도 안전함
+ *
+ * - 여러 인스턴스가 동시에 시작해도 Redis 임대를 얻은 한 곳에서만 옮김 (콘서트마다 임대 갱신)
+ * - 모두 옮기면 완료 표시를 남겨 이후 시작 시 키 스캔을 생략
+ * - 옮긴 키에는 등록 스크립트와 같은 만료 시간을 설정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingQueueRedisLayoutMigration {
+
+    private static final int SCAN_COUNT = 1000;
+    private static final String MIGRATION_NAME = "waiting-queue-layout-migration";
+    private static final String MIGRATION_DONE_KEY = "waiting:migration:layout:done";
+    private static final long MIGRATION_LEASE_MILLIS = 5 * 60 * 1000L;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, Object> redisTemplate; // 이전 레이아웃은 JSON으로 직렬화되어 있음
+    private final RedisLeaderElection leaderElection;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (isDone()) {
+            return;
+        }
+        if (!leaderElection.tryAcquire(MIGRATION_NAME, MIGRATION_LEASE_MILLIS)) {
+            log.info("다른 인스턴스에서 대기열 레이아웃 마이그레이션 중");
+            return;
+        }
+
+        try {
+            // 임대를 얻기 전에 다른 인스턴스가 끝냈을 수 있음
+            if (isDone()) {
+                return;
+            }
+
+            int failed = 0;
+            List<String> legacyQueueKeys = scan(LEGACY_WAITING_QUEUE_KEY + "*");
+            for (String legacyQueueKey : legacyQueueKeys) {
+                if (!leaderElection.tryAcquire(MIGRATION_NAME, MIGRATION_LEASE_MILLIS)) {
+                    log.warn("대기열 레이아웃 마이그레이션 임대 상실, 중단");
+                    return;
+                }
+                try {
+                    Long concertId = Long.valueOf(legacyQueueKey.substring(LEGACY_WAITING_QUEUE_KEY.length()));
+                    int count = migrateConcert(concertId, legacyQueueKey);
+                    log.info("대기열 레이아웃 마이그레이션 완료 - 콘서트 ID: {}, 이전된 항목 수: {}", concertId, count);
+                } catch (Exception e) {
+                    failed++;
+                    log.error("대기열 레이아웃 마이그레이션 중 오류 발생 - 키: {}, 오류: {}", legacyQueueKey, e.getMessage());
+                }
+            }
+
+            // 실패한 콘서트가 있으면 다음 시작 시 다시 시도
+            if (failed == 0) {
+                stringRedisTemplate.opsForValue().set(MIGRATION_DONE_KEY, String.valueOf(System.currentTimeMillis()));
+            }
+        } finally {
+            leaderElection.release(MIGRATION_NAME);
+        }
+    }
+
+    private boolean isDone() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(MIGRATION_DONE_KEY));
+    }
+
+    private int migrateConcert(Long concertId, String legacyQueueKey) {
+        Map<Object, Object> legacyEntries = redisTemplate.opsForHash().entries(legacyQueueKey);
+        Set<String> migratedKeys = new HashSet<>();
+        long maxPosition = 0;
+
+        for (Object value : legacyEntries.values()) {
+            WaitingQueue legacy = (WaitingQueue) value;
+            long position = legacy.getPosition();
+            maxPosition = Math.max(maxPosition, position);
+
+            stringRedisTemplate.opsForHash().putAll(entryKey(concertId, position), Map.of(
+                    FIELD_USER_ID, legacy.getUserId().toString(),
+                    FIELD_STATUS, legacy.getStatus().name(),
+                    FIELD_REGISTERED_AT, toEpochMillis(legacy.getRegisteredAt()),
+                    FIELD_ENTERED_AT, toEpochMillis(legacy.getEnteredAt())));
+            stringRedisTemplate.expire(entryKey(concertId, position), Duration.ofSeconds(WAITING_QUEUE_TTL_SECONDS));
+            stringRedisTemplate.opsForHash().put(usersKey(concertId), legacy.getUserId().toString(), String.valueOf(position));
+            stringRedisTemplate.opsForZSet().add(statusKey(concertId, legacy.getStatus()), String.valueOf(position), position);
+            migratedKeys.add(statusKey(concertId, legacy.getStatus()));
+        }
+
+        // 위치 카운터가 이전 항목보다 뒤에 있도록 보정 (카운터 키는 두 레이아웃이 공유)
+        String current = stringRedisTemplate.opsForValue().get(countKey(concertId));
+        if (current == null || Long.parseLong(current) < maxPosition) {
+            stringRedisTemplate.opsForValue().set(countKey(concertId), String.valueOf(maxPosition));
+        }
+
+        // 등록 스크립트와 같은 만료 시간 설정 (만료 시간 없이 남지 않도록)
+        migratedKeys.add(usersKey(concertId));
+        migratedKeys.add(countKey(concertId));
+        for (String key : migratedKeys) {
+            stringRedisTemplate.expire(key, Duration.ofSeconds(WAITING_QUEUE_TTL_SECONDS));
+        }
+
+        List<String> legacyKeys = new ArrayList<>(scan(LEGACY_WAITING_QUEUE_USER_KEY + concertId + ":*"));
+        legacyKeys.add(legacyQueueKey);
+        stringRedisTemplate.delete(legacyKeys);
+        return legacyEntries.size();
+    }
+
+    private List<String> scan(String pattern) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+}
@@ -4,44 +4,36 @@ import concert.mania.concert.application.port.out.query.WaitingQueueQueryPort;
 import concert.mania.concert.domain.model.WaitingQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static concert.mania.concert.infrastructure.redis.WaitingQueueRedisKeys.*;
+
 /**
  * 대기열 조회 Redis 어댑터
  * Redis를 사용하여 대기열 정보를 조회
+ * 상태별 ZSET을 사용하므로 전체 대기열을 읽지 않고 필요한 항목만 조회
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WaitingQueueRedisQueryAdapter implements WaitingQueueQueryPort {
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    
-    // Redis 키 접두사
-    private static final String WAITING_QUEUE_KEY = "waiting:queue:";
-    private static final String WAITING_QUEUE_USER_KEY = "waiting:user:";
-    
+    private final StringRedisTemplate redisTemplate;
+
     /**
      * 대기열 ID로 대기열 정보 조회
      */
     @Override
     public Optional<WaitingQueue> findById(Long id) {
-        // ID 형식: concertId:position
-        String[] parts = id.toString().split(":");
-        if (parts.length != 2) {
-            return Optional.empty();
-        }
-        
-        String concertId = parts[0];
-        String position = parts[1];
-        String queueKey = WAITING_QUEUE_KEY + concertId;
-        
-        WaitingQueue waitingQueue = (WaitingQueue) redisTemplate.opsForHash().get(queueKey, position);
-        return Optional.ofNullable(waitingQueue);
+        Long concertId = concertIdOf(id);
+        long position = positionOf(id);
+        return Optional.ofNullable(findEntry(concertId, position));
     }
 
     /**
@@ -49,18 +41,14 @@ public class WaitingQueueRedisQueryAdapter implements WaitingQueueQueryPort {
      */
     @Override
     public Optional<WaitingQueue> findByConcertIdAndUserId(Long concertId, Long userId) {
-        String userKey = WAITING_QUEUE_USER_KEY + concertId + ":" + userId;
-        String queueKey = WAITING_QUEUE_KEY + concertId;
-        
         // 사용자의 대기열 위치 조회
-        Integer position = (Integer) redisTemplate.opsForValue().get(userKey);
+        Object position = redisTemplate.opsForHash().get(usersKey(concertId), userId.toString());
         if (position == null) {
             return Optional.empty();
         }
-        
+
         // 대기열 정보 조회
-        WaitingQueue waitingQueue = (WaitingQueue) redisTemplate.opsForHash().get(queueKey, position.toString());
-        return Optional.ofNullable(waitingQueue);
+        return Optional.ofNullable(findEntry(concertId, Long.parseLong(position.toString())));
     }
 
     /**
@@ -68,15 +56,12 @@ public class WaitingQueueRedisQueryAdapter implements WaitingQueueQueryPort {
      */
     @Override
     public List<WaitingQueue> findAllByConcertId(Long concertId) {
-        String queueKey = WAITING_QUEUE_KEY + concertId;
-        
-        // 모든 대기열 정보 조회
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(queueKey);
-        
-        return entries.values().stream()
-                .map(value -> (WaitingQueue) value)
-                .sorted(Comparator.comparing(WaitingQueue::getPosition))
-                .collect(Collectors.toList());
+        List<WaitingQueue> waitingQueues = new ArrayList<>();
+        for (WaitingQueue.WaitingStatus status : WaitingQueue.WaitingStatus.values()) {
+            waitingQueues.addAll(findAllByConcertIdAndStatus(concertId, status));
+        }
+        waitingQueues.sort(Comparator.comparing(WaitingQueue::getPosition));
+        return waitingQueues;
     }
 
     /**
@@ -84,16 +69,7 @@ public class WaitingQueueRedisQueryAdapter implements WaitingQueueQueryPort {
      */
     @Override
     public List<WaitingQueue> findAllByConcertIdAndStatus(Long concertId, WaitingQueue.WaitingStatus status) {
-        String queueKey = WAITING_QUEUE_KEY + concertId;
-        
-        // 모든 대기열 정보 조회
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(queueKey);
-        
-        return entries.values().stream()
-                .map(value -> (WaitingQueue) value)
-                .filter(queue -> queue.getStatus() == status)
-                .sorted(Comparator.comparing(WaitingQueue::getPosition))
-                .collect(Collectors.toList());
+        return findRange(concertId, status, 0, -1);
     }
 
     /**
@@ -101,11 +77,8 @@ public class WaitingQueueRedisQueryAdapter implements WaitingQueueQueryPort {
      */
     @Override
     public int countByConcertId(Long concertId) {
-        String queueKey = WAITING_QUEUE_KEY + concertId;
-        
-        // 대기열 크기 조회
-        Long size = redisTemplate.opsForHash().size(queueKey);
-        return size.intValue();
+        Long size = redisTemplate.opsForHash().size(usersKey(concertId));
+        return size == null ? 0 : size.intValue();
     }
 
     /**
@@ -113,15 +86,8 @@ public class WaitingQueueRedisQueryAdapter implements WaitingQueueQueryPort {
      */
     @Override
     public int countByConcertIdAndStatus(Long concertId, WaitingQueue.WaitingStatus status) {
-        String queueKey = WAITING_QUEUE_KEY + concertId;
-        
-        // 모든 대기열 정보 조회
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(queueKey);
-        
-        return (int) entries.values().stream()
-                .map(value -> (WaitingQueue) value)
-                .filter(queue -> queue.getStatus() == status)
-                .count();
+        Long size = redisTemplate.opsForZSet().zCard(statusKey(concertId, status));
+        return size == null ? 0 : size.intValue();
     }
 
     /**
@@ -129,14 +95,73 @@ public class WaitingQueueRedisQueryAdapter implements WaitingQueueQueryPort {
      */
     @Override
     public Optional<WaitingQueue> findNextWaiting(Long concertId) {
-        String queueKey = WAITING_QUEUE_KEY + concertId;
-        
-        // 모든 대기열 정보 조회
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(queueKey);
-        
-        return entries.values().stream()
-                .map(value -> (WaitingQueue) value)
-                .filter(queue -> queue.getStatus() == WaitingQueue.WaitingStatus.WAITING)
-                .min(Comparator.comparing(WaitingQueue::getPosition));
+        return findRange(concertId, WaitingQueue.WaitingStatus.WAITING, 0, 0).stream().findFirst();
+    }
+
+    /**
+     * 앞서 대기 중인 인원 조회
+     */
+    @Override
+    public int countWaitingAhead(Long concertId, Integer position) {
+        Long count = redisTemplate.opsForZSet().count(
+                statusKey(concertId, WaitingQueue.WaitingStatus.WAITING), Double.NEGATIVE_INFINITY, position - 1);
+        return count == null ? 0 : count.intValue();
+    }
+
+    /**
+     * 여러 대기 위치의 대기 순번 일괄 조회 (WAITING ZSET의 ZRANK를 파이프라인으로 실행)
+     * 멤버와 점수가 모두 대기 위치이므로 ZRANK는 countWaitingAhead의 ZCOUNT와 같은 값
+     */
+    @Override
+    public List<Integer> findWaitingRanks(Long concertId, List<Integer> positions) {
+        if (positions.isEmpty()) {
+            return List.of();
+        }
+
+        byte[] waitingKey = statusKey(concertId, WaitingQueue.WaitingStatus.WAITING).getBytes(StandardCharsets.UTF_8);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            positions.forEach(position -> connection.zSetCommands()
+                    .zRank(waitingKey, position.toString().getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        List<Integer> ranks = new ArrayList<>(positions.size());
+        for (Object rank : results) {
+            ranks.add(rank instanceof Number number ? number.intValue() : null);
+        }
+        return ranks;
+    }
+
+    private WaitingQueue findEntry(Long concertId, long position) {
+        Map<Object, Object> entry = redisTemplate.opsForHash().entries(entryKey(concertId, position));
+        return toDomain(concertId, position, entry);
+    }
+
+    /**
+     * 상태 ZSET의 범위에 해당하는 대기열 항목을 파이프라인으로 조회
+     */
+    private List<WaitingQueue> findRange(Long concertId, WaitingQueue.WaitingStatus status, long start, long end) {
+        Set<String> members = redisTemplate.opsForZSet().range(statusKey(concertId, status), start, end);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> positions = members.stream().map(Long::valueOf).toList();
+        List<Object> entries = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            positions.forEach(position -> connection.hashCommands()
+                    .hGetAll(entryKey(concertId, position).getBytes(StandardCharsets.UTF_8)));
+            return null;
+        });
+
+        List<WaitingQueue> waitingQueues = new ArrayList<>(positions.size());
+        for (int i = 0; i < positions.size(); i++) {
+            WaitingQueue waitingQueue = toDomain(concertId, positions.get(i), (Map<?, ?>) entries.get(i));
+            if (waitingQueue != null) {
+                waitingQueues.add(waitingQueue);
+            }
+        }
+        return waitingQueues.stream()
+                .sorted(Comparator.comparing(WaitingQueue::getPosition))
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package concert.mania.concert.infrastructure.redis;
+
+import concert.mania.concert.application.port.out.command.WaitingQueueThroughputPort;
+import concert.mania.concert.domain.model.AdmissionRate;
+import concert.mania.config.properties.AdmissionControlProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static concert.mania.concert.infrastructure.redis.WaitingQueueRedisKeys.WAITING_QUEUE_TTL_SECONDS;
+
+/**
+ * 대기열 입장 처리량 Redis 어댑터
+ * 입장 처리 시점마다 초당 입장 인원의 지수 이동 평균(EWMA)을 갱신하여 모든 인스턴스가 같은 처리량을 공유
+ * 측정 간격은 입장 처리 틱 간격을 기준으로 보정 (유휴 시간 제외, 같은 틱의 처리는 합산)
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitingQueueThroughputRedisAdapter implements WaitingQueueThroughputPort {
+
+    private static final String WAITING_QUEUE_THROUGHPUT_KEY = "waiting:throughput:";
+    private static final String FIELD_RATE = "rate";
+
+    // 평활 계수 (최근 입장 처리의 반영 비율, 약 최근 5회 입장 처리의 평균)
+    private static final double ALPHA = 0.3;
+
+    private static final DefaultRedisScript<String> THROUGHPUT_SCRIPT = new DefaultRedisScript<>();
+
+    static {
+        THROUGHPUT_SCRIPT.setScriptSource(new ResourceScriptSource(new ClassPathResource("redis/waiting_throughput.lua")));
+        THROUGHPUT_SCRIPT.setResultType(String.class);
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final AdmissionControlProperties admissionControlProperties;
+
+    @Override
+    public AdmissionRate recordAdmissions(Long concertId, int admittedCount) {
+        String rate = redisTemplate.execute(THROUGHPUT_SCRIPT,
+                List.of(WAITING_QUEUE_THROUGHPUT_KEY + concertId),
+                String.valueOf(admittedCount), String.valueOf(System.currentTimeMillis()),
+                String.valueOf(ALPHA), String.valueOf(WAITING_QUEUE_TTL_SECONDS),
+                String.valueOf(admissionControlProperties.getTickIntervalMillis()));
+        return toAdmissionRate(concertId, rate);
+    }
+
+    @Override
+    public AdmissionRate getAdmissionRate(Long concertId) {
+        Object rate = redisTemplate.opsForHash().get(WAITING_QUEUE_THROUGHPUT_KEY + concertId, FIELD_RATE);
+        return toAdmissionRate(concertId, rate == null ? null : rate.toString());
+    }
+
+    private AdmissionRate toAdmissionRate(Long concertId, String rate) {
+        if (rate == null) {
+            return AdmissionRate.unknown(concertId);
+        }
+        return new AdmissionRate(concertId, Double.parseDouble(rate));
+    }
+}
@@ -0,0 +1,49 @@
+package concert.mania.concert.infrastructure.scheduler;
+
+import concert.mania.concert.infrastructure.messaging.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 스케줄러
+ * events 테이블의 발행 대기 이벤트를 주기적으로 RabbitMQ에 발행하고, 처리 완료된 이벤트를 정리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxScheduler {
+
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * 발행 대기 이벤트 릴레이
+     * 이전 실행이 끝난 뒤 설정된 간격(기본 100ms)으로 실행
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-millis:100}")
+    public void relayPendingEvents() {
+        try {
+            int relayed = outboxRelay.relayPendingEvents();
+            if (relayed > 0) {
+                log.debug("아웃박스 이벤트 발행 완료 - 이벤트 수: {}", relayed);
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실행 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 완료된 이벤트 정리
+     * 1시간마다 보관 기간이 지난 이벤트 삭제
+     */
+    @Scheduled(fixedRate = 3600000)
+    public void purgeProcessedEvents() {
+        try {
+            int deleted = outboxRelay.purgeProcessedEvents();
+            log.info("처리 완료된 아웃박스 이벤트 정리 - 삭제된 이벤트 수: {}", deleted);
+        } catch (Exception e) {
+            log.error("아웃박스 이벤트 정리 중 오류 발생: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package concert.mania.concert.infrastructure.scheduler;
+
+import concert.mania.concert.application.event.PaymentRequestedEvent;
+import concert.mania.concert.application.port.in.PaymentUseCase;
+import concert.mania.concert.domain.model.type.PaymentStatus;
+import concert.mania.config.properties.PaymentRetryProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 재시도 스케줄러
+ * 결제 요청 -> 상태 확인 -> (실패 시) 재요청 과정을 상태 머신으로 처리
+ * 각 단계는 지수 백오프로 지연 예약되어 대기 중에는 어떤 스레드도 점유하지 않음
+ * 외부 결제 시스템 호출은 결제 실행기에서 실행되어 동시 호출 수가 제한됨
+ * 진행 상황은 결제 상세 정보에 기록되어 checkPaymentStatus로 조회 가능
+ */
+@Component
+@Slf4j
+public class PaymentRetryScheduler {
+
+    private final PaymentUseCase paymentUseCase;
+    private final PaymentRetryProperties properties;
+    private final ExecutorService paymentExecutor;
+
+    // 단계 예약 전용 스케줄러 (빈으로 등록하면 @Scheduled 기본 스케줄러를 대체하므로 내부에서만 사용)
+    private final ScheduledExecutorService paymentRetryScheduler;
+
+    // 결제 ID -> 진행 중인 결제 처리
+    private final Map<Long, PaymentProcess> processes = new ConcurrentHashMap<>();
+
+    public PaymentRetryScheduler(PaymentUseCase paymentUseCase, PaymentRetryProperties properties,
+                                 ExecutorService paymentExecutor) {
+        this.paymentUseCase = paymentUseCase;
+        this.properties = properties;
+        this.paymentExecutor = paymentExecutor;
+        this.paymentRetryScheduler = Executors.newScheduledThreadPool(properties.getSchedulerPoolSize(),
+                Thread.ofPlatform().name("payment-retry-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        paymentRetryScheduler.shutdown();
+    }
+
+    /**
+     * 결제 요청 이벤트 처리
+     * 결제 정보가 커밋된 후 첫 결제 시도를 예약하고 요청 스레드는 즉시 반환
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePaymentRequested(PaymentRequestedEvent event) {
+        PaymentProcess process = new PaymentProcess(event);
+        if (processes.putIfAbsent(event.paymentId(), process) != null) {
+            log.warn("이미 처리 중인 결제 - 결제 ID: {}", event.paymentId());
+            return;
+        }
+        log.info("결제 처리 시작 - 결제 ID: {}, 콘서트 ID: {}, 좌석 ID: {}, 좌석 잠금 ID: {}",
+                event.paymentId(), event.concertId(), event.seatId(), event.seatLockId());
+        schedule(process, () -> requestPayment(process), 0);
+    }
+
+    /**
+     * 진행 중인 결제 처리 수
+     */
+    public int getInProgressCount() {
+        return processes.size();
+    }
+
+    /**
+     * 외부 결제 요청 (새 결제 시도 시작)
+     */
+    private void requestPayment(PaymentProcess process) {
+        process.startAttempt();
+        log.info("결제 시도 {} - 결제 ID: {}", process.attempt, process.paymentId());
+
+        try {
+            paymentUseCase.requestGatewayPayment(process.paymentId());
+            schedule(process, () -> pollPayment(process), properties.getInitialPollDelayMillis());
+        } catch (Exception e) {
+            log.error("결제 요청 중 오류 발생 - 결제 ID: {}, 시도: {}, 오류: {}",
+                    process.paymentId(), process.attempt, e.getMessage());
+            retryOrFail(process);
+        }
+    }
+
+    /**
+     * 외부 결제 상태 확인
+     */
+    private void pollPayment(PaymentProcess process) {
+        Optional<PaymentStatus> polled;
+        try {
+            polled = paymentUseCase.pollGatewayPayment(process.paymentId());
+        } catch (Exception e) {
+            log.error("결제 처리 중 오류 발생 - 결제 ID: {}, 시도: {}, 오류: {}",
+                    process.paymentId(), process.attempt, e.getMessage());
+            retryOrFail(process);
+            return;
+        }
+
+        // 상태 조회, 만료 처리, 취소 등 다른 경로로 이미 종료된 결제
+        if (polled.isEmpty()) {
+            log.info("이미 종료된 결제 - 결제 ID: {}", process.paymentId());
+            finish(process);
+            return;
+        }
+
+        PaymentStatus status = polled.get();
+        switch (status) {
+            case COMPLETED -> complete(process);
+            case FAILED -> {
+                log.warn("결제 실패, 재시도 - 결제 ID: {}, 시도: {}", process.paymentId(), process.attempt);
+                retryOrFail(process);
+            }
+            case PENDING -> {
+                if (process.isAttemptTimedOut(properties.getAttemptTimeoutMillis())) {
+                    log.warn("결제 시도 시간 초과, 재시도 - 결제 ID: {}, 시도: {}", process.paymentId(), process.attempt);
+                    retryOrFail(process);
+                    return;
+                }
+                // 진행 중인 상태, 간격을 늘려가며 다시 확인
+                long delay = backoff(properties.getInitialPollDelayMillis(), process.polls++);
+                schedule(process, () -> pollPayment(process), delay);
+            }
+            // 외부 결제 시스템에서 취소된 결제
+            default -> {
+                log.info("외부 결제 시스템에서 종료된 결제 - 결제 ID: {}, 상태: {}", process.paymentId(), status);
+                finish(process);
+            }
+        }
+    }
+
+    /**
+     * 남은 시도가 있으면 재요청을 예약하고, 없으면 최종 실패 처리
+     */
+    private void retryOrFail(PaymentProcess process) {
+        if (process.attempt < properties.getMaxAttempts()) {
+            long delay = backoff(properties.getRetryDelayMillis(), process.attempt - 1);
+            schedule(process, () -> requestPayment(process), delay);
+            return;
+        }
+
+        try {
+            paymentUseCase.failPaymentProcess(process.paymentId(), process.event.concertId(),
+                    process.event.seatId(), process.event.seatLockId(), process.attempt);
+        } catch (Exception e) {
+            log.error("결제 실패 처리 중 오류 발생 - 결제 ID: {}, 오류: {}", process.paymentId(), e.getMessage());
+        } finally {
+            finish(process);
+        }
+    }
+
+    /**
+     * 결제 성공 처리
+     */
+    private void complete(PaymentProcess process) {
+        try {
+            paymentUseCase.completePaymentProcess(process.paymentId(), process.event.concertId(),
+                    process.event.seatId(), process.event.seatLockId());
+            log.info("결제 성공 - 결제 ID: {}, 시도: {}", process.paymentId(), process.attempt);
+        } catch (Exception e) {
+            log.error("결제 성공 처리 중 오류 발생 - 결제 ID: {}, 오류: {}", process.paymentId(), e.getMessage());
+        } finally {
+            finish(process);
+        }
+    }
+
+    private void finish(PaymentProcess process) {
+        processes.remove(process.paymentId(), process);
+    }
+
+    /**
+     * 다음 단계 예약
+     * 스케줄러가 종료되어 예약할 수 없으면 처리를 중단 (진행 중인 결제는 결제 스케줄러의 상태 확인/만료 처리로 정리됨)
+     */
+    private void schedule(PaymentProcess process, Runnable step, long delayMillis) {
+        try {
+            paymentRetryScheduler.schedule(() -> dispatch(process, step), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("결제 처리 예약 실패 - 결제 ID: {}, 오류: {}", process.paymentId(), e.getMessage());
+            finish(process);
+        }
+    }
+
+    /**
+     * 예약된 단계를 결제 실행기에서 실행
+     * 결제 실행기가 포화 상태이면 재요청 대기 시간 후 다시 예약 (외부 결제 시스템 호출 동시성 유지)
+     */
+    private void dispatch(PaymentProcess process, Runnable step) {
+        try {
+            paymentExecutor.execute(step);
+        } catch (RejectedExecutionException e) {
+            log.warn("결제 실행기 포화, 재예약 - 결제 ID: {}", process.paymentId());
+            schedule(process, step, properties.getRetryDelayMillis());
+        }
+    }
+
+    /**
+     * 지수 백오프 대기 시간 계산 (상한: 상태 확인 간격 상한)
+     */
+    private long backoff(long baseMillis, int exponent) {
+        double delay = baseMillis * Math.pow(properties.getBackoffMultiplier(), exponent);
+        return (long) Math.min(delay, properties.getMaxPollDelayMillis());
+    }
+
+    /**
+     * 결제 처리 상태
+     * 한 결제의 단계들은 순차적으로 예약되므로 동시에 접근되지 않음
+     */
+    private static class PaymentProcess {
+        private final PaymentRequestedEvent event;
+        private int attempt; // 현재 결제 시도 횟수
+        private int polls; // 현재 시도에서의 상태 확인 횟수
+        private long attemptStartedAt; // 현재 시도 시작 시간 (ms)
+
+        private PaymentProcess(PaymentRequestedEvent event) {
+            this.event = event;
+        }
+
+        private Long paymentId() {
+            return event.paymentId();
+        }
+
+        private void startAttempt() {
+            attempt++;
+            polls = 0;
+            attemptStartedAt = System.currentTimeMillis();
+        }
+
+        private boolean isAttemptTimedOut(long timeoutMillis) {
+            return System.currentTimeMillis() - attemptStartedAt > timeoutMillis;
+        }
+    }
+}
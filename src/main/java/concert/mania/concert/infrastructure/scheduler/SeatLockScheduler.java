@@ -1,6 +1,8 @@
 package concert.mania.concert.infrastructure.scheduler;
 
 import concert.mania.concert.application.port.in.SeatUseCase;
+import concert.mania.concert.infrastructure.redis.RedisLeaderElection;
+import concert.mania.config.properties.SeatHoldExpiryProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -8,23 +10,45 @@ import org.springframework.stereotype.Component;
 
 /**
  * 좌석 잠금 스케줄러
- * 만료된 좌석 잠금을 주기적으로 해제
+ * 만료된 좌석 잠금을 만료 순으로 짧은 간격마다 해제하여 만료된 좌석이 바로 다시 판매되도록 함
+ * 리더로 선출된 인스턴스 한 곳에서만 실행하며, 해제된 좌석은 좌석 상태 변경 스트림으로 모든 인스턴스의 상태 맵에 반영됨
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SeatLockScheduler {
 
+    private static final String LEADER_NAME = "seat-hold-expiry";
+
     private final SeatUseCase seatUseCase;
+    private final RedisLeaderElection leaderElection;
+    private final SeatHoldExpiryProperties properties;
 
     /**
      * 만료된 좌석 잠금 해제 작업
-     * 30초마다 실행되어 만료된 좌석 잠금을 해제
+     * 이전 실행이 끝난 뒤 설정된 간격(기본 500ms)으로 실행, 배치가 가득 차는 동안 최대 배치 수까지 연속으로 처리
+     * 배치마다 리더 임대를 갱신하여 실행이 임대 시간보다 길어져도 다른 인스턴스가 동시에 정리하지 않도록 함
      */
-    @Scheduled(fixedRate = 30000) // 30초마다 실행
+    @Scheduled(fixedDelayString = "${seat.hold-expiry.poll-interval-millis:500}")
     public void unlockExpiredSeats() {
-        log.info("만료된 좌석 잠금 해제 작업 시작");
-        int count = seatUseCase.cancelExpiredSeatSelections();
-        log.info("만료된 좌석 잠금 해제 작업 완료 - 해제된 좌석 수: {}", count);
+        try {
+            int released = 0;
+            for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+                if (!leaderElection.tryAcquire(LEADER_NAME, properties.getLeaderLeaseMillis())) {
+                    break;
+                }
+                int count = seatUseCase.cancelExpiredSeatSelections(properties.getBatchSize());
+                released += count;
+                if (count < properties.getBatchSize()) {
+                    break;
+                }
+            }
+
+            if (released > 0) {
+                log.info("만료된 좌석 잠금 해제 완료 - 해제된 좌석 수: {}", released);
+            }
+        } catch (Exception e) {
+            log.error("만료된 좌석 잠금 해제 중 오류 발생: {}", e.getMessage());
+        }
     }
 }
@@ -0,0 +1,59 @@
+package concert.mania.concert.infrastructure.scheduler;
+
+import concert.mania.concert.application.port.in.SeatUseCase;
+import concert.mania.concert.infrastructure.redis.RedisLeaderElection;
+import concert.mania.concert.infrastructure.redis.SeatStatusCounterRedisAdapter;
+import concert.mania.config.properties.SeatStatusCounterProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 상태 카운터 스케줄러
+ * 인스턴스에 쌓인 좌석 수 증감을 주기적으로 Redis에 반영하고, 좌석 테이블 집계로 카운터를 보정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatStatusCounterScheduler {
+
+    private static final String LEADER_NAME = "seat-status-counter-reconcile";
+
+    private final SeatUseCase seatUseCase;
+    private final SeatStatusCounterRedisAdapter seatStatusCounterAdapter;
+    private final RedisLeaderElection leaderElection;
+    private final SeatStatusCounterProperties properties;
+
+    /**
+     * 좌석 수 증감 반영
+     * 이전 실행이 끝난 뒤 설정된 간격(기본 1초)으로 모든 인스턴스에서 실행
+     */
+    @Scheduled(fixedDelayString = "${seat.status-counter.flush-interval-millis:1000}")
+    public void flushCounters() {
+        try {
+            seatStatusCounterAdapter.flush();
+        } catch (Exception e) {
+            log.error("좌석 상태 카운터 반영 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 좌석 상태 카운터 보정
+     * 이전 실행이 끝난 뒤 설정된 간격(기본 1분)으로 리더 인스턴스 한 곳에서만 실행
+     */
+    @Scheduled(fixedDelayString = "${seat.status-counter.reconcile-interval-millis:60000}")
+    public void reconcileCounters() {
+        try {
+            if (!leaderElection.tryAcquire(LEADER_NAME, properties.getLeaderLeaseMillis())) {
+                return;
+            }
+            // 기준 시각에 집계하도록 예약만 하고 바로 반환 (결과는 어댑터에서 기록)
+            if (!seatUseCase.reconcileSeatStatusCounters()) {
+                log.info("이전 좌석 상태 카운터 보정이 진행 중이므로 건너뜀");
+            }
+        } catch (Exception e) {
+            log.error("좌석 상태 카운터 보정 중 오류 발생: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package concert.mania.concert.infrastructure.scheduler;
+
+import concert.mania.concert.infrastructure.cache.InMemorySeatStatusMapAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 상태 맵 스케줄러
+ * 인스턴스에 로드된 좌석 상태 맵이 공유 버전을 따라가고 있는지 주기적으로 확인
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatStatusMapScheduler {
+
+    private final InMemorySeatStatusMapAdapter seatStatusMapAdapter;
+
+    /**
+     * 좌석 상태 맵 버전 확인
+     * 이전 실행이 끝난 뒤 설정된 간격(기본 5초)으로 모든 인스턴스에서 실행
+     */
+    @Scheduled(fixedDelayString = "${seat.status-map.verify-interval-millis:5000}")
+    public void verifySeatStatusMaps() {
+        try {
+            seatStatusMapAdapter.verifyVersions();
+        } catch (Exception e) {
+            log.error("좌석 상태 맵 버전 확인 중 오류 발생: {}", e.getMessage());
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package concert.mania.concert.infrastructure.scheduler;
 
+import concert.mania.concert.application.port.in.ActiveConcertUseCase;
+import concert.mania.concert.application.port.in.AdmissionControlUseCase;
 import concert.mania.concert.application.port.in.WaitingQueueCommandUseCase;
 import concert.mania.concert.application.port.in.WaitingQueueQueryUseCase;
 import concert.mania.concert.domain.model.WaitingQueue;
 import concert.mania.concert.infrastructure.messaging.producer.WaitingQueueProducer;
+import concert.mania.concert.infrastructure.redis.RedisLeaderElection;
+import concert.mania.concert.infrastructure.web.sse.WaitingQueueSseBroadcaster;
+import concert.mania.config.properties.AdmissionControlProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 대기열 스케줄러
@@ -20,64 +29,116 @@ import java.util.List;
 @Slf4j
 public class WaitingQueueScheduler {
 
+    private static final String LEADER_NAME = "waiting-queue-admission";
+
     private final WaitingQueueCommandUseCase waitingQueueCommandUseCase;
     private final WaitingQueueQueryUseCase waitingQueueQueryUseCase;
     private final WaitingQueueProducer waitingQueueProducer;
-    
-    // 활성화된 콘서트 ID 목록 (실제로는 DB에서 조회하거나 설정 파일에서 관리)
-    private static final Long[] ACTIVE_CONCERT_IDS = {1L, 2L, 3L};
-    
-    // 한 번에 처리할 대기열 수
-    private static final int BATCH_SIZE = 10;
+    private final AdmissionControlUseCase admissionControlUseCase;
+    private final ActiveConcertUseCase activeConcertUseCase;
+    private final ExecutorService queueExecutor;
+    private final RedisLeaderElection leaderElection;
+    private final AdmissionControlProperties admissionControlProperties;
+    private final WaitingQueueSseBroadcaster waitingQueueSseBroadcaster;
+
+    // 처리 작업이 진행 중인 콘서트 ID 목록
+    private final Set<Long> runningConcertIds = ConcurrentHashMap.newKeySet();
     
     /**
      * 대기열 처리 스케줄러
-     * 10초마다 실행
+     * 설정된 틱 간격(기본 10초)마다 실행되며, 예매 진행 중인 콘서트별로 처리 작업을 동시에 실행
+     * 이전 처리가 끝나지 않은 콘서트는 이번 틱을 건너뜀
+     * 동시 입장 허용 인원(AIMD)이 인스턴스 메모리에 있으므로 리더 인스턴스 한 곳에서만 실행
      */
-    @Scheduled(fixedRate = 10000)
+    @Scheduled(fixedRateString = "${waiting-queue.admission.tick-interval-millis:10000}")
     public void processWaitingQueue() {
-        log.info("대기열 처리 스케줄러 실행");
-        
-        for (Long concertId : ACTIVE_CONCERT_IDS) {
+        try {
+            if (!leaderElection.tryAcquire(LEADER_NAME, admissionControlProperties.getLeaderLeaseMillis())) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("대기열 처리 리더 확인 중 오류 발생 - 오류: {}", e.getMessage());
+            return;
+        }
+
+        List<Long> activeConcertIds = activeConcertUseCase.getActiveConcertIds();
+        log.info("대기열 처리 스케줄러 실행 - 예매 진행 중인 콘서트 수: {}", activeConcertIds.size());
+
+        for (Long concertId : activeConcertIds) {
+            if (!runningConcertIds.add(concertId)) {
+                log.info("이전 대기열 처리가 진행 중이므로 건너뜀 - 콘서트 ID: {}", concertId);
+                continue;
+            }
             try {
-                // 만료된 대기열 처리
-                int expiredCount = waitingQueueCommandUseCase.processExpiredWaitingQueues(concertId);
-                if (expiredCount > 0) {
-                    log.info("만료된 대기열 처리 완료 - 콘서트 ID: {}, 처리된 수: {}", concertId, expiredCount);
-                }
-                
-                // 대기 중인 사용자 수 확인
-                int waitingCount = waitingQueueQueryUseCase.getWaitingQueueCountByStatus(
-                        concertId, WaitingQueue.WaitingStatus.WAITING);
-                
-                if (waitingCount == 0) {
-                    continue;
-                }
-                
-                // 처리 중인 사용자 수 확인
-                int processingCount = waitingQueueQueryUseCase.getWaitingQueueCountByStatus(
-                        concertId, WaitingQueue.WaitingStatus.PROCESSING);
-                
-                // 처리 중인 사용자가 너무 많으면 스킵
-                if (processingCount >= BATCH_SIZE) {
-                    log.info("처리 중인 사용자가 너무 많음 - 콘서트 ID: {}, 처리 중인 수: {}", concertId, processingCount);
-                    continue;
-                }
-                
-                // 처리할 수 있는 수 계산
-                int processCount = Math.min(BATCH_SIZE - processingCount, waitingCount);
-                
-                // 대기열 처리 메시지 전송
-                for (int i = 0; i < processCount; i++) {
-                    waitingQueueProducer.sendProcessMessage(concertId);
-                }
-                
-                log.info("대기열 처리 메시지 전송 완료 - 콘서트 ID: {}, 전송 수: {}", concertId, processCount);
-            } catch (Exception e) {
-                log.error("대기열 처리 중 오류 발생 - 콘서트 ID: {}, 오류: {}", concertId, e.getMessage());
+                queueExecutor.execute(() -> {
+                    try {
+                        processConcertWaitingQueue(concertId);
+                    } finally {
+                        runningConcertIds.remove(concertId);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                runningConcertIds.remove(concertId);
+                log.error("대기열 처리 작업 등록 실패 - 콘서트 ID: {}, 오류: {}", concertId, e.getMessage());
             }
         }
     }
+
+    /**
+     * 예매 진행 중인 콘서트 목록 갱신
+     * 30초마다 실행 (마지막 갱신 이후 수정된 콘서트만 조회)
+     */
+    @Scheduled(fixedRate = 30000)
+    public void refreshActiveConcerts() {
+        try {
+            activeConcertUseCase.refreshActiveConcerts();
+        } catch (Exception e) {
+            log.error("예매 진행 중인 콘서트 목록 갱신 중 오류 발생 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 콘서트 하나의 대기열 처리
+     */
+    private void processConcertWaitingQueue(Long concertId) {
+        try {
+            // 만료된 대기열 처리
+            int expiredCount = waitingQueueCommandUseCase.processExpiredWaitingQueues(concertId);
+            if (expiredCount > 0) {
+                log.info("만료된 대기열 처리 완료 - 콘서트 ID: {}, 처리된 수: {}", concertId, expiredCount);
+                // 만료된 사용자가 빠진 순번 전송
+                waitingQueueSseBroadcaster.notifyAdmission(concertId);
+            }
+
+            // 대기 중인 사용자 수 확인
+            int waitingCount = waitingQueueQueryUseCase.getWaitingQueueCountByStatus(
+                    concertId, WaitingQueue.WaitingStatus.WAITING);
+
+            if (waitingCount == 0) {
+                return;
+            }
+
+            // 처리 중인 사용자 수 확인
+            int processingCount = waitingQueueQueryUseCase.getWaitingQueueCountByStatus(
+                    concertId, WaitingQueue.WaitingStatus.PROCESSING);
+
+            // 시스템 부하를 반영하여 처리할 수 있는 수 계산
+            int processCount = admissionControlUseCase.calculateAdmissionCount(concertId, waitingCount, processingCount);
+
+            // 처리 중인 사용자가 허용 인원을 채웠으면 스킵
+            if (processCount == 0) {
+                log.info("처리 중인 사용자가 너무 많음 - 콘서트 ID: {}, 처리 중인 수: {}", concertId, processingCount);
+                return;
+            }
+
+            // 대기열 일괄 처리 메시지 전송 (한 건의 메시지로 processCount명 처리)
+            waitingQueueProducer.sendProcessBatchMessage(concertId, processCount);
+
+            log.info("대기열 처리 메시지 전송 완료 - 콘서트 ID: {}, 전송 수: {}", concertId, processCount);
+        } catch (Exception e) {
+            log.error("대기열 처리 중 오류 발생 - 콘서트 ID: {}, 오류: {}", concertId, e.getMessage());
+        }
+    }
     
     /**
      * 대기열 상태 모니터링 스케줄러
@@ -87,7 +148,7 @@ public class WaitingQueueScheduler {
     public void monitorWaitingQueue() {
         log.info("대기열 상태 모니터링 스케줄러 실행");
         
-        for (Long concertId : ACTIVE_CONCERT_IDS) {
+        for (Long concertId : activeConcertUseCase.getActiveConcertIds()) {
             try {
                 // 대기열 상태별 인원 조회
                 int totalCount = waitingQueueQueryUseCase.getWaitingQueueCount(concertId);
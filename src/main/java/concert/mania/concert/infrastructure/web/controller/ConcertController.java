@@ -9,9 +9,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import concert.mania.concert.application.port.in.ConcertQueryUseCase;
+import concert.mania.concert.application.port.in.SeatUseCase;
 import concert.mania.concert.infrastructure.web.dto.response.ConcertResponse;
 import concert.mania.concert.infrastructure.web.dto.response.SuccessResponse;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -21,6 +23,7 @@ import java.util.stream.Collectors;
 public class ConcertController {
 
     private final ConcertQueryUseCase concertQueryUseCase;
+    private final SeatUseCase seatUseCase;
 
     /**
      * 모든 콘서트 목록 조회
@@ -30,8 +33,11 @@ public class ConcertController {
     @GetAllConcertsApiDoc
     public ResponseEntity<SuccessResponse> getAllConcerts() {
         List<Concert> concerts = concertQueryUseCase.getAllConcerts();
+        // 콘서트별로 조회하지 않고 한 번에 조회 (카운터가 없는 콘서트도 한 번의 집계로 생성)
+        Map<Long, Map<Long, Long>> availableSeats = seatUseCase.getAvailableSeatCountsByGrade(
+                concerts.stream().map(Concert::getId).toList());
         List<ConcertResponse> response = concerts.stream()
-                .map(ConcertResponse::from)
+                .map(concert -> ConcertResponse.from(concert, availableSeats.getOrDefault(concert.getId(), Map.of())))
                 .collect(Collectors.toList());
 
         return ResponseEntity.ok(SuccessResponse.of("콘서트 목록 조회 성공", HttpStatus.OK.value(), response));
@@ -46,7 +52,7 @@ public class ConcertController {
     @GetConcertByIdApiDoc
     public ResponseEntity<SuccessResponse> getConcertById(@PathVariable Long concertId) {
         Concert concert = concertQueryUseCase.getConcertById(concertId);
-        ConcertResponse response = ConcertResponse.from(concert);
+        ConcertResponse response = ConcertResponse.from(concert, seatUseCase.getAvailableSeatCountsByGrade(concertId));
 
         return ResponseEntity.ok(SuccessResponse.of("콘서트 상세 정보 조회 성공", HttpStatus.OK.value(), response));
     }
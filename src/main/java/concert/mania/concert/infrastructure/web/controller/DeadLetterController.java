@@ -0,0 +1,55 @@
+package concert.mania.concert.infrastructure.web.controller;
+
+import concert.mania.concert.infrastructure.messaging.deadletter.DeadLetterRouter;
+import concert.mania.concert.infrastructure.web.dto.response.SuccessResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * DLQ 관리 컨트롤러
+ * 처리에 실패해 DLQ에 보관된 메시지 조회 및 재처리 API를 제공 (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/v1/admin/dead-letters")
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterController {
+
+    private final DeadLetterRouter deadLetterRouter;
+
+    /**
+     * 큐별 DLQ 메시지 수 조회
+     */
+    @GetMapping
+    @Operation(summary = "DLQ 메시지 수 조회", description = "큐별로 DLQ에 보관된 메시지 수를 조회합니다.")
+    public ResponseEntity<SuccessResponse> getDeadLetterCounts() {
+        Map<String, Integer> counts = deadLetterRouter.getDeadLetterCounts();
+        return ResponseEntity.ok(SuccessResponse.of("DLQ 메시지 수 조회 성공", HttpStatus.OK.value(), counts));
+    }
+
+    /**
+     * DLQ 메시지 재처리
+     */
+    @PostMapping("/{queue}/replay")
+    @Operation(summary = "DLQ 메시지 재처리", description = "DLQ에 보관된 메시지를 원래 큐로 다시 보냅니다.")
+    public ResponseEntity<SuccessResponse> replay(
+            @Parameter(description = "원래 큐 이름", required = true) @PathVariable String queue,
+            @Parameter(description = "최대 재처리 메시지 수") @RequestParam(defaultValue = "100") int limit) {
+
+        log.info("DLQ 메시지 재처리 요청 - 큐: {}, 최대 수: {}", queue, limit);
+
+        if (limit <= 0) {
+            throw new IllegalArgumentException("재처리 메시지 수는 1 이상이어야 합니다.");
+        }
+
+        int replayed = deadLetterRouter.replay(queue, limit);
+        return ResponseEntity.ok(SuccessResponse.of("DLQ 메시지 재처리 완료", HttpStatus.OK.value(), replayed));
+    }
+}
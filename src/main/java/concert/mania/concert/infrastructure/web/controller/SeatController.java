@@ -4,17 +4,24 @@ import concert.mania.concert.application.port.in.SeatUseCase;
 import concert.mania.concert.application.port.in.WaitingQueueQueryUseCase;
 import concert.mania.concert.domain.model.Seat;
 import concert.mania.concert.domain.model.SeatLock;
+import concert.mania.concert.domain.model.SeatStatusMap;
 import concert.mania.concert.domain.model.WaitingQueue;
 import concert.mania.concert.infrastructure.web.docs.seat.*;
+import concert.mania.concert.infrastructure.web.dto.request.BestAvailableSeatSelectionRequest;
+import concert.mania.concert.infrastructure.web.dto.request.MultiSeatSelectionRequest;
 import concert.mania.concert.infrastructure.web.dto.request.SeatSelectionRequest;
+import concert.mania.concert.infrastructure.web.dto.response.SeatAvailabilityResponse;
 import concert.mania.concert.infrastructure.web.dto.response.SeatLockResponse;
 import concert.mania.concert.infrastructure.web.dto.response.SeatResponse;
 import concert.mania.concert.infrastructure.web.dto.response.SuccessResponse;
 import concert.mania.exception.model.BadRequestException;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -34,6 +41,8 @@ public class SeatController {
     private final SeatUseCase seatUseCase;
     private final WaitingQueueQueryUseCase waitingQueueQueryUseCase;
 
+    private static final String SEAT_MAP_VERSION_HEADER = "X-Seat-Map-Version";
+
     /**
      * 특정 콘서트의 모든 좌석 조회
      */
@@ -46,15 +55,60 @@ public class SeatController {
 
         log.info("콘서트 좌석 목록 조회 - 콘서트 ID: {}, 좌석 등급 ID: {}, 상태: {}", concertId, seatGradeId, status);
 
-        List<Seat> seats;
         if (seatGradeId != null) {
-            seats = seatUseCase.getSeatsByConcertIdAndSeatGradeId(concertId, seatGradeId);
+            List<Seat> seats = seatUseCase.getSeatsByConcertIdAndSeatGradeId(concertId, seatGradeId);
+            List<SeatResponse> response = SeatResponse.fromList(seats);
+            return ResponseEntity.ok(SuccessResponse.of("좌석 목록 조회 성공", HttpStatus.OK.value(), response));
+        }
+
+        // 좌석 상태 맵에서 조회 (버전을 헤더로 전달하여 클라이언트가 변경 여부를 판단할 수 있도록 함)
+        SeatStatusMap seatStatusMap = seatUseCase.getSeatStatusMap(concertId);
+        long version = seatStatusMap.getVersion();
+        List<SeatResponse> response = SeatResponse.fromList(seatStatusMap.getSeats());
+        return ResponseEntity.ok()
+                .header(SEAT_MAP_VERSION_HEADER, String.valueOf(version))
+                .body(SuccessResponse.of("좌석 목록 조회 성공", HttpStatus.OK.value(), response));
+    }
+
+    /**
+     * 특정 콘서트의 좌석 예매 가능 여부 조회 (비트맵/변경분)
+     * 좌석 상태 맵의 세대와 버전으로 ETag를 생성하여 변경이 없으면 304 응답
+     */
+    @GetMapping("/concerts/{concertId}/seats/availability")
+    @GetSeatAvailabilityApiDoc
+    public ResponseEntity<SuccessResponse> getSeatAvailability(
+            @Parameter(description = "콘서트 ID", required = true) @PathVariable Long concertId,
+            @Parameter(description = "클라이언트가 보유한 좌석 상태 맵 세대 (선택사항)") @RequestParam(required = false) Long generation,
+            @Parameter(description = "클라이언트가 보유한 좌석 상태 맵 버전 (선택사항)") @RequestParam(required = false) Long sinceVersion,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        SeatStatusMap seatStatusMap = seatUseCase.getSeatStatusMap(concertId);
+
+        // 버전을 먼저 읽고 상태를 읽으므로, 응답 상태는 항상 해당 버전 이후의 상태를 포함함
+        long version = seatStatusMap.getVersion();
+        String eTag = "\"" + seatStatusMap.getGeneration() + "-" + version + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        SeatAvailabilityResponse response;
+        if (generation != null && sinceVersion != null
+                && generation == seatStatusMap.getGeneration() && seatStatusMap.canDiffFrom(sinceVersion)
+                && sinceVersion <= version) {
+            response = SeatAvailabilityResponse.ofChanges(concertId, seatStatusMap.getGeneration(), version,
+                    seatStatusMap.size(), seatStatusMap.getChangesSince(sinceVersion));
         } else {
-            seats = seatUseCase.getSeatsByConcertId(concertId);
+            response = SeatAvailabilityResponse.ofBitmap(concertId, seatStatusMap.getGeneration(), version,
+                    seatStatusMap.size(), seatStatusMap.getAvailabilityBitmap());
         }
 
-        List<SeatResponse> response = SeatResponse.fromList(seats);
-        return ResponseEntity.ok(SuccessResponse.of("좌석 목록 조회 성공", HttpStatus.OK.value(), response));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(SuccessResponse.of("좌석 예매 가능 여부 조회 성공", HttpStatus.OK.value(), response));
     }
 
     /**
@@ -74,6 +128,55 @@ public class SeatController {
         return ResponseEntity.ok(SuccessResponse.of("좌석 등급별 좌석 목록 조회 성공", HttpStatus.OK.value(), response));
     }
 
+    /**
+     * 최적 연속 좌석 조회
+     */
+    @GetMapping("/concerts/{concertId}/seat-grades/{seatGradeId}/best-available")
+    @GetBestAvailableSeatsApiDoc
+    public ResponseEntity<SuccessResponse> getBestAvailableSeats(
+            @Parameter(description = "콘서트 ID", required = true) @PathVariable Long concertId,
+            @Parameter(description = "좌석 등급 ID", required = true) @PathVariable Long seatGradeId,
+            @Parameter(description = "필요한 연속 좌석 수", required = true) @RequestParam int count) {
+
+        List<Seat> seats = seatUseCase.findBestAvailableSeats(concertId, seatGradeId, count);
+        List<SeatResponse> response = SeatResponse.fromList(seats);
+
+        return ResponseEntity.ok(SuccessResponse.of("최적 연속 좌석 조회 성공", HttpStatus.OK.value(), response));
+    }
+
+    /**
+     * 최적 연속 좌석 자동 선택 (임시 점유, 전부 성공하거나 전부 실패)
+     */
+    @PostMapping("/concerts/{concertId}/seat-grades/{seatGradeId}/best-available/select")
+    @SelectBestAvailableSeatsApiDoc
+    public ResponseEntity<SuccessResponse> selectBestAvailableSeats(
+            @Parameter(description = "콘서트 ID", required = true) @PathVariable Long concertId,
+            @Parameter(description = "좌석 등급 ID", required = true) @PathVariable Long seatGradeId,
+            @Valid @RequestBody BestAvailableSeatSelectionRequest request) {
+
+        log.info("최적 연속 좌석 선택 요청 - 콘서트 ID: {}, 좌석 등급 ID: {}, 좌석 수: {}, 사용자 ID: {}",
+                concertId, seatGradeId, request.count(), request.userId());
+
+        try {
+            // 대기열 상태 확인
+            WaitingQueue waitingQueue = waitingQueueQueryUseCase.getWaitingQueueByConcertIdAndUserId(concertId, request.userId());
+
+            // 입장 완료 상태가 아니면 예외 발생
+            if (waitingQueue.getStatus() != WaitingQueue.WaitingStatus.ENTERED) {
+                throw new BadRequestException("대기열 입장이 완료되지 않은 사용자입니다.");
+            }
+        } catch (IllegalArgumentException e) {
+            // 대기열에 등록되지 않은 경우
+            throw new BadRequestException("대기열에 등록되지 않은 사용자입니다. 대기열에 먼저 등록해주세요.");
+        }
+
+        // 최적 연속 좌석 선택 처리
+        List<Seat> selectedSeats = seatUseCase.selectBestAvailableSeats(concertId, seatGradeId, request.count(), request.userId());
+        List<SeatResponse> response = SeatResponse.fromList(selectedSeats);
+
+        return ResponseEntity.ok(SuccessResponse.of("최적 연속 좌석 선택 성공", HttpStatus.OK.value(), response));
+    }
+
     /**
      * 좌석 등급 목록 조회
      */
@@ -126,6 +229,39 @@ public class SeatController {
         }
     }
 
+    /**
+     * 여러 좌석 일괄 선택 (임시 점유, 전부 성공하거나 전부 실패)
+     */
+    @PostMapping("/seats/select")
+    @SelectSeatsApiDoc
+    public ResponseEntity<SuccessResponse> selectSeats(@Valid @RequestBody MultiSeatSelectionRequest request) {
+
+        log.info("좌석 일괄 선택 요청 - 좌석 ID: {}, 사용자 ID: {}", request.seatIds(), request.userId());
+
+        // 좌석 정보 조회하여 콘서트 ID 확인 (모든 좌석이 같은 콘서트인지는 선택 처리에서 검증)
+        Seat seat = seatUseCase.getSeatById(request.seatIds().get(0))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 좌석입니다."));
+        Long concertId = seat.getConcert().getId();
+
+        try {
+            // 대기열 상태 확인
+            WaitingQueue waitingQueue = waitingQueueQueryUseCase.getWaitingQueueByConcertIdAndUserId(concertId, request.userId());
+
+            // 입장 완료 상태가 아니면 예외 발생
+            if (waitingQueue.getStatus() != WaitingQueue.WaitingStatus.ENTERED) {
+                throw new BadRequestException("대기열 입장이 완료되지 않은 사용자입니다.");
+            }
+        } catch (IllegalArgumentException e) {
+            // 대기열에 등록되지 않은 경우
+            throw new BadRequestException("대기열에 등록되지 않은 사용자입니다. 대기열에 먼저 등록해주세요.");
+        }
+
+        // 좌석 일괄 선택 처리
+        List<Seat> selectedSeats = seatUseCase.selectSeats(request.seatIds(), request.userId());
+        List<SeatResponse> response = SeatResponse.fromList(selectedSeats);
+
+        return ResponseEntity.ok(SuccessResponse.of("좌석 일괄 선택 성공", HttpStatus.OK.value(), response));
+    }
 
     /**
      * 좌석 잠금 시간 연장
@@ -4,9 +4,12 @@ import concert.mania.concert.application.port.in.WaitingQueueCommandUseCase;
 import concert.mania.concert.application.port.in.WaitingQueueQueryUseCase;
 import concert.mania.concert.domain.model.WaitingQueue;
 import concert.mania.concert.infrastructure.messaging.producer.WaitingQueueProducer;
+import concert.mania.concert.infrastructure.messaging.publisher.PublishResult;
 import concert.mania.concert.infrastructure.web.dto.request.WaitingQueueRegisterRequest;
 import concert.mania.concert.infrastructure.web.dto.response.SuccessResponse;
 import concert.mania.concert.infrastructure.web.dto.response.WaitingQueueResponse;
+import concert.mania.config.properties.MessagePublisherProperties;
+import concert.mania.exception.model.ServiceUnavailableException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,8 +20,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+import static concert.mania.exception.model.ErrorCode.WAITING_QUEUE_REGISTER_UNAVAILABLE;
+
 /**
  * 대기열 컨트롤러
  * 대기열 관련 API를 제공
@@ -32,9 +41,11 @@ public class WaitingQueueController {
     private final WaitingQueueCommandUseCase waitingQueueCommandUseCase;
     private final WaitingQueueQueryUseCase waitingQueueQueryUseCase;
     private final WaitingQueueProducer waitingQueueProducer;
+    private final MessagePublisherProperties messagePublisherProperties;
 
     /**
      * 대기열 등록
+     * 브로커가 등록 메시지를 큐에 넣었음을 확인한 경우에만 접수 성공으로 응답 (거부/미라우팅/시간 초과 시 503)
      */
     @PostMapping("/concerts/{concertId}/waiting-queue")
     public ResponseEntity<SuccessResponse> registerToWaitingQueue(
@@ -44,11 +55,33 @@ public class WaitingQueueController {
         log.info("대기열 등록 요청 - 콘서트 ID: {}, 사용자 ID: {}", concertId, request.userId());
 
         // 비동기 처리를 위해 메시지 큐에 전송
-        waitingQueueProducer.sendRegisterMessage(concertId, request.userId());
+        PublishResult result = awaitConfirm(concertId, request.userId());
+        if (result != PublishResult.CONFIRMED) {
+            log.warn("대기열 등록 메시지가 큐에 전달되지 않음 - 콘서트 ID: {}, 사용자 ID: {}, 결과: {}",
+                    concertId, request.userId(), result);
+            throw new ServiceUnavailableException(WAITING_QUEUE_REGISTER_UNAVAILABLE);
+        }
 
         return ResponseEntity.ok(SuccessResponse.of("대기열 등록 요청이 접수되었습니다.", HttpStatus.OK.value(), null));
     }
 
+    /**
+     * 대기열 등록 메시지 발행 후 브로커 확인 대기
+     * @return 확인 결과 (발행 실패/부정 확인/시간 초과 시 null)
+     */
+    private PublishResult awaitConfirm(Long concertId, Long userId) {
+        try {
+            CompletableFuture<PublishResult> confirm = waitingQueueProducer.sendRegisterMessage(concertId, userId);
+            return confirm.get(messagePublisherProperties.getConfirmTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (IllegalStateException | ExecutionException | TimeoutException e) {
+            log.warn("대기열 등록 메시지 발행 실패 - 콘서트 ID: {}, 사용자 ID: {}, 오류: {}", concertId, userId, e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * 대기열 상태 조회
      */
@@ -0,0 +1,42 @@
+package concert.mania.concert.infrastructure.web.controller;
+
+import concert.mania.concert.application.port.in.WaitingQueueQueryUseCase;
+import concert.mania.concert.domain.model.WaitingQueue;
+import concert.mania.concert.infrastructure.web.sse.WaitingQueueSseBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 대기열 스트림 컨트롤러
+ * 대기 순번을 SSE로 전달하는 API를 제공
+ * EventSource는 헤더를 설정할 수 없으므로 /ws 경로에서 token 쿼리 파라미터로 인증
+ */
+@RestController
+@RequestMapping("/ws")
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingQueueStreamController {
+
+    private final WaitingQueueQueryUseCase waitingQueueQueryUseCase;
+    private final WaitingQueueSseBroadcaster waitingQueueSseBroadcaster;
+
+    /**
+     * 대기 순번 구독
+     */
+    @GetMapping(value = "/concerts/{concertId}/waiting-queue", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "대기 순번 구독", description = "입장 처리가 진행될 때마다 대기 순번과 예상 대기 시간을 SSE(rank 이벤트)로 전송합니다.")
+    public SseEmitter subscribeWaitingQueue(
+            @Parameter(description = "콘서트 ID", required = true) @PathVariable Long concertId,
+            @Parameter(description = "사용자 ID", required = true) @RequestParam Long userId) {
+
+        log.info("대기 순번 구독 요청 - 콘서트 ID: {}, 사용자 ID: {}", concertId, userId);
+
+        WaitingQueue waitingQueue = waitingQueueQueryUseCase.getWaitingQueueStatus(concertId, userId);
+        return waitingQueueSseBroadcaster.subscribe(waitingQueue);
+    }
+}
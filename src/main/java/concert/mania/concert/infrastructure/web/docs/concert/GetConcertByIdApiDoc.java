@@ -33,6 +33,9 @@ import java.lang.annotation.Target;
         
         **반환 정보:**
         - 콘서트 ID, 이름, 설명, 날짜, 장소, 이미지 URL, 상태 등 정보
+        - availableSeats: 예매 가능한 좌석 수 (전체 등급 합계)
+        - seatGrades[].availableSeats: 좌석 등급별 예매 가능한 좌석 수
+        - 좌석 수는 좌석 상태 카운터 기준이며 다른 서버의 변경은 최대 반영 간격(기본 1초)만큼 늦게 보일 수 있음
         """
 )
 @ApiResponses(value = {
@@ -55,7 +58,8 @@ import java.lang.annotation.Target;
                                         "date": "2025-07-15T19:00:00",
                                         "venue": "서울 올림픽 공원",
                                         "imageUrl": "https://example.com/images/concert1.jpg",
-                                        "status": "UPCOMING"
+                                        "status": "UPCOMING",
+                                        "availableSeats": 1200
                                     }
                                 }
                                 """
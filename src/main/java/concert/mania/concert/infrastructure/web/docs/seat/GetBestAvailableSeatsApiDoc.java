@@ -0,0 +1,58 @@
+package concert.mania.concert.infrastructure.web.docs.seat;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import concert.mania.exception.model.ErrorResponse;
+import concert.mania.concert.infrastructure.web.dto.response.SeatResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "최적 연속 좌석 조회",
+        description = """
+        **특정 좌석 등급에서 요청한 수만큼 연속된 예매 가능 좌석 중 최적 좌석을 조회**
+        
+        **처리 과정:**
+        1. 좌석 상태 맵에서 해당 등급의 연속 좌석 구간을 무대에 가까운 행부터 확인
+        2. 같은 행에서는 중앙에 가까운 좌석 선택
+        3. 연속 좌석 목록 반환 (없으면 빈 목록)
+        
+        **파라미터:**
+        - concertId: 콘서트 ID (필수)
+        - seatGradeId: 좌석 등급 ID (필수)
+        - count: 필요한 연속 좌석 수 (필수, 최대 4석)
+        
+        **참고:**
+        - 조회 결과는 선점되지 않으므로 선택 시점에 다른 사용자가 먼저 선택할 수 있음
+        """,
+        security = @SecurityRequirement(name = "Bearer")
+)
+@ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "최적 연속 좌석 조회 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = SeatResponse.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청 (좌석 수 범위 초과)",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ErrorResponse.class)
+                )
+        )
+})
+public @interface GetBestAvailableSeatsApiDoc {
+}
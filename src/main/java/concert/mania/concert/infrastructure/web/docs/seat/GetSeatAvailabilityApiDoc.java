@@ -0,0 +1,138 @@
+package concert.mania.concert.infrastructure.web.docs.seat;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import concert.mania.exception.model.ErrorResponse;
+import concert.mania.concert.infrastructure.web.dto.response.SeatAvailabilityResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "콘서트 좌석 예매 가능 여부 조회 (비트맵/변경분)",
+        description = """
+        **특정 콘서트의 좌석 예매 가능 여부를 압축된 형태로 조회**
+        
+        **처리 과정:**
+        1. 좌석 상태 맵의 세대와 버전으로 ETag 생성
+        2. If-None-Match 헤더가 ETag와 같으면 304 Not Modified 반환
+        3. generation, sinceVersion이 현재 세대와 일치하면 해당 버전 이후 변경된 좌석만 반환
+        4. 그 외에는 전체 좌석의 예매 가능 비트맵 반환
+        
+        **파라미터:**
+        - concertId: 콘서트 ID (필수)
+        - generation: 클라이언트가 보유한 좌석 상태 맵 세대 (선택)
+        - sinceVersion: 클라이언트가 보유한 좌석 상태 맵 버전 (선택)
+        
+        **비트맵 형식:**
+        - Base64로 인코딩된 바이트 배열
+        - 좌석 목록 조회 API의 좌석 순서(행/열 순) i번째 좌석이 예매 가능하면 (i / 8)번째 바이트의 (i % 8)번째 비트가 1
+        """,
+        security = @SecurityRequirement(name = "Bearer")
+)
+@ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "좌석 예매 가능 여부 조회 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = SeatAvailabilityResponse.class),
+                        examples = {
+                                @ExampleObject(
+                                        name = "비트맵 조회",
+                                        value = """
+                                        {
+                                            "message": "좌석 예매 가능 여부 조회 성공",
+                                            "statusCode": 200,
+                                            "data": {
+                                                "concertId": 1,
+                                                "generation": 1750122000000,
+                                                "version": 42,
+                                                "seatCount": 12,
+                                                "availabilityBitmap": "/w8=",
+                                                "changes": null
+                                            }
+                                        }
+                                        """
+                                ),
+                                @ExampleObject(
+                                        name = "변경분 조회",
+                                        value = """
+                                        {
+                                            "message": "좌석 예매 가능 여부 조회 성공",
+                                            "statusCode": 200,
+                                            "data": {
+                                                "concertId": 1,
+                                                "generation": 1750122000000,
+                                                "version": 44,
+                                                "seatCount": 12,
+                                                "availabilityBitmap": null,
+                                                "changes": [
+                                                    { "seatId": 3, "status": "SELECTED" },
+                                                    { "seatId": 7, "status": "AVAILABLE" }
+                                                ]
+                                            }
+                                        }
+                                        """
+                                )
+                        }
+                )
+        ),
+        @ApiResponse(
+                responseCode = "304",
+                description = "변경 없음 (If-None-Match 헤더가 현재 ETag와 일치)"
+        ),
+        @ApiResponse(
+                responseCode = "401",
+                description = "인증 실패",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ErrorResponse.class),
+                        examples = {
+                                @ExampleObject(
+                                        name = "토큰 없음",
+                                        value = """
+                                        {
+                                            "timestamp": "2025-06-17T10:00:00",
+                                            "statusCode": 401,
+                                            "errorCode": "UNAUTHORIZED",
+                                            "message": "인증이 필요합니다.",
+                                            "path": "/api/v1/concerts/1/seats/availability"
+                                        }
+                                        """
+                                )
+                        }
+                )
+        ),
+        @ApiResponse(
+                responseCode = "500",
+                description = "서버 내부 오류",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ErrorResponse.class),
+                        examples = @ExampleObject(
+                                name = "서버 오류",
+                                value = """
+                                {
+                                    "timestamp": "2025-06-17T10:00:00",
+                                    "statusCode": 500,
+                                    "errorCode": "INTERNAL_SERVER_ERROR",
+                                    "message": "서버에서 오류가 발생했습니다.",
+                                    "path": "/api/v1/concerts/1/seats/availability"
+                                }
+                                """
+                        )
+                )
+        )
+})
+public @interface GetSeatAvailabilityApiDoc {
+}
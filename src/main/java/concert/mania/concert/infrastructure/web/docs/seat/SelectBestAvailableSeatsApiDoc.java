@@ -0,0 +1,76 @@
+package concert.mania.concert.infrastructure.web.docs.seat;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import concert.mania.exception.model.ErrorResponse;
+import concert.mania.concert.infrastructure.web.dto.response.SeatResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "최적 연속 좌석 자동 선택",
+        description = """
+        **최적 연속 좌석을 찾아 10분 동안 임시 점유 (전부 성공하거나 전부 실패)**
+        
+        **처리 과정:**
+        1. 대기열 상태 확인 (입장 완료 상태인지 검증)
+        2. 좌석 상태 맵에서 최적 연속 좌석 검색 (무대에 가까운 행, 중앙에 가까운 좌석 우선)
+        3. 찾은 좌석을 한 번에 선택 처리
+        4. 그 사이 다른 사용자가 선택한 좌석이 있으면 해당 좌석을 제외하고 다시 검색 (최대 3회)
+        5. 선택된 좌석 목록 반환 (좌석 ID 순)
+        
+        **파라미터:**
+        - concertId: 콘서트 ID (필수)
+        - seatGradeId: 좌석 등급 ID (필수)
+        - userId: 사용자 ID (필수)
+        - count: 필요한 연속 좌석 수 (필수, 최대 4석)
+        
+        **예외 조건:**
+        - 대기열 입장이 완료되지 않은 사용자인 경우
+        - 요청한 수만큼 연속된 예매 가능 좌석이 없는 경우
+        - 재시도 후에도 다른 사용자와 경합하여 선택하지 못한 경우
+        """,
+        security = @SecurityRequirement(name = "Bearer")
+)
+@ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "최적 연속 좌석 선택 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = SeatResponse.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ErrorResponse.class),
+                        examples = @ExampleObject(
+                                name = "연속 좌석 없음",
+                                value = """
+                                {
+                                    "timestamp": "2025-06-17T10:00:00",
+                                    "statusCode": 400,
+                                    "errorCode": "NO_ADJACENT_SEATS",
+                                    "message": "요청한 수만큼 연속된 예매 가능 좌석이 없습니다.",
+                                    "path": "/api/v1/concerts/1/seat-grades/1/best-available/select"
+                                }
+                                """
+                        )
+                )
+        )
+})
+public @interface SelectBestAvailableSeatsApiDoc {
+}
@@ -0,0 +1,74 @@
+package concert.mania.concert.infrastructure.web.docs.seat;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import concert.mania.exception.model.ErrorResponse;
+import concert.mania.concert.infrastructure.web.dto.response.SeatResponse;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+        summary = "여러 좌석 일괄 선택",
+        description = """
+        **여러 좌석을 한 번에 선택하여 10분 동안 임시 점유 (전부 성공하거나 전부 실패)**
+        
+        **처리 과정:**
+        1. 첫 번째 좌석으로 콘서트 확인 후 대기열 상태 확인 (입장 완료 상태인지 검증)
+        2. 좌석 ID 순서로 모든 좌석을 한 번에 선택 처리
+        3. 하나라도 선택할 수 없으면 어떤 좌석도 선택되지 않음
+        4. 선택된 좌석 목록 반환 (좌석 ID 순)
+        
+        **파라미터:**
+        - userId: 사용자 ID (필수)
+        - seatIds: 좌석 ID 목록 (필수, 같은 콘서트의 좌석, 최대 4석)
+        
+        **예외 조건:**
+        - 존재하지 않는 좌석이 포함된 경우
+        - 다른 콘서트의 좌석이 포함된 경우
+        - 대기열 입장이 완료되지 않은 사용자인 경우
+        - 이미 선택되었거나 판매된 좌석이 포함된 경우
+        """,
+        security = @SecurityRequirement(name = "Bearer")
+)
+@ApiResponses(value = {
+        @ApiResponse(
+                responseCode = "200",
+                description = "좌석 일괄 선택 성공",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = SeatResponse.class)
+                )
+        ),
+        @ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ErrorResponse.class),
+                        examples = @ExampleObject(
+                                name = "이미 선택된 좌석 포함",
+                                value = """
+                                {
+                                    "timestamp": "2025-06-17T10:00:00",
+                                    "statusCode": 400,
+                                    "errorCode": "SEAT_ALREADY_SELECTED",
+                                    "message": "이미 선택된 좌석입니다.",
+                                    "path": "/api/v1/seats/select"
+                                }
+                                """
+                        )
+                )
+        )
+})
+public @interface SelectSeatsApiDoc {
+}
@@ -0,0 +1,21 @@
+package concert.mania.concert.infrastructure.web.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 최적 연속 좌석 자동 선택 요청 DTO
+ */
+@Schema(description = "최적 연속 좌석 자동 선택 요청")
+public record BestAvailableSeatSelectionRequest(
+    @NotNull(message = "사용자 ID는 필수입니다")
+    @Schema(description = "사용자 ID", example = "1", required = true)
+    Long userId,
+
+    @Min(value = 1, message = "좌석 수는 1석 이상이어야 합니다")
+    @Max(value = 4, message = "한 번에 최대 4석까지 선택할 수 있습니다")
+    @Schema(description = "필요한 연속 좌석 수 (최대 4석)", example = "2", required = true)
+    int count
+) {}
@@ -0,0 +1,23 @@
+package concert.mania.concert.infrastructure.web.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 여러 좌석 일괄 선택 요청 DTO
+ */
+@Schema(description = "여러 좌석 일괄 선택 요청")
+public record MultiSeatSelectionRequest(
+    @NotNull(message = "사용자 ID는 필수입니다")
+    @Schema(description = "사용자 ID", example = "1", required = true)
+    Long userId,
+
+    @NotEmpty(message = "좌석 ID 목록은 필수입니다")
+    @Size(max = 4, message = "한 번에 최대 4석까지 선택할 수 있습니다")
+    @Schema(description = "좌석 ID 목록 (같은 콘서트의 좌석, 최대 4석)", example = "[1, 2]", required = true)
+    List<Long> seatIds
+) {}
@@ -5,6 +5,7 @@ import concert.mania.concert.domain.model.Concert;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -26,15 +27,17 @@ public record ConcertResponse(
         LocalDateTime reservationCloseDateTime, // 예매 마감 일시
         boolean isActive, // 활성화 여부
         boolean isReservable, // 예매 가능 여부
+        long availableSeats, // 예매 가능한 좌석 수 (전체 등급, 좌석 상태 카운터 기준)
         List<SeatGradeResponse> seatGrades // 좌석 등급 목록
 ) {
 
     /**
      * 도메인 모델을 응답 DTO로 변환
      * @param concert 콘서트 도메인 모델
+     * @param availableSeatsByGrade 좌석 등급 ID -> 예매 가능한 좌석 수
      * @return 콘서트 응답 DTO
      */
-    public static ConcertResponse from(Concert concert) {
+    public static ConcertResponse from(Concert concert, Map<Long, Long> availableSeatsByGrade) {
         if (concert == null) {
             return null;
         }
@@ -50,8 +53,10 @@ public record ConcertResponse(
                 concert.getReservationCloseDateTime(),
                 concert.isActive(),
                 concert.isReservable(),
+                availableSeatsByGrade.values().stream().mapToLong(Long::longValue).sum(),
                 concert.getSeatGrades().stream()
-                        .map(SeatGradeResponse::from)
+                        .map(seatGrade -> SeatGradeResponse.from(seatGrade,
+                                availableSeatsByGrade.getOrDefault(seatGrade.getId(), 0L).intValue()))
                         .collect(Collectors.toList())
         );
     }
@@ -65,15 +70,16 @@ public record ConcertResponse(
             String description, // 좌석 등급 설명
             double price, // 좌석 등급 가격
             int capacity, // 좌석 등급 수용 인원
-            int availableSeats // 예매 가능한 좌석 수
+            int availableSeats // 예매 가능한 좌석 수 (좌석 상태 카운터 기준, 이전에는 등급에 로드된 좌석 목록에서 계산)
     ) {
 
         /**
          * 도메인 모델을 응답 DTO로 변환
          * @param seatGrade 좌석 등급 도메인 모델
+         * @param availableSeats 예매 가능한 좌석 수
          * @return 좌석 등급 응답 DTO
          */
-        public static SeatGradeResponse from(concert.mania.concert.domain.model.SeatGrade seatGrade) {
+        public static SeatGradeResponse from(concert.mania.concert.domain.model.SeatGrade seatGrade, int availableSeats) {
             if (seatGrade == null) {
                 return null;
             }
@@ -84,7 +90,7 @@ public record ConcertResponse(
                     seatGrade.getDescription(),
                     seatGrade.getPrice().doubleValue(),
                     seatGrade.getCapacity(),
-                    seatGrade.getRemainingSeats()
+                    availableSeats
             );
         }
     }
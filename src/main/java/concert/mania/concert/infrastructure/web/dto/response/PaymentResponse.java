@@ -33,7 +33,7 @@ public record PaymentResponse(
     @Schema(description = "결제 취소 시간", example = "2023-01-01T13:00:00")
     LocalDateTime cancelledAt,
 
-    @Schema(description = "결제 상세 정보", example = "{\"cardNumber\":\"1234-xxxx-xxxx-5678\"}")
+    @Schema(description = "결제 상세 정보", example = "status=COMPLETED;tx=3f2b8c1e-5a4d-4e1b-9c7a-2d6f0e8b1a90")
     String paymentDetails,
 
     @Schema(description = "생성 시간", example = "2023-01-01T11:00:00")
@@ -0,0 +1,50 @@
+package concert.mania.concert.infrastructure.web.dto.response;
+
+import concert.mania.concert.domain.model.type.SeatStatus;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 예매 가능 여부 응답 DTO
+ * 전체 조회 시에는 비트맵을, 변경분 조회 시에는 변경된 좌석 목록만 포함
+ */
+public record SeatAvailabilityResponse(
+    Long concertId, // 콘서트 ID
+    long generation, // 좌석 상태 맵 세대
+    long version, // 좌석 상태 맵 버전
+    int seatCount, // 전체 좌석 수
+    String availabilityBitmap, // 예매 가능 좌석 비트맵 (Base64, 좌석 목록 조회 순서 기준, 변경분 조회 시 null)
+    List<SeatChange> changes // 변경된 좌석 목록 (전체 조회 시 null)
+) {
+
+    /**
+     * 변경된 좌석 정보
+     */
+    public record SeatChange(
+        Long seatId, // 좌석 ID
+        SeatStatus status // 현재 좌석 상태
+    ) {
+    }
+
+    /**
+     * 비트맵 전체 응답 생성
+     */
+    public static SeatAvailabilityResponse ofBitmap(Long concertId, long generation, long version,
+                                                    int seatCount, byte[] bitmap) {
+        return new SeatAvailabilityResponse(concertId, generation, version, seatCount,
+                Base64.getEncoder().encodeToString(bitmap), null);
+    }
+
+    /**
+     * 변경분 응답 생성
+     */
+    public static SeatAvailabilityResponse ofChanges(Long concertId, long generation, long version,
+                                                     int seatCount, Map<Long, SeatStatus> changes) {
+        List<SeatChange> seatChanges = changes.entrySet().stream()
+                .map(entry -> new SeatChange(entry.getKey(), entry.getValue()))
+                .toList();
+        return new SeatAvailabilityResponse(concertId, generation, version, seatCount, null, seatChanges);
+    }
+}
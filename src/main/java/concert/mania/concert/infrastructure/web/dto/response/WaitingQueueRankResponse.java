@@ -0,0 +1,25 @@
+package concert.mania.concert.infrastructure.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 대기 순번 알림 응답 DTO
+ * 대기열 스트림으로 전송되는 순번/예상 대기 시간 정보
+ */
+public record WaitingQueueRankResponse(
+    @Schema(description = "콘서트 ID", example = "1")
+    Long concertId,
+
+    @Schema(description = "대기열 위치", example = "120")
+    Integer position,
+
+    @Schema(description = "앞에 대기 중인 인원", example = "35")
+    Integer rank,
+
+    @Schema(description = "예상 대기 시간 (분)", example = "5")
+    Integer estimatedWaitingTime,
+
+    @Schema(description = "대기 종료 여부 (true이면 대기열 상태 조회 API로 입장 여부 확인)", example = "false")
+    boolean finished
+) {
+}
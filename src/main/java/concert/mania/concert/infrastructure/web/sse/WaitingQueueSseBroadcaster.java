@@ -0,0 +1,212 @@
+package concert.mania.concert.infrastructure.web.sse;
+
+import concert.mania.concert.application.port.in.WaitingQueueQueryUseCase;
+import concert.mania.concert.domain.model.AdmissionRate;
+import concert.mania.concert.domain.model.WaitingQueue;
+import concert.mania.concert.infrastructure.web.dto.response.WaitingQueueRankResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대기열 순번 SSE 브로드캐스터
+ * 대기 중인 사용자의 SSE 연결을 콘서트별로 보관하고, 입장 처리(또는 만료 처리)가 끝날 때마다
+ * 연결된 사용자 전체에 순번/예상 대기 시간을 한 번에 전송
+ *
+ * - 알림: 입장 처리한 인스턴스가 Redis 채널로 콘서트 ID를 발행하고, 모든 인스턴스가 자신에게 연결된 사용자에게 전송
+ * - 병합: 전송이 끝나기 전에 들어온 알림은 한 번의 추가 전송으로 합침
+ * - 전송: 대기열 실행기에서 실행하여 느린 클라이언트가 스케줄러 스레드를 붙잡지 않도록 하고, 전송에 실패한 연결은 정리
+ */
+@Component
+@Slf4j
+public class WaitingQueueSseBroadcaster implements MessageListener {
+
+    public static final String ADMISSION_CHANNEL = "waiting:queue:admitted";
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L; // 30분
+    private static final String RANK_EVENT = "rank";
+
+    private final WaitingQueueQueryUseCase waitingQueueQueryUseCase;
+    private final StringRedisTemplate redisTemplate;
+    private final ExecutorService queueExecutor;
+
+    // 콘서트 ID -> 구독 정보
+    private final Map<Long, ConcertSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    public WaitingQueueSseBroadcaster(WaitingQueueQueryUseCase waitingQueueQueryUseCase,
+                                      StringRedisTemplate redisTemplate,
+                                      ExecutorService queueExecutor,
+                                      RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.waitingQueueQueryUseCase = waitingQueueQueryUseCase;
+        this.redisTemplate = redisTemplate;
+        this.queueExecutor = queueExecutor;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(ADMISSION_CHANNEL));
+    }
+
+    /**
+     * 대기열 순번 구독
+     * @param waitingQueue 구독할 사용자의 대기열 정보
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(WaitingQueue waitingQueue) {
+        Long concertId = waitingQueue.getConcertId();
+        Long userId = waitingQueue.getUserId();
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(userId, emitter, waitingQueue.getPosition());
+
+        // 비어 있는 구독 정보 정리와 겹치지 않도록 등록은 compute 안에서 처리
+        Subscriber[] previous = new Subscriber[1];
+        subscriptions.compute(concertId, (id, subscription) -> {
+            ConcertSubscription target = subscription == null ? new ConcertSubscription() : subscription;
+            previous[0] = target.subscribers.put(userId, subscriber);
+            return target;
+        });
+        if (previous[0] != null) {
+            previous[0].emitter.complete();
+        }
+
+        Runnable unsubscribe = () -> unsubscribe(concertId, subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        // 현재 순번 즉시 전송
+        List<Integer> ranks = waitingQueueQueryUseCase.getWaitingRanks(concertId, List.of(subscriber.position));
+        AdmissionRate admissionRate = waitingQueueQueryUseCase.getAdmissionRate(concertId);
+        send(concertId, subscriber, ranks.get(0), admissionRate);
+        return emitter;
+    }
+
+    /**
+     * 입장 처리 알림 발행 (입장/만료 처리가 끝난 뒤 호출, 모든 인스턴스의 구독자에게 전송됨)
+     * @param concertId 콘서트 ID
+     */
+    public void notifyAdmission(Long concertId) {
+        try {
+            redisTemplate.convertAndSend(ADMISSION_CHANNEL, String.valueOf(concertId));
+        } catch (RuntimeException e) {
+            // 순번 알림 실패는 입장 처리에 영향을 주지 않음 (다음 입장 처리 때 다시 전송됨)
+            log.warn("대기열 입장 알림 발행 실패 - 콘서트 ID: {}, 오류: {}", concertId, e.getMessage());
+        }
+    }
+
+    /**
+     * 입장 처리 알림 수신 (메시지: 콘서트 ID)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            requestBroadcast(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 대기열 입장 알림 메시지 - 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 콘서트의 순번 전송 예약 (이미 예약된 전송이 있으면 그 전송에 합침)
+     */
+    private void requestBroadcast(Long concertId) {
+        ConcertSubscription subscription = subscriptions.get(concertId);
+        if (subscription == null || !subscription.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            queueExecutor.execute(() -> {
+                // 전송 시작 전에 예약을 해제하여 전송 중에 들어온 알림은 다음 전송으로 처리
+                subscription.scheduled.set(false);
+                broadcast(concertId, subscription);
+            });
+        } catch (RejectedExecutionException e) {
+            subscription.scheduled.set(false);
+            log.warn("대기열 순번 전송 작업 등록 실패 - 콘서트 ID: {}, 오류: {}", concertId, e.getMessage());
+        }
+    }
+
+    /**
+     * 콘서트 구독자 전체에 순번 전송
+     * 처리량은 콘서트당 한 번, 순번은 구독자 전체를 한 번의 파이프라인으로 조회
+     */
+    private void broadcast(Long concertId, ConcertSubscription subscription) {
+        List<Subscriber> subscribers = new ArrayList<>(subscription.subscribers.values());
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            List<Integer> ranks = waitingQueueQueryUseCase.getWaitingRanks(concertId,
+                    subscribers.stream().map(Subscriber::position).toList());
+            AdmissionRate admissionRate = waitingQueueQueryUseCase.getAdmissionRate(concertId);
+            for (int i = 0; i < subscribers.size(); i++) {
+                send(concertId, subscribers.get(i), ranks.get(i), admissionRate);
+            }
+            log.debug("대기열 순번 전송 완료 - 콘서트 ID: {}, 구독자 수: {}", concertId, subscribers.size());
+        } catch (Exception e) {
+            log.error("대기열 순번 전송 중 오류 발생 - 콘서트 ID: {}, 오류: {}", concertId, e.getMessage());
+        }
+    }
+
+    /**
+     * 구독자에게 순번 전송
+     * 더 이상 대기 중이 아닌 사용자(입장 처리/만료)는 종료 이벤트를 보내고 연결을 닫음
+     * @param rank 앞에 대기 중인 인원 (대기 중이 아니면 null)
+     */
+    private void send(Long concertId, Subscriber subscriber, Integer rank, AdmissionRate admissionRate) {
+        boolean finished = rank == null;
+        int waitingAhead = finished ? 0 : rank;
+
+        WaitingQueueRankResponse response = new WaitingQueueRankResponse(
+                concertId, subscriber.position, waitingAhead, admissionRate.estimateWaitingTime(waitingAhead), finished);
+        try {
+            subscriber.emitter.send(SseEmitter.event().name(RANK_EVENT).data(response));
+            if (finished) {
+                unsubscribe(concertId, subscriber);
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("대기열 순번 전송 실패 - 콘서트 ID: {}, 사용자 ID: {}, 오류: {}",
+                    concertId, subscriber.userId, e.getMessage());
+            // 끊어진 연결은 완료 콜백이 호출되지 않을 수 있으므로 바로 정리
+            unsubscribe(concertId, subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 구독 해제 (같은 사용자가 다시 구독한 경우 새 구독은 유지하고, 구독자가 없는 콘서트는 정리)
+     */
+    private void unsubscribe(Long concertId, Subscriber subscriber) {
+        subscriptions.computeIfPresent(concertId, (id, subscription) -> {
+            subscription.subscribers.remove(subscriber.userId, subscriber);
+            return subscription.subscribers.isEmpty() ? null : subscription;
+        });
+    }
+
+    /**
+     * 콘서트별 구독 정보
+     */
+    private static class ConcertSubscription {
+        private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>(); // 사용자 ID -> 구독자
+        private final AtomicBoolean scheduled = new AtomicBoolean(); // 순번 전송 예약 여부
+    }
+
+    /**
+     * 구독자 정보
+     */
+    private record Subscriber(Long userId, SseEmitter emitter, int position) {
+    }
+}
@@ -0,0 +1,109 @@
+package concert.mania.config;
+
+import concert.mania.config.properties.ExecutorProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 실행기 설정
+ * 결제/알림/대기열 작업별로 크기와 대기열 길이가 제한된 실행기를 분리하여
+ * 한 종류의 작업이 몰려도 다른 작업이나 요청 스레드를 잠식하지 않도록 함
+ *
+ * 실행기별 Micrometer 지표 (name 태그: payment, notification, queue)
+ * - executor.queued / executor.active / executor.pool.size  대기 작업 수, 실행 중인 작업 수, 스레드 수
+ * - executor / executor.idle                                작업 실행 시간, 대기열 대기 시간
+ * - executor.rejected                                       거부된 작업 수
+ */
+@EnableAsync
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncConfig implements AsyncConfigurer {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final ExecutorProperties executorProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 결제 처리 실행기
+     * 외부 결제 시스템 호출 동시성을 최대 스레드 수로 제한
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService paymentExecutor() {
+        return createExecutor("payment", executorProperties.getPayment());
+    }
+
+    /**
+     * 알림 실행기 (@Async 기본 실행기)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService notificationExecutor() {
+        return createExecutor("notification", executorProperties.getNotification());
+    }
+
+    /**
+     * 대기열 처리 실행기
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService queueExecutor() {
+        return createExecutor("queue", executorProperties.getQueue());
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return notificationExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 작업 실행 중 오류 발생 - 메서드: {}, 오류: {}", method.getName(), e.getMessage(), e);
+    }
+
+    /**
+     * 크기와 대기열 길이가 제한된 실행기 생성
+     * 가상 스레드 사용 시에도 같은 풀 구조를 사용하여 최대 스레드 수가 동시 실행 상한이 되고,
+     * 유휴 스레드는 만료되어 사라지므로 가상 스레드를 계속 보관하지 않음
+     */
+    private ExecutorService createExecutor(String name, ExecutorProperties.Pool pool) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("실행기 포화로 거부된 작업 수")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        ThreadFactory threadFactory = executorProperties.isVirtualThreads()
+                ? Thread.ofVirtual().name(name + "-", 0).factory()
+                : Thread.ofPlatform().name(name + "-", 0).factory();
+        int corePoolSize = executorProperties.isVirtualThreads() ? pool.getMaxPoolSize() : pool.getCorePoolSize();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                corePoolSize, pool.getMaxPoolSize(), KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(pool.getQueueCapacity()), threadFactory,
+                (task, saturated) -> {
+                    rejected.increment();
+                    throw new RejectedExecutionException(name + " 실행기가 포화 상태입니다.");
+                });
+        executor.allowCoreThreadTimeOut(executorProperties.isVirtualThreads());
+
+        log.info("실행기 생성 - 이름: {}, 가상 스레드: {}, 최대 스레드 수: {}, 대기열 크기: {}",
+                name, executorProperties.isVirtualThreads(), pool.getMaxPoolSize(), pool.getQueueCapacity());
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, name, Tags.empty());
+    }
+}
@@ -1,12 +1,26 @@
 package concert.mania.config;
 
+import concert.mania.concert.infrastructure.messaging.converter.BinaryMessageCodec;
+import concert.mania.concert.infrastructure.messaging.converter.CompactBinaryMessageConverter;
+import concert.mania.concert.infrastructure.messaging.deadletter.MessageRecoveryAdvice;
+import concert.mania.concert.infrastructure.metrics.RabbitListenerMetrics;
+import concert.mania.config.properties.ListenerProperties;
+import concert.mania.config.properties.MessageRetryProperties;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 
 /**
  * RabbitMQ 설정
@@ -22,33 +36,144 @@ public class RabbitMQConfig {
 
     // 결제 관련 큐 및 익스체인지 이름
     public static final String PAYMENT_EXCHANGE = "payment.exchange";
-    public static final String PAYMENT_PROCESS_QUEUE = "payment.process";
-    public static final String PAYMENT_SUCCESS_QUEUE = "payment.success";
-    public static final String PAYMENT_FAILURE_QUEUE = "payment.failure";
-    public static final String PAYMENT_DETAILED_FAILURE_QUEUE = "payment.detailed.failure";
-    public static final String PAYMENT_DETAILED_SUCCESS_QUEUE = "payment.detailed.success";
+    public static final String PAYMENT_EVENT_QUEUE = "payment.events";
+    public static final String PAYMENT_EVENT_ROUTING_KEY = "event";
+
+    // 실패 메시지 처리 (재시도 큐: TTL 경과 후 원래 큐로 복귀, DLQ: 재시도 횟수 초과 메시지 보관)
+    public static final String RETRY_EXCHANGE = "retry.exchange";
+    public static final String DEAD_LETTER_EXCHANGE = "dead.letter.exchange";
+    public static final String RETRY_QUEUE_SUFFIX = ".retry";
+    public static final String DEAD_LETTER_QUEUE_SUFFIX = ".dlq";
+    public static final List<String> RETRYABLE_QUEUES = List.of(
+            WAITING_QUEUE_REGISTER_QUEUE, WAITING_QUEUE_PROCESS_QUEUE, WAITING_QUEUE_ENTER_QUEUE, PAYMENT_EVENT_QUEUE);
+
+    // 큐별 리스너 컨테이너 팩토리 이름
+    public static final String WAITING_QUEUE_REGISTER_LISTENER_FACTORY = "waitingQueueRegisterListenerFactory";
+    public static final String WAITING_QUEUE_PROCESS_LISTENER_FACTORY = "waitingQueueProcessListenerFactory";
+    public static final String WAITING_QUEUE_ENTER_LISTENER_FACTORY = "waitingQueueEnterListenerFactory";
+    public static final String PAYMENT_EVENT_LISTENER_FACTORY = "paymentEventListenerFactory";
+
+    // 배치 수신 시 다음 메시지 대기 시간 (이 시간 동안 메시지가 없으면 모인 만큼 전달)
+    private static final long BATCH_RECEIVE_TIMEOUT_MILLIS = 100L;
 
     /**
      * 메시지 컨버터 설정
-     * @return JSON 메시지 컨버터
+     * 발행은 기본적으로 JSON, 수신은 content-type에 따라 JSON/압축 바이너리 컨버터로 위임
+     * @param binaryMessageConverter 압축 바이너리 메시지 컨버터
+     * @return 메시지 컨버터
+     */
+    @Bean
+    @Primary
+    public MessageConverter messageConverter(CompactBinaryMessageConverter binaryMessageConverter) {
+        ContentTypeDelegatingMessageConverter converter =
+                new ContentTypeDelegatingMessageConverter(new Jackson2JsonMessageConverter());
+        converter.addDelegate(CompactBinaryMessageConverter.CONTENT_TYPE, binaryMessageConverter);
+        return converter;
+    }
+
+    /**
+     * 압축 바이너리 메시지 컨버터 설정 (messaging.format.binary-queues에 설정된 큐에서 사용)
+     * @param codecs 메시지 타입별 바이너리 코덱
+     * @return 압축 바이너리 메시지 컨버터
      */
     @Bean
-    public MessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public CompactBinaryMessageConverter binaryMessageConverter(List<BinaryMessageCodec<?>> codecs) {
+        return new CompactBinaryMessageConverter(codecs);
     }
 
     /**
      * RabbitTemplate 설정
      * @param connectionFactory RabbitMQ 연결 팩토리
+     * @param messageConverter 메시지 컨버터
      * @return RabbitTemplate
      */
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
-        template.setMessageConverter(jsonMessageConverter());
+        template.setMessageConverter(messageConverter);
+        // 라우팅되지 않은 메시지를 반환받아 발행 확인에서 구분
+        template.setMandatory(true);
+        // 소비 지연(lag) 측정을 위한 발행 시각 기록
+        template.setBeforePublishPostProcessors(message -> {
+            message.getMessageProperties().setTimestamp(new Date());
+            return message;
+        });
         return template;
     }
 
+    /**
+     * 대기열 등록 리스너 컨테이너 팩토리
+     * 등록 폭주를 여러 소비자가 배치(List)로 나눠 받아 처리
+     */
+    @Bean(name = WAITING_QUEUE_REGISTER_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory waitingQueueRegisterListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            ListenerProperties listenerProperties, MessageRecoveryAdvice messageRecoveryAdvice,
+            RabbitListenerMetrics rabbitListenerMetrics) {
+        SimpleRabbitListenerContainerFactory factory = createListenerFactory(configurer, connectionFactory,
+                listenerProperties.getRegister(), messageRecoveryAdvice, rabbitListenerMetrics);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(listenerProperties.getRegister().getBatchSize());
+        factory.setReceiveTimeout(BATCH_RECEIVE_TIMEOUT_MILLIS);
+        return factory;
+    }
+
+    /**
+     * 대기열 처리 리스너 컨테이너 팩토리
+     */
+    @Bean(name = WAITING_QUEUE_PROCESS_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory waitingQueueProcessListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            ListenerProperties listenerProperties, MessageRecoveryAdvice messageRecoveryAdvice,
+            RabbitListenerMetrics rabbitListenerMetrics) {
+        return createListenerFactory(configurer, connectionFactory, listenerProperties.getProcess(),
+                messageRecoveryAdvice, rabbitListenerMetrics);
+    }
+
+    /**
+     * 대기열 입장 리스너 컨테이너 팩토리
+     */
+    @Bean(name = WAITING_QUEUE_ENTER_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory waitingQueueEnterListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            ListenerProperties listenerProperties, MessageRecoveryAdvice messageRecoveryAdvice,
+            RabbitListenerMetrics rabbitListenerMetrics) {
+        return createListenerFactory(configurer, connectionFactory, listenerProperties.getEnter(),
+                messageRecoveryAdvice, rabbitListenerMetrics);
+    }
+
+    /**
+     * 결제 이벤트 리스너 컨테이너 팩토리
+     */
+    @Bean(name = PAYMENT_EVENT_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory paymentEventListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            ListenerProperties listenerProperties, MessageRecoveryAdvice messageRecoveryAdvice,
+            RabbitListenerMetrics rabbitListenerMetrics) {
+        return createListenerFactory(configurer, connectionFactory, listenerProperties.getPayment(),
+                messageRecoveryAdvice, rabbitListenerMetrics);
+    }
+
+    /**
+     * 리스너 컨테이너 팩토리 생성
+     * 공통 설정(spring.rabbitmq.listener.simple)을 적용한 뒤 큐별 동시성/prefetch와 어드바이스를 설정
+     * 처리 실패 메시지는 복구 어드바이스가 재시도 큐/DLQ로 보내므로 컨테이너 스레드가 재시도로 대기하지 않음
+     */
+    private SimpleRabbitListenerContainerFactory createListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+            ListenerProperties.Listener listener, MessageRecoveryAdvice messageRecoveryAdvice,
+            RabbitListenerMetrics rabbitListenerMetrics) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(listener.getConcurrentConsumers());
+        factory.setMaxConcurrentConsumers(listener.getMaxConcurrentConsumers());
+        factory.setPrefetchCount(listener.getPrefetchCount());
+        // 복구 어드바이스를 바깥에 두어 지표 어드바이스가 실패를 기록한 뒤 복구되도록 함
+        factory.setAdviceChain(messageRecoveryAdvice, rabbitListenerMetrics);
+        return factory;
+    }
+
     /**
      * 대기열 등록 큐 설정
      * @return 대기열 등록 큐
@@ -128,32 +253,13 @@ public class RabbitMQConfig {
     }
 
     /**
-     * 결제 처리 큐 설정
-     * @return 결제 처리 큐
-     */
-    @Bean
-    public Queue paymentProcessQueue() {
-        return QueueBuilder.durable(PAYMENT_PROCESS_QUEUE)
-                .build();
-    }
-
-    /**
-     * 결제 성공 큐 설정
-     * @return 결제 성공 큐
-     */
-    @Bean
-    public Queue paymentSuccessQueue() {
-        return QueueBuilder.durable(PAYMENT_SUCCESS_QUEUE)
-                .build();
-    }
-
-    /**
-     * 결제 실패 큐 설정
-     * @return 결제 실패 큐
+     * 결제 이벤트 큐 설정
+     * 결제 완료/실패 이벤트를 하나의 큐로 전달 (결제당 결과 이벤트 하나)
+     * @return 결제 이벤트 큐
      */
     @Bean
-    public Queue paymentFailureQueue() {
-        return QueueBuilder.durable(PAYMENT_FAILURE_QUEUE)
+    public Queue paymentEventQueue() {
+        return QueueBuilder.durable(PAYMENT_EVENT_QUEUE)
                 .build();
     }
 
@@ -167,87 +273,45 @@ public class RabbitMQConfig {
     }
 
     /**
-     * 결제 처리 큐와 익스체인지 바인딩
-     * @param paymentProcessQueue 결제 처리 큐
-     * @param paymentExchange 결제 익스체인지
-     * @return 바인딩
-     */
-    @Bean
-    public Binding bindingPaymentProcess(Queue paymentProcessQueue, DirectExchange paymentExchange) {
-        return BindingBuilder.bind(paymentProcessQueue)
-                .to(paymentExchange)
-                .with("process");
-    }
-
-    /**
-     * 결제 성공 큐와 익스체인지 바인딩
-     * @param paymentSuccessQueue 결제 성공 큐
-     * @param paymentExchange 결제 익스체인지
-     * @return 바인딩
-     */
-    @Bean
-    public Binding bindingPaymentSuccess(Queue paymentSuccessQueue, DirectExchange paymentExchange) {
-        return BindingBuilder.bind(paymentSuccessQueue)
-                .to(paymentExchange)
-                .with("success");
-    }
-
-    /**
-     * 결제 실패 큐와 익스체인지 바인딩
-     * @param paymentFailureQueue 결제 실패 큐
-     * @param paymentExchange 결제 익스체인지
-     * @return 바인딩
-     */
-    @Bean
-    public Binding bindingPaymentFailure(Queue paymentFailureQueue, DirectExchange paymentExchange) {
-        return BindingBuilder.bind(paymentFailureQueue)
-                .to(paymentExchange)
-                .with("failure");
-    }
-
-    /**
-     * 상세 결제 실패 큐 설정
-     * @return 상세 결제 실패 큐
-     */
-    @Bean
-    public Queue paymentDetailedFailureQueue() {
-        return QueueBuilder.durable(PAYMENT_DETAILED_FAILURE_QUEUE)
-                .build();
-    }
-
-    /**
-     * 상세 결제 실패 큐와 익스체인지 바인딩
-     * @param paymentDetailedFailureQueue 상세 결제 실패 큐
+     * 결제 이벤트 큐와 익스체인지 바인딩
+     * @param paymentEventQueue 결제 이벤트 큐
      * @param paymentExchange 결제 익스체인지
      * @return 바인딩
      */
     @Bean
-    public Binding bindingPaymentDetailedFailure(Queue paymentDetailedFailureQueue, DirectExchange paymentExchange) {
-        return BindingBuilder.bind(paymentDetailedFailureQueue)
+    public Binding bindingPaymentEvent(Queue paymentEventQueue, DirectExchange paymentExchange) {
+        return BindingBuilder.bind(paymentEventQueue)
                 .to(paymentExchange)
-                .with("detailed.failure");
+                .with(PAYMENT_EVENT_ROUTING_KEY);
     }
 
     /**
-     * 상세 결제 성공 큐 설정
-     * @return 상세 결제 성공 큐
+     * 재시도/DLQ 토폴로지 설정
+     * 작업 큐마다 재시도 큐(메시지 TTL 경과 시 기본 익스체인지로 원래 큐에 dead-letter)와 DLQ를 선언
+     * @param retryProperties 재시도 설정
+     * @return 재시도/DLQ 익스체인지, 큐, 바인딩
      */
     @Bean
-    public Queue paymentDetailedSuccessQueue() {
-        return QueueBuilder.durable(PAYMENT_DETAILED_SUCCESS_QUEUE)
-                .build();
-    }
+    public Declarables deadLetterTopology(MessageRetryProperties retryProperties) {
+        DirectExchange retryExchange = new DirectExchange(RETRY_EXCHANGE);
+        DirectExchange deadLetterExchange = new DirectExchange(DEAD_LETTER_EXCHANGE);
 
-    /**
-     * 상세 결제 성공 큐와 익스체인지 바인딩
-     * @param paymentDetailedSuccessQueue 상세 결제 성공 큐
-     * @param paymentExchange 결제 익스체인지
-     * @return 바인딩
-     */
-    @Bean
-    public Binding bindingPaymentDetailedSuccess(Queue paymentDetailedSuccessQueue, DirectExchange paymentExchange) {
-        return BindingBuilder.bind(paymentDetailedSuccessQueue)
-                .to(paymentExchange)
-                .with("detailed.success");
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(retryExchange);
+        declarables.add(deadLetterExchange);
+        for (String queue : RETRYABLE_QUEUES) {
+            Queue retryQueue = QueueBuilder.durable(queue + RETRY_QUEUE_SUFFIX)
+                    .ttl(retryProperties.getDelayMillis())
+                    .deadLetterExchange("")
+                    .deadLetterRoutingKey(queue)
+                    .build();
+            Queue deadLetterQueue = QueueBuilder.durable(queue + DEAD_LETTER_QUEUE_SUFFIX)
+                    .build();
+            declarables.add(retryQueue);
+            declarables.add(deadLetterQueue);
+            declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange).with(queue));
+            declarables.add(BindingBuilder.bind(deadLetterQueue).to(deadLetterExchange).with(queue));
+        }
+        return new Declarables(declarables);
     }
 }
@@ -84,6 +84,8 @@ public class SecurityConfig {
                             .hasAnyAuthority(Authority.ROLE_USER.name(), Authority.ROLE_ADMIN.name())
                             .requestMatchers(HttpMethod.PATCH, "/api/v1/users/{userId}")
                             .hasAnyAuthority(Authority.ROLE_USER.name())
+                            .requestMatchers("/api/v1/admin/**")
+                            .hasAnyAuthority(Authority.ROLE_SUPER.name(), Authority.ROLE_ADMIN.name())
                             .anyRequest().authenticated();
 
                 })
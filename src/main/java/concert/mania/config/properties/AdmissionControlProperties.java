@@ -0,0 +1,62 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "waiting-queue.admission")
+@Data
+@Component
+public class AdmissionControlProperties {
+    /**
+     * 입장 처리 틱 간격 (밀리초, 입장 처리량 측정 간격의 기준)
+     */
+    private long tickIntervalMillis = 10000L;
+
+    /**
+     * 입장 처리 리더 임대 시간 (밀리초, 틱 간격보다 길어야 함)
+     * 동시 입장 허용 인원은 리더 인스턴스 메모리에만 있으므로 리더가 바뀌면 최초 허용 인원부터 다시 조절
+     */
+    private long leaderLeaseMillis = 30000L;
+
+    /**
+     * 콘서트별 최초 동시 입장 허용 인원 (처리 중 상태 최대 인원)
+     */
+    private int initialWindow = 10;
+
+    /**
+     * 동시 입장 허용 인원 하한 / 상한
+     */
+    private int minWindow = 1;
+    private int maxWindow = 1000;
+
+    /**
+     * 시스템이 여유로울 때 틱마다 늘릴 인원 (Additive Increase)
+     */
+    private int additiveIncrease = 10;
+
+    /**
+     * 시스템이 과부하일 때 곱할 비율 (Multiplicative Decrease)
+     */
+    private double multiplicativeDecrease = 0.5;
+
+    /**
+     * 과부하 판단 기준: 커넥션 풀 사용률 (0 ~ 1)
+     */
+    private double maxConnectionPoolUsage = 0.8;
+
+    /**
+     * 과부하 판단 기준: 커넥션 대기 스레드 수
+     */
+    private int maxPendingConnections = 0;
+
+    /**
+     * 과부하 판단 기준: 좌석 선택 API p99 응답 시간 (밀리초)
+     */
+    private long maxSeatSelectionP99Millis = 500L;
+
+    /**
+     * 과부하 판단 기준: 처리 대기 중인 메시지 수
+     */
+    private long maxMessageBacklog = 1000L;
+}
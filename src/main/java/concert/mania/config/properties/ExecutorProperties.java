@@ -0,0 +1,58 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "executor")
+@Data
+@Component
+public class ExecutorProperties {
+    /**
+     * 가상 스레드 사용 여부 (Java 21)
+     * 사용 시 풀 크기는 스레드 수가 아닌 동시 실행 상한으로만 동작
+     */
+    private boolean virtualThreads = false;
+
+    /**
+     * 결제 처리 실행기 (외부 결제 시스템 호출 동시성 상한)
+     */
+    private Pool payment = new Pool(4, 16, 200);
+
+    /**
+     * 알림 실행기 (@Async 기본 실행기)
+     */
+    private Pool notification = new Pool(2, 8, 1000);
+
+    /**
+     * 대기열 처리 실행기 (콘서트별 대기열 처리 작업)
+     */
+    private Pool queue = new Pool(4, 32, 100);
+
+    @Data
+    public static class Pool {
+        /**
+         * 기본 스레드 수
+         */
+        private int corePoolSize;
+
+        /**
+         * 최대 스레드 수 (동시 실행 상한)
+         */
+        private int maxPoolSize;
+
+        /**
+         * 대기 작업 수 상한 (초과 시 거부)
+         */
+        private int queueCapacity;
+
+        public Pool() {
+        }
+
+        public Pool(int corePoolSize, int maxPoolSize, int queueCapacity) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
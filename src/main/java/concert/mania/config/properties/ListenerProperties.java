@@ -0,0 +1,63 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "messaging.listener")
+@Data
+@Component
+public class ListenerProperties {
+    /**
+     * 대기열 등록 큐 (등록 폭주를 병렬 소비자와 배치 수신으로 흡수)
+     */
+    private Listener register = new Listener(4, 16, 250, 50);
+
+    /**
+     * 대기열 처리 큐 (콘서트별 일괄 처리 메시지)
+     */
+    private Listener process = new Listener(1, 4, 10, 1);
+
+    /**
+     * 대기열 입장 큐
+     */
+    private Listener enter = new Listener(2, 8, 50, 1);
+
+    /**
+     * 결제 이벤트 큐
+     */
+    private Listener payment = new Listener(2, 8, 50, 1);
+
+    @Data
+    public static class Listener {
+        /**
+         * 기본 소비자 수
+         */
+        private int concurrentConsumers;
+
+        /**
+         * 최대 소비자 수 (메시지가 쌓이면 이 수까지 늘어남)
+         */
+        private int maxConcurrentConsumers;
+
+        /**
+         * 소비자당 미확인 메시지 수 상한 (prefetch)
+         */
+        private int prefetchCount;
+
+        /**
+         * 배치 수신 시 한 번에 전달할 메시지 수 (배치 리스너에만 적용)
+         */
+        private int batchSize;
+
+        public Listener() {
+        }
+
+        public Listener(int concurrentConsumers, int maxConcurrentConsumers, int prefetchCount, int batchSize) {
+            this.concurrentConsumers = concurrentConsumers;
+            this.maxConcurrentConsumers = maxConcurrentConsumers;
+            this.prefetchCount = prefetchCount;
+            this.batchSize = batchSize;
+        }
+    }
+}
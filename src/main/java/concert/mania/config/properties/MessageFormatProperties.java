@@ -0,0 +1,19 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "messaging.format")
+@Data
+@Component
+public class MessageFormatProperties {
+    /**
+     * 압축 바이너리 형식으로 발행할 큐 이름 (그 외 큐는 JSON)
+     * 소비자는 content-type으로 형식을 구분하므로, 소비자를 먼저 배포한 뒤 큐를 추가해야 함
+     */
+    private Set<String> binaryQueues = new HashSet<>();
+}
@@ -0,0 +1,30 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "messaging.publisher")
+@Data
+@Component
+public class MessagePublisherProperties {
+    /**
+     * 한 채널에서 연속으로 발행할 최대 메시지 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 브로커 확인을 받지 못한 메시지 수 상한 (초과 시 발행 요청을 대기시킴)
+     */
+    private int maxUnconfirmed = 10000;
+
+    /**
+     * 미확인 메시지 수가 상한일 때 발행 요청의 최대 대기 시간 (밀리초)
+     */
+    private long backpressureTimeoutMillis = 1000L;
+
+    /**
+     * 요청 처리 중 브로커 확인을 기다리는 최대 시간 (밀리초, 대기열 등록처럼 접수 결과를 응답해야 하는 경우)
+     */
+    private long confirmTimeoutMillis = 3000L;
+}
@@ -0,0 +1,28 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "messaging.retry")
+@Data
+@Component
+public class MessageRetryProperties {
+    /**
+     * 최대 처리 시도 횟수 (첫 처리 포함, 초과 시 DLQ로 보관)
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 재처리 대기 시간 (밀리초, 재시도 큐의 메시지 TTL)
+     * 변경 시 기존 재시도 큐를 삭제해야 새 TTL로 다시 선언됨
+     */
+    private int delayMillis = 5000;
+
+    /**
+     * 멱등 처리 중 표시 유지 시간 (밀리초)
+     * 처리 도중 종료된 소비자의 메시지가 재전달되면 이 시간이 지나야 다시 처리되므로,
+     * 재시도 횟수 안에 다시 처리되도록 (최대 시도 횟수 - 1) * 재처리 대기 시간보다 짧게 설정
+     */
+    private long processingTtlMillis = 8000;
+}
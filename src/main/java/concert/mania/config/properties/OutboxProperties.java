@@ -0,0 +1,35 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "outbox")
+@Data
+@Component
+public class OutboxProperties {
+    /**
+     * 릴레이 실행 간격 (밀리초, 이전 실행 종료 기준)
+     */
+    private long pollIntervalMillis = 100L;
+
+    /**
+     * 한 번에 잠그고 발행할 이벤트 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 한 번의 실행에서 처리할 최대 배치 수 (밀린 이벤트가 많을 때 연속 처리 상한)
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 배치 발행 후 브로커 확인(publisher confirm) 대기 시간 (밀리초)
+     */
+    private long confirmTimeoutMillis = 5000L;
+
+    /**
+     * 처리 완료된 이벤트 보관 기간 (시간)
+     */
+    private int retentionHours = 24;
+}
@@ -0,0 +1,25 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "payment.reconciliation")
+@Data
+@Component
+public class PaymentReconciliationProperties {
+    /**
+     * 한 번에 조회/갱신할 결제 수 (키셋 페이지 크기)
+     */
+    private int batchSize = 500;
+
+    /**
+     * 결제 만료 시간 (분, 외부 결제 시스템에서도 진행 중인 결제는 실패 처리)
+     */
+    private int expirationMinutes = 15;
+
+    /**
+     * 대조 제외 시간 (초, 결제 재시도 스케줄러가 처리 중인 최근 결제는 대조하지 않음)
+     */
+    private int gracePeriodSeconds = 60;
+}
@@ -0,0 +1,45 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "payment.retry")
+@Data
+@Component
+public class PaymentRetryProperties {
+    /**
+     * 최대 결제 시도 횟수 (외부 결제 요청 횟수)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 결제 요청 후 첫 상태 확인까지 대기 시간 (밀리초)
+     */
+    private long initialPollDelayMillis = 500L;
+
+    /**
+     * 상태 확인 간격 상한 (밀리초)
+     */
+    private long maxPollDelayMillis = 8000L;
+
+    /**
+     * 결제 실패 후 재요청까지 대기 시간 (밀리초)
+     */
+    private long retryDelayMillis = 2000L;
+
+    /**
+     * 대기 시간 증가 배수 (지수 백오프)
+     */
+    private double backoffMultiplier = 2.0;
+
+    /**
+     * 한 번의 결제 시도가 진행 중 상태로 머무를 수 있는 최대 시간 (밀리초, 초과 시 실패한 시도로 처리)
+     */
+    private long attemptTimeoutMillis = 30000L;
+
+    /**
+     * 상태 확인 작업 스케줄러 스레드 수
+     */
+    private int schedulerPoolSize = 2;
+}
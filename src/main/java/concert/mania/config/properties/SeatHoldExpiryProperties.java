@@ -0,0 +1,31 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "seat.hold-expiry")
+@Data
+@Component
+public class SeatHoldExpiryProperties {
+    /**
+     * 만료 좌석 정리 실행 간격 (밀리초, 이전 실행 종료 기준)
+     */
+    private long pollIntervalMillis = 500L;
+
+    /**
+     * 배치당 정리할 만료 좌석 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 실행당 최대 배치 수
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 정리 작업 리더 임대 시간 (밀리초, 배치마다 갱신되므로 배치 하나의 처리 시간보다 길어야 함)
+     * 리더 인스턴스가 응답하지 않으면 이 시간 후 다른 인스턴스가 이어받음
+     */
+    private long leaderLeaseMillis = 5000L;
+}
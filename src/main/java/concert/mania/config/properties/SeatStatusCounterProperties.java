@@ -0,0 +1,35 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "seat.status-counter")
+@Data
+@Component
+public class SeatStatusCounterProperties {
+    /**
+     * 인스턴스에 쌓인 증감을 Redis에 반영하고 클러스터 카운터를 다시 읽는 간격 (밀리초)
+     */
+    private long flushIntervalMillis = 1000L;
+
+    /**
+     * DB 집계로 카운터를 보정하는 간격 (밀리초)
+     */
+    private long reconcileIntervalMillis = 60000L;
+
+    /**
+     * 보정 기준 시각을 예고한 뒤 집계까지 기다리는 시간 (밀리초, 반영 간격과 인스턴스 간 시계 차이보다 길어야 함)
+     */
+    private long reconcileCutoffDelayMillis = 3000L;
+
+    /**
+     * 보정 기준 시각 이후의 증감을 보류하는 최대 시간 (밀리초, 리더는 이 시간의 절반 안에 덮어쓰지 못한 콘서트를 건너뜀)
+     */
+    private long reconcileTimeoutMillis = 10000L;
+
+    /**
+     * 보정 작업 리더 임대 시간 (밀리초, 보정 간격보다 길어야 함)
+     */
+    private long leaderLeaseMillis = 180000L;
+}
@@ -0,0 +1,15 @@
+package concert.mania.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@ConfigurationProperties(prefix = "seat.status-map")
+@Data
+@Component
+public class SeatStatusMapProperties {
+    /**
+     * 로드된 좌석 상태 맵과 공유 버전을 비교하는 간격 (밀리초, 구독 중 유실된 변경을 감지하는 최대 지연)
+     */
+    private long verifyIntervalMillis = 5000L;
+}
@@ -64,6 +64,8 @@ public enum ErrorCode {
 
     //좌석 관련
     ALREADY_SEAT("이미 다른 사용자가 선택한 좌석입니다.", HttpStatus.BAD_REQUEST),
+    NO_ADJACENT_SEATS("요청한 수만큼 연속된 예매 가능 좌석이 없습니다.", HttpStatus.BAD_REQUEST),
+    WAITING_QUEUE_REGISTER_UNAVAILABLE("대기열 등록 요청을 접수하지 못했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
     // === JWT 토큰 관련 ===
     JWT_INVALID("유효하지 않은 토큰입니다.", HttpStatus.UNAUTHORIZED),
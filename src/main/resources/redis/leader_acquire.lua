@@ -0,0 +1,14 @@
+-- 리더 임대 획득 또는 갱신
+-- KEYS[1] = leader:{name}
+-- ARGV[1] = 인스턴스 ID, ARGV[2] = 임대 시간(ms)
+-- 반환: 1 = 리더 (획득 또는 갱신), 0 = 다른 인스턴스가 리더
+local owner = redis.call('GET', KEYS[1])
+if owner == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+if not owner then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return 1
+end
+return 0
@@ -0,0 +1,8 @@
+-- 리더 임대 반납 (자신이 리더인 경우에만 삭제)
+-- KEYS[1] = leader:{name}
+-- ARGV[1] = 인스턴스 ID
+-- 반환: 1 = 반납, 0 = 리더가 아님
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
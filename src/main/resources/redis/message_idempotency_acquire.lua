@@ -0,0 +1,12 @@
+-- 메시지 처리 선점 (처리 중 표시를 짧은 TTL로 설정)
+-- KEYS[1] = message:processed:{멱등 키}
+-- ARGV[1] = 처리 중 표시 TTL(ms)
+-- 반환: 1 = 선점, 0 = 다른 소비자가 처리 중, 2 = 처리 완료
+-- 처리 중인 소비자가 비정상 종료되면 처리 중 표시가 TTL로 만료되어 재전달된 메시지를 다시 처리할 수 있음
+if redis.call('SET', KEYS[1], 'processing', 'NX', 'PX', ARGV[1]) then
+    return 1
+end
+if redis.call('GET', KEYS[1]) == 'done' then
+    return 2
+end
+return 0
@@ -0,0 +1,7 @@
+-- 메시지 처리 선점 해제 (처리 중 표시만 삭제, 처리 완료 표시는 유지)
+-- KEYS[1] = message:processed:{멱등 키}
+-- 반환: 1 = 해제, 0 = 처리 중 표시가 아님
+if redis.call('GET', KEYS[1]) == 'processing' then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
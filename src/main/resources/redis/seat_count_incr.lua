@@ -0,0 +1,16 @@
+-- 좌석 상태 카운터 증분 반영 후 조회
+-- KEYS[1] = seat:count:{concertId}
+-- ARGV[1] = 인스턴스가 마지막으로 확인한 보정 에포크 (-1 = 모름), ARGV[2..] = 필드({등급 ID}:{상태}), 증감 쌍
+-- 그 뒤로 보정되었으면 증감은 모두 보정 기준 시각 이전 것(DB 집계에 포함)이므로 버림
+-- 반환: {보정 에포크, 해시 필드/값 목록}, 카운터가 없으면 빈 목록 (생성 시 DB 집계에 포함되므로 버림)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return {}
+end
+local epoch = tonumber(redis.call('HGET', KEYS[1], 'epoch') or '0')
+local known = tonumber(ARGV[1])
+if known < 0 or epoch <= known then
+    for i = 2, #ARGV, 2 do
+        redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+    end
+end
+return {epoch, redis.call('HGETALL', KEYS[1])}
@@ -0,0 +1,19 @@
+-- 좌석 상태 카운터 일괄 생성 (다른 인스턴스가 이미 생성한 카운터는 유지)
+-- KEYS[1] = seat:count:concerts, KEYS[2..] = seat:count:{concertId}
+-- ARGV = 콘서트마다 (콘서트 ID, 필드 수, 필드({등급 ID}:{상태})/좌석 수 쌍) 반복
+-- 반환: 콘서트 순서대로 해시 필드/값 목록
+local result = {}
+local pos = 1
+for k = 2, #KEYS do
+    local fieldCount = tonumber(ARGV[pos + 1])
+    redis.call('SADD', KEYS[1], ARGV[pos])
+    if redis.call('EXISTS', KEYS[k]) == 0 then
+        redis.call('HSET', KEYS[k], 'loaded', '1', 'epoch', '0')
+        for i = pos + 2, pos + 1 + fieldCount * 2, 2 do
+            redis.call('HSET', KEYS[k], ARGV[i], ARGV[i + 1])
+        end
+    end
+    pos = pos + 2 + fieldCount * 2
+    result[k - 1] = redis.call('HGETALL', KEYS[k])
+end
+return result
@@ -0,0 +1,8 @@
+-- 좌석 상태 카운터 일괄 조회
+-- KEYS = seat:count:{concertId} 목록
+-- 반환: 키 순서대로 해시 필드/값 목록 (카운터가 없으면 빈 목록)
+local result = {}
+for i = 1, #KEYS do
+    result[i] = redis.call('HGETALL', KEYS[i])
+end
+return result
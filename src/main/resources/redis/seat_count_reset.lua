@@ -0,0 +1,14 @@
+-- 좌석 상태 카운터 덮어쓰기 (DB 집계로 정합성 보정)
+-- KEYS[1] = seat:count:{concertId}
+-- ARGV[1] = 보정 에포크 (보정 기준 시각), ARGV[2..] = 필드({등급 ID}:{상태}), 좌석 수 쌍
+-- 반환: 1 = 덮어씀, 0 = 같거나 더 최근 에포크로 이미 보정됨
+local epoch = tonumber(redis.call('HGET', KEYS[1], 'epoch') or '0')
+if epoch >= tonumber(ARGV[1]) then
+    return 0
+end
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[1], 'loaded', '1', 'epoch', ARGV[1])
+for i = 2, #ARGV, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+return 1
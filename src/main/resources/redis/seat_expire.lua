@@ -0,0 +1,14 @@
+-- 만료된 좌석 잠금 조회 (만료 인덱스에서 만료 시간 순으로 최대 limit개)
+-- KEYS[1] = seat:lock:expiry
+-- ARGV[1] = now(ms), ARGV[2] = limit, ARGV[3] = 좌석 잠금 키 접두사
+-- 반환: 잠금이 만료된 좌석 ID 목록
+-- 인덱스에서는 제거하지 않음 (좌석 상태 반영이 커밋된 뒤 seat_expire_ack.lua로 제거)
+-- TTL이 아직 남은 잠금(시계 오차)은 다음 실행에서 다시 확인
+local seatIds = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+local expired = {}
+for _, seatId in ipairs(seatIds) do
+    if redis.call('EXISTS', ARGV[3] .. seatId) == 0 then
+        table.insert(expired, seatId)
+    end
+end
+return expired
@@ -0,0 +1,13 @@
+-- 처리 완료된 만료 좌석을 만료 인덱스에서 제거
+-- KEYS[1] = seat:lock:expiry
+-- ARGV[1] = 조회 시점 now(ms), ARGV[2] = 좌석 잠금 키 접두사, ARGV[3..] = 좌석 ID
+-- 반환: 제거된 좌석 수
+-- 그 사이 다시 잠긴 좌석은 만료 시간(score)이 갱신되고 잠금 키가 있으므로 제거하지 않음
+local removed = 0
+for i = 3, #ARGV do
+    local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+    if score and tonumber(score) <= tonumber(ARGV[1]) and redis.call('EXISTS', ARGV[2] .. ARGV[i]) == 0 then
+        removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+    end
+end
+return removed
@@ -0,0 +1,14 @@
+-- 좌석 잠금 연장
+-- KEYS[1] = seat:lock:{seatId}, KEYS[2] = seat:lock:expiry
+-- ARGV[1] = 연장 시간(ms), ARGV[2] = seatId
+-- 반환: {userId, lockedAt, expiresAt} / 잠금이 없으면 빈 배열
+local owner = redis.call('HGET', KEYS[1], 'userId')
+if not owner then
+    return {}
+end
+
+local expiresAt = tonumber(redis.call('HGET', KEYS[1], 'expiresAt')) + tonumber(ARGV[1])
+redis.call('HSET', KEYS[1], 'expiresAt', tostring(expiresAt))
+redis.call('PEXPIREAT', KEYS[1], expiresAt)
+redis.call('ZADD', KEYS[2], expiresAt, ARGV[2])
+return {owner, redis.call('HGET', KEYS[1], 'lockedAt'), tostring(expiresAt)}
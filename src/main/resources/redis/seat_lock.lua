@@ -0,0 +1,20 @@
+-- 좌석 잠금 (SET NX PX + 소유자 확인 + TTL)
+-- KEYS[1] = seat:lock:{seatId}, KEYS[2] = seat:lock:user:{userId}, KEYS[3] = seat:lock:expiry
+-- ARGV[1] = userId, ARGV[2] = lockedAt(ms), ARGV[3] = expiresAt(ms), ARGV[4] = ttl(ms), ARGV[5] = seatId
+-- 반환: {결과코드, userId, lockedAt, expiresAt}
+--   1 = 신규 잠금, 2 = 동일 사용자의 기존 잠금 유지, 0 = 다른 사용자가 잠금 중
+local owner = redis.call('HGET', KEYS[1], 'userId')
+if owner then
+    local lockedAt = redis.call('HGET', KEYS[1], 'lockedAt')
+    local expiresAt = redis.call('HGET', KEYS[1], 'expiresAt')
+    if owner == ARGV[1] then
+        return {'2', owner, lockedAt, expiresAt}
+    end
+    return {'0', owner, lockedAt, expiresAt}
+end
+
+redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'lockedAt', ARGV[2], 'expiresAt', ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+redis.call('SADD', KEYS[2], ARGV[5])
+redis.call('ZADD', KEYS[3], ARGV[3], ARGV[5])
+return {'1', ARGV[1], ARGV[2], ARGV[3]}
@@ -0,0 +1,28 @@
+-- 여러 좌석 일괄 잠금 (모두 잠그거나 하나도 잠그지 않음)
+-- KEYS[1..n] = seat:lock:{seatId} (좌석 ID 순), KEYS[n+1] = seat:lock:user:{userId}, KEYS[n+2] = seat:lock:expiry
+-- ARGV[1] = userId, ARGV[2] = lockedAt(ms), ARGV[3] = expiresAt(ms), ARGV[4] = ttl(ms), ARGV[5..n+4] = seatId
+-- 반환: {결과코드, 좌석 ID 또는 신규 잠금 수, 잠금 사용자 ID}
+--   1 = 모두 잠금 (동일 사용자의 기존 잠금은 유지, 두 번째 값은 신규 잠금 수)
+--   0 = 다른 사용자가 잠금 중인 좌석이 있어 아무것도 잠그지 않음 (두 번째 값은 해당 좌석 ID)
+local n = #KEYS - 2
+local userKey = KEYS[n + 1]
+local expiryKey = KEYS[n + 2]
+
+for i = 1, n do
+    local owner = redis.call('HGET', KEYS[i], 'userId')
+    if owner and owner ~= ARGV[1] then
+        return {'0', ARGV[i + 4], owner}
+    end
+end
+
+local acquired = 0
+for i = 1, n do
+    if redis.call('EXISTS', KEYS[i]) == 0 then
+        redis.call('HSET', KEYS[i], 'userId', ARGV[1], 'lockedAt', ARGV[2], 'expiresAt', ARGV[3])
+        redis.call('PEXPIRE', KEYS[i], ARGV[4])
+        redis.call('SADD', userKey, ARGV[i + 4])
+        redis.call('ZADD', expiryKey, ARGV[3], ARGV[i + 4])
+        acquired = acquired + 1
+    end
+end
+return {'1', tostring(acquired), ARGV[1]}
@@ -0,0 +1,9 @@
+-- 좌석 상태 변경에 버전을 부여하고 모든 인스턴스에 전파
+-- 버전 증가와 발행을 한 스크립트에서 처리하므로 구독자는 버전 순서대로 변경을 받음
+-- KEYS[1] = seat:map:{concertId}
+-- ARGV[1] = 채널, ARGV[2] = 세대 (생성 시각 ms), ARGV[3] = 콘서트 ID, ARGV[4] = 좌석 ID, ARGV[5] = 상태
+-- 반환: 부여된 버전
+redis.call('HSETNX', KEYS[1], 'generation', ARGV[2])
+local version = redis.call('HINCRBY', KEYS[1], 'version', 1)
+redis.call('PUBLISH', ARGV[1], ARGV[3] .. ':' .. ARGV[4] .. ':' .. ARGV[5] .. ':' .. version)
+return version
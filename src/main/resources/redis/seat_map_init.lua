@@ -0,0 +1,7 @@
+-- 좌석 상태 맵 세대/버전 조회 (없으면 생성)
+-- KEYS[1] = seat:map:{concertId}
+-- ARGV[1] = 세대 (생성 시각 ms)
+-- 반환: {세대, 버전}
+redis.call('HSETNX', KEYS[1], 'generation', ARGV[1])
+redis.call('HSETNX', KEYS[1], 'version', 0)
+return redis.call('HMGET', KEYS[1], 'generation', 'version')
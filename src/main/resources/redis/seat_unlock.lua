@@ -0,0 +1,13 @@
+-- 좌석 잠금 해제
+-- KEYS[1] = seat:lock:{seatId}, KEYS[2] = seat:lock:expiry
+-- ARGV[1] = seatId, ARGV[2] = 사용자 인덱스 키 접두사
+-- 반환: 해제된 잠금 수 (0 또는 1)
+local owner = redis.call('HGET', KEYS[1], 'userId')
+redis.call('ZREM', KEYS[2], ARGV[1])
+if not owner then
+    return 0
+end
+
+redis.call('DEL', KEYS[1])
+redis.call('SREM', ARGV[2] .. owner, ARGV[1])
+return 1
@@ -0,0 +1,16 @@
+-- 사용자의 모든 좌석 잠금 해제
+-- KEYS[1] = seat:lock:user:{userId}, KEYS[2] = seat:lock:expiry
+-- ARGV[1] = userId, ARGV[2] = 좌석 잠금 키 접두사
+-- 반환: 해제된 잠금 수
+local seatIds = redis.call('SMEMBERS', KEYS[1])
+local count = 0
+for _, seatId in ipairs(seatIds) do
+    local seatKey = ARGV[2] .. seatId
+    if redis.call('HGET', seatKey, 'userId') == ARGV[1] then
+        redis.call('DEL', seatKey)
+        redis.call('ZREM', KEYS[2], seatId)
+        count = count + 1
+    end
+end
+redis.call('DEL', KEYS[1])
+return count
@@ -0,0 +1,22 @@
+-- 대기 중인 사용자 N명을 원자적으로 꺼내 처리 중 상태로 변경
+-- KEYS[1] = waiting:status:{concertId}:WAITING, KEYS[2] = waiting:status:{concertId}:PROCESSING
+-- ARGV[1] = 처리할 인원 수, ARGV[2] = 대기열 항목 키 접두사 (waiting:entry:{concertId}:), ARGV[3] = 키 만료 시간(초)
+-- 반환: {position, userId, registeredAt, ...} (대기 위치 순)
+local popped = redis.call('ZPOPMIN', KEYS[1], tonumber(ARGV[1]))
+local result = {}
+for i = 1, #popped, 2 do
+    local position = popped[i]
+    local entryKey = ARGV[2] .. position
+    local fields = redis.call('HMGET', entryKey, 'userId', 'registeredAt')
+    if fields[1] then
+        redis.call('HSET', entryKey, 'status', 'PROCESSING')
+        redis.call('ZADD', KEYS[2], position, position)
+        table.insert(result, position)
+        table.insert(result, fields[1])
+        table.insert(result, fields[2])
+    end
+end
+if #result > 0 then
+    redis.call('EXPIRE', KEYS[2], tonumber(ARGV[3]))
+end
+return result
@@ -0,0 +1,30 @@
+-- 대기열 등록 (중복 확인과 등록을 원자적으로 처리)
+-- KEYS[1] = waiting:users:{concertId}, KEYS[2] = waiting:count:{concertId}, KEYS[3] = waiting:status:{concertId}:WAITING
+-- ARGV[1] = 사용자 ID, ARGV[2] = 등록 시간(ms), ARGV[3] = 대기열 항목 키 접두사 (waiting:entry:{concertId}:), ARGV[4] = 키 만료 시간(초)
+-- 반환: {position, 신규 등록 여부(1/0), field, value, ...}
+local existing = redis.call('HGET', KEYS[1], ARGV[1])
+if existing then
+    local entry = redis.call('HGETALL', ARGV[3] .. existing)
+    if #entry > 0 then
+        local result = { existing, '0' }
+        for i = 1, #entry do
+            table.insert(result, entry[i])
+        end
+        return result
+    end
+end
+
+local ttl = tonumber(ARGV[4])
+local position = redis.call('INCR', KEYS[2])
+local entryKey = ARGV[3] .. position
+
+redis.call('HSET', entryKey, 'userId', ARGV[1], 'status', 'WAITING', 'registeredAt', ARGV[2], 'enteredAt', '0')
+redis.call('HSET', KEYS[1], ARGV[1], position)
+redis.call('ZADD', KEYS[3], position, position)
+
+redis.call('EXPIRE', entryKey, ttl)
+redis.call('EXPIRE', KEYS[1], ttl)
+redis.call('EXPIRE', KEYS[2], ttl)
+redis.call('EXPIRE', KEYS[3], ttl)
+
+return { tostring(position), '1', 'userId', ARGV[1], 'status', 'WAITING', 'registeredAt', ARGV[2], 'enteredAt', '0' }
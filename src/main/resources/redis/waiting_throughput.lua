@@ -0,0 +1,33 @@
+-- 콘서트별 입장 처리량(명/초) 지수 이동 평균(EWMA) 갱신
+-- KEYS[1] = waiting:throughput:{concertId}
+-- ARGV[1] = 이번 입장 처리 인원, ARGV[2] = 현재 시간(ms), ARGV[3] = 평활 계수(alpha), ARGV[4] = 키 만료 시간(초),
+-- ARGV[5] = 입장 처리 틱 간격(ms)
+-- - 틱 간격의 절반보다 짧은 간격(여러 인스턴스가 같은 틱에 처리한 경우)은 측정하지 않고 인원만 다음 측정에 합산
+-- - 대기열이 비어 있던 시간이 측정에 섞이지 않도록 간격은 틱 간격을 넘지 않게 제한
+-- 반환: 갱신된 처리량 (문자열, 아직 측정값이 없으면 '0')
+local now = tonumber(ARGV[2])
+local tick = tonumber(ARGV[5])
+local lastAt = tonumber(redis.call('HGET', KEYS[1], 'lastAt'))
+local rate = tonumber(redis.call('HGET', KEYS[1], 'rate'))
+
+if lastAt and now - lastAt < tick / 2 then
+    redis.call('HINCRBY', KEYS[1], 'pending', ARGV[1])
+    redis.call('EXPIRE', KEYS[1], tonumber(ARGV[4]))
+    return tostring(rate or 0)
+end
+
+if lastAt then
+    local admitted = tonumber(ARGV[1]) + tonumber(redis.call('HGET', KEYS[1], 'pending') or '0')
+    local sample = admitted * 1000 / math.min(now - lastAt, tick)
+    local alpha = tonumber(ARGV[3])
+    if rate then
+        rate = alpha * sample + (1 - alpha) * rate
+    else
+        rate = sample
+    end
+    redis.call('HSET', KEYS[1], 'rate', tostring(rate))
+end
+
+redis.call('HSET', KEYS[1], 'lastAt', ARGV[2], 'pending', '0')
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[4]))
+return tostring(rate or 0)
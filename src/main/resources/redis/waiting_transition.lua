@@ -0,0 +1,20 @@
+-- 대기열 항목 상태 변경
+-- KEYS[1] = waiting:entry:{concertId}:{position}
+-- ARGV[1] = position, ARGV[2] = 변경할 상태, ARGV[3] = 현재 시간(ms), ARGV[4] = 상태 ZSET 키 접두사 (waiting:status:{concertId}:),
+--        ARGV[5] = 키 만료 시간(초)
+-- 반환: 변경된 항목 [field, value, ...] / 항목이 없으면 빈 배열
+local current = redis.call('HGET', KEYS[1], 'status')
+if not current then
+    return {}
+end
+
+if current ~= ARGV[2] then
+    redis.call('ZREM', ARGV[4] .. current, ARGV[1])
+    redis.call('ZADD', ARGV[4] .. ARGV[2], ARGV[1], ARGV[1])
+    redis.call('EXPIRE', ARGV[4] .. ARGV[2], tonumber(ARGV[5]))
+    redis.call('HSET', KEYS[1], 'status', ARGV[2])
+    if ARGV[2] == 'ENTERED' then
+        redis.call('HSET', KEYS[1], 'enteredAt', ARGV[3])
+    end
+end
+return redis.call('HGETALL', KEYS[1])
@@ -0,0 +1,178 @@
+package concert.mania.concert.application.service;
+
+import concert.mania.concert.application.port.in.SeatUseCase;
+import concert.mania.concert.application.port.out.command.PaymentCommandPort;
+import concert.mania.concert.application.port.out.payment.PaymentGatewayPort;
+import concert.mania.concert.application.port.out.query.PaymentQueryPort;
+import concert.mania.concert.application.port.out.query.ReservationQueryPort;
+import concert.mania.concert.domain.model.Payment;
+import concert.mania.concert.domain.model.PaymentGatewayStatus;
+import concert.mania.concert.domain.model.type.PaymentStatus;
+import concert.mania.concert.infrastructure.messaging.producer.PaymentProducer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentApplicationService 테스트")
+class PaymentApplicationServiceTest {
+
+    private static final Long PAYMENT_ID = 1L;
+    private static final Long CONCERT_ID = 10L;
+    private static final Long SEAT_ID = 100L;
+    private static final Long SEAT_LOCK_ID = 1000L;
+    private static final String EXTERNAL_PAYMENT_ID = "ext-payment-1";
+
+    @Mock private PaymentCommandPort paymentCommandPort;
+    @Mock private PaymentQueryPort paymentQueryPort;
+    @Mock private PaymentGatewayPort paymentGatewayPort;
+    @Mock private ReservationQueryPort reservationQueryPort;
+    @Mock private SeatUseCase seatUseCase;
+    @Mock private PaymentProducer paymentProducer;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PaymentApplicationService paymentApplicationService;
+
+    @Nested
+    @DisplayName("외부 결제 상태 확인")
+    class PollGatewayPaymentTest {
+
+        @Test
+        @DisplayName("진행 중인 결제는 상세 정보를 갱신하고 외부 결제 시스템의 상태를 반환")
+        void pollPendingPayment() {
+            // given
+            PaymentGatewayStatus gatewayStatus = new PaymentGatewayStatus(EXTERNAL_PAYMENT_ID, PaymentStatus.FAILED,
+                    BigDecimal.TEN, null, "PG_ERROR_1234", "한도 초과");
+            given(paymentQueryPort.findById(PAYMENT_ID))
+                    .willReturn(Optional.of(payment(PaymentStatus.PENDING, EXTERNAL_PAYMENT_ID)));
+            given(paymentGatewayPort.getPaymentStatus(EXTERNAL_PAYMENT_ID)).willReturn(gatewayStatus);
+
+            // when
+            Optional<PaymentStatus> result = paymentApplicationService.pollGatewayPayment(PAYMENT_ID);
+
+            // then
+            assertThat(result).contains(PaymentStatus.FAILED);
+            then(paymentCommandPort).should().updatePaymentDetails(PAYMENT_ID, gatewayStatus);
+            then(paymentCommandPort).should(never()).save(any());
+        }
+
+        @Test
+        @DisplayName("외부 결제 ID를 아직 받지 못한 결제는 외부 조회 없이 진행 중으로 반환")
+        void pollWithoutExternalPaymentId() {
+            // given
+            given(paymentQueryPort.findById(PAYMENT_ID)).willReturn(Optional.of(payment(PaymentStatus.PENDING, null)));
+
+            // when
+            Optional<PaymentStatus> result = paymentApplicationService.pollGatewayPayment(PAYMENT_ID);
+
+            // then
+            assertThat(result).contains(PaymentStatus.PENDING);
+            then(paymentGatewayPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("다른 경로로 이미 종료된 결제는 외부 조회 없이 빈 값 반환 (실패로 종료된 결제 포함)")
+        void pollFinishedPayment() {
+            // given
+            given(paymentQueryPort.findById(PAYMENT_ID))
+                    .willReturn(Optional.of(payment(PaymentStatus.FAILED, EXTERNAL_PAYMENT_ID)));
+
+            // when
+            Optional<PaymentStatus> result = paymentApplicationService.pollGatewayPayment(PAYMENT_ID);
+
+            // then
+            assertThat(result).isEmpty();
+            then(paymentGatewayPort).shouldHaveNoInteractions();
+            then(paymentCommandPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 결제는 예외 발생")
+        void pollUnknownPayment() {
+            // given
+            given(paymentQueryPort.findById(PAYMENT_ID)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> paymentApplicationService.pollGatewayPayment(PAYMENT_ID))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("결제 처리 종료")
+    class FinishPaymentProcessTest {
+
+        @Test
+        @DisplayName("성공 처리 시 결제를 완료 상태로 저장하고 완료 이벤트 전송")
+        void completePaymentProcess() {
+            // given
+            given(paymentQueryPort.findById(PAYMENT_ID))
+                    .willReturn(Optional.of(payment(PaymentStatus.PENDING, EXTERNAL_PAYMENT_ID)));
+            given(paymentCommandPort.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            Payment result = paymentApplicationService.completePaymentProcess(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(PaymentStatus.COMPLETED);
+            assertThat(result.getCompletedAt()).isNotNull();
+            then(paymentProducer).should().sendCompletedEvent(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID);
+        }
+
+        @Test
+        @DisplayName("최종 실패 처리 시 결제를 실패 상태로 저장하고 시도 횟수와 함께 실패 이벤트 전송")
+        void failPaymentProcess() {
+            // given
+            given(paymentQueryPort.findById(PAYMENT_ID))
+                    .willReturn(Optional.of(payment(PaymentStatus.PENDING, EXTERNAL_PAYMENT_ID)));
+            given(paymentCommandPort.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            Payment result = paymentApplicationService.failPaymentProcess(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID, 3);
+
+            // then
+            assertThat(result.getStatus()).isEqualTo(PaymentStatus.FAILED);
+            then(paymentProducer).should().sendFailedEvent(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID, 3);
+        }
+
+        @Test
+        @DisplayName("이미 종료된 결제는 상태를 바꾸지 않고 이벤트도 전송하지 않음")
+        void finishAlreadyFinishedPayment() {
+            // given
+            given(paymentQueryPort.findById(PAYMENT_ID))
+                    .willReturn(Optional.of(payment(PaymentStatus.CANCELLED, EXTERNAL_PAYMENT_ID)));
+
+            // when & then
+            assertThatThrownBy(() -> paymentApplicationService
+                    .completePaymentProcess(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> paymentApplicationService
+                    .failPaymentProcess(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID, 3))
+                    .isInstanceOf(IllegalStateException.class);
+            then(paymentCommandPort).should(never()).save(any());
+            then(paymentProducer).shouldHaveNoInteractions();
+        }
+    }
+
+    private Payment payment(PaymentStatus status, String externalPaymentId) {
+        return Payment.builder()
+                .id(PAYMENT_ID)
+                .externalPaymentId(externalPaymentId)
+                .amount(BigDecimal.TEN)
+                .status(status)
+                .build();
+    }
+}
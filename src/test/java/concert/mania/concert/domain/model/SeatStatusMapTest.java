@@ -0,0 +1,277 @@
+package concert.mania.concert.domain.model;
+
+import concert.mania.concert.domain.model.type.SeatStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SeatStatusMap 테스트")
+class SeatStatusMapTest {
+
+    private static final Long CONCERT_ID = 1L;
+
+    @Nested
+    @DisplayName("예매 가능 비트맵/변경분 조회")
+    class AvailabilityTest {
+
+        @Test
+        @DisplayName("비트맵은 배치 순서(행/열)대로 예매 가능 좌석을 표시")
+        void bitmapFollowsLayoutOrder() {
+            // given - 입력 순서와 무관하게 행/열 순서로 배치됨
+            List<Seat> seats = List.of(
+                    seat(3L, 2, 1, 1L, SeatStatus.AVAILABLE),
+                    seat(1L, 1, 1, 1L, SeatStatus.AVAILABLE),
+                    seat(2L, 1, 2, 1L, SeatStatus.SOLD));
+            SeatStatusMap seatStatusMap = SeatStatusMap.of(CONCERT_ID, seats);
+
+            // when
+            byte[] bitmap = seatStatusMap.getAvailabilityBitmap();
+
+            // then - 인덱스 0(1-1), 2(2-1)만 예매 가능
+            assertThat(bitmap).containsExactly((byte) 0b101);
+        }
+
+        @Test
+        @DisplayName("반영한 변경마다 버전이 이어서 증가하고, 기준 버전 이후의 변경분만 포함")
+        void changesSinceVersion() {
+            // given
+            SeatStatusMap seatStatusMap = SeatStatusMap.of(CONCERT_ID, row(1, 1L, 1, 3, SeatStatus.AVAILABLE));
+
+            // when
+            boolean changed = seatStatusMap.applyChange(seatId(1, 2), SeatStatus.SELECTED, 1L);
+            boolean replayed = seatStatusMap.applyChange(seatId(1, 2), SeatStatus.SELECTED, 1L);
+            long version = seatStatusMap.getVersion();
+            seatStatusMap.applyChange(seatId(1, 3), SeatStatus.SOLD, 2L);
+
+            // then
+            assertThat(changed).isTrue();
+            assertThat(replayed).isTrue();
+            assertThat(version).isEqualTo(1L);
+            assertThat(seatStatusMap.getVersion()).isEqualTo(2L);
+            assertThat(seatStatusMap.getChangesSince(0L))
+                    .containsExactly(Map.entry(seatId(1, 2), SeatStatus.SELECTED), Map.entry(seatId(1, 3), SeatStatus.SOLD));
+            assertThat(seatStatusMap.getChangesSince(version))
+                    .containsExactly(Map.entry(seatId(1, 3), SeatStatus.SOLD));
+        }
+
+        @Test
+        @DisplayName("공유 변경 스트림은 버전 순서대로만 반영되고, 로드 시점 이전 버전의 변경분은 계산하지 않음")
+        void applyChangeInVersionOrder() {
+            // given - 공유 버전 10에서 로드
+            SeatStatusMap seatStatusMap = SeatStatusMap.of(CONCERT_ID, row(1, 1L, 1, 3, SeatStatus.AVAILABLE), 7L, 10L);
+
+            // when
+            boolean applied = seatStatusMap.applyChange(seatId(1, 1), SeatStatus.SELECTED, 11L);
+            boolean stale = seatStatusMap.applyChange(seatId(1, 2), SeatStatus.SOLD, 11L);
+            boolean gap = seatStatusMap.applyChange(seatId(1, 3), SeatStatus.SOLD, 13L);
+
+            // then
+            assertThat(applied).isTrue();
+            assertThat(stale).isTrue();
+            assertThat(gap).isFalse();
+            assertThat(seatStatusMap.getGeneration()).isEqualTo(7L);
+            assertThat(seatStatusMap.getVersion()).isEqualTo(11L);
+            assertThat(seatStatusMap.getStatus(seatId(1, 2))).isEqualTo(SeatStatus.AVAILABLE);
+            assertThat(seatStatusMap.getStatus(seatId(1, 3))).isEqualTo(SeatStatus.AVAILABLE);
+            assertThat(seatStatusMap.getChangesSince(10L))
+                    .containsExactly(Map.entry(seatId(1, 1), SeatStatus.SELECTED));
+            assertThat(seatStatusMap.canDiffFrom(10L)).isTrue();
+            assertThat(seatStatusMap.canDiffFrom(9L)).isFalse();
+            assertThat(seatStatusMap.canDiffFrom(12L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("동시에 상태가 바뀌어도 버전을 먼저 읽고 변경분을 조회하면 빠지는 좌석이 없음")
+        void concurrentChangesAreNeverLost() throws Exception {
+            // given
+            int rows = 200;
+            int cols = 100;
+            List<Seat> seats = new ArrayList<>();
+            for (int row = 1; row <= rows; row++) {
+                seats.addAll(row(row, 1L, 1, cols, SeatStatus.AVAILABLE));
+            }
+            SeatStatusMap seatStatusMap = SeatStatusMap.of(CONCERT_ID, seats);
+
+            int writers = 4;
+            ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean writing = new AtomicBoolean(true);
+            Object streamLock = new Object();
+            try {
+                // when - 행을 나눠 모든 좌석을 한 번씩 선점 상태로 변경
+                List<Future<?>> writerFutures = new ArrayList<>();
+                for (int writer = 0; writer < writers; writer++) {
+                    int offset = writer;
+                    writerFutures.add(executor.submit(() -> {
+                        start.await();
+                        for (int row = 1 + offset; row <= rows; row += writers) {
+                            for (int col = 1; col <= cols; col++) {
+                                // 변경 스트림처럼 버전 순서대로 반영 (조회는 잠금 없이 동시에 진행)
+                                synchronized (streamLock) {
+                                    seatStatusMap.applyChange(seatId(row, col), SeatStatus.SELECTED,
+                                            seatStatusMap.getVersion() + 1);
+                                }
+                            }
+                        }
+                        return null;
+                    }));
+                }
+
+                // 클라이언트처럼 버전을 커서로 삼아 변경분을 반복 조회
+                Future<Set<Long>> reader = executor.submit(() -> {
+                    Set<Long> seen = new HashSet<>();
+                    long cursor = 0L;
+                    start.await();
+                    while (true) {
+                        boolean last = !writing.get();
+                        long version = seatStatusMap.getVersion();
+                        seen.addAll(seatStatusMap.getChangesSince(cursor).keySet());
+                        cursor = version;
+                        if (last) {
+                            return seen;
+                        }
+                    }
+                });
+
+                start.countDown();
+                for (Future<?> writerFuture : writerFutures) {
+                    writerFuture.get(30, TimeUnit.SECONDS);
+                }
+                writing.set(false);
+
+                // then
+                assertThat(reader.get(30, TimeUnit.SECONDS)).hasSize(rows * cols);
+                assertThat(seatStatusMap.getVersion()).isEqualTo((long) rows * cols);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("최적 연속 좌석 검색")
+    class FindBestAvailableTest {
+
+        @Test
+        @DisplayName("연속 좌석이 있는 행 중 무대에 가까운 행을 우선하고, 같은 행에서는 중앙에 가까운 좌석을 선택")
+        void prefersFrontRowThenCenter() {
+            // given - 1행은 1~2열만 예매 가능, 2행은 전체 예매 가능
+            List<Seat> seats = new ArrayList<>();
+            seats.addAll(row(1, 1L, 1, 2, SeatStatus.AVAILABLE));
+            seats.addAll(row(1, 1L, 3, 10, SeatStatus.SOLD));
+            seats.addAll(row(2, 1L, 1, 10, SeatStatus.AVAILABLE));
+            SeatStatusMap seatStatusMap = SeatStatusMap.of(CONCERT_ID, seats);
+
+            // when
+            List<Seat> pair = seatStatusMap.findBestAvailable(1L, 2, Set.of());
+            List<Seat> triple = seatStatusMap.findBestAvailable(1L, 3, Set.of());
+
+            // then - 2석은 중앙에서 멀어도 앞 행, 3석은 앞 행에 없으므로 2행 중앙
+            assertThat(pair).extracting(Seat::getId).containsExactly(seatId(1, 1), seatId(1, 2));
+            assertThat(triple).extracting(Seat::getId).containsExactly(seatId(2, 5), seatId(2, 6), seatId(2, 7));
+            assertThat(triple).extracting(Seat::getStatus).containsOnly(SeatStatus.AVAILABLE);
+        }
+
+        @Test
+        @DisplayName("예매 불가 좌석과 제외 좌석에서 연속 구간이 나뉨")
+        void splitsRunsAtUnavailableAndExcludedSeats() {
+            // given - 1행 1~10열 중 5열 판매 완료
+            List<Seat> seats = new ArrayList<>(row(1, 1L, 1, 10, SeatStatus.AVAILABLE));
+            seats.set(4, seat(seatId(1, 5), 1, 5, 1L, SeatStatus.SOLD));
+            SeatStatusMap seatStatusMap = SeatStatusMap.of(CONCERT_ID, seats);
+
+            // when
+            List<Seat> five = seatStatusMap.findBestAvailable(1L, 5, Set.of());
+            List<Seat> fourWithExcluded = seatStatusMap.findBestAvailable(1L, 4, Set.of(seatId(1, 3), seatId(1, 8)));
+            List<Seat> threeWithExcluded = seatStatusMap.findBestAvailable(1L, 3, Set.of(seatId(1, 3), seatId(1, 8)));
+
+            // then - 1~4열은 5석이 안 되므로 6~10열, 3/8열 제외 시 남은 구간은 1~2, 4, 6~7, 9~10열
+            assertThat(five).extracting(Seat::getId)
+                    .containsExactly(seatId(1, 6), seatId(1, 7), seatId(1, 8), seatId(1, 9), seatId(1, 10));
+            assertThat(fourWithExcluded).isEmpty();
+            assertThat(threeWithExcluded).isEmpty();
+            assertThat(seatStatusMap.findBestAvailable(1L, 2, Set.of(seatId(1, 3), seatId(1, 8))))
+                    .extracting(Seat::getId).containsExactly(seatId(1, 6), seatId(1, 7));
+        }
+
+        @Test
+        @DisplayName("요청 좌석 수가 구간보다 크면 빈 목록 (등급이 바뀌거나 열이 끊기면 구간이 나뉨)")
+        void countLargerThanSegment() {
+            // given - 1행: 1~3열 1등급, 4~6열 2등급, 7열 없음, 8~10열 1등급
+            List<Seat> seats = new ArrayList<>();
+            seats.addAll(row(1, 1L, 1, 3, SeatStatus.AVAILABLE));
+            seats.addAll(row(1, 2L, 4, 6, SeatStatus.AVAILABLE));
+            seats.addAll(row(1, 1L, 8, 10, SeatStatus.AVAILABLE));
+            SeatStatusMap seatStatusMap = SeatStatusMap.of(CONCERT_ID, seats);
+
+            // when & then
+            assertThat(seatStatusMap.findBestAvailable(1L, 4, Set.of())).isEmpty();
+            assertThat(seatStatusMap.findBestAvailable(2L, 4, Set.of())).isEmpty();
+            assertThat(seatStatusMap.findBestAvailable(1L, 3, Set.of())).extracting(Seat::getId)
+                    .containsExactly(seatId(1, 1), seatId(1, 2), seatId(1, 3));
+            assertThat(seatStatusMap.findBestAvailable(2L, 3, Set.of())).extracting(Seat::getId)
+                    .containsExactly(seatId(1, 4), seatId(1, 5), seatId(1, 6));
+            assertThat(seatStatusMap.findBestAvailable(3L, 1, Set.of())).isEmpty();
+            assertThat(seatStatusMap.findBestAvailable(1L, 0, Set.of())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("비트맵 64석 경계를 넘는 연속 구간도 찾고, 상태 변경이 검색에 바로 반영됨")
+        void runsAcrossBitmapWords() {
+            // given - 1행 1~100열 중 1~62열 판매 완료 (배치 인덱스 62부터 예매 가능)
+            List<Seat> seats = new ArrayList<>();
+            seats.addAll(row(1, 1L, 1, 62, SeatStatus.SOLD));
+            seats.addAll(row(1, 1L, 63, 100, SeatStatus.AVAILABLE));
+            SeatStatusMap seatStatusMap = SeatStatusMap.of(CONCERT_ID, seats);
+
+            // when
+            List<Seat> before = seatStatusMap.findBestAvailable(1L, 5, Set.of());
+            seatStatusMap.applyChange(seatId(1, 65), SeatStatus.SELECTED, 1L);
+            List<Seat> after = seatStatusMap.findBestAvailable(1L, 5, Set.of());
+            seatStatusMap.applyChange(seatId(1, 65), SeatStatus.AVAILABLE, 2L);
+            List<Seat> restored = seatStatusMap.findBestAvailable(1L, 5, Set.of());
+
+            // then
+            assertThat(before).extracting(Seat::getSeatCol).containsExactly(63, 64, 65, 66, 67);
+            assertThat(after).extracting(Seat::getSeatCol).containsExactly(66, 67, 68, 69, 70);
+            assertThat(restored).extracting(Seat::getSeatCol).containsExactly(63, 64, 65, 66, 67);
+        }
+    }
+
+    private static List<Seat> row(int row, Long seatGradeId, int fromCol, int toCol, SeatStatus status) {
+        List<Seat> seats = new ArrayList<>();
+        for (int col = fromCol; col <= toCol; col++) {
+            seats.add(seat(seatId(row, col), row, col, seatGradeId, status));
+        }
+        return seats;
+    }
+
+    private static Long seatId(int row, int col) {
+        return row * 1000L + col;
+    }
+
+    private static Seat seat(Long id, Integer row, Integer col, Long seatGradeId, SeatStatus status) {
+        return Seat.builder()
+                .id(id)
+                .seatNumber(row + "-" + col)
+                .seatRow(row)
+                .seatCol(col)
+                .status(status)
+                .seatGrade(SeatGrade.builder().id(seatGradeId).build())
+                .build();
+    }
+}
@@ -0,0 +1,236 @@
+package concert.mania.concert.infrastructure.messaging.converter;
+
+import concert.mania.concert.infrastructure.messaging.producer.WaitingQueueProducer.WaitingQueueMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CompactBinaryMessageConverter 테스트")
+class CompactBinaryMessageConverterTest {
+
+    private final CompactBinaryMessageConverter converter =
+            new CompactBinaryMessageConverter(List.of(new WaitingQueueMessageCodec()));
+
+    @Nested
+    @DisplayName("가변 길이 정수/존재 비트마스크")
+    class WriterReaderTest {
+
+        @Test
+        @DisplayName("가변 길이 정수는 zigzag로 음수/경계값까지 그대로 복원")
+        void varintRoundTrip() {
+            // given
+            long[] values = {0L, 1L, -1L, 63L, -64L, 64L, -65L, 300L, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                    Long.MAX_VALUE, Long.MIN_VALUE};
+            CompactBinaryWriter writer = new CompactBinaryWriter(0);
+
+            // when
+            for (long value : values) {
+                writer.writeLong(value);
+            }
+            CompactBinaryReader reader = new CompactBinaryReader(writer.toByteArray(), 0);
+
+            // then
+            for (long value : values) {
+                assertThat(reader.readLong()).isEqualTo(value);
+            }
+            assertThatThrownBy(reader::readByte).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("절댓값이 작은 정수일수록 적은 바이트를 사용 (zigzag)")
+        void varintLength() {
+            assertThat(encode(0L)).containsExactly(0x00);
+            assertThat(encode(-1L)).containsExactly(0x01);
+            assertThat(encode(1L)).containsExactly(0x02);
+            assertThat(encode(-64L)).containsExactly(0x7F);
+            assertThat(encode(64L)).containsExactly(0x80, 0x01);
+            assertThat(encode(Long.MIN_VALUE)).hasSize(10);
+            assertThat(encode(Long.MAX_VALUE)).hasSize(10);
+        }
+
+        @Test
+        @DisplayName("null 필드는 비트마스크로만 표시하고 값은 기록하지 않음")
+        void presenceMask() {
+            // given
+            CompactBinaryWriter writer = new CompactBinaryWriter(16);
+
+            // when
+            writer.writePresence(5L, null, -3L, null);
+            writer.writeOptionalLong(5L);
+            writer.writeOptionalLong(null);
+            writer.writeOptionalLong(-3L);
+            writer.writeOptionalLong(null);
+            byte[] bytes = writer.toByteArray();
+            CompactBinaryReader reader = new CompactBinaryReader(bytes, 0);
+            reader.readPresence();
+
+            // then
+            assertThat(bytes).hasSize(3);
+            assertThat(bytes[0]).isEqualTo((byte) 0b0101);
+            assertThat(reader.readOptionalLong(0)).isEqualTo(5L);
+            assertThat(reader.readOptionalLong(1)).isNull();
+            assertThat(reader.readOptionalLong(2)).isEqualTo(-3L);
+            assertThat(reader.readOptionalLong(3)).isNull();
+        }
+
+        @Test
+        @DisplayName("존재 비트마스크는 8개 필드까지만 허용")
+        void presenceMaskLimit() {
+            CompactBinaryWriter writer = new CompactBinaryWriter(16);
+
+            assertThatThrownBy(() -> writer.writePresence(1, 2, 3, 4, 5, 6, 7, 8, 9))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("잘린 값이나 10바이트를 넘는 가변 길이 정수는 거부")
+        void malformedVarint() {
+            byte[] truncated = {(byte) 0x80};
+            byte[] tooLong = new byte[11];
+            Arrays.fill(tooLong, (byte) 0x80);
+
+            assertThatThrownBy(() -> new CompactBinaryReader(truncated, 0).readLong())
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CompactBinaryReader(tooLong, 0).readLong())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        private int[] encode(long value) {
+            CompactBinaryWriter writer = new CompactBinaryWriter(0);
+            writer.writeLong(value);
+            byte[] bytes = writer.toByteArray();
+            int[] unsigned = new int[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                unsigned[i] = bytes[i] & 0xFF;
+            }
+            return unsigned;
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열 메시지 변환")
+    class WaitingQueueMessageTest {
+
+        @Test
+        @DisplayName("등록 메시지는 스키마 ID/버전/비트마스크/ID만 기록하고 그대로 복원")
+        void registrationRoundTrip() {
+            // given
+            WaitingQueueMessage message = new WaitingQueueMessage(1L, 42L);
+
+            // when
+            Message amqpMessage = converter.toMessage(message, new MessageProperties());
+            WaitingQueueMessage restored = (WaitingQueueMessage) converter.fromMessage(amqpMessage);
+
+            // then
+            assertThat(amqpMessage.getBody()).containsExactly(1, 1, 0b0011, 0x02, 0x54);
+            assertThat(amqpMessage.getMessageProperties().getContentType())
+                    .isEqualTo(CompactBinaryMessageConverter.CONTENT_TYPE);
+            assertThat(restored.getConcertId()).isEqualTo(1L);
+            assertThat(restored.getUserId()).isEqualTo(42L);
+            assertThat(restored.getWaitingQueueId()).isNull();
+            assertThat(restored.getBatchSize()).isNull();
+        }
+
+        @Test
+        @DisplayName("일괄 처리 메시지는 처리 인원 수를 복원하고, 음수/큰 ID도 그대로 복원")
+        void batchRoundTrip() {
+            // given
+            WaitingQueueMessage batch = new WaitingQueueMessage();
+            batch.setConcertId(7L);
+            batch.setBatchSize(500);
+            WaitingQueueMessage full = new WaitingQueueMessage(-5L, Long.MAX_VALUE, Long.MIN_VALUE);
+            full.setBatchSize(Integer.MAX_VALUE);
+
+            // when
+            WaitingQueueMessage restoredBatch = roundTrip(batch);
+            WaitingQueueMessage restoredFull = roundTrip(full);
+
+            // then
+            assertThat(restoredBatch.getConcertId()).isEqualTo(7L);
+            assertThat(restoredBatch.getUserId()).isNull();
+            assertThat(restoredBatch.getWaitingQueueId()).isNull();
+            assertThat(restoredBatch.getBatchSize()).isEqualTo(500);
+            assertThat(restoredFull.getConcertId()).isEqualTo(-5L);
+            assertThat(restoredFull.getUserId()).isEqualTo(Long.MAX_VALUE);
+            assertThat(restoredFull.getWaitingQueueId()).isEqualTo(Long.MIN_VALUE);
+            assertThat(restoredFull.getBatchSize()).isEqualTo(Integer.MAX_VALUE);
+        }
+
+        @Test
+        @DisplayName("모든 필드가 null이면 비트마스크만 기록")
+        void emptyMessageRoundTrip() {
+            // when
+            Message amqpMessage = converter.toMessage(new WaitingQueueMessage(), new MessageProperties());
+            WaitingQueueMessage restored = (WaitingQueueMessage) converter.fromMessage(amqpMessage);
+
+            // then
+            assertThat(amqpMessage.getBody()).containsExactly(1, 1, 0);
+            assertThat(restored.getConcertId()).isNull();
+            assertThat(restored.getUserId()).isNull();
+            assertThat(restored.getWaitingQueueId()).isNull();
+            assertThat(restored.getBatchSize()).isNull();
+        }
+
+        @Test
+        @DisplayName("알 수 없는 스키마 ID나 빈 본문은 변환 실패")
+        void unknownSchemaId() {
+            assertThatThrownBy(() -> converter.fromMessage(message(99, 1, 0)))
+                    .isInstanceOf(MessageConversionException.class)
+                    .hasMessageContaining("99");
+            assertThatThrownBy(() -> converter.fromMessage(message(0x81, 1, 0)))
+                    .isInstanceOf(MessageConversionException.class);
+            assertThatThrownBy(() -> converter.fromMessage(message()))
+                    .isInstanceOf(MessageConversionException.class);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 버전, 잘린 본문, int 범위를 넘는 처리 인원 수는 변환 실패")
+        void unsupportedVersionOrMalformedBody() {
+            // given - 처리 인원 수만 있고 값이 int 범위를 넘음
+            CompactBinaryWriter writer = new CompactBinaryWriter(16);
+            writer.writeByte(1);
+            writer.writeByte(1);
+            writer.writePresence(null, null, null, 1L);
+            writer.writeLong(Integer.MAX_VALUE + 1L);
+
+            // when & then
+            assertThatThrownBy(() -> converter.fromMessage(message(1, 2, 0)))
+                    .isInstanceOf(MessageConversionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> converter.fromMessage(message(1, 1, 0b0011, 0x02)))
+                    .isInstanceOf(MessageConversionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> converter.fromMessage(new Message(writer.toByteArray(), new MessageProperties())))
+                    .isInstanceOf(MessageConversionException.class)
+                    .hasCauseInstanceOf(ArithmeticException.class);
+        }
+
+        @Test
+        @DisplayName("스키마 ID가 중복된 코덱은 등록 실패")
+        void duplicateSchemaId() {
+            assertThatThrownBy(() -> new CompactBinaryMessageConverter(
+                    List.of(new WaitingQueueMessageCodec(), new WaitingQueueMessageCodec())))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        private WaitingQueueMessage roundTrip(WaitingQueueMessage message) {
+            return (WaitingQueueMessage) converter.fromMessage(converter.toMessage(message, new MessageProperties()));
+        }
+
+        private Message message(int... bytes) {
+            byte[] body = new byte[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                body[i] = (byte) bytes[i];
+            }
+            return new Message(body, new MessageProperties());
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package concert.mania.concert.infrastructure.messaging.deadletter;
+
+import concert.mania.config.properties.MessageRetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.List;
+import java.util.Map;
+
+import static concert.mania.config.RabbitMQConfig.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeadLetterRouter 테스트")
+class DeadLetterRouterTest {
+
+    private static final String HEADER_RETRY_COUNT = "x-retry-count";
+    private static final String HEADER_EXCEPTION_TYPE = "x-exception-type";
+    private static final String HEADER_EXCEPTION_MESSAGE = "x-exception-message";
+    private static final String HEADER_FAILED_AT = "x-failed-at";
+
+    @Mock private RabbitTemplate rabbitTemplate;
+    @Mock private AmqpAdmin amqpAdmin;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeadLetterRouter deadLetterRouter;
+
+    @BeforeEach
+    void setUp() {
+        MessageRetryProperties properties = new MessageRetryProperties();
+        properties.setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+        deadLetterRouter = new DeadLetterRouter(rabbitTemplate, amqpAdmin, properties, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("재시도/DLQ 결정")
+    class RetryOrParkTest {
+
+        @Test
+        @DisplayName("일시적인 오류는 재시도 횟수를 헤더에 기록하고 재시도 큐로 전송")
+        void retryTransientFailure() {
+            // given
+            Message message = message(PAYMENT_EVENT_QUEUE);
+
+            // when
+            deadLetterRouter.retryOrPark(message, new IllegalStateException("처리 중인 메시지"));
+
+            // then
+            then(rabbitTemplate).should().send(RETRY_EXCHANGE, PAYMENT_EVENT_QUEUE, message);
+            assertThat((Integer) message.getMessageProperties().getHeader(HEADER_RETRY_COUNT)).isEqualTo(1);
+            assertThat(counter("rabbitmq.consume.retried", PAYMENT_EVENT_QUEUE)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("재시도 횟수는 이전에 기록한 헤더에 이어서 증가 (문자열 헤더도 허용)")
+        void continueRetryCount() {
+            // given
+            Message message = message(PAYMENT_EVENT_QUEUE);
+            message.getMessageProperties().setHeader(HEADER_RETRY_COUNT, "1");
+
+            // when
+            deadLetterRouter.retryOrPark(message, new RuntimeException("일시적인 오류"));
+
+            // then
+            then(rabbitTemplate).should().send(RETRY_EXCHANGE, PAYMENT_EVENT_QUEUE, message);
+            assertThat((Integer) message.getMessageProperties().getHeader(HEADER_RETRY_COUNT)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 원인 정보를 헤더에 남기고 DLQ로 전송")
+        void parkAfterMaxAttempts() {
+            // given - 이미 두 번 재시도한 메시지
+            Message message = message(WAITING_QUEUE_PROCESS_QUEUE);
+            message.getMessageProperties().setHeader(HEADER_RETRY_COUNT, 2);
+
+            // when
+            deadLetterRouter.retryOrPark(message,
+                    new RuntimeException("리스너 실패", new IllegalStateException("Redis 연결 실패")));
+
+            // then
+            then(rabbitTemplate).should().send(DEAD_LETTER_EXCHANGE, WAITING_QUEUE_PROCESS_QUEUE, message);
+            then(rabbitTemplate).should(never()).send(eq(RETRY_EXCHANGE), anyString(), any(Message.class));
+            MessageProperties properties = message.getMessageProperties();
+            assertThat((String) properties.getHeader(HEADER_EXCEPTION_TYPE))
+                    .isEqualTo(IllegalStateException.class.getName());
+            assertThat((String) properties.getHeader(HEADER_EXCEPTION_MESSAGE)).isEqualTo("Redis 연결 실패");
+            assertThat((String) properties.getHeader(HEADER_FAILED_AT)).isNotBlank();
+            assertThat(counter("rabbitmq.consume.dead.lettered", WAITING_QUEUE_PROCESS_QUEUE)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("잘못된 메시지 내용(IllegalArgumentException)은 첫 실패에서 바로 DLQ로 전송")
+        void parkIllegalArgumentImmediately() {
+            // given - 리스너 실패 예외로 감싸진 원인
+            Message message = message(PAYMENT_EVENT_QUEUE);
+
+            // when
+            deadLetterRouter.retryOrPark(message,
+                    new RuntimeException("리스너 실패", new IllegalArgumentException("존재하지 않는 결제입니다.")));
+
+            // then
+            then(rabbitTemplate).should().send(DEAD_LETTER_EXCHANGE, PAYMENT_EVENT_QUEUE, message);
+            then(rabbitTemplate).should(never()).send(eq(RETRY_EXCHANGE), anyString(), any(Message.class));
+        }
+
+        @Test
+        @DisplayName("메시지 변환 실패(MessageConversionException)는 첫 실패에서 바로 DLQ로 전송")
+        void parkConversionFailureImmediately() {
+            // given
+            Message message = message(WAITING_QUEUE_REGISTER_QUEUE);
+
+            // when
+            deadLetterRouter.retryOrPark(message, new MessageConversionException("알 수 없는 스키마 ID"));
+
+            // then
+            then(rabbitTemplate).should().send(DEAD_LETTER_EXCHANGE, WAITING_QUEUE_REGISTER_QUEUE, message);
+            then(rabbitTemplate).should(never()).send(eq(RETRY_EXCHANGE), anyString(), any(Message.class));
+        }
+
+        @Test
+        @DisplayName("긴 예외 메시지는 잘라서 헤더에 기록")
+        void truncateExceptionMessage() {
+            // given
+            Message message = message(PAYMENT_EVENT_QUEUE);
+
+            // when
+            deadLetterRouter.retryOrPark(message, new IllegalArgumentException("x".repeat(1000)));
+
+            // then
+            assertThat((String) message.getMessageProperties().getHeader(HEADER_EXCEPTION_MESSAGE)).hasSize(500);
+        }
+
+        @Test
+        @DisplayName("재시도 토폴로지가 없는 큐의 메시지는 예외 발생 (전송하지 않음)")
+        void rejectUnknownQueue() {
+            // given
+            Message message = message("unknown.queue");
+
+            // when & then
+            assertThatThrownBy(() -> deadLetterRouter.retryOrPark(message, new RuntimeException("실패")))
+                    .isInstanceOf(IllegalStateException.class);
+            then(rabbitTemplate).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("DLQ 재처리")
+    class ReplayTest {
+
+        @Test
+        @DisplayName("DLQ 메시지의 재시도/실패 헤더를 지우고 원래 큐로 전송 (DLQ가 비면 중단)")
+        void replayStripsHeaders() {
+            // given
+            Message first = deadLetter(PAYMENT_EVENT_QUEUE);
+            Message second = deadLetter(PAYMENT_EVENT_QUEUE);
+            given(rabbitTemplate.receive(PAYMENT_EVENT_QUEUE + DEAD_LETTER_QUEUE_SUFFIX))
+                    .willReturn(first, second, null);
+
+            // when
+            int replayed = deadLetterRouter.replay(PAYMENT_EVENT_QUEUE, 10);
+
+            // then
+            assertThat(replayed).isEqualTo(2);
+            ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+            then(rabbitTemplate).should(times(2)).send(eq(""), eq(PAYMENT_EVENT_QUEUE), captor.capture());
+            for (Message sent : captor.getAllValues()) {
+                Map<String, Object> headers = sent.getMessageProperties().getHeaders();
+                assertThat(headers).doesNotContainKeys("x-death", HEADER_RETRY_COUNT, HEADER_EXCEPTION_TYPE,
+                        HEADER_EXCEPTION_MESSAGE, HEADER_FAILED_AT);
+                assertThat(headers).containsEntry("x-trace-id", "trace-1");
+            }
+        }
+
+        @Test
+        @DisplayName("최대 재처리 수까지만 꺼냄")
+        void replayUpToLimit() {
+            // given
+            given(rabbitTemplate.receive(PAYMENT_EVENT_QUEUE + DEAD_LETTER_QUEUE_SUFFIX))
+                    .willAnswer(invocation -> deadLetter(PAYMENT_EVENT_QUEUE));
+
+            // when
+            int replayed = deadLetterRouter.replay(PAYMENT_EVENT_QUEUE, 3);
+
+            // then
+            assertThat(replayed).isEqualTo(3);
+            then(rabbitTemplate).should(times(3)).receive(PAYMENT_EVENT_QUEUE + DEAD_LETTER_QUEUE_SUFFIX);
+        }
+
+        @Test
+        @DisplayName("원래 큐로 전송에 실패하면 메시지를 DLQ로 되돌리고 예외를 다시 던짐")
+        void replayFailurePutsMessageBack() {
+            // given
+            Message message = deadLetter(WAITING_QUEUE_ENTER_QUEUE);
+            given(rabbitTemplate.receive(WAITING_QUEUE_ENTER_QUEUE + DEAD_LETTER_QUEUE_SUFFIX)).willReturn(message);
+            // 원래 큐로 보내는 기본 익스체인지 전송만 실패
+            willAnswer(invocation -> {
+                if ("".equals(invocation.getArgument(0))) {
+                    throw new AmqpException("브로커 연결 끊김");
+                }
+                return null;
+            }).given(rabbitTemplate).send(anyString(), anyString(), any(Message.class));
+
+            // when & then
+            assertThatThrownBy(() -> deadLetterRouter.replay(WAITING_QUEUE_ENTER_QUEUE, 10))
+                    .isInstanceOf(AmqpException.class);
+            then(rabbitTemplate).should().send(DEAD_LETTER_EXCHANGE, WAITING_QUEUE_ENTER_QUEUE, message);
+            then(rabbitTemplate).should(times(1)).receive(WAITING_QUEUE_ENTER_QUEUE + DEAD_LETTER_QUEUE_SUFFIX);
+        }
+
+        @Test
+        @DisplayName("재시도 토폴로지가 없는 큐는 재처리 불가")
+        void rejectUnknownQueue() {
+            assertThatThrownBy(() -> deadLetterRouter.replay("unknown.queue", 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            then(rabbitTemplate).shouldHaveNoInteractions();
+        }
+    }
+
+    @Test
+    @DisplayName("큐별 DLQ 메시지 수 조회 (DLQ 정보가 없으면 0)")
+    void deadLetterCounts() {
+        // given
+        given(amqpAdmin.getQueueInfo(anyString())).willReturn(null);
+
+        // when
+        Map<String, Integer> counts = deadLetterRouter.getDeadLetterCounts();
+
+        // then
+        assertThat(counts).containsOnlyKeys(RETRYABLE_QUEUES.toArray(String[]::new));
+        assertThat(counts.values()).containsOnly(0);
+    }
+
+    private Message message(String consumerQueue) {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(consumerQueue);
+        return new Message("{}".getBytes(), properties);
+    }
+
+    private Message deadLetter(String queue) {
+        Message message = message(queue);
+        MessageProperties properties = message.getMessageProperties();
+        properties.setHeader("x-death", List.of(Map.of("count", 1L, "queue", queue + RETRY_QUEUE_SUFFIX)));
+        properties.setHeader(HEADER_RETRY_COUNT, 2);
+        properties.setHeader(HEADER_EXCEPTION_TYPE, IllegalStateException.class.getName());
+        properties.setHeader(HEADER_EXCEPTION_MESSAGE, "Redis 연결 실패");
+        properties.setHeader(HEADER_FAILED_AT, "2026-01-01T00:00:00");
+        properties.setHeader("x-trace-id", "trace-1");
+        return message;
+    }
+
+    private double counter(String name, String queue) {
+        return meterRegistry.get(name).tag("queue", queue).counter().count();
+    }
+}
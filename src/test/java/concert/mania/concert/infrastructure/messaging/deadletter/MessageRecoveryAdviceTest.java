@@ -0,0 +1,115 @@
+package concert.mania.concert.infrastructure.messaging.deadletter;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageRecoveryAdvice 테스트")
+class MessageRecoveryAdviceTest {
+
+    @Mock private DeadLetterRouter deadLetterRouter;
+    @Mock private MethodInvocation invocation;
+
+    @InjectMocks
+    private MessageRecoveryAdvice messageRecoveryAdvice;
+
+    @Test
+    @DisplayName("리스너가 성공하면 결과를 그대로 반환하고 라우터를 호출하지 않음")
+    void proceedOnSuccess() throws Throwable {
+        // given
+        given(invocation.proceed()).willReturn("result");
+
+        // when
+        Object result = messageRecoveryAdvice.invoke(invocation);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        then(deadLetterRouter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("단건 리스너가 실패하면 메시지를 재시도/DLQ로 보내고 예외를 삼켜 원래 메시지는 확인 처리")
+    void recoverSingleMessage() throws Throwable {
+        // given
+        Message message = message("1");
+        RuntimeException failure = new IllegalStateException("처리 실패");
+        given(invocation.proceed()).willThrow(failure);
+        given(invocation.getArguments()).willReturn(new Object[]{"channel", message});
+
+        // when
+        Object result = messageRecoveryAdvice.invoke(invocation);
+
+        // then
+        assertThat(result).isNull();
+        then(deadLetterRouter).should().retryOrPark(message, failure);
+    }
+
+    @Test
+    @DisplayName("배치 리스너가 실패하면 배치의 메시지를 각각 재시도/DLQ로 보냄")
+    void recoverEachMessageInBatch() throws Throwable {
+        // given
+        Message first = message("1");
+        Message second = message("2");
+        Message third = message("3");
+        RuntimeException failure = new IllegalStateException("배치 처리 실패");
+        given(invocation.proceed()).willThrow(failure);
+        given(invocation.getArguments()).willReturn(new Object[]{List.of(first, second, third)});
+
+        // when
+        Object result = messageRecoveryAdvice.invoke(invocation);
+
+        // then
+        assertThat(result).isNull();
+        then(deadLetterRouter).should().retryOrPark(first, failure);
+        then(deadLetterRouter).should().retryOrPark(second, failure);
+        then(deadLetterRouter).should().retryOrPark(third, failure);
+        then(deadLetterRouter).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("메시지 인자가 없으면 예외를 그대로 다시 던짐")
+    void rethrowWithoutMessage() throws Throwable {
+        // given
+        RuntimeException failure = new IllegalStateException("처리 실패");
+        given(invocation.proceed()).willThrow(failure);
+        given(invocation.getArguments()).willReturn(new Object[]{"payload", List.of()});
+
+        // when & then
+        assertThatThrownBy(() -> messageRecoveryAdvice.invoke(invocation)).isSameAs(failure);
+        then(deadLetterRouter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("라우터 전송이 실패하면 예외를 전파하여 원래 메시지가 확인 처리되지 않도록 함")
+    void propagateRoutingFailure() throws Throwable {
+        // given
+        Message message = message("1");
+        RuntimeException failure = new IllegalStateException("처리 실패");
+        RuntimeException routingFailure = new IllegalStateException("브로커 연결 끊김");
+        given(invocation.proceed()).willThrow(failure);
+        given(invocation.getArguments()).willReturn(new Object[]{message});
+        willThrow(routingFailure).given(deadLetterRouter).retryOrPark(any(Message.class), any());
+
+        // when & then
+        assertThatThrownBy(() -> messageRecoveryAdvice.invoke(invocation)).isSameAs(routingFailure);
+    }
+
+    private Message message(String messageId) {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(messageId);
+        return new Message("{}".getBytes(), properties);
+    }
+}
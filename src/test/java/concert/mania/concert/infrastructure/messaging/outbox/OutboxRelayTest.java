@@ -0,0 +1,208 @@
+package concert.mania.concert.infrastructure.messaging.outbox;
+
+import concert.mania.concert.application.port.out.command.EventCommandPort;
+import concert.mania.concert.application.port.out.query.EventQueryPort;
+import concert.mania.concert.domain.model.Event;
+import concert.mania.concert.domain.model.type.EventStatus;
+import concert.mania.concert.infrastructure.messaging.publisher.AsyncMessagePublisher;
+import concert.mania.concert.infrastructure.messaging.publisher.PublishResult;
+import concert.mania.config.properties.OutboxProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static concert.mania.config.RabbitMQConfig.PAYMENT_EVENT_ROUTING_KEY;
+import static concert.mania.config.RabbitMQConfig.PAYMENT_EXCHANGE;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    @Mock private EventQueryPort eventQueryPort;
+    @Mock private EventCommandPort eventCommandPort;
+    @Mock private AsyncMessagePublisher messagePublisher;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private OutboxProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setConfirmTimeoutMillis(50L); // 확인 시간 초과 경로를 빠르게 확인
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(eventQueryPort, eventCommandPort, messagePublisher, transactionTemplate,
+                properties, meterRegistry);
+
+        // 배치 콜백을 트랜잭션 없이 바로 실행
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Nested
+    @DisplayName("배치 발행 결과 반영")
+    class RelayBatchTest {
+
+        @Test
+        @DisplayName("브로커가 확인한 이벤트는 PROCESSED로 일괄 변경")
+        void confirmedToProcessed() {
+            // given
+            given(eventQueryPort.lockPendingEvents(properties.getBatchSize()))
+                    .willReturn(List.of(event(1L, "PAYMENT_COMPLETED"), event(2L, "PAYMENT_FAILED")));
+            given(messagePublisher.publish(eq(PAYMENT_EXCHANGE), eq(PAYMENT_EVENT_ROUTING_KEY), any()))
+                    .willReturn(confirmed(PublishResult.CONFIRMED), confirmed(PublishResult.CONFIRMED));
+
+            // when
+            int relayed = outboxRelay.relayPendingEvents();
+
+            // then
+            assertThat(relayed).isEqualTo(2);
+            then(eventCommandPort).should().markAllAsProcessed(List.of(1L, 2L));
+            then(eventCommandPort).should().markAllAsFailed(List.of());
+            assertThat(count("processed")).isEqualTo(2);
+            assertThat(meterRegistry.get("outbox.relay.latency").timer().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("라우팅되지 않아 반환된 이벤트와 알 수 없는 유형의 이벤트는 FAILED로 일괄 변경")
+        void returnedAndUnknownToFailed() {
+            // given
+            given(eventQueryPort.lockPendingEvents(properties.getBatchSize()))
+                    .willReturn(List.of(event(1L, "PAYMENT_COMPLETED"), event(2L, "PAYMENT_COMPLETED"),
+                            event(3L, "RESERVATION_COMPLETED")));
+            given(messagePublisher.publish(eq(PAYMENT_EXCHANGE), eq(PAYMENT_EVENT_ROUTING_KEY), any()))
+                    .willReturn(confirmed(PublishResult.CONFIRMED), confirmed(PublishResult.RETURNED));
+
+            // when
+            int relayed = outboxRelay.relayPendingEvents();
+
+            // then - 알 수 없는 유형은 발행하지 않음
+            assertThat(relayed).isEqualTo(1);
+            then(messagePublisher).should(times(2)).publish(anyString(), anyString(), any());
+            then(eventCommandPort).should().markAllAsProcessed(List.of(1L));
+            then(eventCommandPort).should().markAllAsFailed(argThat(ids ->
+                    ids.size() == 2 && ids.containsAll(List.of(2L, 3L))));
+            assertThat(count("failed")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("부정 확인(nack)이나 확인 시간 초과 이벤트는 상태를 바꾸지 않아 PENDING으로 남음")
+        void nackAndTimeoutStayPending() {
+            // given
+            CompletableFuture<PublishResult> nacked = new CompletableFuture<>();
+            nacked.completeExceptionally(new AmqpException("nack"));
+            CompletableFuture<PublishResult> neverConfirmed = new CompletableFuture<>();
+            given(eventQueryPort.lockPendingEvents(properties.getBatchSize()))
+                    .willReturn(List.of(event(1L, "PAYMENT_COMPLETED"), event(2L, "PAYMENT_COMPLETED"),
+                            event(3L, "PAYMENT_FAILED")));
+            given(messagePublisher.publish(eq(PAYMENT_EXCHANGE), eq(PAYMENT_EVENT_ROUTING_KEY), any()))
+                    .willReturn(nacked, neverConfirmed, confirmed(PublishResult.CONFIRMED));
+
+            // when
+            int relayed = outboxRelay.relayPendingEvents();
+
+            // then
+            assertThat(relayed).isEqualTo(1);
+            then(eventCommandPort).should().markAllAsProcessed(List.of(3L));
+            then(eventCommandPort).should().markAllAsFailed(List.of());
+            assertThat(count("retried")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("발행 대기 한도 초과(IllegalStateException) 시 남은 이벤트는 발행/상태 변경 없이 배치 중단")
+        void backpressureStopsBatch() {
+            // given
+            given(eventQueryPort.lockPendingEvents(properties.getBatchSize()))
+                    .willReturn(List.of(event(1L, "PAYMENT_COMPLETED"), event(2L, "PAYMENT_COMPLETED"),
+                            event(3L, "PAYMENT_COMPLETED")));
+            given(messagePublisher.publish(eq(PAYMENT_EXCHANGE), eq(PAYMENT_EVENT_ROUTING_KEY), any()))
+                    .willReturn(confirmed(PublishResult.CONFIRMED))
+                    .willThrow(new IllegalStateException("미확인 메시지 한도 초과"));
+
+            // when
+            int relayed = outboxRelay.relayPendingEvents();
+
+            // then - 3번 이벤트는 발행을 시도하지 않고, 2/3번 모두 PENDING으로 남음
+            assertThat(relayed).isEqualTo(1);
+            then(messagePublisher).should(times(2)).publish(anyString(), anyString(), any());
+            then(eventCommandPort).should().markAllAsProcessed(List.of(1L));
+            then(eventCommandPort).should().markAllAsFailed(List.of());
+            assertThat(count("retried")).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("연속 배치 처리")
+    class RelayPendingEventsTest {
+
+        @Test
+        @DisplayName("배치가 가득 차면 다음 배치를 이어서 처리하고, 가득 차지 않으면 중단")
+        void continueWhileBatchIsFull() {
+            // given
+            properties.setBatchSize(2);
+            given(eventQueryPort.lockPendingEvents(2))
+                    .willReturn(List.of(event(1L, "PAYMENT_COMPLETED"), event(2L, "PAYMENT_COMPLETED")))
+                    .willReturn(List.of(event(3L, "PAYMENT_COMPLETED")));
+            given(messagePublisher.publish(eq(PAYMENT_EXCHANGE), eq(PAYMENT_EVENT_ROUTING_KEY), any()))
+                    .willAnswer(invocation -> confirmed(PublishResult.CONFIRMED));
+
+            // when
+            int relayed = outboxRelay.relayPendingEvents();
+
+            // then
+            assertThat(relayed).isEqualTo(3);
+            then(eventQueryPort).should(times(2)).lockPendingEvents(2);
+        }
+
+        @Test
+        @DisplayName("가득 찬 배치라도 하나도 처리하지 못하면 다음 실행까지 대기")
+        void stopWhenNothingProcessed() {
+            // given
+            properties.setBatchSize(1);
+            given(eventQueryPort.lockPendingEvents(1)).willReturn(List.of(event(1L, "PAYMENT_COMPLETED")));
+            given(messagePublisher.publish(eq(PAYMENT_EXCHANGE), eq(PAYMENT_EVENT_ROUTING_KEY), any()))
+                    .willThrow(new IllegalStateException("미확인 메시지 한도 초과"));
+
+            // when
+            int relayed = outboxRelay.relayPendingEvents();
+
+            // then
+            assertThat(relayed).isZero();
+            then(eventQueryPort).should(times(1)).lockPendingEvents(1);
+        }
+    }
+
+    private Event event(Long id, String eventType) {
+        return Event.builder()
+                .id(id)
+                .eventType(eventType)
+                .payload("{\"paymentId\":" + id + "}")
+                .status(EventStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private CompletableFuture<PublishResult> confirmed(PublishResult result) {
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("outbox.relay.events").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,73 @@
+package concert.mania.concert.infrastructure.metrics;
+
+import concert.mania.concert.domain.model.SystemLoad;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SystemLoadMetricsAdapter 테스트")
+class SystemLoadMetricsAdapterTest {
+
+    @Mock private AmqpAdmin amqpAdmin;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SystemLoadMetricsAdapter systemLoadMetricsAdapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        systemLoadMetricsAdapter = new SystemLoadMetricsAdapter(meterRegistry, amqpAdmin);
+    }
+
+    @Test
+    @DisplayName("좌석 선택 p99는 좌석 선택 URI의 모든 타이머(상태 코드별 포함) 중 가장 큰 값")
+    void seatSelectionP99AcrossTimers() {
+        // given
+        record("/api/v1/seats/{seatId}/select", "200", 10);
+        record("/api/v1/seats/{seatId}/select", "409", 30);
+        record("/api/v1/seats/select", "200", 50);
+        record("/api/v1/concerts/{concertId}/seat-grades/{seatGradeId}/best-available/select", "200", 800);
+        record("/api/v1/concerts", "200", 5000); // 좌석 선택이 아닌 API는 제외
+
+        // when
+        SystemLoad load = systemLoadMetricsAdapter.getCurrentLoad();
+
+        // then
+        assertThat(load.getSeatSelectionP99Millis()).isBetween(700.0, 900.0);
+    }
+
+    @Test
+    @DisplayName("좌석 선택 요청 기록이 없으면 p99는 0")
+    void noSeatSelectionTimer() {
+        // given
+        record("/api/v1/concerts", "200", 5000);
+
+        // when
+        SystemLoad load = systemLoadMetricsAdapter.getCurrentLoad();
+
+        // then
+        assertThat(load.getSeatSelectionP99Millis()).isZero();
+    }
+
+    private void record(String uri, String status, long millis) {
+        Timer timer = Timer.builder("http.server.requests")
+                .tag("uri", uri)
+                .tag("status", status)
+                .publishPercentiles(0.99)
+                .register(meterRegistry);
+        for (int i = 0; i < 100; i++) {
+            timer.record(Duration.ofMillis(millis));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package concert.mania.concert.infrastructure.scheduler;
+
+import concert.mania.concert.application.event.PaymentRequestedEvent;
+import concert.mania.concert.application.port.in.PaymentUseCase;
+import concert.mania.concert.domain.model.type.PaymentStatus;
+import concert.mania.config.properties.PaymentRetryProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentRetryScheduler 테스트")
+class PaymentRetrySchedulerTest {
+
+    private static final long VERIFY_TIMEOUT_MILLIS = 2000L;
+
+    private static final Long PAYMENT_ID = 1L;
+    private static final Long CONCERT_ID = 10L;
+    private static final Long SEAT_ID = 100L;
+    private static final Long SEAT_LOCK_ID = 1000L;
+
+    @Mock private PaymentUseCase paymentUseCase;
+    @Mock private ExecutorService paymentExecutor;
+
+    private PaymentRetryScheduler paymentRetryScheduler;
+    private PaymentRequestedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        // 대기 시간을 최소로 줄여 단계가 바로 이어지도록 함
+        PaymentRetryProperties properties = new PaymentRetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialPollDelayMillis(1L);
+        properties.setMaxPollDelayMillis(5L);
+        properties.setRetryDelayMillis(1L);
+        properties.setSchedulerPoolSize(1);
+
+        paymentRetryScheduler = new PaymentRetryScheduler(paymentUseCase, properties, paymentExecutor);
+        event = new PaymentRequestedEvent(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentRetryScheduler.shutdown();
+    }
+
+    @Nested
+    @DisplayName("결제 시도")
+    class AttemptTest {
+
+        @Test
+        @DisplayName("결제 실패가 반복되면 최대 시도 횟수까지 재요청한 뒤 최종 실패 처리")
+        void failAfterMaxAttempts() {
+            // given
+            runInline();
+            given(paymentUseCase.pollGatewayPayment(PAYMENT_ID)).willReturn(Optional.of(PaymentStatus.FAILED));
+
+            // when
+            paymentRetryScheduler.handlePaymentRequested(event);
+
+            // then
+            then(paymentUseCase).should(timeout(VERIFY_TIMEOUT_MILLIS))
+                    .failPaymentProcess(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID, 3);
+            then(paymentUseCase).should(times(3)).requestGatewayPayment(PAYMENT_ID);
+            then(paymentUseCase).should(never()).completePaymentProcess(any(), any(), any(), any());
+            awaitFinished();
+        }
+
+        @Test
+        @DisplayName("결제 요청 자체가 실패해도 재요청하며, 다음 시도에서 성공하면 완료 처리")
+        void completeAfterRequestFailure() {
+            // given
+            runInline();
+            given(paymentUseCase.requestGatewayPayment(PAYMENT_ID))
+                    .willThrow(new IllegalStateException("결제 시스템 오류"))
+                    .willReturn(null);
+            given(paymentUseCase.pollGatewayPayment(PAYMENT_ID)).willReturn(Optional.of(PaymentStatus.COMPLETED));
+
+            // when
+            paymentRetryScheduler.handlePaymentRequested(event);
+
+            // then
+            then(paymentUseCase).should(timeout(VERIFY_TIMEOUT_MILLIS))
+                    .completePaymentProcess(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID);
+            then(paymentUseCase).should(times(2)).requestGatewayPayment(PAYMENT_ID);
+            then(paymentUseCase).should(never()).failPaymentProcess(any(), any(), any(), any(), anyInt());
+            awaitFinished();
+        }
+
+        @Test
+        @DisplayName("진행 중 상태이면 재요청 없이 상태를 다시 확인")
+        void pollAgainWhilePending() {
+            // given
+            runInline();
+            given(paymentUseCase.pollGatewayPayment(PAYMENT_ID))
+                    .willReturn(Optional.of(PaymentStatus.PENDING))
+                    .willReturn(Optional.of(PaymentStatus.PENDING))
+                    .willReturn(Optional.of(PaymentStatus.COMPLETED));
+
+            // when
+            paymentRetryScheduler.handlePaymentRequested(event);
+
+            // then
+            then(paymentUseCase).should(timeout(VERIFY_TIMEOUT_MILLIS))
+                    .completePaymentProcess(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID);
+            then(paymentUseCase).should(times(3)).pollGatewayPayment(PAYMENT_ID);
+            then(paymentUseCase).should(times(1)).requestGatewayPayment(PAYMENT_ID);
+            awaitFinished();
+        }
+
+        @Test
+        @DisplayName("다른 경로로 이미 종료된 결제는 재요청/완료/실패 처리 없이 중단")
+        void stopWhenFinishedElsewhere() {
+            // given
+            runInline();
+            given(paymentUseCase.pollGatewayPayment(PAYMENT_ID)).willReturn(Optional.empty());
+
+            // when
+            paymentRetryScheduler.handlePaymentRequested(event);
+
+            // then
+            awaitFinished();
+            then(paymentUseCase).should(times(1)).requestGatewayPayment(PAYMENT_ID);
+            then(paymentUseCase).should(times(1)).pollGatewayPayment(PAYMENT_ID);
+            then(paymentUseCase).should(never()).completePaymentProcess(any(), any(), any(), any());
+            then(paymentUseCase).should(never()).failPaymentProcess(any(), any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("처리 중인 결제의 요청 이벤트가 다시 오면 무시")
+        void ignoreDuplicateEvent() {
+            // given - 결제 실행기가 단계를 실행하지 않아 처리가 끝나지 않음
+            willDoNothing().given(paymentExecutor).execute(any(Runnable.class));
+
+            // when
+            paymentRetryScheduler.handlePaymentRequested(event);
+            paymentRetryScheduler.handlePaymentRequested(event);
+
+            // then
+            then(paymentExecutor).should(timeout(VERIFY_TIMEOUT_MILLIS).times(1)).execute(any(Runnable.class));
+            assertThat(paymentRetryScheduler.getInProgressCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("결제 실행기")
+    class ExecutorTest {
+
+        @Test
+        @DisplayName("결제 실행기가 포화 상태이면 단계를 버리지 않고 다시 예약")
+        void rescheduleWhenSaturated() {
+            // given - 처음 두 번은 거부, 이후에는 바로 실행
+            willThrow(new RejectedExecutionException("포화"))
+                    .willThrow(new RejectedExecutionException("포화"))
+                    .willAnswer(invocation -> {
+                        invocation.<Runnable>getArgument(0).run();
+                        return null;
+                    })
+                    .given(paymentExecutor).execute(any(Runnable.class));
+            given(paymentUseCase.pollGatewayPayment(PAYMENT_ID)).willReturn(Optional.of(PaymentStatus.COMPLETED));
+
+            // when
+            paymentRetryScheduler.handlePaymentRequested(event);
+
+            // then
+            then(paymentUseCase).should(timeout(VERIFY_TIMEOUT_MILLIS))
+                    .completePaymentProcess(PAYMENT_ID, CONCERT_ID, SEAT_ID, SEAT_LOCK_ID);
+            then(paymentUseCase).should(times(1)).requestGatewayPayment(PAYMENT_ID);
+            then(paymentExecutor).should(times(4)).execute(any(Runnable.class));
+            awaitFinished();
+        }
+    }
+
+    /**
+     * 결제 실행기에 제출된 단계를 스케줄러 스레드에서 바로 실행
+     */
+    private void runInline() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(paymentExecutor).execute(any(Runnable.class));
+    }
+
+    private void awaitFinished() {
+        await().atMost(Duration.ofMillis(VERIFY_TIMEOUT_MILLIS))
+                .until(() -> paymentRetryScheduler.getInProgressCount() == 0);
+    }
+}